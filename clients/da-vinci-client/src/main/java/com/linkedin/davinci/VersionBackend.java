@@ -13,6 +13,7 @@ import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.compute.ComputeUtils;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.IngestionMode;
+import com.linkedin.venice.meta.PartitionerConfig;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.partitioner.VenicePartitioner;
@@ -23,10 +24,13 @@ import com.linkedin.venice.utils.ExceptionUtils;
 import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.lazy.Lazy;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -34,6 +38,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ObjIntConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.avro.Schema;
@@ -205,6 +210,66 @@ public class VersionBackend {
         compressor.get());
   }
 
+  /**
+   * Looks up all the {@param keys}, which must belong to the same {@param userPartition}, with batched storage reads.
+   * The value of each key, or null if the key doesn't exist, is passed to {@param valueConsumer} together with the
+   * index of the key in {@param keys}, in no particular order.
+   */
+  public <V> void batchRead(
+      int userPartition,
+      List<byte[]> keys,
+      AbstractAvroChunkingAdapter<V> chunkingAdaptor,
+      AvroStoreDeserializerCache<V> storeDeserializerCache,
+      int readerSchemaId,
+      BinaryDecoder binaryDecoder,
+      ObjIntConsumer<V> valueConsumer) {
+    AbstractStorageEngine storageEngine = getStorageEngineOrThrow();
+    PartitionerConfig partitionerConfig = version.getPartitionerConfig();
+    int amplificationFactor = partitionerConfig == null ? 1 : partitionerConfig.getAmplificationFactor();
+    if (amplificationFactor <= 1) {
+      chunkingAdaptor.batchGet(
+          storageEngine,
+          userPartition,
+          keys,
+          version.isChunkingEnabled(),
+          null,
+          binaryDecoder,
+          null,
+          readerSchemaId,
+          storeDeserializerCache,
+          compressor.get(),
+          valueConsumer);
+      return;
+    }
+
+    // The keys of a user partition are spread over its sub-partitions, which are looked up separately.
+    Map<Integer, IntList> keyIndicesBySubPartition = new HashMap<>();
+    for (int i = 0; i < keys.size(); i++) {
+      int subPartition =
+          userPartition * amplificationFactor + partitioner.getPartitionId(keys.get(i), amplificationFactor);
+      keyIndicesBySubPartition.computeIfAbsent(subPartition, k -> new IntArrayList()).add(i);
+    }
+    for (Map.Entry<Integer, IntList> entry: keyIndicesBySubPartition.entrySet()) {
+      IntList keyIndices = entry.getValue();
+      List<byte[]> subPartitionKeys = new ArrayList<>(keyIndices.size());
+      for (int i = 0; i < keyIndices.size(); i++) {
+        subPartitionKeys.add(keys.get(keyIndices.getInt(i)));
+      }
+      chunkingAdaptor.batchGet(
+          storageEngine,
+          entry.getKey(),
+          subPartitionKeys,
+          version.isChunkingEnabled(),
+          null,
+          binaryDecoder,
+          null,
+          readerSchemaId,
+          storeDeserializerCache,
+          compressor.get(),
+          (value, index) -> valueConsumer.accept(value, keyIndices.getInt(index)));
+    }
+  }
+
   public GenericRecord compute(
       int userPartition,
       byte[] keyBytes,
@@ -43,8 +43,6 @@ import com.linkedin.venice.common.VeniceSystemStoreType;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.compute.ComputeUtils;
 import com.linkedin.venice.controllerapi.D2ServiceDiscoveryResponse;
-import com.linkedin.venice.exceptions.VeniceException;
-import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
@@ -56,20 +54,27 @@ import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.service.ICProvider;
 import com.linkedin.venice.utils.ComplementSet;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.ReferenceCounted;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import com.linkedin.venice.utils.lazy.Lazy;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -99,6 +104,26 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
 
   private static final ThreadLocal<ReusableObjects> REUSABLE_OBJECTS = ThreadLocal.withInitial(ReusableObjects::new);
 
+  /**
+   * Shared by all the clients in the process to look up the partitions of a streaming batch get in parallel.
+   */
+  private static final Lazy<ExecutorService> STREAMING_BATCH_GET_EXECUTOR = Lazy.of(
+      () -> Executors.newFixedThreadPool(
+          Runtime.getRuntime().availableProcessors(),
+          new DaemonThreadFactory("DaVinci-StreamingBatchGet")));
+
+  private static final int PARTITION_SCAN_PARALLELISM = Runtime.getRuntime().availableProcessors();
+  private static final int PARTITION_SCAN_BATCH_SIZE = 100;
+
+  /**
+   * Shared by all the clients in the process to scan the partitions of {@link #computeWithKeyPrefixFilter} in parallel.
+   */
+  private static final ParallelPartitionScanner<GenericRecord, GenericRecord> PARTITION_SCANNER =
+      new ParallelPartitionScanner<>(
+          Executors.newFixedThreadPool(PARTITION_SCAN_PARALLELISM, new DaemonThreadFactory("DaVinci-PartitionScan")),
+          PARTITION_SCAN_BATCH_SIZE,
+          2 * PARTITION_SCAN_PARALLELISM);
+
   private final DaVinciConfig daVinciConfig;
   private final ClientConfig clientConfig;
   private final VeniceProperties backendConfig;
@@ -162,6 +187,23 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     preValidation.run();
   }
 
+  // Visible for testing
+  AvroGenericDaVinciClient(
+      DaVinciConfig daVinciConfig,
+      ClientConfig clientConfig,
+      StoreBackend storeBackend,
+      RecordSerializer<K> keySerializer,
+      AvroStoreDeserializerCache<V> storeDeserializerCache,
+      AvroGenericReadComputeStoreClient<K, V> veniceClient,
+      AbstractAvroChunkingAdapter<V> chunkingAdapter) {
+    this(daVinciConfig, clientConfig, VeniceProperties.empty(), Optional.empty(), null, chunkingAdapter, () -> {});
+    this.storeBackend = storeBackend;
+    this.keySerializer = keySerializer;
+    this.storeDeserializerCache = storeDeserializerCache;
+    this.veniceClient = veniceClient;
+    this.ready.set(true);
+  }
+
   @Override
   public String getStoreName() {
     return clientConfig.getStoreName();
@@ -375,9 +417,182 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     }
   }
 
+  /**
+   * The keys are grouped by partition, and each partition is looked up with batched storage reads. The first partition
+   * is looked up by the calling thread and the others by a shared reader pool, so {@param callback} may be invoked
+   * concurrently from multiple threads, as it is with the thin client. Each record is passed to the callback as soon
+   * as it is deserialized, and missing keys get a null value.
+   */
   @Override
   public void streamingBatchGet(Set<K> keys, StreamingCallback<K, V> callback) throws VeniceClientException {
-    throw new VeniceUnsupportedOperationException("streamingBatchGet for DaVinci client");
+    if (handleCallbackForEmptyKeySet(keys, callback)) {
+      return;
+    }
+
+    throwIfNotReady();
+    if (daVinciConfig.isCacheEnabled()) {
+      // The object cache only supports the non-streaming API, so the records are streamed once all of them are ready.
+      batchGetImplementation(keys).whenComplete((result, throwable) -> {
+        if (throwable != null) {
+          callback.onCompletion(Optional.of(toException(throwable)));
+          return;
+        }
+        for (K key: keys) {
+          callback.onRecordReceived(key, result.get(key));
+        }
+        callback.onCompletion(Optional.empty());
+      });
+      return;
+    }
+
+    try (ReferenceCounted<VersionBackend> versionRef = storeBackend.getDaVinciCurrentVersion()) {
+      VersionBackend versionBackend = versionRef.get();
+      if (versionBackend == null) {
+        if (isVeniceQueryAllowed()) {
+          veniceClient.streamingBatchGet(keys, callback);
+          return;
+        }
+        storeBackend.getStats().recordBadRequest();
+        callback.onCompletion(
+            Optional.of(new VeniceClientException("Da Vinci client is not subscribed, storeName=" + getStoreName())));
+        return;
+      }
+
+      Map<Integer, PartitionKeys<K>> keysByPartition = new HashMap<>();
+      Set<K> missingKeys = new HashSet<>();
+      for (K key: keys) {
+        byte[] keyBytes = keySerializer.serialize(key);
+        int partition = versionBackend.getPartition(keyBytes);
+        PartitionKeys<K> partitionKeys = keysByPartition.get(partition);
+        if (partitionKeys == null) {
+          if (isPartitionReadyToServe(versionBackend, partition)) {
+            partitionKeys = new PartitionKeys<>(partition);
+            keysByPartition.put(partition, partitionKeys);
+          } else if (isVeniceQueryAllowed()) {
+            missingKeys.add(key);
+            continue;
+          } else if (!isPartitionSubscribed(versionBackend, partition)) {
+            storeBackend.getStats().recordBadRequest();
+            callback.onCompletion(Optional.of(new NonLocalAccessException(versionBackend.toString(), partition)));
+            return;
+          } else {
+            // The partition is subscribed but not ready yet, so none of its keys are available.
+            callback.onRecordReceived(key, null);
+            continue;
+          }
+        }
+        partitionKeys.add(key, keyBytes);
+      }
+
+      List<CompletableFuture<Void>> futures = new ArrayList<>(keysByPartition.size() + 1);
+      if (!missingKeys.isEmpty()) {
+        futures.add(streamingBatchGetFromVenice(missingKeys, callback));
+      }
+
+      /**
+       * Keep the version alive until all the asynchronous lookups are done, since the reference obtained above is
+       * released as soon as this method returns.
+       */
+      versionRef.retain();
+      try {
+        int readerSchemaId = versionBackend.getSupersetOrLatestValueSchemaId();
+        PartitionKeys<K> inlinePartitionKeys = null;
+        for (PartitionKeys<K> partitionKeys: keysByPartition.values()) {
+          if (inlinePartitionKeys == null) {
+            inlinePartitionKeys = partitionKeys;
+            continue;
+          }
+          futures.add(
+              CompletableFuture.runAsync(
+                  () -> streamingBatchGetFromPartition(versionBackend, partitionKeys, readerSchemaId, callback),
+                  STREAMING_BATCH_GET_EXECUTOR.get()));
+        }
+        if (inlinePartitionKeys != null) {
+          streamingBatchGetFromPartition(versionBackend, inlinePartitionKeys, readerSchemaId, callback);
+        }
+      } catch (Exception e) {
+        /**
+         * The lookups which were already submitted may still be using the version, so the failure is reported, and the
+         * reference released, only once they are done.
+         */
+        CompletableFuture<Void> failedFuture = new CompletableFuture<>();
+        failedFuture.completeExceptionally(e);
+        futures.add(failedFuture);
+      }
+
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).whenComplete((ignored, throwable) -> {
+        versionRef.release();
+        if (throwable != null) {
+          callback.onCompletion(Optional.of(toException(throwable)));
+        } else {
+          callback.onCompletion(Optional.empty());
+        }
+      });
+    }
+  }
+
+  private void streamingBatchGetFromPartition(
+      VersionBackend versionBackend,
+      PartitionKeys<K> partitionKeys,
+      int readerSchemaId,
+      StreamingCallback<K, V> callback) {
+    versionBackend.batchRead(
+        partitionKeys.partition,
+        partitionKeys.keyBytes,
+        getAvroChunkingAdapter(),
+        this.storeDeserializerCache,
+        readerSchemaId,
+        REUSABLE_OBJECTS.get().binaryDecoder,
+        (value, keyIndex) -> callback.onRecordReceived(partitionKeys.keys.get(keyIndex), value));
+  }
+
+  /**
+   * Streams the records of {@param keys} from Venice into {@param callback}, and reports the completion through the
+   * returned future instead of the callback, so that it can be combined with the local lookups.
+   */
+  private CompletableFuture<Void> streamingBatchGetFromVenice(Set<K> keys, StreamingCallback<K, V> callback) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    veniceClient.streamingBatchGet(keys, new StreamingCallback<K, V>() {
+      @Override
+      public void onRecordReceived(K key, V value) {
+        callback.onRecordReceived(key, value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        if (exception.isPresent()) {
+          future.completeExceptionally(exception.get());
+        } else {
+          future.complete(null);
+        }
+      }
+    });
+    return future;
+  }
+
+  private static Exception toException(Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      throwable = throwable.getCause();
+    }
+    return throwable instanceof Exception ? (Exception) throwable : new VeniceClientException(throwable);
+  }
+
+  /**
+   * The keys of one partition of a streaming batch get, in both deserialized and serialized form.
+   */
+  private static class PartitionKeys<K> {
+    final int partition;
+    final List<K> keys = new ArrayList<>();
+    final List<byte[]> keyBytes = new ArrayList<>();
+
+    PartitionKeys(int partition) {
+      this.partition = partition;
+    }
+
+    void add(K key, byte[] serializedKey) {
+      keys.add(key);
+      keyBytes.add(serializedKey);
+    }
   }
 
   @Override
@@ -531,36 +746,37 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
         return;
       }
 
-      ReusableObjects reusableObjects = REUSABLE_OBJECTS.get();
       Schema valueSchema = computeRequestWrapper.getValueSchema();
-      GenericRecord reuseValueRecord =
-          reusableObjects.reuseValueRecordMap.computeIfAbsent(valueSchema, k -> new GenericData.Record(valueSchema));
-
-      Map<String, Object> globalContext = new HashMap<>();
       Schema computeResultSchema = getComputeResultSchema(computeRequestWrapper);
 
+      List<Integer> partitions = new ArrayList<>();
       int partitionCount = versionBackend.getPartitionCount();
       for (int currPartition = 0; currPartition < partitionCount; currPartition++) {
         if (isPartitionReadyToServe(versionBackend, currPartition)) {
-          try {
-            versionBackend.computeWithKeyPrefixFilter(
-                keyPrefix,
-                currPartition,
-                callback,
-                computeRequestWrapper,
-                getGenericRecordChunkingAdapter(),
-                (RecordDeserializer<GenericRecord>) keyDeserializer,
-                reuseValueRecord,
-                reusableObjects.binaryDecoder,
-                globalContext,
-                computeResultSchema);
-          } catch (VeniceException e) {
-            callback.onCompletion(Optional.of(e));
-            return;
-          }
+          partitions.add(currPartition);
         }
       }
-      callback.onCompletion(Optional.empty());
+
+      /**
+       * Each partition is scanned on its own thread, so the reusable objects are taken from the scanning thread, and
+       * the shared context of the compute operations, which isn't thread-safe, is per partition.
+       */
+      PARTITION_SCANNER.scan(partitions, (partition, recordCallback) -> {
+        ReusableObjects reusableObjects = REUSABLE_OBJECTS.get();
+        GenericRecord reuseValueRecord =
+            reusableObjects.reuseValueRecordMap.computeIfAbsent(valueSchema, k -> new GenericData.Record(valueSchema));
+        versionBackend.computeWithKeyPrefixFilter(
+            keyPrefix,
+            partition,
+            recordCallback,
+            computeRequestWrapper,
+            getGenericRecordChunkingAdapter(),
+            (RecordDeserializer<GenericRecord>) keyDeserializer,
+            reuseValueRecord,
+            reusableObjects.binaryDecoder,
+            new HashMap<>(),
+            computeResultSchema);
+      }, callback);
     }
   }
 
@@ -0,0 +1,195 @@
+package com.linkedin.davinci.client;
+
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.utils.Pair;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Scans multiple partitions in parallel and streams the records found into a single {@link StreamingCallback}.
+ *
+ * Each partition is scanned by a task on the given executor, and the records it produces are handed over in batches
+ * through a bounded queue to the thread calling {@link #scan}, which is the only one invoking the callback. A slow
+ * callback thus blocks the scanning tasks once the queue is full instead of letting the records pile up in memory, and
+ * the callback never needs to be thread-safe.
+ *
+ * If a partition scan fails, or the callback throws, the remaining scans are stopped at their next record, and the
+ * first failure is reported through {@link StreamingCallback#onCompletion(Optional)}.
+ */
+class ParallelPartitionScanner<K, V> {
+  /**
+   * Scans a single partition, passing every record to the given callback. The callback may throw to stop the scan.
+   */
+  interface PartitionScanFunction<K, V> {
+    void scan(int partition, StreamingCallback<K, V> recordCallback);
+  }
+
+  /**
+   * Marks that the task scanning a partition is done, which is distinguishable from real batches since they are never
+   * empty.
+   */
+  private final List<Pair<K, V>> endOfPartition = Collections.emptyList();
+
+  private final Executor executor;
+  private final int batchSize;
+  private final int queueCapacity;
+
+  ParallelPartitionScanner(Executor executor, int batchSize, int queueCapacity) {
+    this.executor = executor;
+    this.batchSize = batchSize;
+    this.queueCapacity = queueCapacity;
+  }
+
+  /**
+   * Blocks until all the {@param partitions} are scanned, or the scan is terminated due to a failure, and then calls
+   * {@link StreamingCallback#onCompletion(Optional)} of {@param callback}.
+   */
+  void scan(List<Integer> partitions, PartitionScanFunction<K, V> scanFunction, StreamingCallback<K, V> callback) {
+    if (partitions.isEmpty()) {
+      callback.onCompletion(Optional.empty());
+      return;
+    }
+
+    BlockingQueue<List<Pair<K, V>>> queue = new ArrayBlockingQueue<>(queueCapacity);
+    AtomicReference<Exception> failure = new AtomicReference<>();
+    for (int partition: partitions) {
+      executor.execute(() -> scanPartition(partition, scanFunction, queue, failure));
+    }
+
+    int remainingPartitions = partitions.size();
+    while (remainingPartitions > 0) {
+      List<Pair<K, V>> batch;
+      try {
+        batch = queue.take();
+      } catch (InterruptedException e) {
+        failure.compareAndSet(null, new VeniceClientException("Interrupted while scanning partitions", e));
+        // The scanning tasks could be blocked on the full queue, and must be unblocked before giving up.
+        drainUntilDone(queue, remainingPartitions);
+        Thread.currentThread().interrupt();
+        break;
+      }
+      if (batch == endOfPartition) {
+        remainingPartitions--;
+        continue;
+      }
+      if (failure.get() != null) {
+        // Keep draining to let the remaining tasks finish, but don't deliver anything after a failure.
+        continue;
+      }
+      try {
+        for (Pair<K, V> record: batch) {
+          callback.onRecordReceived(record.getFirst(), record.getSecond());
+        }
+      } catch (Exception e) {
+        failure.compareAndSet(null, e);
+      }
+    }
+    callback.onCompletion(Optional.ofNullable(failure.get()));
+  }
+
+  private void scanPartition(
+      int partition,
+      PartitionScanFunction<K, V> scanFunction,
+      BlockingQueue<List<Pair<K, V>>> queue,
+      AtomicReference<Exception> failure) {
+    BatchingCallback batchingCallback = new BatchingCallback(queue, failure);
+    try {
+      scanFunction.scan(partition, batchingCallback);
+      batchingCallback.flush();
+    } catch (Exception e) {
+      // If the scan was terminated, the exception may have been wrapped by the storage engine, and it is ignored here
+      // since there is a failure recorded already.
+      failure.compareAndSet(null, e);
+    } finally {
+      putUninterruptibly(queue, endOfPartition);
+    }
+  }
+
+  private void drainUntilDone(BlockingQueue<List<Pair<K, V>>> queue, int remainingPartitions) {
+    while (remainingPartitions > 0) {
+      List<Pair<K, V>> batch;
+      try {
+        batch = queue.take();
+      } catch (InterruptedException e) {
+        continue;
+      }
+      if (batch == endOfPartition) {
+        remainingPartitions--;
+      }
+    }
+  }
+
+  private static <T> void putUninterruptibly(BlockingQueue<T> queue, T element) {
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          queue.put(element);
+          return;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Groups the records of one partition scan into batches of {@link #batchSize} records, and stops the scan at the next
+   * record once a failure is recorded.
+   */
+  private class BatchingCallback implements StreamingCallback<K, V> {
+    private final BlockingQueue<List<Pair<K, V>>> queue;
+    private final AtomicReference<Exception> failure;
+    private List<Pair<K, V>> batch = new ArrayList<>(batchSize);
+
+    BatchingCallback(BlockingQueue<List<Pair<K, V>>> queue, AtomicReference<Exception> failure) {
+      this.queue = queue;
+      this.failure = failure;
+    }
+
+    @Override
+    public void onRecordReceived(K key, V value) {
+      if (failure.get() != null) {
+        throw new ScanTerminatedException();
+      }
+      batch.add(new Pair<>(key, value));
+      if (batch.size() >= batchSize) {
+        flush();
+      }
+    }
+
+    @Override
+    public void onCompletion(Optional<Exception> exception) {
+      // Completion is reported once all the partitions are done.
+    }
+
+    void flush() {
+      if (!batch.isEmpty()) {
+        putUninterruptibly(queue, batch);
+        batch = new ArrayList<>(batchSize);
+      }
+    }
+  }
+
+  /**
+   * Thrown from the record callback of a partition scan to stop it early, since the storage engine has no other way
+   * to interrupt an iteration.
+   */
+  private static class ScanTerminatedException extends RuntimeException {
+    ScanTerminatedException() {
+      super(null, null, false, false);
+    }
+  }
+}
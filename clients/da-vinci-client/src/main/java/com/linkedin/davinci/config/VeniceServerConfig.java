@@ -11,6 +11,8 @@ import static com.linkedin.venice.ConfigKeys.FAST_AVRO_FIELD_LIMIT_PER_METHOD;
 import static com.linkedin.venice.ConfigKeys.FREEZE_INGESTION_IF_READY_TO_SERVE_OR_LOCAL_DATA_EXISTS;
 import static com.linkedin.venice.ConfigKeys.GRPC_READ_SERVER_PORT;
 import static com.linkedin.venice.ConfigKeys.GRPC_SERVER_WORKER_THREAD_COUNT;
+import static com.linkedin.venice.ConfigKeys.GRPC_STREAMING_MAX_READY_WAIT_MS;
+import static com.linkedin.venice.ConfigKeys.GRPC_STREAMING_MAX_RECORDS_PER_RESPONSE;
 import static com.linkedin.venice.ConfigKeys.HELIX_HYBRID_STORE_QUOTA_ENABLED;
 import static com.linkedin.venice.ConfigKeys.HYBRID_QUOTA_ENFORCEMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.INGESTION_MEMORY_LIMIT;
@@ -39,6 +41,9 @@ import static com.linkedin.venice.ConfigKeys.PUB_SUB_ADMIN_ADAPTER_FACTORY_CLASS
 import static com.linkedin.venice.ConfigKeys.PUB_SUB_CONSUMER_ADAPTER_FACTORY_CLASS;
 import static com.linkedin.venice.ConfigKeys.PUB_SUB_PRODUCER_ADAPTER_FACTORY_CLASS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PRINCIPAL_NAME;
+import static com.linkedin.venice.ConfigKeys.SERVER_ACTIVE_ACTIVE_BATCH_CONFLICT_RESOLUTION_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_ACTIVE_ACTIVE_BATCH_CONFLICT_RESOLUTION_MAX_RECORDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_ACTIVE_ACTIVE_KEY_LEVEL_LOCK_STRIPE_COUNT;
 import static com.linkedin.venice.ConfigKeys.SERVER_BLOCKING_QUEUE_TYPE;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_FAST_AVRO_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_QUEUE_CAPACITY;
@@ -57,6 +62,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_DISK_FULL_THRESHOLD;
 import static com.linkedin.venice.ConfigKeys.SERVER_DISK_HEALTH_CHECK_INTERVAL_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_DISK_HEALTH_CHECK_SERVICE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_DISK_HEALTH_CHECK_TIMEOUT_IN_SECONDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_BATCH_LOOKUP;
 import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_LIVE_CONFIG_BASED_KAFKA_THROTTLING;
 import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_PARALLEL_BATCH_GET;
 import static com.linkedin.venice.ConfigKeys.SERVER_FORKED_PROCESS_JVM_ARGUMENT_LIST;
@@ -84,10 +90,13 @@ import static com.linkedin.venice.ConfigKeys.SERVER_NETTY_IDLE_TIME_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_NETTY_WORKER_THREADS;
 import static com.linkedin.venice.ConfigKeys.SERVER_NODE_CAPACITY_RCU;
 import static com.linkedin.venice.ConfigKeys.SERVER_NUM_SCHEMA_FAST_CLASS_WARMUP;
+import static com.linkedin.venice.ConfigKeys.SERVER_OFF_HEAP_MEMORY_SLAB_SIZE_IN_BYTES;
 import static com.linkedin.venice.ConfigKeys.SERVER_OPTIMIZE_DATABASE_FOR_BACKUP_VERSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_OPTIMIZE_DATABASE_FOR_BACKUP_VERSION_NO_READ_THRESHOLD_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_OPTIMIZE_DATABASE_SERVICE_SCHEDULE_INTERNAL_SECONDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_PARALLEL_BATCH_GET_ADAPTIVE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_PARALLEL_BATCH_GET_TARGET_CHUNK_LATENCY_US;
 import static com.linkedin.venice.ConfigKeys.SERVER_PARTITION_GRACEFUL_DROP_DELAY_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_PUBSUB_CONSUMER_POLL_RETRY_BACKOFF_MS;
@@ -117,7 +126,11 @@ import static com.linkedin.venice.ConfigKeys.SORTED_INPUT_DRAINER_SIZE;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_AFTER_LEADER_LOGIC_ENABLED;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_MEMORY_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_NOTIFY_DELTA;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_DYNAMIC_DRAINER_ASSIGNMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_NUMBER;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_WRITE_BATCH_ENABLED;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_WRITE_BATCH_MAX_DELAY_MS;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_WRITE_BATCH_MAX_SIZE_IN_BYTES;
 import static com.linkedin.venice.ConfigKeys.SYSTEM_SCHEMA_CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.SYSTEM_SCHEMA_INITIALIZATION_AT_START_TIME_ENABLED;
 import static com.linkedin.venice.ConfigKeys.UNREGISTER_METRIC_FOR_DELETED_STORE_ENABLED;
@@ -212,6 +225,16 @@ public class VeniceServerConfig extends VeniceClusterConfig {
    */
   private final boolean storeWriterBufferAfterLeaderLogicEnabled;
 
+  /**
+   * Whether the {@link com.linkedin.davinci.kafka.consumer.StoreBufferService} should move topic partitions to the
+   * least loaded drainer at safe points, instead of statically hashing them onto a drainer.
+   */
+  private final boolean storeWriterDynamicDrainerAssignmentEnabled;
+
+  private final boolean storeWriterWriteBatchEnabled;
+  private final long storeWriterWriteBatchMaxSizeInBytes;
+  private final long storeWriterWriteBatchMaxDelayMs;
+
   /**
    * Buffer capacity being used by each writer.
    * We need to be careful when tuning this param.
@@ -274,6 +297,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
    */
   private final int nettyWorkerThreadCount;
   private final int grpcWorkerThreadCount;
+  private final int grpcStreamingMaxRecordsPerResponse;
+  private final long grpcStreamingMaxReadyWaitMs;
 
   private final long databaseSyncBytesIntervalForTransactionalMode;
 
@@ -336,6 +361,12 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final int parallelBatchGetChunkSize;
 
+  private final boolean parallelBatchGetAdaptiveEnabled;
+
+  private final long parallelBatchGetTargetChunkLatencyUs;
+
+  private final boolean enableBatchLookup;
+
   private final boolean keyValueProfilingEnabled;
 
   private final boolean enableDatabaseMemoryStats;
@@ -440,11 +471,17 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final int ingestionTaskMaxIdleCount;
 
+  private final boolean activeActiveBatchConflictResolutionEnabled;
+  private final int activeActiveBatchConflictResolutionMaxRecords;
+  private final int activeActiveKeyLevelLockStripeCount;
+
   private final long metaStoreWriterCloseTimeoutInMS;
   private final int metaStoreWriterCloseConcurrency;
 
   private final long ingestionHeartbeatIntervalMs;
 
+  private final int offHeapMemorySlabSizeInBytes;
+
   public VeniceServerConfig(VeniceProperties serverProperties) throws ConfigurationException {
     this(serverProperties, Collections.emptyMap());
   }
@@ -484,6 +521,12 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
     storeWriterBufferAfterLeaderLogicEnabled =
         serverProperties.getBoolean(STORE_WRITER_BUFFER_AFTER_LEADER_LOGIC_ENABLED, true);
+    storeWriterDynamicDrainerAssignmentEnabled =
+        serverProperties.getBoolean(STORE_WRITER_DYNAMIC_DRAINER_ASSIGNMENT_ENABLED, false);
+    storeWriterWriteBatchEnabled = serverProperties.getBoolean(STORE_WRITER_WRITE_BATCH_ENABLED, false);
+    storeWriterWriteBatchMaxSizeInBytes =
+        serverProperties.getSizeInBytes(STORE_WRITER_WRITE_BATCH_MAX_SIZE_IN_BYTES, 1024 * 1024);
+    storeWriterWriteBatchMaxDelayMs = serverProperties.getLong(STORE_WRITER_WRITE_BATCH_MAX_DELAY_MS, 100);
     // To minimize the GC impact during heavy ingestion.
     storeWriterBufferMemoryCapacity =
         serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_MEMORY_CAPACITY, 10 * 1024 * 1024);
@@ -498,6 +541,9 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     nettyWorkerThreadCount = serverProperties.getInt(SERVER_NETTY_WORKER_THREADS, 0);
     grpcWorkerThreadCount =
         serverProperties.getInt(GRPC_SERVER_WORKER_THREAD_COUNT, Runtime.getRuntime().availableProcessors());
+    grpcStreamingMaxRecordsPerResponse = serverProperties.getInt(GRPC_STREAMING_MAX_RECORDS_PER_RESPONSE, 100);
+    grpcStreamingMaxReadyWaitMs =
+        serverProperties.getLong(GRPC_STREAMING_MAX_READY_WAIT_MS, TimeUnit.SECONDS.toMillis(10));
 
     remoteIngestionRepairSleepInterval = serverProperties.getInt(
         SERVER_REMOTE_INGESTION_REPAIR_SLEEP_INTERVAL_SECONDS,
@@ -537,6 +583,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
     enableParallelBatchGet = serverProperties.getBoolean(SERVER_ENABLE_PARALLEL_BATCH_GET, false);
     parallelBatchGetChunkSize = serverProperties.getInt(SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE, 5);
+    parallelBatchGetAdaptiveEnabled = serverProperties.getBoolean(SERVER_PARALLEL_BATCH_GET_ADAPTIVE_ENABLED, false);
+    parallelBatchGetTargetChunkLatencyUs =
+        serverProperties.getLong(SERVER_PARALLEL_BATCH_GET_TARGET_CHUNK_LATENCY_US, 1000);
+    enableBatchLookup = serverProperties.getBoolean(SERVER_ENABLE_BATCH_LOOKUP, false);
 
     keyValueProfilingEnabled = serverProperties.getBoolean(KEY_VALUE_PROFILING_ENABLED, false);
     enableDatabaseMemoryStats = serverProperties.getBoolean(SERVER_DATABASE_MEMORY_STATS_ENABLED, true);
@@ -727,10 +777,17 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     }
     routerPrincipalName = serverProperties.getString(ROUTER_PRINCIPAL_NAME, "CN=venice-router");
     ingestionTaskMaxIdleCount = serverProperties.getInt(SERVER_INGESTION_TASK_MAX_IDLE_COUNT, 10000);
+    activeActiveBatchConflictResolutionEnabled =
+        serverProperties.getBoolean(SERVER_ACTIVE_ACTIVE_BATCH_CONFLICT_RESOLUTION_ENABLED, false);
+    activeActiveBatchConflictResolutionMaxRecords =
+        serverProperties.getInt(SERVER_ACTIVE_ACTIVE_BATCH_CONFLICT_RESOLUTION_MAX_RECORDS, 100);
+    activeActiveKeyLevelLockStripeCount = serverProperties.getInt(SERVER_ACTIVE_ACTIVE_KEY_LEVEL_LOCK_STRIPE_COUNT, 0);
     metaStoreWriterCloseTimeoutInMS = serverProperties.getLong(META_STORE_WRITER_CLOSE_TIMEOUT_MS, 300000L);
     metaStoreWriterCloseConcurrency = serverProperties.getInt(META_STORE_WRITER_CLOSE_CONCURRENCY, -1);
     ingestionHeartbeatIntervalMs =
         serverProperties.getLong(SERVER_INGESTION_HEARTBEAT_INTERVAL_MS, TimeUnit.MINUTES.toMillis(1));
+    offHeapMemorySlabSizeInBytes =
+        (int) serverProperties.getSizeInBytes(SERVER_OFF_HEAP_MEMORY_SLAB_SIZE_IN_BYTES, 4 * 1024 * 1024);
   }
 
   long extractIngestionMemoryLimit(
@@ -861,6 +918,22 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return this.storeWriterBufferAfterLeaderLogicEnabled;
   }
 
+  public boolean isStoreWriterDynamicDrainerAssignmentEnabled() {
+    return this.storeWriterDynamicDrainerAssignmentEnabled;
+  }
+
+  public boolean isStoreWriterWriteBatchEnabled() {
+    return this.storeWriterWriteBatchEnabled;
+  }
+
+  public long getStoreWriterWriteBatchMaxSizeInBytes() {
+    return this.storeWriterWriteBatchMaxSizeInBytes;
+  }
+
+  public long getStoreWriterWriteBatchMaxDelayMs() {
+    return this.storeWriterWriteBatchMaxDelayMs;
+  }
+
   public long getStoreWriterBufferMemoryCapacity() {
     return this.storeWriterBufferMemoryCapacity;
   }
@@ -901,6 +974,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return grpcWorkerThreadCount;
   }
 
+  public int getGrpcStreamingMaxRecordsPerResponse() {
+    return grpcStreamingMaxRecordsPerResponse;
+  }
+
+  public long getGrpcStreamingMaxReadyWaitMs() {
+    return grpcStreamingMaxReadyWaitMs;
+  }
+
   public long getDatabaseSyncBytesIntervalForTransactionalMode() {
     return databaseSyncBytesIntervalForTransactionalMode;
   }
@@ -993,6 +1074,18 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return parallelBatchGetChunkSize;
   }
 
+  public boolean isParallelBatchGetAdaptiveEnabled() {
+    return parallelBatchGetAdaptiveEnabled;
+  }
+
+  public long getParallelBatchGetTargetChunkLatencyUs() {
+    return parallelBatchGetTargetChunkLatencyUs;
+  }
+
+  public boolean isEnableBatchLookup() {
+    return enableBatchLookup;
+  }
+
   public boolean isKeyValueProfilingEnabled() {
     return keyValueProfilingEnabled;
   }
@@ -1269,6 +1362,18 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return ingestionTaskMaxIdleCount;
   }
 
+  public boolean isActiveActiveBatchConflictResolutionEnabled() {
+    return activeActiveBatchConflictResolutionEnabled;
+  }
+
+  public int getActiveActiveBatchConflictResolutionMaxRecords() {
+    return activeActiveBatchConflictResolutionMaxRecords;
+  }
+
+  public int getActiveActiveKeyLevelLockStripeCount() {
+    return activeActiveKeyLevelLockStripeCount;
+  }
+
   public boolean isKMERegistrationFromMessageHeaderEnabled() {
     return isKMERegistrationFromMessageHeaderEnabled;
   }
@@ -1284,4 +1389,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   public long getIngestionHeartbeatIntervalMs() {
     return ingestionHeartbeatIntervalMs;
   }
+
+  public int getOffHeapMemorySlabSizeInBytes() {
+    return offHeapMemorySlabSizeInBytes;
+  }
 }
@@ -48,6 +48,7 @@ import com.linkedin.venice.serialization.RawBytesStoreDeserializerCache;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.lazy.Lazy;
 import com.linkedin.venice.writer.ChunkAwareCallback;
@@ -59,6 +60,7 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -87,14 +89,48 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
   private final MergeConflictResolver mergeConflictResolver;
   private final RmdSerDe rmdSerDe;
   private final Lazy<KeyLevelLocksManager> keyLevelLocksManager;
+  /**
+   * Used instead of {@link #keyLevelLocksManager} when {@link #stripedKeyLevelLocksEnabled} is true.
+   */
+  private final Lazy<StripedKeyLevelLocksManager> stripedKeyLevelLocksManager;
+  private final boolean stripedKeyLevelLocksEnabled;
   private final AggVersionedIngestionStats aggVersionedIngestionStats;
   private final RemoteIngestionRepairService remoteIngestionRepairService;
+  private final boolean batchConflictResolutionEnabled;
+  private final int batchConflictResolutionMaxRecords;
 
   private static class ReusableObjects {
     // reuse buffer for rocksDB value object
     final ByteBuffer reusedByteBuffer = ByteBuffer.allocate(1024 * 1024);
     final BinaryDecoder binaryDecoder =
         AvroCompatibilityHelper.newBinaryDecoder(BINARY_DECODER_PARAM, 0, BINARY_DECODER_PARAM.length, null);
+    // Existing value and RMD of the keys of the batch of real-time records being processed by this thread
+    final Map<ByteArrayKey, PrefetchedRecord> prefetchedRecords = new HashMap<>();
+    // Whether the key-level locks of the batch of real-time records being processed by this thread are already held
+    boolean batchKeysLocked = false;
+  }
+
+  /**
+   * The existing value and RMD of a key, fetched from the storage engine before processing a batch of real-time
+   * records. It is only valid as long as the key-level lock is held, and until the first record of the key is
+   * processed, after which the transient record cache and the storage engine are the sources of truth again.
+   */
+  static class PrefetchedRecord {
+    final ByteBufferValueRecord<ByteBuffer> value;
+    final ChunkedValueManifest valueManifest;
+    final byte[] rmdWithValueSchemaBytes;
+    final ChunkedValueManifest rmdManifest;
+
+    PrefetchedRecord(
+        ByteBufferValueRecord<ByteBuffer> value,
+        ChunkedValueManifest valueManifest,
+        byte[] rmdWithValueSchemaBytes,
+        ChunkedValueManifest rmdManifest) {
+      this.value = value;
+      this.valueManifest = valueManifest;
+      this.rmdWithValueSchemaBytes = rmdWithValueSchemaBytes;
+      this.rmdManifest = rmdManifest;
+    }
   }
 
   private final ThreadLocal<ReusableObjects> threadLocalReusableObjects = ThreadLocal.withInitial(ReusableObjects::new);
@@ -126,13 +162,20 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
     int knownKafkaClusterNumber = serverConfig.getKafkaClusterIdToUrlMap().size();
     int consumerPoolSizePerKafkaCluster = serverConfig.getConsumerPoolSizePerKafkaCluster();
     int initialPoolSize = knownKafkaClusterNumber + 1;
+    this.batchConflictResolutionEnabled = serverConfig.isActiveActiveBatchConflictResolutionEnabled();
+    this.batchConflictResolutionMaxRecords = serverConfig.getActiveActiveBatchConflictResolutionMaxRecords();
     /**
-     * In theory, the maximum # of keys each ingestion task can process is the # of consumers allocated for it.
+     * In theory, the maximum # of keys each ingestion task can process is the # of consumers allocated for it, times
+     * the # of distinct keys each consumer locks at once, which is more than one in batch conflict resolution mode.
      */
-    int maxKeyLevelLocksPoolSize =
-        Math.min(storeVersionPartitionCount, consumerPoolSizePerKafkaCluster) * knownKafkaClusterNumber + 1;
+    int maxKeysLockedPerConsumer = batchConflictResolutionEnabled ? batchConflictResolutionMaxRecords : 1;
+    int maxKeyLevelLocksPoolSize = Math.min(storeVersionPartitionCount, consumerPoolSizePerKafkaCluster)
+        * knownKafkaClusterNumber * maxKeysLockedPerConsumer + 1;
     this.keyLevelLocksManager =
         Lazy.of(() -> new KeyLevelLocksManager(getVersionTopic().getName(), initialPoolSize, maxKeyLevelLocksPoolSize));
+    int keyLevelLockStripeCount = serverConfig.getActiveActiveKeyLevelLockStripeCount();
+    this.stripedKeyLevelLocksEnabled = keyLevelLockStripeCount > 0;
+    this.stripedKeyLevelLocksManager = Lazy.of(() -> new StripedKeyLevelLocksManager(keyLevelLockStripeCount));
     StringAnnotatedStoreSchemaCache annotatedReadOnlySchemaRepository =
         new StringAnnotatedStoreSchemaCache(storeName, schemaRepository);
 
@@ -150,6 +193,204 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
     this.remoteIngestionRepairService = builder.getRemoteIngestionRepairService();
   }
 
+  /**
+   * When batch conflict resolution is enabled, and this replica is the leader resolving the conflicts of the real-time
+   * records, the data records are processed in batches of at most {@link #batchConflictResolutionMaxRecords} records.
+   * For each batch, the key-level locks of all the distinct keys are acquired once, in the natural order of
+   * {@link ByteArrayKey} so that concurrent consumers of different regions cannot deadlock, and the existing values and
+   * RMDs of these keys are prefetched with batched storage reads. The records are then processed in order, exactly like
+   * in the per-record mode.
+   *
+   * The locks of a batch are held until all of its records are resolved and produced to the version topic, so the
+   * batch size bounds how long the consumers of other regions could wait for them. The calls which could block for
+   * longer are kept out of the locked section: the value schemas of a batch are waited for before locking, and control
+   * messages, which could be queued to the drainer, are processed on their own, without any lock held.
+   */
+  @Override
+  protected void produceToStoreBufferServiceOrKafka(
+      Iterable<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records,
+      PubSubTopicPartition topicPartition,
+      String kafkaUrl,
+      int kafkaClusterId) throws InterruptedException {
+    if (!batchConflictResolutionEnabled || !topicPartition.getPubSubTopic().isRealTime()
+        || !isBatchConflictResolutionApplicable(PartitionUtils.getSubPartition(topicPartition, amplificationFactor))) {
+      super.produceToStoreBufferServiceOrKafka(records, topicPartition, kafkaUrl, kafkaClusterId);
+      return;
+    }
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> batch = new ArrayList<>();
+    boolean anyRecordProcessed = false;
+    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records) {
+      if (record.getKey().isControlMessage()) {
+        if (!batch.isEmpty()) {
+          processRecordBatchWithKeyLevelLocks(batch, topicPartition, kafkaUrl, kafkaClusterId);
+          batch.clear();
+        }
+        super.produceToStoreBufferServiceOrKafka(
+            Collections.singletonList(record),
+            topicPartition,
+            kafkaUrl,
+            kafkaClusterId);
+        anyRecordProcessed = true;
+        continue;
+      }
+      batch.add(record);
+      if (batch.size() >= batchConflictResolutionMaxRecords) {
+        processRecordBatchWithKeyLevelLocks(batch, topicPartition, kafkaUrl, kafkaClusterId);
+        batch.clear();
+        anyRecordProcessed = true;
+      }
+    }
+    if (!batch.isEmpty()) {
+      processRecordBatchWithKeyLevelLocks(batch, topicPartition, kafkaUrl, kafkaClusterId);
+    } else if (!anyRecordProcessed) {
+      // Even if the records list is empty, the quota still needs to be checked to potentially resume the partition.
+      super.produceToStoreBufferServiceOrKafka(records, topicPartition, kafkaUrl, kafkaClusterId);
+    }
+  }
+
+  /**
+   * Batching only applies to the records going through conflict resolution, which are produced to the version topic
+   * by the leader. Otherwise, the records are queued to the drainer, which could block with the locks held.
+   */
+  private boolean isBatchConflictResolutionApplicable(int subPartition) {
+    PartitionConsumptionState partitionConsumptionState = partitionConsumptionStateMap.get(subPartition);
+    return partitionConsumptionState != null && partitionConsumptionState.isEndOfPushReceived()
+        && !(isDataRecovery && partitionConsumptionState.getTopicSwitch() != null)
+        && shouldProduceToVersionTopic(partitionConsumptionState);
+  }
+
+  private void processRecordBatchWithKeyLevelLocks(
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> batch,
+      PubSubTopicPartition topicPartition,
+      String kafkaUrl,
+      int kafkaClusterId) throws InterruptedException {
+    Set<ByteArrayKey> batchKeys = new HashSet<>();
+    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: batch) {
+      batchKeys.add(ByteArrayKey.wrap(record.getKey().getKey()));
+      // Wait for the value schemas before locking, since it could take a while for a new schema to show up.
+      waitForValueSchemaOfRecord(record);
+    }
+    List<ByteArrayKey> sortedKeys = new ArrayList<>(batchKeys);
+    Collections.sort(sortedKeys);
+    KeyLevelLocksManager locksManager = stripedKeyLevelLocksEnabled ? null : this.keyLevelLocksManager.get();
+    ReusableObjects reusableObjects = threadLocalReusableObjects.get();
+    List<ReentrantLock> keyLevelLocks = new ArrayList<>(sortedKeys.size());
+    try {
+      if (stripedKeyLevelLocksEnabled) {
+        // Keys could share stripes, so the locks are acquired by stripe order instead of key order.
+        for (ReentrantLock keyLevelLock: stripedKeyLevelLocksManager.get().getLocksInAcquisitionOrder(sortedKeys)) {
+          keyLevelLock.lock();
+          keyLevelLocks.add(keyLevelLock);
+        }
+      } else {
+        for (ByteArrayKey key: sortedKeys) {
+          ReentrantLock keyLevelLock = locksManager.acquireLockByKey(key);
+          keyLevelLock.lock();
+          keyLevelLocks.add(keyLevelLock);
+        }
+      }
+      reusableObjects.batchKeysLocked = true;
+      int subPartition = PartitionUtils.getSubPartition(topicPartition, amplificationFactor);
+      prefetchValueAndRmd(subPartition, sortedKeys, reusableObjects.prefetchedRecords);
+      super.produceToStoreBufferServiceOrKafka(batch, topicPartition, kafkaUrl, kafkaClusterId);
+    } finally {
+      reusableObjects.batchKeysLocked = false;
+      reusableObjects.prefetchedRecords.clear();
+      for (int i = keyLevelLocks.size() - 1; i >= 0; i--) {
+        keyLevelLocks.get(i).unlock();
+        if (locksManager != null) {
+          locksManager.releaseLock(sortedKeys.get(i));
+        }
+      }
+    }
+  }
+
+  private void waitForValueSchemaOfRecord(PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record)
+      throws InterruptedException {
+    KafkaMessageEnvelope kafkaValue = record.getValue();
+    if (kafkaValue == null) {
+      return;
+    }
+    switch (MessageType.valueOf(kafkaValue)) {
+      case PUT:
+        waitReadyToProcessDataRecord(((Put) kafkaValue.payloadUnion).schemaId);
+        break;
+      case UPDATE:
+        waitReadyToProcessDataRecord(((Update) kafkaValue.payloadUnion).schemaId);
+        break;
+      default:
+        break;
+    }
+  }
+
+  /**
+   * Fetches the existing values and RMDs of the given keys with one batched storage read each, so that the conflict
+   * resolution of the first record of each key does not need point lookups. Keys which are in the transient record
+   * cache are skipped, since the cache takes precedence over the storage engine anyway.
+   */
+  private void prefetchValueAndRmd(
+      int subPartition,
+      List<ByteArrayKey> keys,
+      Map<ByteArrayKey, PrefetchedRecord> results) {
+    PartitionConsumptionState partitionConsumptionState = partitionConsumptionStateMap.get(subPartition);
+    if (partitionConsumptionState == null || !partitionConsumptionState.isEndOfPushReceived()
+        || isDataRecovery && partitionConsumptionState.getTopicSwitch() != null || amplificationFactor != 1) {
+      // The records are not going through conflict resolution, or not all the keys belong to the same sub-partition.
+      return;
+    }
+    List<byte[]> keysToFetch = new ArrayList<>(keys.size());
+    for (ByteArrayKey key: keys) {
+      if (partitionConsumptionState.getTransientRecord(key.getContent()) == null) {
+        keysToFetch.add(key.getContent());
+      }
+    }
+    if (keysToFetch.isEmpty()) {
+      return;
+    }
+    long currentTimeForMetricsMs = System.currentTimeMillis();
+    List<ChunkedValueManifestContainer> valueManifestContainers = newManifestContainers(keysToFetch.size());
+    long lookupStartTimeInNS = System.nanoTime();
+    List<ByteBufferValueRecord<ByteBuffer>> values = RawBytesChunkingAdapter.INSTANCE.batchGetWithSchemaId(
+        storageEngine,
+        subPartition,
+        keysToFetch,
+        isChunked,
+        threadLocalReusableObjects.get().binaryDecoder,
+        RawBytesStoreDeserializerCache.getInstance(),
+        compressor.get(),
+        valueManifestContainers);
+    hostLevelIngestionStats.recordIngestionValueBytesLookUpLatency(
+        LatencyUtils.getLatencyInMS(lookupStartTimeInNS),
+        currentTimeForMetricsMs);
+
+    List<ChunkedValueManifestContainer> rmdManifestContainers = newManifestContainers(keysToFetch.size());
+    lookupStartTimeInNS = System.nanoTime();
+    List<ValueRecord> rmds = SingleGetChunkingAdapter
+        .batchGetReplicationMetadata(getStorageEngine(), subPartition, keysToFetch, isChunked(), rmdManifestContainers);
+    getHostLevelIngestionStats().recordIngestionReplicationMetadataLookUpLatency(
+        LatencyUtils.getLatencyInMS(lookupStartTimeInNS),
+        currentTimeForMetricsMs);
+
+    for (int i = 0; i < keysToFetch.size(); i++) {
+      ValueRecord rmd = rmds.get(i);
+      results.put(
+          ByteArrayKey.wrap(keysToFetch.get(i)),
+          new PrefetchedRecord(
+              values.get(i),
+              valueManifestContainers.get(i).getManifest(),
+              rmd == null ? null : rmd.serialize(),
+              rmdManifestContainers.get(i).getManifest()));
+    }
+  }
+
+  private static List<ChunkedValueManifestContainer> newManifestContainers(int size) {
+    List<ChunkedValueManifestContainer> containers = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      containers.add(new ChunkedValueManifestContainer());
+    }
+    return containers;
+  }
+
   @Override
   protected DelegateConsumerRecordResult delegateConsumerRecord(
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
@@ -158,9 +399,11 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
       int kafkaClusterId,
       long beforeProcessingRecordTimestampNs,
       long currentTimeForMetricsMs) {
-    if (!consumerRecord.getTopicPartition().getPubSubTopic().isRealTime()) {
+    if (!consumerRecord.getTopicPartition().getPubSubTopic().isRealTime()
+        || threadLocalReusableObjects.get().batchKeysLocked) {
       /**
-       * We don't need to lock the partition here because during VT consumption there is only one consumption source.
+       * We don't need to lock the partition here because during VT consumption there is only one consumption source,
+       * and in batch conflict resolution mode, the locks have already been acquired for the whole batch.
        */
       return super.delegateConsumerRecord(
           consumerRecord,
@@ -181,8 +424,15 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
        * -> [fabric B thread]update transient record cache -> [fabric B thread]produce to VT -> [fabric A thread]update transient record cache
        * -> [fabric A thread]produce to VT
        */
-      final ByteArrayKey byteArrayKey = ByteArrayKey.wrap(consumerRecord.getKey().getKey());
-      ReentrantLock keyLevelLock = this.keyLevelLocksManager.get().acquireLockByKey(byteArrayKey);
+      final ByteArrayKey byteArrayKey;
+      final ReentrantLock keyLevelLock;
+      if (stripedKeyLevelLocksEnabled) {
+        byteArrayKey = null;
+        keyLevelLock = this.stripedKeyLevelLocksManager.get().getLockByKey(consumerRecord.getKey().getKey());
+      } else {
+        byteArrayKey = ByteArrayKey.wrap(consumerRecord.getKey().getKey());
+        keyLevelLock = this.keyLevelLocksManager.get().acquireLockByKey(byteArrayKey);
+      }
       keyLevelLock.lock();
       try {
         return super.delegateConsumerRecord(
@@ -194,7 +444,9 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
             currentTimeForMetricsMs);
       } finally {
         keyLevelLock.unlock();
-        this.keyLevelLocksManager.get().releaseLock(byteArrayKey);
+        if (byteArrayKey != null) {
+          this.keyLevelLocksManager.get().releaseLock(byteArrayKey);
+        }
       }
     }
   }
@@ -320,12 +572,18 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
     ChunkedValueManifestContainer rmdManifestContainer = new ChunkedValueManifestContainer();
     byte[] replicationMetadataWithValueSchemaBytes =
         getRmdWithValueSchemaByteBufferFromStorage(subPartition, key, rmdManifestContainer, currentTimeForMetricsMs);
+    return deserializeRmdWithValueSchemaId(replicationMetadataWithValueSchemaBytes, rmdManifestContainer.getManifest());
+  }
+
+  private RmdWithValueSchemaId deserializeRmdWithValueSchemaId(
+      byte[] replicationMetadataWithValueSchemaBytes,
+      ChunkedValueManifest rmdManifest) {
     if (replicationMetadataWithValueSchemaBytes == null) {
       return null; // No RMD for this key
     }
     RmdWithValueSchemaId rmdWithValueSchemaId = new RmdWithValueSchemaId();
     // Get old RMD manifest value from RMD Manifest container object.
-    rmdWithValueSchemaId.setRmdManifest(rmdManifestContainer.getManifest());
+    rmdWithValueSchemaId.setRmdManifest(rmdManifest);
     getRmdSerDe()
         .deserializeValueSchemaIdPrependedRmdBytes(replicationMetadataWithValueSchemaBytes, rmdWithValueSchemaId);
     return rmdWithValueSchemaId;
@@ -410,16 +668,26 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
             consumerTaskId + " : Invalid/Unrecognized operation type submitted: " + kafkaValue.messageType);
     }
     final ChunkedValueManifestContainer valueManifestContainer = new ChunkedValueManifestContainer();
-    Lazy<ByteBufferValueRecord<ByteBuffer>> oldValueProvider = Lazy.of(
-        () -> getValueBytesForKey(
-            partitionConsumptionState,
-            keyBytes,
-            consumerRecord.getTopicPartition(),
-            valueManifestContainer,
-            currentTimeForMetricsMs));
-
-    final RmdWithValueSchemaId rmdWithValueSchemaID =
-        getReplicationMetadataAndSchemaId(partitionConsumptionState, keyBytes, subPartition, currentTimeForMetricsMs);
+    final Lazy<ByteBufferValueRecord<ByteBuffer>> oldValueProvider;
+    final RmdWithValueSchemaId rmdWithValueSchemaID;
+    // The prefetched record can only be used once, since this record is about to change the value and RMD of the key.
+    final PrefetchedRecord prefetchedRecord = removePrefetchedRecord(keyBytes);
+    if (prefetchedRecord != null) {
+      valueManifestContainer.setManifest(prefetchedRecord.valueManifest);
+      oldValueProvider = Lazy.of(() -> prefetchedRecord.value);
+      rmdWithValueSchemaID =
+          deserializeRmdWithValueSchemaId(prefetchedRecord.rmdWithValueSchemaBytes, prefetchedRecord.rmdManifest);
+    } else {
+      oldValueProvider = Lazy.of(
+          () -> getValueBytesForKey(
+              partitionConsumptionState,
+              keyBytes,
+              consumerRecord.getTopicPartition(),
+              valueManifestContainer,
+              currentTimeForMetricsMs));
+      rmdWithValueSchemaID =
+          getReplicationMetadataAndSchemaId(partitionConsumptionState, keyBytes, subPartition, currentTimeForMetricsMs);
+    }
 
     final long writeTimestamp = getWriteTimestampFromKME(kafkaValue);
     final long offsetSumPreOperation =
@@ -564,6 +832,16 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
 
   }
 
+  PrefetchedRecord removePrefetchedRecord(byte[] key) {
+    Map<ByteArrayKey, PrefetchedRecord> prefetchedRecords = threadLocalReusableObjects.get().prefetchedRecords;
+    return prefetchedRecords.isEmpty() ? null : prefetchedRecords.remove(ByteArrayKey.wrap(key));
+  }
+
+  // For testing purpose
+  StripedKeyLevelLocksManager getStripedKeyLevelLocksManager() {
+    return stripedKeyLevelLocksManager.get();
+  }
+
   private long getWriteTimestampFromKME(KafkaMessageEnvelope kme) {
     if (kme.producerMetadata.logicalTimestamp >= 0) {
       return kme.producerMetadata.logicalTimestamp;
@@ -372,7 +372,8 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
           serverConfig.getStoreWriterNumber(),
           serverConfig.getStoreWriterBufferMemoryCapacity(),
           serverConfig.getStoreWriterBufferNotifyDelta(),
-          serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled());
+          serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
+          serverConfig.isStoreWriterDynamicDrainerAssignmentEnabled());
     }
     this.kafkaMessageEnvelopeSchemaReader = kafkaMessageEnvelopeSchemaReader;
     /**
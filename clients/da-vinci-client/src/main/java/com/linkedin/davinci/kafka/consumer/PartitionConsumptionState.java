@@ -1,6 +1,7 @@
 package com.linkedin.davinci.kafka.consumer;
 
 import com.linkedin.davinci.helix.LeaderFollowerPartitionStateModel;
+import com.linkedin.davinci.store.StorageWriteBatch;
 import com.linkedin.davinci.utils.ByteArrayKey;
 import com.linkedin.venice.kafka.protocol.GUID;
 import com.linkedin.venice.kafka.protocol.Put;
@@ -79,6 +80,13 @@ public class PartitionConsumptionState {
    */
   private long processedRecordSizeSinceLastSync;
 
+  /**
+   * The writes accumulated by the drainer which haven't been applied to the storage engine yet, when
+   * {@link com.linkedin.venice.ConfigKeys#STORE_WRITER_WRITE_BATCH_ENABLED} is on. Accesses must be synchronized
+   * on it, since it is applied by both the drainer and the ingestion task thread.
+   */
+  private final StorageWriteBatch pendingWriteBatch = new StorageWriteBatch();
+
   /**
    * An in-memory state to track whether the leader consumer is consuming from remote or not; it will be updated with
    * correct value during ingestion.
@@ -369,6 +377,10 @@ public class PartitionConsumptionState {
         .toString();
   }
 
+  public StorageWriteBatch getPendingWriteBatch() {
+    return this.pendingWriteBatch;
+  }
+
   public long getProcessedRecordSizeSinceLastSync() {
     return this.processedRecordSizeSinceLastSync;
   }
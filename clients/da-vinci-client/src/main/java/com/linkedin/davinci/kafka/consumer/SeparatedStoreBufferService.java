@@ -35,12 +35,14 @@ public class SeparatedStoreBufferService extends AbstractStoreBufferService {
             serverConfig.getDrainerPoolSizeSortedInput(),
             serverConfig.getStoreWriterBufferMemoryCapacity(),
             serverConfig.getStoreWriterBufferNotifyDelta(),
-            serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled()),
+            serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
+            serverConfig.isStoreWriterDynamicDrainerAssignmentEnabled()),
         new StoreBufferService(
             serverConfig.getDrainerPoolSizeUnsortedInput(),
             serverConfig.getStoreWriterBufferMemoryCapacity(),
             serverConfig.getStoreWriterBufferNotifyDelta(),
-            serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled()));
+            serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
+            serverConfig.isStoreWriterDynamicDrainerAssignmentEnabled()));
     LOGGER.info(
         "Created separated store buffer service with {} sorted drainers and {} unsorted drainers queues with capacity of {}",
         sortedPoolSize,
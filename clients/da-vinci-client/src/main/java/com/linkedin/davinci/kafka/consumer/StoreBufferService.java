@@ -16,6 +16,7 @@ import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.PartitionUtils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +42,8 @@ import org.apache.logging.log4j.Logger;
  * 2. For each {@link StoreBufferDrainer}, there is a corresponding {@link BlockingQueue}, which will buffer {@link QueueNode};
  * 3. All the records belonging to the same topic+partition will be allocated to the same drainer thread, otherwise DIV will fail;
  * 4. The logic to assign topic+partition to drainer, please check {@link #getDrainerIndexForConsumerRecord(PubSubMessage, int)};
+ *    when dynamic drainer assignment is enabled, a topic+partition is instead moved to the least loaded drainer
+ *    whenever none of its records are buffered or being processed, please check {@link #assignDrainer};
  * 5. There is still a thread executing {@link StoreIngestionTask} for each topic, which will handle admin actions, such
  * as subscribe, unsubscribe, kill and so on, and also poll consumer records from Kafka and put them into {@link #blockingQueueArr}
  * maintained by {@link StoreBufferService};
@@ -62,6 +65,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
     private final StoreIngestionTask ingestionTask;
     private final String kafkaUrl;
     private final long beforeProcessingRecordTimestampNs;
+    private DrainerAssignment drainerAssignment;
 
     public QueueNode(
         PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
@@ -98,6 +102,15 @@ public class StoreBufferService extends AbstractStoreBufferService {
       return this.beforeProcessingRecordTimestampNs;
     }
 
+    /**
+     * Invoked by the drainer once it is done with this node, whether the processing succeeded or not.
+     */
+    void onProcessed() {
+      if (this.drainerAssignment != null) {
+        this.drainerAssignment.onRecordProcessed();
+      }
+    }
+
     /**
      * This function is being used by {@link BlockingQueue#contains(Object)}.
      * The goal is to find out whether the buffered queue still has any records belonging to the specified topic+partition.
@@ -217,6 +230,39 @@ public class StoreBufferService extends AbstractStoreBufferService {
     }
   }
 
+  /**
+   * The drainer a topic+partition is currently assigned to when dynamic drainer assignment is enabled, along with the
+   * number of its records which have been buffered but not processed yet. The topic+partition can only be moved to
+   * another drainer while that number is zero, so that its records are always processed in order, as required by DIV.
+   */
+  private static class DrainerAssignment {
+    private int drainerIndex;
+    private int pendingRecordCount = 0;
+    /**
+     * Set when the assignment is removed from the assignment map, after which it must not be used anymore.
+     */
+    private boolean retired = false;
+
+    DrainerAssignment(int drainerIndex) {
+      this.drainerIndex = drainerIndex;
+    }
+
+    synchronized int getDrainerIndex() {
+      return drainerIndex;
+    }
+
+    synchronized void onRecordProcessed() {
+      pendingRecordCount--;
+    }
+
+    synchronized boolean retireIfIdle() {
+      if (pendingRecordCount == 0) {
+        retired = true;
+      }
+      return retired;
+    }
+  }
+
   /**
    * Worker thread, which will invoke {@link StoreIngestionTask#processConsumerRecord}
    * to process each {@link PubSubMessage} buffered in {@link BlockingQueue}.
@@ -277,7 +323,13 @@ public class StoreBufferService extends AbstractStoreBufferService {
           topicToTimeSpent.compute(
               consumerRecord.getTopicPartition(),
               (K, V) -> (V == null ? 0 : V) + System.currentTimeMillis() - startTime);
+          node.onProcessed();
+          node = null;
         } catch (Throwable e) {
+          if (node != null) {
+            node.onProcessed();
+            node = null;
+          }
           if (e instanceof InterruptedException) {
             LOGGER.error("Drainer {} received InterruptedException, will exit", drainerIndex);
             break;
@@ -340,12 +392,25 @@ public class StoreBufferService extends AbstractStoreBufferService {
 
   private final RecordHandler leaderRecordHandler;
 
+  private final boolean dynamicDrainerAssignment;
+  private final Map<PubSubTopicPartition, DrainerAssignment> drainerAssignments = new VeniceConcurrentHashMap<>();
+
   public StoreBufferService(
       int drainerNum,
       long bufferCapacityPerDrainer,
       long bufferNotifyDelta,
       boolean queueLeaderWrites) {
+    this(drainerNum, bufferCapacityPerDrainer, bufferNotifyDelta, queueLeaderWrites, false);
+  }
+
+  public StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean queueLeaderWrites,
+      boolean dynamicDrainerAssignment) {
     this.drainerNum = drainerNum;
+    this.dynamicDrainerAssignment = dynamicDrainerAssignment;
     this.blockingQueueArr = new ArrayList<>();
     this.bufferCapacityPerDrainer = bufferCapacityPerDrainer;
     for (int cur = 0; cur < drainerNum; ++cur) {
@@ -373,6 +438,62 @@ public class StoreBufferService extends AbstractStoreBufferService {
     return Math.abs((topicHash + subPartition) % this.drainerNum);
   }
 
+  private void putIntoDrainerQueue(QueueNode node, int subPartition) throws InterruptedException {
+    if (!dynamicDrainerAssignment) {
+      getDrainerForConsumerRecord(node.getConsumerRecord(), subPartition).put(node);
+      return;
+    }
+    int drainerIndex = assignDrainer(node, subPartition);
+    try {
+      blockingQueueArr.get(drainerIndex).put(node);
+    } catch (InterruptedException e) {
+      node.onProcessed();
+      throw e;
+    }
+  }
+
+  /**
+   * Picks the drainer of the given node when dynamic drainer assignment is enabled, and registers the node as pending
+   * on its {@link DrainerAssignment}.
+   *
+   * If no record of the topic+partition is pending, this is a safe point to move it, and it goes to the drainer with
+   * the lowest buffered memory usage, staying on its current drainer in case of a tie. Otherwise, it must stay on its
+   * current drainer. A new topic+partition starts from the drainer picked by the static hashing.
+   */
+  int assignDrainer(QueueNode node, int subPartition) {
+    PubSubTopicPartition topicPartition = node.getConsumerRecord().getTopicPartition();
+    while (true) {
+      DrainerAssignment assignment = drainerAssignments.computeIfAbsent(
+          topicPartition,
+          k -> new DrainerAssignment(getDrainerIndexForConsumerRecord(node.getConsumerRecord(), subPartition)));
+      synchronized (assignment) {
+        if (assignment.retired) {
+          // Concurrently removed, so look it up again.
+          continue;
+        }
+        if (assignment.pendingRecordCount == 0) {
+          assignment.drainerIndex = getLeastLoadedDrainerIndex(assignment.drainerIndex);
+        }
+        assignment.pendingRecordCount++;
+        node.drainerAssignment = assignment;
+        return assignment.drainerIndex;
+      }
+    }
+  }
+
+  private int getLeastLoadedDrainerIndex(int currentDrainerIndex) {
+    int leastLoadedDrainerIndex = currentDrainerIndex;
+    long minMemoryUsage = blockingQueueArr.get(currentDrainerIndex).getMemoryUsage();
+    for (int i = 0; i < drainerNum && minMemoryUsage > 0; i++) {
+      long memoryUsage = blockingQueueArr.get(i).getMemoryUsage();
+      if (memoryUsage < minMemoryUsage) {
+        minMemoryUsage = memoryUsage;
+        leastLoadedDrainerIndex = i;
+      }
+    }
+    return leastLoadedDrainerIndex;
+  }
+
   @Override
   public void putConsumerRecord(
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
@@ -388,13 +509,14 @@ public class StoreBufferService extends AbstractStoreBufferService {
        * end-to-end completeness when producing to local Kafka is needed.
        */
       CompletableFuture<Void> recordFuture = new CompletableFuture<>();
-      getDrainerForConsumerRecord(consumerRecord, subPartition).put(
+      putIntoDrainerQueue(
           new FollowerQueueNode(
               consumerRecord,
               ingestionTask,
               kafkaUrl,
               beforeProcessingRecordTimestampNs,
-              recordFuture));
+              recordFuture),
+          subPartition);
 
       // Setup the last queued record's future
       PartitionConsumptionState partitionConsumptionState =
@@ -430,13 +552,14 @@ public class StoreBufferService extends AbstractStoreBufferService {
       int subPartition,
       String kafkaUrl,
       long beforeProcessingRecordTimestamp) throws InterruptedException {
-    getDrainerForConsumerRecord(consumerRecord, subPartition).put(
+    putIntoDrainerQueue(
         new LeaderQueueNode(
             consumerRecord,
             ingestionTask,
             kafkaUrl,
             beforeProcessingRecordTimestamp,
-            leaderProducedRecordContext));
+            leaderProducedRecordContext),
+        subPartition);
   }
 
   private static void processRecord(
@@ -477,13 +600,20 @@ public class StoreBufferService extends AbstractStoreBufferService {
       int retryNum,
       int sleepIntervalInMS) throws InterruptedException {
     PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> fakeRecord = new FakePubSubMessage(topicPartition);
-    int workerIndex = getDrainerIndexForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber());
+    DrainerAssignment assignment = dynamicDrainerAssignment ? drainerAssignments.get(topicPartition) : null;
+    int workerIndex = assignment == null
+        ? getDrainerIndexForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber())
+        : assignment.getDrainerIndex();
     BlockingQueue<QueueNode> blockingQueue = blockingQueueArr.get(workerIndex);
     if (!drainerList.get(workerIndex).isRunning.get()) {
       throw new VeniceException(
           "Drainer thread " + workerIndex + " has stopped running, cannot drain the topic "
               + topicPartition.getPubSubTopic().getName());
     }
+    if (dynamicDrainerAssignment) {
+      internalDrainWithDynamicDrainerAssignment(topicPartition, assignment, retryNum, sleepIntervalInMS);
+      return;
+    }
 
     QueueNode fakeNode = new QueueNode(fakeRecord, null, "dummyKafkaUrl", 0);
 
@@ -505,6 +635,39 @@ public class StoreBufferService extends AbstractStoreBufferService {
     throw new VeniceException(errorMessage);
   }
 
+  /**
+   * With dynamic drainer assignment, the pending record count tells whether all the records of the topic+partition
+   * have been processed, including the one currently being processed by the drainer, if any. Once drained, the
+   * assignment is removed, so that the topic+partition is free to go to any drainer if it gets consumed again.
+   */
+  private void internalDrainWithDynamicDrainerAssignment(
+      PubSubTopicPartition topicPartition,
+      DrainerAssignment assignment,
+      int retryNum,
+      int sleepIntervalInMS) throws InterruptedException {
+    if (assignment == null) {
+      LOGGER.info("There is no drainer assigned to: {}", topicPartition);
+      return;
+    }
+    int cur = 0;
+    while (cur++ < retryNum) {
+      if (assignment.retireIfIdle()) {
+        drainerAssignments.remove(topicPartition, assignment);
+        LOGGER.info(
+            "The store writer thread: {} doesn't have any pending record for: {}",
+            assignment.getDrainerIndex(),
+            topicPartition);
+        return;
+      }
+      Thread.sleep(sleepIntervalInMS);
+    }
+    String errorMessage = "There are still some pending records in store writer thread: " + assignment.getDrainerIndex()
+        + " for topic: " + topicPartition.getPubSubTopic().getName() + " partition after retry for " + retryNum
+        + " times";
+    LOGGER.error(errorMessage);
+    throw new VeniceException(errorMessage);
+  }
+
   @Override
   public boolean startInner() {
     this.executorService = Executors.newFixedThreadPool(drainerNum, new DaemonThreadFactory("Store-writer"));
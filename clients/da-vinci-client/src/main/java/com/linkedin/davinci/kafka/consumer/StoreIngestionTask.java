@@ -22,6 +22,7 @@ import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.StorageWriteBatch;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.davinci.validation.KafkaDataIntegrityValidator;
@@ -79,6 +80,7 @@ import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.serializer.AvroGenericDeserializer;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.stats.StatsErrorCode;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.system.store.MetaStoreWriter;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.ComplementSet;
@@ -262,6 +264,10 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
 
   protected final boolean isWriteComputationEnabled;
 
+  private final boolean writeBatchEnabled;
+  private final long writeBatchMaxSizeInBytes;
+  private final long writeBatchMaxDelayMs;
+
   /**
    * Freeze ingestion if ready to serve or local data exists
    */
@@ -466,6 +472,9 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     this.runnableForKillIngestionTasksForNonCurrentVersions =
         builder.getRunnableForKillIngestionTasksForNonCurrentVersions();
     this.ingestionTaskMaxIdleCount = serverConfig.getIngestionTaskMaxIdleCount();
+    this.writeBatchEnabled = serverConfig.isStoreWriterWriteBatchEnabled();
+    this.writeBatchMaxSizeInBytes = serverConfig.getStoreWriterWriteBatchMaxSizeInBytes();
+    this.writeBatchMaxDelayMs = serverConfig.getStoreWriterWriteBatchMaxDelayMs();
   }
 
   /** Package-private on purpose, only intended for tests. Do not use for production use cases. */
@@ -1331,6 +1340,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
         checkLongRunningTaskState();
         checkIngestionProgress(store);
         maybeSendIngestionHeartbeat();
+        flushStaleWriteBatches();
       }
 
       List<CompletableFuture<Void>> shutdownFutures = new ArrayList<>(partitionConsumptionStateMap.size());
@@ -2290,6 +2300,8 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
           partition);
       return;
     }
+    // The checkpointed offset must not be ahead of the persisted data
+    flushWriteBatch(partition, pcs.getPendingWriteBatch());
     // Flush data partition
     final AtomicReference<Map<String, String>> dbCheckpointingInfoReference = new AtomicReference<>();
     executeStorageEngineRunnable(partition, () -> {
@@ -2490,6 +2502,15 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
      */
     partitionConsumptionState.setDeferredWrite(storagePartitionConfig.isDeferredWrite());
 
+    /**
+     * The records of a push writing SST files directly are not in the version topic, so the SST file of this partition
+     * needs to be ingested before leaving the batch write mode.
+     */
+    String pushSSTFileDir = getPushSSTFileDir(controlMessage);
+    if (pushSSTFileDir != null) {
+      storageEngine.ingestPushSSTFile(partition, pushSSTFileDir);
+    }
+
     /**
      * Indicate the batch push is done, and the internal storage engine needs to do some cleanup.
      */
@@ -2523,6 +2544,22 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     }
   }
 
+  /**
+   * @return the directory announced by the {@link ControlMessageType#END_OF_PUSH} of a push which wrote SST files
+   *         directly instead of producing its records, or null for regular pushes.
+   */
+  private static String getPushSSTFileDir(ControlMessage controlMessage) {
+    if (controlMessage.debugInfo == null) {
+      return null;
+    }
+    for (Map.Entry<CharSequence, CharSequence> entry: controlMessage.debugInfo.entrySet()) {
+      if (RocksDBUtils.PUSH_SST_FILE_DIR.equals(entry.getKey().toString())) {
+        return entry.getValue().toString();
+      }
+    }
+    return null;
+  }
+
   protected void processStartOfIncrementalPush(
       ControlMessage startOfIncrementalPush,
       PartitionConsumptionState partitionConsumptionState) {
@@ -2947,13 +2984,107 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
    * Persist Put record to storage engine.
    */
   protected void putInStorageEngine(int partition, byte[] keyBytes, Put put) {
+    StorageWriteBatch writeBatch = getWriteBatchIfEnabled(partition);
+    if (writeBatch != null) {
+      // The value buffer could be modified once this function returns, so it needs to be copied.
+      byte[] valueBytes = new byte[put.putValue.remaining()];
+      put.putValue.duplicate().get(valueBytes);
+      synchronized (writeBatch) {
+        writeBatch.put(keyBytes, valueBytes);
+        maybeFlushWriteBatch(partition, writeBatch);
+      }
+      return;
+    }
     executeStorageEngineRunnable(partition, () -> storageEngine.put(partition, keyBytes, put.putValue));
   }
 
   protected void removeFromStorageEngine(int partition, byte[] keyBytes, Delete delete) {
+    StorageWriteBatch writeBatch = getWriteBatchIfEnabled(partition);
+    if (writeBatch != null) {
+      synchronized (writeBatch) {
+        writeBatch.delete(keyBytes);
+        maybeFlushWriteBatch(partition, writeBatch);
+      }
+      return;
+    }
     executeStorageEngineRunnable(partition, () -> storageEngine.delete(partition, keyBytes));
   }
 
+  /**
+   * Writes are only batched after End of Push, when the partition is no longer in 'deferredWrite' mode, and only if
+   * nothing reads back the drained records during ingestion, which is the case when the transient record cache is not
+   * used. Once a partition starts batching, it keeps batching until it is unsubscribed, so the writes are never
+   * reordered.
+   */
+  private StorageWriteBatch getWriteBatchIfEnabled(int partition) {
+    if (!writeBatchEnabled || isTransientRecordBufferUsed()) {
+      return null;
+    }
+    PartitionConsumptionState partitionConsumptionState = partitionConsumptionStateMap.get(partition);
+    if (partitionConsumptionState == null || !partitionConsumptionState.isEndOfPushReceived()
+        || partitionConsumptionState.isDeferredWrite()) {
+      return null;
+    }
+    return partitionConsumptionState.getPendingWriteBatch();
+  }
+
+  private void maybeFlushWriteBatch(int partition, StorageWriteBatch writeBatch) {
+    if (writeBatch.getSizeInBytes() >= writeBatchMaxSizeInBytes
+        || System.currentTimeMillis() - writeBatch.getFirstWriteTimeMs() >= writeBatchMaxDelayMs) {
+      flushWriteBatch(partition, writeBatch);
+    }
+  }
+
+  /**
+   * The batch is only cleared once it has been applied. If the storage engine fails, the writes stay pending, so that
+   * every following flush, including the one of {@link #syncOffset}, fails too, and the checkpointed offset can never
+   * get ahead of the persisted data.
+   */
+  private void flushWriteBatch(int partition, StorageWriteBatch writeBatch) {
+    synchronized (writeBatch) {
+      if (writeBatch.isEmpty()) {
+        return;
+      }
+      executeStorageEngineRunnable(partition, () -> {
+        storageEngine.writeBatch(partition, writeBatch);
+        writeBatch.clear();
+      });
+    }
+  }
+
+  /**
+   * Applies the write batches which have been pending for too long because no more records of their partitions have
+   * been drained since. A failure only fails the partition of the batch, which is reported the same way as the failures
+   * of the drainers, so it goes through the per-partition handling of {@link #processIngestionException()}.
+   */
+  private void flushStaleWriteBatches() {
+    if (!writeBatchEnabled) {
+      return;
+    }
+    for (PartitionConsumptionState partitionConsumptionState: partitionConsumptionStateMap.values()) {
+      int partition = partitionConsumptionState.getPartition();
+      if (failedPartitions.contains(partition)) {
+        // The failure has already been reported, and retrying the batch would fail the same way.
+        continue;
+      }
+      StorageWriteBatch writeBatch = partitionConsumptionState.getPendingWriteBatch();
+      try {
+        synchronized (writeBatch) {
+          if (!writeBatch.isEmpty()) {
+            maybeFlushWriteBatch(partition, writeBatch);
+          }
+        }
+      } catch (Exception e) {
+        LOGGER.error(
+            "Failed to apply the stale write batch of partition {} for store version {}",
+            partition,
+            kafkaVersionTopic,
+            e);
+        setIngestionException(partition, e);
+      }
+    }
+  }
+
   protected void throwOrLogStorageFailureDependingIfStillSubscribed(int partition, VeniceException e) {
     if (partitionConsumptionStateMap.containsKey(partition)) {
       throw new VeniceException(
@@ -3189,7 +3320,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
    *
    * @param schemaId
    */
-  private void waitReadyToProcessDataRecord(int schemaId) throws InterruptedException {
+  protected void waitReadyToProcessDataRecord(int schemaId) throws InterruptedException {
     if (schemaId == -1) {
       // TODO: Once Venice Client (VeniceShellClient) finish the integration with schema registry,
       // we need to remove this check here.
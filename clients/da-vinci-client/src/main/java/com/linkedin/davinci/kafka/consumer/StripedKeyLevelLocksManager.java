@@ -0,0 +1,73 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.utils.ByteArrayKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * An alternative to {@link KeyLevelLocksManager}, which maps each key to one of a fixed array of locks by the hash
+ * of the raw key bytes.
+ *
+ * {@link KeyLevelLocksManager} guarantees that different keys being processed at the same time never share a lock,
+ * but it pays for that with a synchronized lookup into a key to lock map, and with a {@link ByteArrayKey} wrapper,
+ * for both acquisition and release of every record. This class is lock-free on the lookup path and doesn't allocate
+ * anything, and there is nothing to release besides unlocking the returned lock. The trade-off is that two different
+ * keys could be mapped to the same stripe and be serialized against each other, and the chance of that is kept low by
+ * using many more stripes than the number of keys which could be processed concurrently.
+ *
+ * Since different keys could share a lock, multiple locks must always be acquired in the order returned by
+ * {@link #getLocksInAcquisitionOrder(Collection)} to avoid deadlocks.
+ */
+public class StripedKeyLevelLocksManager {
+  private final ReentrantLock[] locks;
+  private final int mask;
+
+  public StripedKeyLevelLocksManager(int stripeCount) {
+    if (stripeCount <= 0) {
+      throw new IllegalArgumentException("stripeCount must be positive, but got: " + stripeCount);
+    }
+    int roundedStripeCount = stripeCount == 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+    this.locks = new ReentrantLock[roundedStripeCount];
+    for (int i = 0; i < roundedStripeCount; i++) {
+      this.locks[i] = new ReentrantLock();
+    }
+    this.mask = roundedStripeCount - 1;
+  }
+
+  public ReentrantLock getLockByKey(byte[] key) {
+    return locks[getStripeIndex(Arrays.hashCode(key))];
+  }
+
+  /**
+   * @return the distinct locks of the given keys, sorted by stripe index, which is the order they must be locked in.
+   */
+  public List<ReentrantLock> getLocksInAcquisitionOrder(Collection<ByteArrayKey> keys) {
+    int[] stripeIndices = new int[keys.size()];
+    int i = 0;
+    for (ByteArrayKey key: keys) {
+      // ByteArrayKey caches the same hash code as Arrays#hashCode(byte[]) of its content
+      stripeIndices[i++] = getStripeIndex(key.hashCode());
+    }
+    Arrays.sort(stripeIndices);
+    List<ReentrantLock> result = new ArrayList<>(stripeIndices.length);
+    for (i = 0; i < stripeIndices.length; i++) {
+      if (i == 0 || stripeIndices[i] != stripeIndices[i - 1]) {
+        result.add(locks[stripeIndices[i]]);
+      }
+    }
+    return result;
+  }
+
+  int getStripeCount() {
+    return locks.length;
+  }
+
+  private int getStripeIndex(int hashCode) {
+    // Spread the high bits, since the low bits of the hash code of short keys are poorly distributed
+    return (hashCode ^ (hashCode >>> 16)) & mask;
+  }
+}
@@ -19,6 +19,9 @@ import com.linkedin.venice.utils.LatencyUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -128,6 +131,44 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         manifestContainer);
   }
 
+  /**
+   * Looks up all the {@param keys}, which must belong to the same {@param partition}, with batched storage reads.
+   *
+   * @see ChunkingUtils#batchGetFromStorage for the semantics of {@param valueConsumer}
+   */
+  public void batchGet(
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      boolean isChunked,
+      T reusedValue,
+      BinaryDecoder reusedDecoder,
+      ReadResponse response,
+      int readerSchemaId,
+      StoreDeserializerCache<T> storeDeserializerCache,
+      VeniceCompressor compressor,
+      ObjIntConsumer<T> valueConsumer) {
+    if (isChunked) {
+      List<byte[]> chunkedKeys = new ArrayList<>(keys.size());
+      for (byte[] key: keys) {
+        chunkedKeys.add(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key));
+      }
+      keys = chunkedKeys;
+    }
+    ChunkingUtils.batchGetFromStorage(
+        this,
+        store,
+        partition,
+        keys,
+        response,
+        reusedValue,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor,
+        valueConsumer);
+  }
+
   public ByteBufferValueRecord<T> getWithSchemaId(
       AbstractStorageEngine store,
       int partition,
@@ -154,6 +195,40 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         manifestContainer);
   }
 
+  /**
+   * Batched counterpart of {@link #getWithSchemaId}, looking up all the {@param keys} of the same {@param partition}
+   * with a single storage read. The values are not reused from one key to the next, so they can be held onto.
+   *
+   * @return a list aligned with {@param keys}
+   */
+  public List<ByteBufferValueRecord<T>> batchGetWithSchemaId(
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      boolean isChunked,
+      BinaryDecoder reusedDecoder,
+      StoreDeserializerCache<T> storeDeserializerCache,
+      VeniceCompressor compressor,
+      List<ChunkedValueManifestContainer> manifestContainers) {
+    if (isChunked) {
+      List<byte[]> chunkedKeys = new ArrayList<>(keys.size());
+      for (byte[] key: keys) {
+        chunkedKeys.add(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key));
+      }
+      keys = chunkedKeys;
+    }
+    return ChunkingUtils.batchGetValueAndSchemaIdFromStorage(
+        this,
+        store,
+        partition,
+        keys,
+        reusedDecoder,
+        storeDeserializerCache,
+        compressor,
+        false,
+        manifestContainers);
+  }
+
   public T get(
       AbstractStorageEngine store,
       int partition,
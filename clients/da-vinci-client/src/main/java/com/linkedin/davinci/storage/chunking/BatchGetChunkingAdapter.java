@@ -5,7 +5,11 @@ import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.ByteUtils;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
 
 
 /**
@@ -68,4 +72,37 @@ public class BatchGetChunkingAdapter implements ChunkingAdapter<ByteBuffer, Mult
     }
     return ChunkingUtils.getFromStorage(BATCH_GET_CHUNKING_ADAPTER, store, partition, key, response);
   }
+
+  /**
+   * Looks up all the {@param keys}, which must belong to the same {@param partition}, with batched storage reads.
+   *
+   * @see ChunkingUtils#batchGetFromStorage for the semantics of {@param recordConsumer}
+   */
+  public static void batchGet(
+      AbstractStorageEngine store,
+      int partition,
+      List<ByteBuffer> keys,
+      boolean isChunked,
+      ReadResponse response,
+      ObjIntConsumer<MultiGetResponseRecordV1> recordConsumer) {
+    List<byte[]> keyBytesList = new ArrayList<>(keys.size());
+    for (ByteBuffer key: keys) {
+      if (isChunked) {
+        key = ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key);
+      }
+      keyBytesList.add(ByteUtils.extractByteArray(key));
+    }
+    ChunkingUtils.batchGetFromStorage(
+        BATCH_GET_CHUNKING_ADAPTER,
+        store,
+        partition,
+        keyBytesList,
+        response,
+        null,
+        null,
+        -1,
+        null,
+        null,
+        recordConsumer);
+  }
 }
@@ -18,7 +18,12 @@ import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.writer.VeniceWriter;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -276,6 +281,52 @@ public class ChunkingUtils {
         writerSchemaId);
   }
 
+  /**
+   * Batched counterpart of {@link #getValueAndSchemaIdFromStorage}.
+   *
+   * All the top-level keys are fetched with a single multi-get call. The chunks of the large values, if any, are then
+   * fetched key by key, exactly like the non-batched path does.
+   *
+   * @return a list aligned with {@param keys}. For the keys which do not exist, the entry holds a null value.
+   */
+  static <VALUE, CHUNKS_CONTAINER> List<ByteBufferValueRecord<VALUE>> batchGetValueAndSchemaIdFromStorage(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      BinaryDecoder reusedDecoder,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor,
+      boolean isRmdValue,
+      List<ChunkedValueManifestContainer> manifestContainers) {
+    List<byte[]> values =
+        isRmdValue ? store.multiGetReplicationMetadata(partition, keys) : store.multiGet(partition, keys);
+    List<ByteBufferValueRecord<VALUE>> records = new ArrayList<>(keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      byte[] value = values.get(i);
+      int writerSchemaId = value == null ? 0 : ValueRecord.parseSchemaId(value);
+      records.add(
+          new ByteBufferValueRecord<>(
+              getFromStorage(
+                  value,
+                  (value == null ? 0 : value.length),
+                  0,
+                  adapter,
+                  store,
+                  partition,
+                  null,
+                  null,
+                  reusedDecoder,
+                  -1,
+                  storeDeserializerCache,
+                  compressor,
+                  isRmdValue,
+                  manifestContainers == null ? null : manifestContainers.get(i)),
+              writerSchemaId));
+    }
+    return records;
+  }
+
   public static ChunkedValueManifest getChunkValueManifestFromStorage(
       byte[] key,
       int partition,
@@ -365,26 +416,12 @@ public class ChunkingUtils {
       byte[] valueChunk =
           isRmdValue ? store.getReplicationMetadata(partition, chunkKey) : store.get(partition, chunkKey);
 
-      if (valueChunk == null) {
-        throw new VeniceException("Chunk not found in " + getExceptionMessageDetails(store, partition, chunkIndex));
-      } else if (ValueRecord.parseSchemaId(valueChunk) != AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion()) {
-        throw new VeniceException(
-            "Did not get the chunk schema ID while attempting to retrieve a chunk! " + "Instead, got schema ID: "
-                + ValueRecord.parseSchemaId(valueChunk) + " from "
-                + getExceptionMessageDetails(store, partition, chunkIndex));
-      }
-
+      validateChunk(valueChunk, store, partition, chunkIndex);
       actualSize += valueChunk.length - ValueRecord.SCHEMA_HEADER_LENGTH;
       adapter.addChunkIntoContainer(assembledValueContainer, chunkIndex, valueChunk);
     }
 
-    // Sanity check based on size...
-    if (actualSize != chunkedValueManifest.size) {
-      throw new VeniceException(
-          "The fully assembled large value does not have the expected size! " + "actualSize: " + actualSize
-              + ", chunkedValueManifest.size: " + chunkedValueManifest.size + ", "
-              + getExceptionMessageDetails(store, partition, null));
-    }
+    validateAssembledSize(actualSize, chunkedValueManifest, store, partition);
 
     if (response != null) {
       response.addDatabaseLookupLatency(LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS));
@@ -403,6 +440,155 @@ public class ChunkingUtils {
         compressor);
   }
 
+  /**
+   * Batched counterpart of
+   * {@link #getFromStorage(ChunkingAdapter, AbstractStorageEngine, int, ByteBuffer, ReadResponse)}.
+   *
+   * All the top-level keys are fetched with a single {@link AbstractStorageEngine#multiGet(int, List)} call. If some
+   * of them turn out to be {@link ChunkedValueManifest}s, then the chunks of all these manifests are fetched with a
+   * second, single multi-get call, and the large values are re-assembled afterwards. This amortizes the per-lookup
+   * overhead of the storage engine (e.g. JNI crossing and block cache lookup in RocksDB) across the whole batch.
+   *
+   * The {@param valueConsumer} is invoked exactly once per key, with the value (or null, if the key does not exist)
+   * and the index of the key within {@param keys}. Small values are handed out in key order during the first round,
+   * while re-assembled large values are handed out after the second round. Since {@param reusedValue} may be recycled
+   * from one invocation to the next, the consumer must be done with a value by the time it returns.
+   *
+   * This function should not be called directly from the query code, as it expects the keys to be properly formatted
+   * already. Use {@link BatchGetChunkingAdapter#batchGet} or {@link AbstractAvroChunkingAdapter#batchGet} instead.
+   */
+  static <VALUE, CHUNKS_CONTAINER> void batchGetFromStorage(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      ReadResponse response,
+      VALUE reusedValue,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor,
+      ObjIntConsumer<VALUE> valueConsumer) {
+    if (keys.isEmpty()) {
+      return;
+    }
+    long databaseLookupStartTimeInNS = (response != null) ? System.nanoTime() : 0;
+    List<byte[]> values = store.multiGet(partition, keys);
+    if (response != null) {
+      response.addDatabaseLookupLatency(LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS));
+    }
+
+    List<ChunkedValueManifest> manifests = null;
+    IntList manifestKeyIndices = null;
+    List<byte[]> chunkKeys = null;
+    for (int keyIndex = 0; keyIndex < values.size(); keyIndex++) {
+      byte[] value = values.get(keyIndex);
+      if (value == null) {
+        valueConsumer.accept(null, keyIndex);
+        continue;
+      }
+      int writerSchemaId = ValueRecord.parseSchemaId(value);
+      if (writerSchemaId > 0) {
+        // User-defined schema, thus not a chunked value.
+        if (response != null) {
+          response.addValueSize(value.length);
+        }
+        valueConsumer.accept(
+            adapter.constructValue(
+                value,
+                value.length,
+                reusedValue,
+                reusedDecoder,
+                response,
+                writerSchemaId,
+                readerSchemaId,
+                storeDeserializerCache,
+                compressor),
+            keyIndex);
+      } else if (writerSchemaId != AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion()) {
+        throw new VeniceException("Found a record with invalid schema ID: " + writerSchemaId);
+      } else {
+        if (manifests == null) {
+          manifests = new ArrayList<>();
+          manifestKeyIndices = new IntArrayList();
+          chunkKeys = new ArrayList<>();
+        }
+        ChunkedValueManifest chunkedValueManifest =
+            CHUNKED_VALUE_MANIFEST_SERIALIZER.deserialize(value, writerSchemaId);
+        manifests.add(chunkedValueManifest);
+        manifestKeyIndices.add(keyIndex);
+        for (ByteBuffer chunkKey: chunkedValueManifest.keysWithChunkIdSuffix) {
+          chunkKeys.add(chunkKey.array());
+        }
+      }
+    }
+
+    if (manifests == null) {
+      return;
+    }
+
+    // Second round: fetch the chunks of all the large values found above in one go.
+    long chunkLookupStartTimeInNS = (response != null) ? System.nanoTime() : 0;
+    List<byte[]> valueChunks = store.multiGet(partition, chunkKeys);
+    if (response != null) {
+      response.addDatabaseLookupLatency(LatencyUtils.getLatencyInMS(chunkLookupStartTimeInNS));
+    }
+    int chunkCursor = 0;
+    for (int i = 0; i < manifests.size(); i++) {
+      ChunkedValueManifest chunkedValueManifest = manifests.get(i);
+      CHUNKS_CONTAINER assembledValueContainer = adapter.constructChunksContainer(chunkedValueManifest);
+      int actualSize = 0;
+      for (int chunkIndex = 0; chunkIndex < chunkedValueManifest.keysWithChunkIdSuffix.size(); chunkIndex++) {
+        byte[] valueChunk = valueChunks.get(chunkCursor++);
+        validateChunk(valueChunk, store, partition, chunkIndex);
+        actualSize += valueChunk.length - ValueRecord.SCHEMA_HEADER_LENGTH;
+        adapter.addChunkIntoContainer(assembledValueContainer, chunkIndex, valueChunk);
+      }
+      validateAssembledSize(actualSize, chunkedValueManifest, store, partition);
+
+      if (response != null) {
+        response.addValueSize(actualSize);
+        response.incrementMultiChunkLargeValueCount();
+      }
+      valueConsumer.accept(
+          adapter.constructValue(
+              assembledValueContainer,
+              reusedValue,
+              reusedDecoder,
+              response,
+              chunkedValueManifest.schemaId,
+              readerSchemaId,
+              storeDeserializerCache,
+              compressor),
+          manifestKeyIndices.getInt(i));
+    }
+  }
+
+  private static void validateChunk(byte[] valueChunk, AbstractStorageEngine store, int partition, int chunkIndex) {
+    if (valueChunk == null) {
+      throw new VeniceException("Chunk not found in " + getExceptionMessageDetails(store, partition, chunkIndex));
+    } else if (ValueRecord.parseSchemaId(valueChunk) != AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion()) {
+      throw new VeniceException(
+          "Did not get the chunk schema ID while attempting to retrieve a chunk! " + "Instead, got schema ID: "
+              + ValueRecord.parseSchemaId(valueChunk) + " from "
+              + getExceptionMessageDetails(store, partition, chunkIndex));
+    }
+  }
+
+  private static void validateAssembledSize(
+      int actualSize,
+      ChunkedValueManifest chunkedValueManifest,
+      AbstractStorageEngine store,
+      int partition) {
+    // Sanity check based on size...
+    if (actualSize != chunkedValueManifest.size) {
+      throw new VeniceException(
+          "The fully assembled large value does not have the expected size! " + "actualSize: " + actualSize
+              + ", chunkedValueManifest.size: " + chunkedValueManifest.size + ", "
+              + getExceptionMessageDetails(store, partition, null));
+    }
+  }
+
   private static String getExceptionMessageDetails(AbstractStorageEngine store, int partition, Integer chunkIndex) {
     String message = "store: " + store.getStoreName() + ", partition: " + partition;
     if (chunkIndex != null) {
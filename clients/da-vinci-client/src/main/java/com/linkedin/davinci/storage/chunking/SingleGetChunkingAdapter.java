@@ -2,11 +2,14 @@ package com.linkedin.davinci.storage.chunking;
 
 import com.linkedin.davinci.listener.response.ReadResponse;
 import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.record.ByteBufferValueRecord;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
@@ -69,4 +72,40 @@ public class SingleGetChunkingAdapter implements ChunkingAdapter<CompositeByteBu
         response,
         manifestContainer);
   }
+
+  /**
+   * Batched counterpart of {@link #getReplicationMetadata}, looking up all the {@param keys} of the same
+   * {@param partition} with a single storage read.
+   *
+   * @return a list aligned with {@param keys}, containing null for the keys which do not have replication metadata.
+   */
+  public static List<ValueRecord> batchGetReplicationMetadata(
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      boolean isChunked,
+      List<ChunkedValueManifestContainer> manifestContainers) {
+    if (isChunked) {
+      List<byte[]> chunkedKeys = new ArrayList<>(keys.size());
+      for (byte[] key: keys) {
+        chunkedKeys.add(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key));
+      }
+      keys = chunkedKeys;
+    }
+    List<ByteBufferValueRecord<ValueRecord>> records = ChunkingUtils.batchGetValueAndSchemaIdFromStorage(
+        SINGLE_GET_CHUNKING_ADAPTER,
+        store,
+        partition,
+        keys,
+        null,
+        null,
+        null,
+        true,
+        manifestContainers);
+    List<ValueRecord> rmdRecords = new ArrayList<>(records.size());
+    for (ByteBufferValueRecord<ValueRecord> record: records) {
+      rmdRecords.add(record.value());
+    }
+    return rmdRecords;
+  }
 }
@@ -417,6 +417,18 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     }
   }
 
+  /**
+   * Ingests the SST file generated by a push job for the given partition, which must still be in batch write mode.
+   */
+  public synchronized void ingestPushSSTFile(int partitionId, String pushSSTFileDir) {
+    LOGGER.info(
+        "Ingest push SST file for store: {}, partition: {} from dir: {}",
+        storeName,
+        partitionId,
+        pushSSTFileDir);
+    getPartitionOrThrow(partitionId).ingestPushSSTFile(pushSSTFileDir);
+  }
+
   private void executeWithSafeGuard(int partitionId, Runnable runnable) {
     executeWithSafeGuard(partitionId, () -> {
       runnable.run();
@@ -467,6 +479,13 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  public void writeBatch(int partitionId, StorageWriteBatch batch) throws VeniceException {
+    executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      partition.writeBatch(batch);
+    });
+  }
+
   public void putWithReplicationMetadata(int partitionId, byte[] key, ByteBuffer value, byte[] replicationMetadata)
       throws VeniceException {
     executeWithSafeGuard(partitionId, () -> {
@@ -510,6 +529,13 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  public List<byte[]> multiGet(int partitionId, List<byte[]> keys) throws VeniceException {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.multiGet(keys);
+    });
+  }
+
   public void getByKeyPrefix(int partitionId, byte[] partialKey, BytesStreamingCallback bytesStreamingCallback) {
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
@@ -539,6 +565,13 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  public List<byte[]> multiGetReplicationMetadata(int partitionId, List<byte[]> keys) {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.multiGetReplicationMetadata(keys);
+    });
+  }
+
   /**
    * Put the offset associated with the partitionId into the metadata partition.
    */
@@ -4,6 +4,8 @@ import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -37,6 +39,21 @@ public abstract class AbstractStoragePartition {
 
   public abstract <K, V> void put(K key, V value);
 
+  /**
+   * Applies the puts and deletes of the given batch in order. Storage engines which support batched writes should
+   * override this to write the whole batch at once.
+   */
+  public void writeBatch(StorageWriteBatch batch) {
+    for (int i = 0; i < batch.size(); i++) {
+      byte[] value = batch.getValue(i);
+      if (value == null) {
+        delete(batch.getKey(i));
+      } else {
+        put(batch.getKey(i), value);
+      }
+    }
+  }
+
   /**
    * Get a value from the partition database
    * @param key key to be retrieved
@@ -60,6 +77,20 @@ public abstract class AbstractStoragePartition {
 
   public abstract byte[] get(ByteBuffer key);
 
+  /**
+   * Get the values of several keys from the partition database.
+   * @param keys keys to be retrieved
+   * @return a list aligned with {@param keys}, containing null for the keys which do not exist.
+   */
+  public List<byte[]> multiGet(List<byte[]> keys) {
+    // Naive default impl is not optimized... only storage engines that support batched lookups implement it.
+    List<byte[]> values = new ArrayList<>(keys.size());
+    for (byte[] key: keys) {
+      values.add(get(key));
+    }
+    return values;
+  }
+
   /**
    * Populate provided callback with key-value pairs from the partition database where the keys have provided prefix.
    * If prefix is null, callback will be populated will all key-value pairs from the partition database.
@@ -117,6 +148,14 @@ public abstract class AbstractStoragePartition {
   public void endBatchWrite() {
   }
 
+  /**
+   * Ingests the SST file generated by a push job for this partition under the given directory, see
+   * {@link com.linkedin.venice.store.rocksdb.RocksDBUtils#PUSH_SST_FILE_DIR}.
+   */
+  public void ingestPushSSTFile(String pushSSTFileDir) {
+    throw new VeniceUnsupportedOperationException("ingestPushSSTFile");
+  }
+
   /**
    * Get the partition database size in bytes
    * @return partition database size
@@ -158,6 +197,18 @@ public abstract class AbstractStoragePartition {
     throw new VeniceUnsupportedOperationException("getReplicationMetadata");
   }
 
+  /**
+   * Batched counterpart of {@link #getReplicationMetadata(byte[])}.
+   * @return a list aligned with {@param keys}, containing null for the keys which do not have replication metadata.
+   */
+  public List<byte[]> multiGetReplicationMetadata(List<byte[]> keys) {
+    List<byte[]> values = new ArrayList<>(keys.size());
+    for (byte[] key: keys) {
+      values.add(getReplicationMetadata(key));
+    }
+    return values;
+  }
+
   /**
    * This API deletes a record from RocksDB but updates the metadata in ByteBuffer format and puts it into RocksDB.
    * Only {@link ReplicationMetadataRocksDBStoragePartition} will execute this method,
@@ -0,0 +1,77 @@
+package com.linkedin.davinci.store;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * An ordered list of puts and deletes to be applied to one storage partition at once by
+ * {@link AbstractStoragePartition#writeBatch(StorageWriteBatch)}, so that storage engines supporting batched writes
+ * can amortize the per-write overhead.
+ *
+ * This class is not thread-safe.
+ */
+public class StorageWriteBatch {
+  private final List<byte[]> keys = new ArrayList<>();
+  /**
+   * A null value means the key is deleted.
+   */
+  private final List<byte[]> values = new ArrayList<>();
+  private long sizeInBytes = 0;
+  private long firstWriteTimeMs = -1;
+
+  public void put(byte[] key, byte[] value) {
+    add(key, value);
+    sizeInBytes += value.length;
+  }
+
+  public void delete(byte[] key) {
+    add(key, null);
+  }
+
+  private void add(byte[] key, byte[] value) {
+    if (keys.isEmpty()) {
+      firstWriteTimeMs = System.currentTimeMillis();
+    }
+    keys.add(key);
+    values.add(value);
+    sizeInBytes += key.length;
+  }
+
+  public int size() {
+    return keys.size();
+  }
+
+  public boolean isEmpty() {
+    return keys.isEmpty();
+  }
+
+  public byte[] getKey(int index) {
+    return keys.get(index);
+  }
+
+  /**
+   * @return the value of the write at the given index, or null if it is a delete.
+   */
+  public byte[] getValue(int index) {
+    return values.get(index);
+  }
+
+  public long getSizeInBytes() {
+    return sizeInBytes;
+  }
+
+  /**
+   * @return the time when the oldest pending write was added, or -1 if the batch is empty.
+   */
+  public long getFirstWriteTimeMs() {
+    return firstWriteTimeMs;
+  }
+
+  public void clear() {
+    keys.clear();
+    values.clear();
+    sizeInBytes = 0;
+    firstWriteTimeMs = -1;
+  }
+}
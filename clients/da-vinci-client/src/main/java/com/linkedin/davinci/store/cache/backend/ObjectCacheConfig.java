@@ -6,6 +6,7 @@ import java.util.Optional;
 public class ObjectCacheConfig {
   private Optional<Long> maxCacheSize = Optional.empty();
   private Optional<Long> ttlInMilliseconds = Optional.empty();
+  private Optional<Long> maxOffHeapCacheSizeInBytes = Optional.empty();
 
   public ObjectCacheConfig setMaxPerPartitionCacheSize(Long maxPerPartitionCacheSize) {
     this.maxCacheSize = Optional.of(maxPerPartitionCacheSize);
@@ -17,6 +18,15 @@ public class ObjectCacheConfig {
     return this;
   }
 
+  /**
+   * Caches the values serialized in off-heap memory, bounded by the given number of bytes per partition, instead of
+   * caching the deserialized objects on heap.
+   */
+  public ObjectCacheConfig setMaxOffHeapCacheSizeInBytes(Long maxOffHeapCacheSizeInBytes) {
+    this.maxOffHeapCacheSizeInBytes = Optional.of(maxOffHeapCacheSizeInBytes);
+    return this;
+  }
+
   public Optional<Long> getMaxCacheSize() {
     return maxCacheSize;
   }
@@ -25,6 +35,10 @@ public class ObjectCacheConfig {
     return ttlInMilliseconds;
   }
 
+  public Optional<Long> getMaxOffHeapCacheSizeInBytes() {
+    return maxOffHeapCacheSizeInBytes;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (o == null) {
@@ -44,6 +58,9 @@ public class ObjectCacheConfig {
     if (!this.getMaxCacheSize().orElse(-1L).equals(c.getMaxCacheSize().orElse(-1L))) {
       return false;
     }
+    if (!this.getMaxOffHeapCacheSizeInBytes().orElse(-1L).equals(c.getMaxOffHeapCacheSizeInBytes().orElse(-1L))) {
+      return false;
+    }
     return true;
   }
 
@@ -52,11 +69,13 @@ public class ObjectCacheConfig {
     int result = 1;
     result = result * 31 + maxCacheSize.hashCode();
     result = result * 31 + ttlInMilliseconds.hashCode();
+    result = result * 31 + maxOffHeapCacheSizeInBytes.hashCode();
     return result;
   }
 
   @Override
   public String toString() {
-    return "ObjectCacheConfig{" + "maxCacheSize=" + maxCacheSize + ", ttlInMilliseconds=" + ttlInMilliseconds + "}";
+    return "ObjectCacheConfig{" + "maxCacheSize=" + maxCacheSize + ", ttlInMilliseconds=" + ttlInMilliseconds
+        + ", maxOffHeapCacheSizeInBytes=" + maxOffHeapCacheSizeInBytes + "}";
   }
 }
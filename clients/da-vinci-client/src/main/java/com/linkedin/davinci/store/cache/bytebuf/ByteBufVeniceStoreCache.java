@@ -0,0 +1,372 @@
+package com.linkedin.davinci.store.cache.bytebuf;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.linkedin.alpini.base.cache.ByteBufHashMap;
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.store.cache.VeniceStoreCache;
+import com.linkedin.davinci.store.cache.backend.ObjectCacheConfig;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericContainer;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link VeniceStoreCache} which keeps the values serialized in off-heap memory, in a {@link ByteBufHashMap}, so
+ * that large caches don't weigh on the heap and the garbage collection. Only the keys are kept on heap.
+ *
+ * The values are serialized with Avro on insertion and deserialized on every hit. The cache is bounded by
+ * {@link ObjectCacheConfig#getMaxOffHeapCacheSizeInBytes()}, and the entries are evicted by blocks of
+ * {@link ByteBufHashMap#DEFAULT_BLOCK_SIZE} bytes, the oldest block first, which makes the eviction policy FIFO. The
+ * TTL is also applied per block, so the entries may live a bit longer than the TTL before being evicted.
+ *
+ * Contrary to {@link com.linkedin.davinci.store.cache.caffeine.CaffeineVeniceStoreCache}, concurrent loads of the same
+ * key are not coalesced, and the values which can't be serialized (i.e. neither Avro records, enums, fixed and arrays
+ * nor primitives) are returned without being cached.
+ */
+public class ByteBufVeniceStoreCache implements VeniceStoreCache {
+  private static final Logger LOGGER = LogManager.getLogger(ByteBufVeniceStoreCache.class);
+
+  /**
+   * Serialization/Deserialization of the cached bytes, which are copied in and out of the off-heap blocks as is.
+   */
+  private static final ByteBufHashMap.SerDes<byte[]> BYTES_SER_DES = new ByteBufHashMap.SerDes<byte[]>() {
+    @Override
+    public byte[] deserialize(@Nonnull ByteBufInputStream inputStream) {
+      try {
+        byte[] bytes = new byte[inputStream.available()];
+        inputStream.readFully(bytes);
+        return bytes;
+      } catch (IOException e) {
+        throw new VeniceException("Failed to read a cached value", e);
+      }
+    }
+
+    @Override
+    public boolean serialize(@Nonnull ByteBufOutputStream outputStream, @Nonnull byte[] value) {
+      try {
+        outputStream.write(value);
+        return true;
+      } catch (IOException e) {
+        return false;
+      }
+    }
+  };
+
+  private final ByteBufHashMap<Object, byte[]> cache;
+  private final ValueSerializer valueSerializer = new ValueSerializer();
+  private final AsyncCacheLoader cacheLoader;
+  private final Executor executor = ForkJoinPool.commonPool();
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  public ByteBufVeniceStoreCache(ObjectCacheConfig cacheConfig, AsyncCacheLoader cacheLoader) {
+    this.cache = new ByteBufHashMap<>(BYTES_SER_DES, PooledByteBufAllocator.DEFAULT::directBuffer);
+    cacheConfig.getMaxOffHeapCacheSizeInBytes().ifPresent(cache::setMaxAllocatedMemory);
+    cacheConfig.getTtlInMilliseconds().ifPresent(ttl -> cache.setMaxBlockAge(ttl, TimeUnit.MILLISECONDS));
+    this.cacheLoader = cacheLoader;
+  }
+
+  @Override
+  public <K, V> V getIfPresent(K key) {
+    byte[] serializedValue = cache.get(key);
+    if (serializedValue == null) {
+      missCount.increment();
+      return null;
+    }
+    hitCount.increment();
+    return (V) valueSerializer.deserialize(serializedValue);
+  }
+
+  @Override
+  public <K, V> Map<K, V> getAllPresent(Iterable<K> keys) {
+    Map<K, V> result = new HashMap<>();
+    for (K key: keys) {
+      V value = getIfPresent(key);
+      if (value != null) {
+        result.put(key, value);
+      }
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  @Override
+  public <K, V> CompletableFuture<V> get(K key, Function<K, V> mappingFunction) {
+    V value = getIfPresent(key);
+    if (value != null) {
+      return CompletableFuture.completedFuture(value);
+    }
+    return CompletableFuture.supplyAsync(() -> mappingFunction.apply(key), executor).thenApply(loadedValue -> {
+      insert(key, loadedValue);
+      return loadedValue;
+    });
+  }
+
+  @Override
+  public <K, V> CompletableFuture<V> get(K key) {
+    V value = getIfPresent(key);
+    if (value != null) {
+      return CompletableFuture.completedFuture(value);
+    }
+    CompletableFuture<V> loadFuture;
+    try {
+      loadFuture = cacheLoader.asyncLoad(key, executor);
+    } catch (Exception e) {
+      loadFuture = new CompletableFuture<>();
+      loadFuture.completeExceptionally(e);
+    }
+    return loadFuture.thenApply(loadedValue -> {
+      insert(key, loadedValue);
+      return loadedValue;
+    });
+  }
+
+  @Override
+  public <K, V> CompletableFuture<Map<K, V>> getAll(
+      Iterable<K> keys,
+      Function<Iterable<K>, Map<K, V>> mappingFunction) {
+    Map<K, V> result = new HashMap<>();
+    List<K> missingKeys = new ArrayList<>();
+    for (K key: keys) {
+      V value = getIfPresent(key);
+      if (value != null) {
+        result.put(key, value);
+      } else {
+        missingKeys.add(key);
+      }
+    }
+    if (missingKeys.isEmpty()) {
+      return CompletableFuture.completedFuture(Collections.unmodifiableMap(result));
+    }
+    return CompletableFuture.supplyAsync(() -> mappingFunction.apply(missingKeys), executor).thenApply(loadedValues -> {
+      loadedValues.forEach((key, value) -> {
+        insert(key, value);
+        result.put(key, value);
+      });
+      return Collections.unmodifiableMap(result);
+    });
+  }
+
+  @Override
+  public <K, V> void insert(K key, V value) {
+    if (value == null) {
+      return;
+    }
+    byte[] serializedValue = valueSerializer.serialize(value);
+    if (serializedValue == null) {
+      // Don't leave a stale value behind
+      cache.removeEntry(key);
+      return;
+    }
+    cache.put(key, serializedValue);
+  }
+
+  @Override
+  public <K> void invalidate(K key) {
+    cache.removeEntry(key);
+  }
+
+  @Override
+  public void clear() {
+    cache.clear();
+  }
+
+  @Override
+  public void close() {
+    // Releases the off-heap memory
+    cache.clear();
+  }
+
+  @Override
+  public long size() {
+    return cache.size();
+  }
+
+  @Override
+  public double hitRate() {
+    long hits = hitCount.sum();
+    long requests = hits + missCount.sum();
+    return requests == 0 ? 1.0 : (double) hits / requests;
+  }
+
+  @Override
+  public long hitCount() {
+    return hitCount.sum();
+  }
+
+  @Override
+  public long missCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * @return the number of off-heap bytes currently allocated by the cache.
+   */
+  public long getAllocatedBytes() {
+    return cache.getAllocatedBytes();
+  }
+
+  /**
+   * Serializes the values with Avro, prefixed by the id of their schema within this cache, so that the values read
+   * with different schemas (e.g. after a new value schema is registered) can be cached together. The values are
+   * deserialized in the same representation as the one which was inserted, i.e. specific records stay specific.
+   */
+  private static class ValueSerializer {
+    private static final Schema STRING_SCHEMA = Schema.create(Schema.Type.STRING);
+    private static final Schema INT_SCHEMA = Schema.create(Schema.Type.INT);
+    private static final Schema LONG_SCHEMA = Schema.create(Schema.Type.LONG);
+    private static final Schema FLOAT_SCHEMA = Schema.create(Schema.Type.FLOAT);
+    private static final Schema DOUBLE_SCHEMA = Schema.create(Schema.Type.DOUBLE);
+    private static final Schema BOOLEAN_SCHEMA = Schema.create(Schema.Type.BOOLEAN);
+    private static final Schema BYTES_SCHEMA = Schema.create(Schema.Type.BYTES);
+
+    private final Map<SchemaKey, Integer> schemaIds = new VeniceConcurrentHashMap<>();
+    private final List<SerDesForSchema> serDesById = Collections.synchronizedList(new ArrayList<>());
+    private final ThreadLocal<ByteArrayOutputStream> outputStream = ThreadLocal.withInitial(ByteArrayOutputStream::new);
+    private final ThreadLocal<BinaryEncoder> encoder = new ThreadLocal<>();
+    private final ThreadLocal<BinaryDecoder> decoder = new ThreadLocal<>();
+
+    private static Schema getSchema(Object value) {
+      if (value instanceof GenericContainer) {
+        return ((GenericContainer) value).getSchema();
+      } else if (value instanceof CharSequence) {
+        return STRING_SCHEMA;
+      } else if (value instanceof Integer) {
+        return INT_SCHEMA;
+      } else if (value instanceof Long) {
+        return LONG_SCHEMA;
+      } else if (value instanceof Float) {
+        return FLOAT_SCHEMA;
+      } else if (value instanceof Double) {
+        return DOUBLE_SCHEMA;
+      } else if (value instanceof Boolean) {
+        return BOOLEAN_SCHEMA;
+      } else if (value instanceof ByteBuffer) {
+        return BYTES_SCHEMA;
+      }
+      return null;
+    }
+
+    /**
+     * @return the serialized value, or null if the value can't be serialized.
+     */
+    private byte[] serialize(Object value) {
+      Schema schema = getSchema(value);
+      if (schema == null) {
+        LOGGER.debug("Skip caching the value of type: {}, which can't be serialized", value.getClass());
+        return null;
+      }
+      SchemaKey schemaKey = new SchemaKey(schema, value instanceof SpecificRecord, value instanceof String);
+      int schemaId = schemaIds.computeIfAbsent(schemaKey, key -> {
+        synchronized (serDesById) {
+          serDesById.add(new SerDesForSchema(key));
+          return serDesById.size() - 1;
+        }
+      });
+      try {
+        ByteArrayOutputStream byteArrayOutputStream = outputStream.get();
+        byteArrayOutputStream.reset();
+        BinaryEncoder binaryEncoder =
+            AvroCompatibilityHelper.newBinaryEncoder(byteArrayOutputStream, true, encoder.get());
+        encoder.set(binaryEncoder);
+        binaryEncoder.writeInt(schemaId);
+        serDesById.get(schemaId).writer.write(value, binaryEncoder);
+        binaryEncoder.flush();
+        return byteArrayOutputStream.toByteArray();
+      } catch (Exception e) {
+        LOGGER.debug("Skip caching a value with schema: {}, which failed to be serialized", schema, e);
+        return null;
+      }
+    }
+
+    private Object deserialize(byte[] bytes) {
+      try {
+        BinaryDecoder binaryDecoder = AvroCompatibilityHelper.newBinaryDecoder(bytes, 0, bytes.length, decoder.get());
+        decoder.set(binaryDecoder);
+        SerDesForSchema serDesForSchema = serDesById.get(binaryDecoder.readInt());
+        Object value = serDesForSchema.reader.read(null, binaryDecoder);
+        // Strings are read as Utf8, so they are converted back to what was inserted
+        return serDesForSchema.isString ? value.toString() : value;
+      } catch (IOException e) {
+        throw new VeniceException("Failed to deserialize a cached value", e);
+      }
+    }
+  }
+
+  private static class SchemaKey {
+    private final Schema schema;
+    private final boolean isSpecific;
+    private final boolean isString;
+
+    private SchemaKey(Schema schema, boolean isSpecific, boolean isString) {
+      this.schema = schema;
+      this.isSpecific = isSpecific;
+      this.isString = isString;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof SchemaKey)) {
+        return false;
+      }
+      SchemaKey other = (SchemaKey) o;
+      return isSpecific == other.isSpecific && isString == other.isString && schema.equals(other.schema);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = schema.hashCode();
+      result = result * 31 + Boolean.hashCode(isSpecific);
+      result = result * 31 + Boolean.hashCode(isString);
+      return result;
+    }
+  }
+
+  private static class SerDesForSchema {
+    private final GenericDatumWriter<Object> writer;
+    private final DatumReader<Object> reader;
+    private final boolean isString;
+
+    private SerDesForSchema(SchemaKey schemaKey) {
+      if (schemaKey.isSpecific) {
+        this.writer = new SpecificDatumWriter<>(schemaKey.schema);
+        this.reader = new SpecificDatumReader<>(schemaKey.schema);
+      } else {
+        this.writer = new GenericDatumWriter<>(schemaKey.schema);
+        this.reader = new GenericDatumReader<>(schemaKey.schema);
+      }
+      this.isString = schemaKey.isString;
+    }
+  }
+}
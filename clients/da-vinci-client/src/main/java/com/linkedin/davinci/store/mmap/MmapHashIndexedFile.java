@@ -0,0 +1,262 @@
+package com.linkedin.davinci.store.mmap;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import io.netty.util.internal.PlatformDependent;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+
+/**
+ * An immutable file of records, indexed by the hash of their keys, which is memory-mapped to serve lookups without
+ * any copy or native call.
+ *
+ * Layout:
+ * 1. A header: magic number, format version, record count and slot count.
+ * 2. The slots of an open-addressing hash table with linear probing, at a load factor of at most 0.5. A slot holds
+ *    the 24 high bits of the hash of the key, to skip most of the mismatching records without reading them, and the
+ *    offset of the record in the file on the 40 other bits. An empty slot is 0.
+ * 3. The records, as [key length][value length][key][value].
+ *
+ * The file is mapped as segments of {@link #SEGMENT_SIZE} bytes, since a single mapping can't exceed 2GB, and a
+ * record never spans two segments.
+ */
+public class MmapHashIndexedFile implements Closeable {
+  private static final long MAGIC = 0x56454e4943454d4dL; // "VENICEMM"
+  private static final int VERSION = 1;
+  private static final int VERSION_OFFSET = 8;
+  private static final int RECORD_COUNT_OFFSET = 16;
+  private static final int SLOT_COUNT_OFFSET = 24;
+  private static final int HEADER_SIZE = 32;
+  private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+  private static final int SEGMENT_SHIFT = 30;
+  static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+  private static final int OFFSET_BITS = 40;
+  private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+
+  private final List<MappedByteBuffer> segments;
+  private final long recordCount;
+  private final long slotCount;
+  private final long sizeInBytes;
+
+  /**
+   * Provides the records to index, and must provide the same records every time it's invoked.
+   */
+  public interface RecordSource {
+    void forEachRecord(BiConsumer<byte[], byte[]> consumer);
+  }
+
+  private MmapHashIndexedFile(List<MappedByteBuffer> segments, long recordCount, long slotCount, long sizeInBytes) {
+    this.segments = segments;
+    this.recordCount = recordCount;
+    this.slotCount = slotCount;
+    this.sizeInBytes = sizeInBytes;
+  }
+
+  /**
+   * Writes the file with two passes over the records, the first one to size the hash table. The file is written under
+   * a temporary name and only renamed once complete, so that an interrupted build is never mistaken for a valid file.
+   */
+  public static void build(File file, RecordSource recordSource) throws IOException {
+    long[] recordCount = new long[1];
+    recordSource.forEachRecord((key, value) -> recordCount[0]++);
+    long slotCount = 2 * recordCount[0] + 1;
+
+    File tempFile = new File(file.getPath() + ".tmp");
+    // The slots must start empty, so the leftover of an interrupted build can't be reused
+    Files.deleteIfExists(tempFile.toPath());
+    List<MappedByteBuffer> segments = new ArrayList<>();
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(tempFile, "rw")) {
+      FileChannel channel = randomAccessFile.getChannel();
+      long[] writeOffset = { HEADER_SIZE + slotCount * Long.BYTES };
+      recordSource.forEachRecord((key, value) -> {
+        int recordSize = RECORD_HEADER_SIZE + key.length + value.length;
+        if (recordSize > SEGMENT_SIZE) {
+          throw new VeniceException("Record of " + recordSize + " bytes is too large for " + file);
+        }
+        long offset = writeOffset[0];
+        if (getPosition(offset) + recordSize > SEGMENT_SIZE) {
+          offset = (long) (getSegmentIndex(offset) + 1) << SEGMENT_SHIFT;
+        }
+        if (offset + recordSize > OFFSET_MASK) {
+          throw new VeniceException("Too much data for " + file);
+        }
+        ByteBuffer segment = getSegmentForWrite(channel, segments, offset).duplicate();
+        segment.position(getPosition(offset));
+        segment.putInt(key.length).putInt(value.length).put(key).put(value);
+        writeOffset[0] = offset + recordSize;
+
+        long hash = hash(key);
+        long slot = Long.remainderUnsigned(hash, slotCount);
+        for (;;) {
+          long slotOffset = HEADER_SIZE + slot * Long.BYTES;
+          ByteBuffer slotSegment = getSegmentForWrite(channel, segments, slotOffset);
+          if (slotSegment.getLong(getPosition(slotOffset)) == 0) {
+            slotSegment.putLong(getPosition(slotOffset), (hash >>> OFFSET_BITS) << OFFSET_BITS | offset);
+            break;
+          }
+          slot = slot + 1 == slotCount ? 0 : slot + 1;
+        }
+      });
+
+      ByteBuffer header = getSegmentForWrite(channel, segments, 0);
+      header.putInt(VERSION_OFFSET, VERSION);
+      header.putLong(RECORD_COUNT_OFFSET, recordCount[0]);
+      header.putLong(SLOT_COUNT_OFFSET, slotCount);
+      for (MappedByteBuffer segment: segments) {
+        segment.force();
+      }
+      // The magic number is written last, once everything else is durable
+      header.putLong(0, MAGIC);
+      segments.get(0).force();
+      unmap(segments);
+      randomAccessFile.setLength(writeOffset[0]);
+    } finally {
+      unmap(segments);
+    }
+    Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * @return the mapped file, or null if it doesn't exist or isn't a complete file of the current format version.
+   */
+  public static MmapHashIndexedFile open(File file) throws IOException {
+    if (!file.exists()) {
+      return null;
+    }
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+      FileChannel channel = randomAccessFile.getChannel();
+      long fileSize = channel.size();
+      if (fileSize < HEADER_SIZE) {
+        return null;
+      }
+      List<MappedByteBuffer> segments = new ArrayList<>();
+      for (long offset = 0; offset < fileSize; offset += SEGMENT_SIZE) {
+        // The mappings remain valid once the channel is closed
+        segments.add(channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(SEGMENT_SIZE, fileSize - offset)));
+      }
+      ByteBuffer header = segments.get(0);
+      if (header.getLong(0) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+        return null;
+      }
+      long recordCount = header.getLong(RECORD_COUNT_OFFSET);
+      long slotCount = header.getLong(SLOT_COUNT_OFFSET);
+      return new MmapHashIndexedFile(segments, recordCount, slotCount, fileSize);
+    }
+  }
+
+  /**
+   * @return a read-only slice of the mapped file holding the value of the key, or null if the key isn't in the file.
+   */
+  public ByteBuffer get(byte[] key) {
+    long hash = hash(key);
+    long fingerprint = hash >>> OFFSET_BITS;
+    long slot = Long.remainderUnsigned(hash, slotCount);
+    for (long probes = 0; probes < slotCount; probes++) {
+      long slotOffset = HEADER_SIZE + slot * Long.BYTES;
+      long slotValue = segments.get(getSegmentIndex(slotOffset)).getLong(getPosition(slotOffset));
+      if (slotValue == 0) {
+        return null;
+      }
+      if (slotValue >>> OFFSET_BITS == fingerprint) {
+        long offset = slotValue & OFFSET_MASK;
+        ByteBuffer segment = segments.get(getSegmentIndex(offset));
+        int position = getPosition(offset);
+        if (segment.getInt(position) == key.length && keyEquals(segment, position + RECORD_HEADER_SIZE, key)) {
+          int valuePosition = position + RECORD_HEADER_SIZE + key.length;
+          ByteBuffer value = segment.duplicate();
+          value.position(valuePosition);
+          value.limit(valuePosition + segment.getInt(position + Integer.BYTES));
+          return value.slice();
+        }
+      }
+      slot = slot + 1 == slotCount ? 0 : slot + 1;
+    }
+    return null;
+  }
+
+  /**
+   * Unmaps the file right away, instead of whenever the mappings get garbage collected, since the disk space of a
+   * deleted file is only reclaimed once it's unmapped. Neither this object nor the buffers returned by {@link #get}
+   * can be used afterwards.
+   */
+  @Override
+  public void close() {
+    unmap(segments);
+  }
+
+  private static void unmap(List<MappedByteBuffer> segments) {
+    for (MappedByteBuffer segment: segments) {
+      PlatformDependent.freeDirectBuffer(segment);
+    }
+    segments.clear();
+  }
+
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  public long getSizeInBytes() {
+    return sizeInBytes;
+  }
+
+  private static boolean keyEquals(ByteBuffer segment, int position, byte[] key) {
+    for (int i = 0; i < key.length; i++) {
+      if (segment.get(position + i) != key[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static MappedByteBuffer getSegmentForWrite(
+      FileChannel channel,
+      List<MappedByteBuffer> segments,
+      long offset) {
+    int segmentIndex = getSegmentIndex(offset);
+    try {
+      while (segments.size() <= segmentIndex) {
+        // Mapping past the end of the file grows it
+        long segmentOffset = (long) segments.size() << SEGMENT_SHIFT;
+        segments.add(channel.map(FileChannel.MapMode.READ_WRITE, segmentOffset, SEGMENT_SIZE));
+      }
+    } catch (IOException e) {
+      throw new VeniceException("Failed to map segment " + segmentIndex, e);
+    }
+    return segments.get(segmentIndex);
+  }
+
+  private static int getSegmentIndex(long offset) {
+    return (int) (offset >>> SEGMENT_SHIFT);
+  }
+
+  private static int getPosition(long offset) {
+    return (int) (offset & (SEGMENT_SIZE - 1));
+  }
+
+  /**
+   * FNV-1a, followed by the finalizer of MurmurHash3 to spread the bits of short keys.
+   */
+  static long hash(byte[] key) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b: key) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
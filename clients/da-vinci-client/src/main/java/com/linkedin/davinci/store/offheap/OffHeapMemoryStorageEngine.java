@@ -0,0 +1,58 @@
+package com.linkedin.davinci.store.offheap;
+
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import java.util.Collections;
+import java.util.Set;
+
+
+/**
+ * A non-persistent store, which keeps its records sorted by key in off-heap memory.
+ *
+ * @see OffHeapMemoryStoragePartition
+ */
+public class OffHeapMemoryStorageEngine extends AbstractStorageEngine<OffHeapMemoryStoragePartition> {
+  private final int slabSizeInBytes;
+
+  public OffHeapMemoryStorageEngine(VeniceStoreVersionConfig storeDef, int slabSizeInBytes) {
+    this(storeDef.getStoreVersionName(), slabSizeInBytes);
+  }
+
+  public OffHeapMemoryStorageEngine(String versionName, int slabSizeInBytes) {
+    super(
+        versionName,
+        AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer());
+    // Must be set before restoring the partitions, which creates the metadata partition
+    this.slabSizeInBytes = slabSizeInBytes;
+    restoreStoragePartitions();
+  }
+
+  @Override
+  public PersistenceType getType() {
+    return PersistenceType.OFF_HEAP_MEMORY;
+  }
+
+  @Override
+  public Set<Integer> getPersistedPartitionIds() {
+    // Nothing is persisted
+    return Collections.emptySet();
+  }
+
+  @Override
+  public OffHeapMemoryStoragePartition createStoragePartition(StoragePartitionConfig storagePartitionConfig) {
+    return new OffHeapMemoryStoragePartition(storagePartitionConfig.getPartitionId(), slabSizeInBytes);
+  }
+
+  @Override
+  public long getStoreSizeInBytes() {
+    long storeSizeInBytes = 0;
+    for (int partitionId: getPartitionIds()) {
+      storeSizeInBytes += getPartitionSizeInBytes(partitionId);
+    }
+    return storeSizeInBytes;
+  }
+}
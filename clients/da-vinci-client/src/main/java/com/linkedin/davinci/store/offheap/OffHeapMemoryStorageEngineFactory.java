@@ -0,0 +1,66 @@
+package com.linkedin.davinci.store.offheap;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.StorageEngineFactory;
+import com.linkedin.venice.exceptions.StorageInitializationException;
+import com.linkedin.venice.meta.PersistenceType;
+import java.util.Collections;
+import java.util.Set;
+
+
+public class OffHeapMemoryStorageEngineFactory extends StorageEngineFactory {
+  private final int slabSizeInBytes;
+
+  public OffHeapMemoryStorageEngineFactory(VeniceServerConfig serverConfig) {
+    this.slabSizeInBytes = serverConfig.getOffHeapMemorySlabSizeInBytes();
+  }
+
+  @Override
+  public AbstractStorageEngine getStorageEngine(VeniceStoreVersionConfig storeConfig)
+      throws StorageInitializationException {
+    verifyPersistenceType(storeConfig);
+    try {
+      return new OffHeapMemoryStorageEngine(storeConfig, slabSizeInBytes);
+    } catch (Exception e) {
+      throw new StorageInitializationException(e);
+    }
+  }
+
+  @Override
+  public Set<String> getPersistedStoreNames() {
+    // Nothing to restore here
+    return Collections.emptySet();
+  }
+
+  @Override
+  public void close() {
+    // Nothing to do here since we are not tracking specific created environments.
+  }
+
+  @Override
+  public void removeStorageEngine(AbstractStorageEngine engine) {
+    // Nothing to do here since we do not track the created storage engine
+  }
+
+  @Override
+  public void removeStorageEngine(String storeName) {
+    // Nothing to do here since we do not track the created storage engine
+  }
+
+  @Override
+  public void removeStorageEnginePartition(String storeName, int partition) {
+    // Nothing to do here since we do not track the created storage engine
+  }
+
+  @Override
+  public void closeStorageEngine(AbstractStorageEngine engine) {
+    // Nothing to do here since we do not track the created storage engine
+  }
+
+  @Override
+  public PersistenceType getPersistenceType() {
+    return PersistenceType.OFF_HEAP_MEMORY;
+  }
+}
@@ -0,0 +1,319 @@
+package com.linkedin.davinci.store.offheap;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+
+/**
+ * An in-memory storage partition, which keeps the records in off-heap memory and a sorted index of the keys on heap.
+ *
+ * The records are appended to off-heap slabs, as [key length][value length][key][value], and the index maps each key
+ * to the address of its record, i.e. the id of the slab and the offset within it. Overwritten and deleted records
+ * leave garbage behind, which is reclaimed by moving the live records of a slab to the current slab once half of the
+ * slab is garbage, after which the slab is dropped.
+ *
+ * Assumptions:
+ * 1. The writes are serialized, since there is a single writer per partition.
+ * 2. The content of a slab is never modified once written, so concurrent reads are lock-free: a reader which finds
+ *    the slab of a record gone, because the record has been moved in the meantime, looks the record up again.
+ */
+public class OffHeapMemoryStoragePartition extends AbstractStoragePartition {
+  private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+
+  private final int slabSizeInBytes;
+  private final ConcurrentNavigableMap<byte[], Long> index = new ConcurrentSkipListMap<>(ByteUtils::compare);
+  private final ConcurrentMap<Integer, Slab> slabs = new VeniceConcurrentHashMap<>();
+  private Slab currentSlab;
+  private int nextSlabId = 0;
+  private volatile long partitionSize = 0;
+  private volatile long allocatedBytes = 0;
+
+  public OffHeapMemoryStoragePartition(Integer partitionId, int slabSizeInBytes) {
+    super(partitionId);
+    this.slabSizeInBytes = slabSizeInBytes;
+  }
+
+  @Override
+  public synchronized void put(byte[] key, byte[] value) {
+    putRecord(key, ByteBuffer.wrap(value));
+  }
+
+  @Override
+  public synchronized void put(byte[] key, ByteBuffer valueBuffer) {
+    putRecord(key, valueBuffer.duplicate());
+  }
+
+  @Override
+  public <K, V> void put(K key, V value) {
+    throw new UnsupportedOperationException("Method not implemented!!");
+  }
+
+  @Override
+  public byte[] get(byte[] key) {
+    for (;;) {
+      Long address = index.get(key);
+      if (address == null) {
+        return null;
+      }
+      Slab slab = slabs.get(getSlabId(address));
+      if (slab != null) {
+        return slab.readValue(getOffset(address));
+      }
+    }
+  }
+
+  /**
+   * Copies the value straight from the off-heap slab to {@param valueToBePopulated}, which is only reallocated if it
+   * is too small for the value.
+   */
+  @Override
+  public ByteBuffer get(byte[] key, ByteBuffer valueToBePopulated) {
+    for (;;) {
+      Long address = index.get(key);
+      if (address == null) {
+        return null;
+      }
+      Slab slab = slabs.get(getSlabId(address));
+      if (slab == null) {
+        continue;
+      }
+      int offset = getOffset(address);
+      int valueLength = slab.buffer.getInt(offset + Integer.BYTES);
+      if (valueLength > valueToBePopulated.capacity()) {
+        valueToBePopulated = ByteBuffer.allocate(valueLength);
+      }
+      valueToBePopulated.clear();
+      ByteBuffer source = slab.buffer.duplicate();
+      source.position(getValueOffset(slab, offset));
+      source.limit(source.position() + valueLength);
+      valueToBePopulated.put(source);
+      valueToBePopulated.flip();
+      return valueToBePopulated;
+    }
+  }
+
+  @Override
+  public <K, V> V get(K key) {
+    throw new UnsupportedOperationException("Method not implemented!!");
+  }
+
+  @Override
+  public byte[] get(ByteBuffer key) {
+    byte[] keyBytes = new byte[key.remaining()];
+    key.duplicate().get(keyBytes);
+    return get(keyBytes);
+  }
+
+  /**
+   * The records are returned in the order of their keys, and only the keys having the prefix are visited.
+   */
+  @Override
+  public void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback) {
+    try {
+      Map<byte[], Long> records = keyPrefix == null ? index : index.tailMap(keyPrefix);
+      for (Map.Entry<byte[], Long> record: records.entrySet()) {
+        byte[] key = record.getKey();
+        if (keyPrefix != null && !startsWith(key, keyPrefix)) {
+          break;
+        }
+        Slab slab = slabs.get(getSlabId(record.getValue()));
+        byte[] value = slab != null ? slab.readValue(getOffset(record.getValue())) : get(key);
+        if (value != null) {
+          callback.onRecordReceived(key, value);
+        }
+      }
+    } finally {
+      callback.onCompletion();
+    }
+  }
+
+  @Override
+  public synchronized void delete(byte[] key) {
+    Long address = index.remove(key);
+    if (address != null) {
+      release(address);
+    }
+  }
+
+  @Override
+  public Map<String, String> sync() {
+    // no-op
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public synchronized void drop() {
+    index.clear();
+    slabs.clear();
+    currentSlab = null;
+    partitionSize = 0;
+    allocatedBytes = 0;
+  }
+
+  @Override
+  public void close() {
+    // Nothing to do here, the off-heap memory is released once the partition is no longer referenced
+  }
+
+  @Override
+  public boolean verifyConfig(StoragePartitionConfig storagePartitionConfig) {
+    // no need to do any special check
+    return true;
+  }
+
+  /**
+   * @return the size of the keys and values of the records in the partition.
+   */
+  @Override
+  public long getPartitionSizeInBytes() {
+    return partitionSize;
+  }
+
+  /**
+   * @return the off-heap memory held by the partition, which includes the garbage not reclaimed yet.
+   */
+  public long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  private void putRecord(byte[] key, ByteBuffer value) {
+    int valueLength = value.remaining();
+    long address = allocate(RECORD_HEADER_SIZE + key.length + valueLength);
+    Slab slab = slabs.get(getSlabId(address));
+    ByteBuffer target = slab.buffer.duplicate();
+    target.position(getOffset(address));
+    target.putInt(key.length).putInt(valueLength).put(key).put(value);
+
+    partitionSize += key.length + valueLength;
+    // The key is copied, since the caller might reuse its array
+    Long previousAddress = index.put(Arrays.copyOf(key, key.length), address);
+    if (previousAddress != null) {
+      release(previousAddress);
+    }
+  }
+
+  /**
+   * @return the address of {@param recordSize} bytes in the current slab, which is replaced if it is full.
+   */
+  private long allocate(int recordSize) {
+    // The live records moved out of the previous slab might fill the new one, in which case yet another one is needed
+    while (currentSlab == null || currentSlab.buffer.capacity() - currentSlab.writeOffset < recordSize) {
+      Slab previousSlab = currentSlab;
+      currentSlab = new Slab(nextSlabId++, Math.max(slabSizeInBytes, recordSize));
+      slabs.put(currentSlab.id, currentSlab);
+      allocatedBytes += currentSlab.buffer.capacity();
+      if (previousSlab != null) {
+        // The garbage of the previous slab couldn't be reclaimed while it was the current one
+        reclaim(previousSlab);
+      }
+    }
+    long address = getAddress(currentSlab.id, currentSlab.writeOffset);
+    currentSlab.writeOffset += recordSize;
+    currentSlab.liveBytes += recordSize;
+    return address;
+  }
+
+  private void release(long address) {
+    Slab slab = slabs.get(getSlabId(address));
+    int offset = getOffset(address);
+    int keyLength = slab.buffer.getInt(offset);
+    int valueLength = slab.buffer.getInt(offset + Integer.BYTES);
+    slab.liveBytes -= RECORD_HEADER_SIZE + keyLength + valueLength;
+    partitionSize -= keyLength + valueLength;
+    if (slab != currentSlab) {
+      reclaim(slab);
+    }
+  }
+
+  /**
+   * Drops the slab once it holds no live record, after moving its live records to the current slab if at least half
+   * of it is garbage.
+   */
+  private void reclaim(Slab slab) {
+    if (slab.liveBytes * 2 > slab.writeOffset) {
+      return;
+    }
+    for (int offset = 0; offset < slab.writeOffset && slab.liveBytes > 0;) {
+      int keyLength = slab.buffer.getInt(offset);
+      int valueLength = slab.buffer.getInt(offset + Integer.BYTES);
+      int recordSize = RECORD_HEADER_SIZE + keyLength + valueLength;
+      byte[] key = new byte[keyLength];
+      ByteBuffer source = slab.buffer.duplicate();
+      source.position(offset + RECORD_HEADER_SIZE);
+      source.get(key);
+      Long address = index.get(key);
+      if (address != null && address == getAddress(slab.id, offset)) {
+        source.limit(source.position() + valueLength);
+        long newAddress = allocate(recordSize);
+        ByteBuffer target = slabs.get(getSlabId(newAddress)).buffer.duplicate();
+        target.position(getOffset(newAddress));
+        target.putInt(keyLength).putInt(valueLength).put(key).put(source);
+        index.put(key, newAddress);
+        slab.liveBytes -= recordSize;
+      }
+      offset += recordSize;
+    }
+    slabs.remove(slab.id);
+    allocatedBytes -= slab.buffer.capacity();
+  }
+
+  private static int getValueOffset(Slab slab, int offset) {
+    return offset + RECORD_HEADER_SIZE + slab.buffer.getInt(offset);
+  }
+
+  private static long getAddress(int slabId, int offset) {
+    return ((long) slabId << Integer.SIZE) | offset;
+  }
+
+  private static int getSlabId(long address) {
+    return (int) (address >>> Integer.SIZE);
+  }
+
+  private static int getOffset(long address) {
+    return (int) address;
+  }
+
+  private static boolean startsWith(byte[] key, byte[] prefix) {
+    if (key.length < prefix.length) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length; i++) {
+      if (key[i] != prefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static class Slab {
+    private final int id;
+    private final ByteBuffer buffer;
+    /** Only accessed by the writer. */
+    private int writeOffset = 0;
+    private long liveBytes = 0;
+
+    private Slab(int id, int capacity) {
+      this.id = id;
+      this.buffer = ByteBuffer.allocateDirect(capacity);
+    }
+
+    private byte[] readValue(int offset) {
+      int valueLength = buffer.getInt(offset + Integer.BYTES);
+      byte[] value = new byte[valueLength];
+      ByteBuffer source = buffer.duplicate();
+      source.position(getValueOffset(this, offset));
+      source.get(value);
+      return value;
+    }
+  }
+}
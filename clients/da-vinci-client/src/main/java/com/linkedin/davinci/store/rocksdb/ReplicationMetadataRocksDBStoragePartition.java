@@ -10,6 +10,8 @@ import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -63,15 +65,25 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
   }
 
   @Override
-  public synchronized void putWithReplicationMetadata(byte[] key, byte[] value, byte[] metadata) {
-    makeSureRocksDBIsStillOpen();
-    if (readOnly) {
-      throw new VeniceException(
-          "Cannot make writes while partition is opened in read-only mode" + ", partition=" + storeName + "_"
-              + partitionId);
+  public void putWithReplicationMetadata(byte[] key, byte[] value, byte[] metadata) {
+    if (deferredWrite) {
+      synchronized (this) {
+        putWithReplicationMetadataInternal(key, value, metadata);
+      }
+    } else {
+      putWithReplicationMetadataInternal(key, value, metadata);
     }
+  }
 
+  private void putWithReplicationMetadataInternal(byte[] key, byte[] value, byte[] metadata) {
+    readCloseRWLock.readLock().lock();
     try {
+      makeSureRocksDBIsStillOpen();
+      if (readOnly) {
+        throw new VeniceException(
+            "Cannot make writes while partition is opened in read-only mode" + ", partition=" + storeName + "_"
+                + partitionId);
+      }
       if (deferredWrite) {
         super.put(key, value);
         rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
@@ -86,18 +98,31 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
       throw new VeniceException(
           "Failed to put key/value pair to store: " + storeName + ", partition id: " + partitionId,
           e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
     }
   }
 
   @Override
-  public synchronized void putReplicationMetadata(byte[] key, byte[] metadata) {
-    makeSureRocksDBIsStillOpen();
-    if (readOnly) {
-      throw new VeniceException(
-          "Cannot make writes while partition is opened in read-only mode" + ", partition=" + storeName + "_"
-              + partitionId);
+  public void putReplicationMetadata(byte[] key, byte[] metadata) {
+    if (deferredWrite) {
+      synchronized (this) {
+        putReplicationMetadataInternal(key, metadata);
+      }
+    } else {
+      putReplicationMetadataInternal(key, metadata);
     }
+  }
+
+  private void putReplicationMetadataInternal(byte[] key, byte[] metadata) {
+    readCloseRWLock.readLock().lock();
     try {
+      makeSureRocksDBIsStillOpen();
+      if (readOnly) {
+        throw new VeniceException(
+            "Cannot make writes while partition is opened in read-only mode" + ", partition=" + storeName + "_"
+                + partitionId);
+      }
       if (deferredWrite) {
         rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
       } else {
@@ -107,6 +132,8 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
       throw new VeniceException(
           "Failed to put key/value pair to store: " + storeName + ", partition id: " + partitionId,
           e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
     }
   }
 
@@ -127,7 +154,7 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
    * TODO: Rewrite this implementation after we adopt the thread-local direct bytebuffer approach.
    */
   @Override
-  public synchronized void putWithReplicationMetadata(byte[] key, ByteBuffer value, byte[] metadata) {
+  public void putWithReplicationMetadata(byte[] key, ByteBuffer value, byte[] metadata) {
     byte[] valueBytes = ByteUtils.extractByteArray(value);
     putWithReplicationMetadata(key, valueBytes, metadata);
   }
@@ -146,18 +173,44 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
     }
   }
 
+  @Override
+  public List<byte[]> multiGetReplicationMetadata(List<byte[]> keys) {
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      return rocksDB.multiGetAsList(
+          Collections.nCopies(keys.size(), columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX)),
+          keys);
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to get value from store: " + storeName + ", partition id: " + partitionId, e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
   /**
    * This API deletes a record from RocksDB but updates the metadata in ByteBuffer format and puts it into RocksDB.
    */
   @Override
-  public synchronized void deleteWithReplicationMetadata(byte[] key, byte[] replicationMetadata) {
-    makeSureRocksDBIsStillOpen();
-    if (readOnly) {
-      throw new VeniceException(
-          "Cannot make writes while partition is opened in read-only mode" + ", partition=" + storeName + "_"
-              + partitionId);
+  public void deleteWithReplicationMetadata(byte[] key, byte[] replicationMetadata) {
+    if (deferredWrite) {
+      synchronized (this) {
+        deleteWithReplicationMetadataInternal(key, replicationMetadata);
+      }
+    } else {
+      deleteWithReplicationMetadataInternal(key, replicationMetadata);
     }
+  }
+
+  private void deleteWithReplicationMetadataInternal(byte[] key, byte[] replicationMetadata) {
+    readCloseRWLock.readLock().lock();
     try {
+      makeSureRocksDBIsStillOpen();
+      if (readOnly) {
+        throw new VeniceException(
+            "Cannot make writes while partition is opened in read-only mode" + ", partition=" + storeName + "_"
+                + partitionId);
+      }
       if (deferredWrite) {
         // Just update the RMD for deletion during repush
         rocksDBSstFileWriter.put(key, ByteBuffer.wrap(replicationMetadata));
@@ -174,6 +227,8 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
           ? "Failed to put metadata while deleing key for store: " + storeName + ", partition id: " + partitionId
           : "Failed to delete entry to store: " + storeName + ", partition id: " + partitionId;
       throw new VeniceException(msg, e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
     }
   }
 
@@ -210,13 +265,16 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
   }
 
   @Override
-  public synchronized Map<String, String> sync() {
-    Map<String, String> checkpointingInfo = super.sync();
-    // if deferredWrite is false, super.sync will flush both the column families
-    if (deferredWrite) {
+  public Map<String, String> sync() {
+    if (!deferredWrite) {
+      // super.sync will flush both the column families
+      return super.sync();
+    }
+    synchronized (this) {
+      Map<String, String> checkpointingInfo = super.sync();
       checkpointingInfo.putAll(rocksDBSstFileWriter.sync());
+      return checkpointingInfo;
     }
-    return checkpointingInfo;
   }
 
   @Override
@@ -209,6 +209,12 @@ public class RocksDBServerConfig {
   public static final String ROCKSDB_MAX_LOG_FILE_NUM = "rocksdb.max.log.file.num";
   public static final String ROCKSDB_MAX_LOG_FILE_SIZE = "rocksdb.max.log.file.size";
 
+  /**
+   * Whether the read-only partitions, i.e. the partitions of batch-only stores after the end of push, should serve
+   * their lookups from a memory-mapped hash index built from the RocksDB database, instead of RocksDB itself.
+   */
+  public static final String ROCKSDB_READ_ONLY_MMAP_HASH_INDEX_ENABLED = "rocksdb.read.only.mmap.hash.index.enabled";
+
   private final boolean rocksDBUseDirectReads;
 
   private final int rocksDBEnvFlushPoolSize;
@@ -269,6 +275,7 @@ public class RocksDBServerConfig {
   private int blockBaseFormatVersion;
   private final int maxLogFileNum;
   private final long maxLogFileSize;
+  private final boolean readOnlyMmapHashIndexEnabled;
 
   public RocksDBServerConfig(VeniceProperties props) {
     // Do not use Direct IO for reads by default
@@ -383,6 +390,7 @@ public class RocksDBServerConfig {
      */
     this.maxLogFileNum = props.getInt(ROCKSDB_MAX_LOG_FILE_NUM, 3);
     this.maxLogFileSize = props.getSizeInBytes(ROCKSDB_MAX_LOG_FILE_SIZE, 10 * 1024 * 1024); // 10MB;
+    this.readOnlyMmapHashIndexEnabled = props.getBoolean(ROCKSDB_READ_ONLY_MMAP_HASH_INDEX_ENABLED, false);
   }
 
   public int getLevel0FileNumCompactionTriggerWriteOnlyVersion() {
@@ -575,4 +583,8 @@ public class RocksDBServerConfig {
   public long getMaxLogFileSize() {
     return maxLogFileSize;
   }
+
+  public boolean isReadOnlyMmapHashIndexEnabled() {
+    return readOnlyMmapHashIndexEnabled;
+  }
 }
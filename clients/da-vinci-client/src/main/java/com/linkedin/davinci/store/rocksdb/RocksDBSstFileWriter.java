@@ -1,5 +1,7 @@
 package com.linkedin.davinci.store.rocksdb;
 
+import static com.linkedin.venice.store.rocksdb.RocksDBUtils.PUSH_SST_FILE_CHECKSUM;
+import static com.linkedin.venice.store.rocksdb.RocksDBUtils.PUSH_SST_FILE_RECORD_COUNT;
 import static com.linkedin.venice.store.rocksdb.RocksDBUtils.extractTempSSTFileNo;
 import static com.linkedin.venice.store.rocksdb.RocksDBUtils.isTempSSTFile;
 
@@ -11,13 +13,21 @@ import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -483,6 +493,74 @@ public class RocksDBSstFileWriter {
     }
   }
 
+  /**
+   * Ingests the SST file generated by a push job for this partition, whose records are not in the version topic. The
+   * file is fetched into the temp SST file dir first, and only ingested if its record count and its checksum match the
+   * ones the push job wrote into the metadata file next to it. A partition without any record only has a metadata file.
+   */
+  public void ingestPushSSTFile(
+      RocksDB rocksDB,
+      List<ColumnFamilyHandle> columnFamilyHandleList,
+      String pushSSTFileDir) {
+    File metadataFile = new File(pushSSTFileDir, RocksDBUtils.composePushSSTFileMetadataName(partitionId));
+    Properties metadata = new Properties();
+    try (InputStream inputStream = new FileInputStream(metadataFile)) {
+      metadata.load(inputStream);
+    } catch (IOException e) {
+      throw new VeniceException(
+          "Failed to read push SST file metadata: " + metadataFile + " for store: " + storeName + ", partition: "
+              + partitionId,
+          e);
+    }
+    String recordCount = metadata.getProperty(PUSH_SST_FILE_RECORD_COUNT);
+    String checksum = metadata.getProperty(PUSH_SST_FILE_CHECKSUM);
+    if (recordCount == null || checksum == null) {
+      throw new VeniceException("Incomplete push SST file metadata: " + metadataFile + ", content: " + metadata);
+    }
+    long expectedRecordNum = Long.parseLong(recordCount);
+    if (expectedRecordNum == 0) {
+      LOGGER.info("No push SST file to ingest for store: {}, partition id: {}", storeName, partitionId);
+      return;
+    }
+
+    File pushSSTFile = new File(pushSSTFileDir, RocksDBUtils.composePushSSTFileName(partitionId));
+    File localSSTFile = new File(fullPathForTempSSTFileDir, RocksDBUtils.composePushSSTFileName(partitionId));
+    try {
+      localSSTFile.getParentFile().mkdirs();
+      Files.copy(pushSSTFile.toPath(), localSSTFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      if (!verifyChecksum(localSSTFile.getAbsolutePath(), expectedRecordNum, Base64.getDecoder().decode(checksum))) {
+        throw new VeniceChecksumException(
+            "verifyChecksum: failure. push sstFile checksum didn't match for store: " + storeName + ", partition: "
+                + partitionId + ", sstFile: " + pushSSTFile);
+      }
+      LOGGER.info(
+          "Start ingesting to store: {}, partition id: {} from push file: {}",
+          storeName,
+          partitionId,
+          pushSSTFile);
+      try (IngestExternalFileOptions ingestOptions = new IngestExternalFileOptions()) {
+        ingestOptions.setMoveFiles(true);
+        rocksDB.ingestExternalFile(
+            columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX),
+            Collections.singletonList(localSSTFile.getAbsolutePath()),
+            ingestOptions);
+      }
+      LOGGER.info(
+          "Finished ingestion to store: {}, partition id: {} from push file: {}",
+          storeName,
+          partitionId,
+          pushSSTFile);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to fetch push SST file: " + pushSSTFile + " into: " + localSSTFile, e);
+    } catch (RocksDBException e) {
+      throw new VeniceException("Received exception during RocksDB#ingestExternalFile", e);
+    } finally {
+      if (localSSTFile.exists() && !localSSTFile.delete()) {
+        LOGGER.warn("Failed to delete local copy of push SST file: {}", localSSTFile);
+      }
+    }
+  }
+
   private List<String> getTemporarySSTFilePaths() {
     File tempSSTFileDir = new File(fullPathForTempSSTFileDir);
     String[] sstFiles = tempSSTFileDir.list((dir, name) -> isTempSSTFile(name) && new File(dir, name).length() > 0);
@@ -17,6 +17,7 @@ import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
@@ -26,6 +27,8 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -99,6 +102,13 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
    */
   private final RateLimiter rateLimiter;
 
+  /**
+   * Builds the mmap hash indexes of the read-only partitions in the background, one at a time, since they are served
+   * from RocksDB until their index is ready.
+   */
+  private final ExecutorService mmapHashIndexBuildExecutor =
+      Executors.newSingleThreadExecutor(new DaemonThreadFactory("RocksDB-MmapHashIndexBuild"));
+
   private final InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer;
   private final InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer;
 
@@ -241,6 +251,10 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
     return env;
   }
 
+  public ExecutorService getMmapHashIndexBuildExecutor() {
+    return mmapHashIndexBuildExecutor;
+  }
+
   public Cache getSharedCache(boolean isRMD) {
     return rocksDBServerConfig.isUseSeparateRMDCacheEnabled() && isRMD ? sharedRMDCache : sharedCache;
   }
@@ -297,6 +311,7 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
       storageEngine.close();
     });
     storageEngineMap.clear();
+    mmapHashIndexBuildExecutor.shutdownNow();
     sharedCache.close();
     if (sharedRMDCache != null) {
       sharedRMDCache.close();
@@ -6,6 +6,8 @@ import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.StorageWriteBatch;
+import com.linkedin.davinci.store.mmap.MmapHashIndexedFile;
 import com.linkedin.venice.exceptions.MemoryLimitExhaustedException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Version;
@@ -48,6 +50,7 @@ import org.rocksdb.SstFileManager;
 import org.rocksdb.SstFileWriter;
 import org.rocksdb.Statistics;
 import org.rocksdb.Status;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 
 
@@ -66,6 +69,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   private static final String ROCKSDB_ERROR_MESSAGE_FOR_RUNNING_OUT_OF_SPACE_QUOTA = "Max allowed space was reached";
   protected static final ReadOptions READ_OPTIONS_DEFAULT = new ReadOptions();
   static final byte[] REPLICATION_METADATA_COLUMN_FAMILY = "timestamp_metadata".getBytes();
+  static final String MMAP_HASH_INDEX_FILE_NAME = "venice_mmap_hash_index";
 
   private static final FlushOptions WAIT_FOR_FLUSH_OPTIONS = new FlushOptions().setWaitForFlush(true);
 
@@ -88,11 +92,15 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
    * will crash.
    * We will use {@link #isClosed} to indicate whether the current RocksDB is closed or not.
    */
-  private boolean isClosed = false;
+  private volatile boolean isClosed = false;
   /**
-   * Since all the modification functions are synchronized, we don't need any other synchronization for the update path
-   * to guard RocksDB closing behavior.
-   * The following {@link #readCloseRWLock} is only used to guard {@link #get} since we don't want to synchronize get requests.
+   * The following {@link #readCloseRWLock} guards the lifecycle of the RocksDB handler: {@link #close} and
+   * {@link #reopen} take the write lock, while reads, writes and memtable flushes take the read lock, so that they
+   * can run concurrently with each other since RocksDB is thread-safe.
+   *
+   * In 'deferredWrite' mode, writes go through {@link RocksDBSstFileWriter}, which is not thread-safe, so these writes
+   * and {@link #sync} are still serialized by the monitor of this partition. The monitor must always be acquired before
+   * {@link #readCloseRWLock} to avoid deadlocks, as {@link #close} holds the monitor while waiting for the write lock.
    */
   protected final ReentrantReadWriteLock readCloseRWLock = new ReentrantReadWriteLock();
 
@@ -141,6 +149,17 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
 
   private RocksDBSstFileWriter rocksDBSstFileWriter = null;
 
+  /**
+   * Serves the lookups of read-only partitions when {@link RocksDBServerConfig#isReadOnlyMmapHashIndexEnabled()},
+   * since their content can't change anymore. Null otherwise, while it's being built, or if it couldn't be built.
+   */
+  private volatile MmapHashIndexedFile mmapHashIndex = null;
+  /**
+   * Set once the partition starts closing, so that a build of {@link #mmapHashIndex} in progress gives up instead of
+   * delaying the close.
+   */
+  private volatile boolean mmapHashIndexBuildCancelled = false;
+
   protected RocksDBStoragePartition(
       StoragePartitionConfig storagePartitionConfig,
       RocksDBStorageEngineFactory factory,
@@ -250,6 +269,13 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       dbOpenRunnable.run();
     }
     registerDBStats();
+    File mmapHashIndexFile = new File(fullPathForPartitionDB, MMAP_HASH_INDEX_FILE_NAME);
+    if (readOnly && rocksDBServerConfig.isReadOnlyMmapHashIndexEnabled() && partitionId != METADATA_PARTITION_ID) {
+      openOrBuildMmapHashIndex(mmapHashIndexFile);
+    } else if (!readOnly && mmapHashIndexFile.exists() && !mmapHashIndexFile.delete()) {
+      // The index would be stale once the database is written to
+      LOGGER.warn("Failed to remove stale mmap hash index: {}", mmapHashIndexFile);
+    }
     LOGGER.info(
         "Opened RocksDB for store: {}, partition: {}, in {} and {} mode",
         storeName,
@@ -276,6 +302,74 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
         Collections.singletonList(RocksDB.DEFAULT_COLUMN_FAMILY));
   }
 
+  /**
+   * Opens the index if it has already been built. Otherwise, the index is built in the background, since it takes a
+   * full scan of the partition, and the lookups are served from RocksDB until it's ready.
+   */
+  private void openOrBuildMmapHashIndex(File indexFile) {
+    try {
+      this.mmapHashIndex = MmapHashIndexedFile.open(indexFile);
+    } catch (Exception e) {
+      LOGGER.error(
+          "Failed to open mmap hash index for store: {}, partition: {}, will rebuild it",
+          storeName,
+          partitionId,
+          e);
+    }
+    if (this.mmapHashIndex == null) {
+      factory.getMmapHashIndexBuildExecutor().execute(() -> buildMmapHashIndex(indexFile));
+    }
+  }
+
+  private void buildMmapHashIndex(File indexFile) {
+    // The read lock prevents the database from being closed under the iterators
+    readCloseRWLock.readLock().lock();
+    try {
+      if (isClosed || mmapHashIndexBuildCancelled) {
+        return;
+      }
+      long startTimeInMs = System.currentTimeMillis();
+      MmapHashIndexedFile.build(indexFile, consumer -> {
+        try (RocksIterator iterator = rocksDB.newIterator()) {
+          for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+            if (mmapHashIndexBuildCancelled) {
+              throw new VeniceException("The partition is closing");
+            }
+            consumer.accept(iterator.key(), iterator.value());
+          }
+        }
+      });
+      MmapHashIndexedFile index = MmapHashIndexedFile.open(indexFile);
+      LOGGER.info(
+          "Built mmap hash index of {} records for store: {}, partition: {} in {} ms",
+          index.getRecordCount(),
+          storeName,
+          partitionId,
+          LatencyUtils.getElapsedTimeInMs(startTimeInMs));
+      this.mmapHashIndex = index;
+    } catch (Exception e) {
+      if (mmapHashIndexBuildCancelled) {
+        LOGGER.info(
+            "Gave up building mmap hash index for store: {}, partition: {} since it's closing",
+            storeName,
+            partitionId);
+        return;
+      }
+      LOGGER.error(
+          "Failed to build mmap hash index for store: {}, partition: {}, will serve lookups from RocksDB",
+          storeName,
+          partitionId,
+          e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
+  // Visible for testing
+  boolean isMmapHashIndexLoaded() {
+    return mmapHashIndex != null;
+  }
+
   private void checkMemoryLimit(long memoryLimit, SstFileManager sstFileManager, String dbPath) {
     if (memoryLimit < 0) {
       return;
@@ -459,6 +553,17 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     rocksDBSstFileWriter.ingestSSTFiles(rocksDB, columnFamilyHandleList);
   }
 
+  @Override
+  public synchronized void ingestPushSSTFile(String pushSSTFileDir) {
+    makeSureRocksDBIsStillOpen();
+    if (!deferredWrite) {
+      throw new VeniceException(
+          "Push SST files can only be ingested in 'deferredWrite' mode, store: " + storeName + ", partition: "
+              + partitionId);
+    }
+    rocksDBSstFileWriter.ingestPushSSTFile(rocksDB, columnFamilyHandleList, pushSSTFileDir);
+  }
+
   private void checkAndThrowMemoryLimitException(RocksDBException e) {
     if (e.getMessage().contains(ROCKSDB_ERROR_MESSAGE_FOR_RUNNING_OUT_OF_SPACE_QUOTA)) {
       throw new MemoryLimitExhaustedException(
@@ -469,19 +574,30 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   }
 
   @Override
-  public synchronized void put(byte[] key, byte[] value) {
+  public void put(byte[] key, byte[] value) {
     put(key, ByteBuffer.wrap(value));
   }
 
   @Override
-  public synchronized void put(byte[] key, ByteBuffer valueBuffer) {
-    makeSureRocksDBIsStillOpen();
-    if (readOnly) {
-      throw new VeniceException(
-          "Cannot make writes while partition is opened in read-only mode" + ", partition=" + storeName + "_"
-              + partitionId);
+  public void put(byte[] key, ByteBuffer valueBuffer) {
+    if (deferredWrite) {
+      synchronized (this) {
+        putInternal(key, valueBuffer);
+      }
+    } else {
+      putInternal(key, valueBuffer);
     }
+  }
+
+  private void putInternal(byte[] key, ByteBuffer valueBuffer) {
+    readCloseRWLock.readLock().lock();
     try {
+      makeSureRocksDBIsStillOpen();
+      if (readOnly) {
+        throw new VeniceException(
+            "Cannot make writes while partition is opened in read-only mode" + ", partition=" + storeName + "_"
+                + partitionId);
+      }
       if (deferredWrite) {
         rocksDBSstFileWriter.put(key, valueBuffer);
       } else {
@@ -499,6 +615,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       throw new VeniceException(
           "Failed to put key/value pair to store: " + storeName + ", partition id: " + partitionId,
           e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
     }
   }
 
@@ -507,11 +625,59 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     throw new UnsupportedOperationException("Method not implemented!!");
   }
 
+  /**
+   * Applies the whole batch with one RocksDB {@link WriteBatch}, which amortizes the per-write overhead, such as the
+   * memtable insertion locking. The SST file writer of 'deferredWrite' mode doesn't support deletes, so the batch is
+   * written record by record in that mode.
+   */
+  @Override
+  public void writeBatch(StorageWriteBatch batch) {
+    if (deferredWrite) {
+      super.writeBatch(batch);
+      return;
+    }
+    readCloseRWLock.readLock().lock();
+    try (WriteBatch writeBatch = new WriteBatch()) {
+      makeSureRocksDBIsStillOpen();
+      if (readOnly) {
+        throw new VeniceException(
+            "Cannot make writes while partition is opened in read-only mode" + ", partition=" + storeName + "_"
+                + partitionId);
+      }
+      for (int i = 0; i < batch.size(); i++) {
+        byte[] value = batch.getValue(i);
+        if (value == null) {
+          writeBatch.delete(batch.getKey(i));
+        } else {
+          writeBatch.put(batch.getKey(i), value);
+        }
+      }
+      rocksDB.write(writeOptions, writeBatch);
+    } catch (RocksDBException e) {
+      checkAndThrowMemoryLimitException(e);
+      throw new VeniceException(
+          "Failed to write batch of " + batch.size() + " records to store: " + storeName + ", partition id: "
+              + partitionId,
+          e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
   @Override
   public byte[] get(byte[] key) {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
+      if (mmapHashIndex != null) {
+        ByteBuffer value = mmapHashIndex.get(key);
+        if (value == null) {
+          return null;
+        }
+        byte[] valueBytes = new byte[value.remaining()];
+        value.get(valueBytes);
+        return valueBytes;
+      }
       return rocksDB.get(key);
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to get value from store: " + storeName + ", partition id: " + partitionId, e);
@@ -525,6 +691,19 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
+      if (mmapHashIndex != null) {
+        ByteBuffer value = mmapHashIndex.get(key);
+        if (value == null) {
+          return null;
+        }
+        if (value.remaining() > valueToBePopulated.capacity()) {
+          valueToBePopulated = ByteBuffer.allocate(value.remaining());
+        }
+        valueToBePopulated.clear();
+        valueToBePopulated.put(value);
+        valueToBePopulated.flip();
+        return valueToBePopulated;
+      }
       int size = rocksDB.get(key, valueToBePopulated.array());
       if (size == RocksDB.NOT_FOUND) {
         return null;
@@ -553,6 +732,11 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
 
   @Override
   public byte[] get(ByteBuffer keyBuffer) {
+    if (mmapHashIndex != null) {
+      byte[] key = new byte[keyBuffer.remaining()];
+      keyBuffer.duplicate().get(key);
+      return get(key);
+    }
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
@@ -564,7 +748,11 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  @Override
   public List<byte[]> multiGet(List<byte[]> keys) {
+    if (mmapHashIndex != null) {
+      return super.multiGet(keys);
+    }
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
@@ -707,14 +895,15 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   }
 
   @Override
-  public synchronized void delete(byte[] key) {
-    makeSureRocksDBIsStillOpen();
-    if (readOnly) {
-      throw new VeniceException(
-          "Cannot make deletion while partition is opened in read-only mode" + ", partition=" + storeName + "_"
-              + partitionId);
-    }
+  public void delete(byte[] key) {
+    readCloseRWLock.readLock().lock();
     try {
+      makeSureRocksDBIsStillOpen();
+      if (readOnly) {
+        throw new VeniceException(
+            "Cannot make deletion while partition is opened in read-only mode" + ", partition=" + storeName + "_"
+                + partitionId);
+      }
       if (deferredWrite) {
         throw new VeniceException("Deletion is unexpected in 'deferredWrite' mode");
       } else {
@@ -725,13 +914,26 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       throw new VeniceException(
           "Failed to delete entry from store: " + storeName + ", partition id: " + partitionId,
           e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
     }
   }
 
+  /**
+   * Apart from 'deferredWrite' mode, the memtable flush doesn't block the concurrent writes, which will simply go to
+   * the new memtable.
+   */
   @Override
-  public synchronized Map<String, String> sync() {
-    makeSureRocksDBIsStillOpen();
-    if (!deferredWrite) {
+  public Map<String, String> sync() {
+    if (deferredWrite) {
+      synchronized (this) {
+        makeSureRocksDBIsStillOpen();
+        return rocksDBSstFileWriter.sync();
+      }
+    }
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
       LOGGER.debug("Flush memtable to disk for store: {}, partition id: {}", storeName, partitionId);
 
       if (this.readOnly) {
@@ -745,21 +947,19 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
          */
         LOGGER.debug("Unexpected sync in RocksDB read-only mode");
       } else {
-        try {
-          // Since Venice RocksDB database disables WAL, flush will be triggered for every 'sync' to avoid data loss
-          // during
-          // crash recovery
-          rocksDB.flush(WAIT_FOR_FLUSH_OPTIONS, columnFamilyHandleList);
-        } catch (RocksDBException e) {
-          checkAndThrowMemoryLimitException(e);
-          throw new VeniceException(
-              "Failed to flush memtable to disk for store: " + storeName + ", partition id: " + partitionId,
-              e);
-        }
+        // Since Venice RocksDB database disables WAL, flush will be triggered for every 'sync' to avoid data loss
+        // during crash recovery
+        rocksDB.flush(WAIT_FOR_FLUSH_OPTIONS, columnFamilyHandleList);
       }
       return Collections.emptyMap();
+    } catch (RocksDBException e) {
+      checkAndThrowMemoryLimitException(e);
+      throw new VeniceException(
+          "Failed to flush memtable to disk for store: " + storeName + ", partition id: " + partitionId,
+          e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
     }
-    return rocksDBSstFileWriter.sync();
   }
 
   public void deleteFilesInDirectory(String fullPath) {
@@ -816,9 +1016,14 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
      * The following operations are used to free up memory.
      */
     deRegisterDBStats();
+    mmapHashIndexBuildCancelled = true;
     readCloseRWLock.writeLock().lock();
     try {
       rocksDB.close();
+      if (mmapHashIndex != null) {
+        mmapHashIndex.close();
+        mmapHashIndex = null;
+      }
     } finally {
       isClosed = true;
       readCloseRWLock.writeLock().unlock();
@@ -927,7 +1132,9 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
-      return getRocksDBStatValue("rocksdb.live-sst-files-size");
+      // The index is a copy of the data, which takes as much disk space
+      long mmapHashIndexSizeInBytes = mmapHashIndex == null ? 0 : mmapHashIndex.getSizeInBytes();
+      return getRocksDBStatValue("rocksdb.live-sst-files-size") + mmapHashIndexSizeInBytes;
     } finally {
       readCloseRWLock.readLock().unlock();
     }
@@ -5,8 +5,11 @@ import java.util.Arrays;
 
 /**
  * A low overhead immutable container of byte[] suitable for use as a map key.
+ *
+ * The natural ordering is the lexicographic order of the unsigned bytes, which gives a total order that can be used
+ * to acquire several per-key locks without risking a deadlock.
  */
-public class ByteArrayKey {
+public class ByteArrayKey implements Comparable<ByteArrayKey> {
   private final byte[] content;
   private final int hashCode;
 
@@ -36,6 +39,22 @@ public class ByteArrayKey {
     return this.hashCode;
   }
 
+  public byte[] getContent() {
+    return this.content;
+  }
+
+  @Override
+  public int compareTo(ByteArrayKey other) {
+    int minLength = Math.min(content.length, other.content.length);
+    for (int i = 0; i < minLength; i++) {
+      int result = (content[i] & 0xFF) - (other.content[i] & 0xFF);
+      if (result != 0) {
+        return result;
+      }
+    }
+    return content.length - other.content.length;
+  }
+
   public static ByteArrayKey wrap(byte[] content) {
     return new ByteArrayKey(content);
   }
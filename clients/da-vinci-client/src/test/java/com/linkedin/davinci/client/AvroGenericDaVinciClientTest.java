@@ -1,17 +1,57 @@
 package com.linkedin.davinci.client;
 
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.linkedin.davinci.StoreBackend;
+import com.linkedin.davinci.StoreBackendStats;
+import com.linkedin.davinci.VersionBackend;
+import com.linkedin.venice.client.store.AvroGenericReadComputeStoreClient;
+import com.linkedin.venice.client.store.ClientConfig;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.ReferenceCounted;
+import com.linkedin.venice.utils.Utils;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ObjIntConsumer;
 import org.apache.avro.Schema;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 
 public class AvroGenericDaVinciClientTest {
+  private static final String STORE_NAME = "test_store";
+
+  private StoreBackend storeBackend;
+  private StoreBackendStats storeBackendStats;
+  private VersionBackend versionBackend;
+  private AvroGenericReadComputeStoreClient<String, String> veniceClient;
+  /** The number of references to the current version which haven't been released yet. */
+  private AtomicInteger versionReferenceCount;
+  private Map<Integer, Thread> partitionReaderThreads;
+
   @Test
   public void testGetValueSchemaIdForComputeRequest() {
     String storeName = "test_store";
@@ -37,4 +77,170 @@ public class AvroGenericDaVinciClientTest {
         1);
     verify(repo).getValueSchemaId(storeName, computeValueSchemaString);
   }
+
+  @Test
+  public void testStreamingBatchGetLooksUpFirstPartitionInline() throws Exception {
+    AvroGenericDaVinciClient<String, String> client =
+        createStreamingBatchGetClient(NonLocalAccessPolicy.FAIL_FAST, Utils.setOf(0, 1, 2), Utils.setOf(0, 1, 2));
+
+    Map<String, String> result = streamingBatchGet(client, Utils.setOf("0-a", "0-b", "1-a", "2-a", "2-b"));
+    Map<String, String> expectedResult = new HashMap<>();
+    for (String key: Utils.setOf("0-a", "0-b", "1-a", "2-a", "2-b")) {
+      expectedResult.put(key, "local-" + key);
+    }
+    Assert.assertEquals(result, expectedResult);
+
+    // Each partition is looked up with one batched read, only one of them by the calling thread.
+    verify(versionBackend, times(3)).batchRead(anyInt(), any(), any(), any(), anyInt(), any(), any());
+    Assert.assertEquals(partitionReaderThreads.keySet(), Utils.setOf(0, 1, 2));
+    Assert.assertEquals(
+        partitionReaderThreads.values().stream().filter(thread -> thread == Thread.currentThread()).count(),
+        1);
+    Assert.assertEquals(versionReferenceCount.get(), 0);
+  }
+
+  @Test
+  public void testStreamingBatchGetQueriesVeniceForMissingKeys() throws Exception {
+    AvroGenericDaVinciClient<String, String> client =
+        createStreamingBatchGetClient(NonLocalAccessPolicy.QUERY_VENICE, Utils.setOf(0, 1), Utils.setOf(0, 1));
+
+    Map<String, String> result = streamingBatchGet(client, Utils.setOf("0-a", "1-a", "2-a", "2-b"));
+    Map<String, String> expectedResult = new HashMap<>();
+    expectedResult.put("0-a", "local-0-a");
+    expectedResult.put("1-a", "local-1-a");
+    expectedResult.put("2-a", "venice-2-a");
+    expectedResult.put("2-b", "venice-2-b");
+    Assert.assertEquals(result, expectedResult);
+
+    verify(veniceClient).streamingBatchGet(eq(Utils.setOf("2-a", "2-b")), any());
+    verify(versionBackend, never()).batchRead(eq(2), any(), any(), any(), anyInt(), any(), any());
+    Assert.assertEquals(versionReferenceCount.get(), 0);
+  }
+
+  @Test
+  public void testStreamingBatchGetFailsForNonLocalPartition() {
+    AvroGenericDaVinciClient<String, String> client =
+        createStreamingBatchGetClient(NonLocalAccessPolicy.FAIL_FAST, Utils.setOf(0), Utils.setOf(0));
+
+    ExecutionException exception =
+        Assert.expectThrows(ExecutionException.class, () -> streamingBatchGet(client, Utils.setOf("0-a", "1-a")));
+    Assert.assertTrue(exception.getCause() instanceof NonLocalAccessException, exception.toString());
+    verify(storeBackendStats).recordBadRequest();
+    // The request fails before any partition is looked up.
+    verify(versionBackend, never()).batchRead(anyInt(), any(), any(), any(), anyInt(), any(), any());
+    Assert.assertEquals(versionReferenceCount.get(), 0);
+  }
+
+  @Test
+  public void testStreamingBatchGetReturnsNullForPartitionNotReadyToServe() throws Exception {
+    AvroGenericDaVinciClient<String, String> client =
+        createStreamingBatchGetClient(NonLocalAccessPolicy.FAIL_FAST, Utils.setOf(0), Utils.setOf(0, 1));
+
+    Map<String, String> result = streamingBatchGet(client, Utils.setOf("0-a", "1-a"));
+    Map<String, String> expectedResult = new HashMap<>();
+    expectedResult.put("0-a", "local-0-a");
+    expectedResult.put("1-a", null);
+    Assert.assertEquals(result, expectedResult);
+    verify(storeBackendStats, never()).recordBadRequest();
+    Assert.assertEquals(versionReferenceCount.get(), 0);
+  }
+
+  @Test
+  public void testStreamingBatchGetReleasesVersionWhenLookupCannotStart() {
+    AvroGenericDaVinciClient<String, String> client =
+        createStreamingBatchGetClient(NonLocalAccessPolicy.FAIL_FAST, Utils.setOf(0, 1), Utils.setOf(0, 1));
+    doThrow(new VeniceException("No value schema")).when(versionBackend).getSupersetOrLatestValueSchemaId();
+
+    ExecutionException exception =
+        Assert.expectThrows(ExecutionException.class, () -> streamingBatchGet(client, Utils.setOf("0-a", "1-a")));
+    Assert.assertTrue(exception.getCause() instanceof VeniceException, exception.toString());
+    verify(versionBackend, never()).batchRead(anyInt(), any(), any(), any(), anyInt(), any(), any());
+    Assert.assertEquals(versionReferenceCount.get(), 0);
+  }
+
+  /**
+   * Creates a client whose keys are looked up in the partition of the digit they start with. The local value of each
+   * key is "local-" followed by the key, and its value in Venice is "venice-" followed by the key.
+   */
+  private AvroGenericDaVinciClient<String, String> createStreamingBatchGetClient(
+      NonLocalAccessPolicy nonLocalAccessPolicy,
+      Set<Integer> readyToServePartitions,
+      Set<Integer> subscribedPartitions) {
+    versionBackend = mock(VersionBackend.class);
+    doAnswer(invocation -> invocation.getArgument(0, byte[].class)[0] - '0').when(versionBackend)
+        .getPartition(any());
+    doAnswer(invocation -> readyToServePartitions.contains(invocation.<Integer>getArgument(0))).when(versionBackend)
+        .isPartitionReadyToServe(anyInt());
+    doAnswer(invocation -> subscribedPartitions.contains(invocation.<Integer>getArgument(0))).when(versionBackend)
+        .isPartitionSubscribed(anyInt());
+    partitionReaderThreads = new ConcurrentHashMap<>();
+    doAnswer(invocation -> {
+      int partition = invocation.getArgument(0);
+      List<byte[]> keys = invocation.getArgument(1);
+      ObjIntConsumer<String> valueConsumer = invocation.getArgument(6);
+      partitionReaderThreads.put(partition, Thread.currentThread());
+      for (int i = 0; i < keys.size(); i++) {
+        valueConsumer.accept("local-" + new String(keys.get(i), StandardCharsets.UTF_8), i);
+      }
+      return null;
+    }).when(versionBackend).batchRead(anyInt(), any(), any(), any(), anyInt(), any(), any());
+
+    versionReferenceCount = new AtomicInteger();
+    storeBackend = mock(StoreBackend.class);
+    doAnswer(invocation -> {
+      versionReferenceCount.incrementAndGet();
+      return new ReferenceCounted<>(versionBackend, ignored -> versionReferenceCount.decrementAndGet());
+    }).when(storeBackend).getDaVinciCurrentVersion();
+    storeBackendStats = mock(StoreBackendStats.class);
+    doReturn(storeBackendStats).when(storeBackend).getStats();
+
+    RecordSerializer<String> keySerializer = mock(RecordSerializer.class);
+    doAnswer(invocation -> invocation.getArgument(0, String.class).getBytes(StandardCharsets.UTF_8))
+        .when(keySerializer)
+        .serialize(any());
+
+    veniceClient = mock(AvroGenericReadComputeStoreClient.class);
+    doAnswer(invocation -> {
+      Set<String> keys = invocation.getArgument(0);
+      StreamingCallback<String, String> callback = invocation.getArgument(1);
+      keys.forEach(key -> callback.onRecordReceived(key, "venice-" + key));
+      callback.onCompletion(Optional.empty());
+      return null;
+    }).when(veniceClient).streamingBatchGet(any(), any());
+
+    return new AvroGenericDaVinciClient<>(
+        new DaVinciConfig().setNonLocalAccessPolicy(nonLocalAccessPolicy),
+        ClientConfig.defaultGenericClientConfig(STORE_NAME),
+        storeBackend,
+        keySerializer,
+        null,
+        veniceClient,
+        null);
+  }
+
+  private static Map<String, String> streamingBatchGet(
+      AvroGenericDaVinciClient<String, String> client,
+      Set<String> keys) throws Exception {
+    Map<String, String> result = Collections.synchronizedMap(new HashMap<>());
+    CompletableFuture<Map<String, String>> resultFuture = new CompletableFuture<>();
+    client.streamingBatchGet(keys, new StreamingCallback<String, String>() {
+      @Override
+      public void onRecordReceived(String key, String value) {
+        synchronized (result) {
+          Assert.assertFalse(result.containsKey(key), "Received the record of key " + key + " more than once");
+          result.put(key, value);
+        }
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        if (exception.isPresent()) {
+          resultFuture.completeExceptionally(exception.get());
+        } else {
+          resultFuture.complete(result);
+        }
+      }
+    });
+    return resultFuture.get(10, TimeUnit.SECONDS);
+  }
 }
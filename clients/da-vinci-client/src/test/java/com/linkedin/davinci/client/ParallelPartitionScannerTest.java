@@ -0,0 +1,139 @@
+package com.linkedin.davinci.client;
+
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.TestUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+public class ParallelPartitionScannerTest {
+  private static final int RECORDS_PER_PARTITION = 1000;
+
+  private ExecutorService executor;
+
+  @BeforeClass
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterClass
+  public void cleanUp() throws InterruptedException {
+    TestUtils.shutdownExecutor(executor);
+  }
+
+  private static void scanPartition(int partition, StreamingCallback<String, Integer> recordCallback) {
+    for (int i = 0; i < RECORDS_PER_PARTITION; i++) {
+      recordCallback.onRecordReceived(partition + "_" + i, i);
+    }
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testAllRecordsAreDeliveredFromTheCallingThread() {
+    // A tiny queue makes sure the scanning tasks are blocked by back-pressure along the way
+    ParallelPartitionScanner<String, Integer> scanner = new ParallelPartitionScanner<>(executor, 7, 1);
+    Map<String, Integer> records = new HashMap<>();
+    AtomicReference<Optional<Exception>> completion = new AtomicReference<>();
+    Thread callingThread = Thread.currentThread();
+    StreamingCallback<String, Integer> callback = new StreamingCallback<String, Integer>() {
+      @Override
+      public void onRecordReceived(String key, Integer value) {
+        Assert.assertSame(Thread.currentThread(), callingThread);
+        Assert.assertNull(records.put(key, value));
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        completion.set(exception);
+      }
+    };
+    scanner.scan(Arrays.asList(0, 1, 2, 3, 4, 5), ParallelPartitionScannerTest::scanPartition, callback);
+    Assert.assertEquals(completion.get(), Optional.empty());
+    Assert.assertEquals(records.size(), 6 * RECORDS_PER_PARTITION);
+    Assert.assertEquals(records.get("5_999"), Integer.valueOf(999));
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testFailureTerminatesTheScan() {
+    ParallelPartitionScanner<String, Integer> scanner = new ParallelPartitionScanner<>(executor, 10, 2);
+    VeniceException failure = new VeniceException("Failed to scan partition 1");
+    AtomicReference<Optional<Exception>> completion = new AtomicReference<>();
+    List<Integer> partitions = new ArrayList<>(Collections.nCopies(8, 0));
+    partitions.set(1, 1);
+    scanner.scan(partitions, (partition, recordCallback) -> {
+      if (partition == 1) {
+        throw failure;
+      }
+      // The other partitions would never finish if the scan wasn't terminated
+      for (int i = 0;; i++) {
+        recordCallback.onRecordReceived(String.valueOf(i), i);
+      }
+    }, new StreamingCallback<String, Integer>() {
+      @Override
+      public void onRecordReceived(String key, Integer value) {
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        completion.set(exception);
+      }
+    });
+    Assert.assertEquals(completion.get(), Optional.of(failure));
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testCallbackFailureTerminatesTheScan() {
+    ParallelPartitionScanner<String, Integer> scanner = new ParallelPartitionScanner<>(executor, 10, 2);
+    IllegalStateException failure = new IllegalStateException("Failed to process the record");
+    AtomicInteger receivedRecords = new AtomicInteger();
+    AtomicReference<Optional<Exception>> completion = new AtomicReference<>();
+    StreamingCallback<String, Integer> callback = new StreamingCallback<String, Integer>() {
+      @Override
+      public void onRecordReceived(String key, Integer value) {
+        if (receivedRecords.incrementAndGet() == 5) {
+          throw failure;
+        }
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        completion.set(exception);
+      }
+    };
+    scanner.scan(Arrays.asList(0, 1, 2, 3), ParallelPartitionScannerTest::scanPartition, callback);
+    Assert.assertEquals(completion.get(), Optional.of(failure));
+    Assert.assertEquals(receivedRecords.get(), 5);
+  }
+
+  @Test
+  public void testNoPartitions() {
+    ParallelPartitionScanner<String, Integer> scanner = new ParallelPartitionScanner<>(executor, 10, 2);
+    AtomicReference<Optional<Exception>> completion = new AtomicReference<>();
+    StreamingCallback<String, Integer> callback = new StreamingCallback<String, Integer>() {
+      @Override
+      public void onRecordReceived(String key, Integer value) {
+        Assert.fail("No record is expected");
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        completion.set(exception);
+      }
+    };
+    scanner.scan(Collections.emptyList(), ParallelPartitionScannerTest::scanPartition, callback);
+    Assert.assertEquals(completion.get(), Optional.empty());
+  }
+}
@@ -10,13 +10,18 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.github.luben.zstd.Zstd;
+import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.stats.AggHostLevelIngestionStats;
@@ -26,17 +31,22 @@ import com.linkedin.davinci.stats.HostLevelIngestionStats;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.chunking.ChunkedValueManifestContainer;
 import com.linkedin.davinci.storage.chunking.ChunkingUtils;
+import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.blackhole.BlackHoleStorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
 import com.linkedin.venice.compression.NoopCompressor;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.compression.ZstdWithDictCompressor;
+import com.linkedin.venice.kafka.protocol.ControlMessage;
+import com.linkedin.venice.kafka.protocol.Delete;
 import com.linkedin.venice.kafka.protocol.GUID;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.kafka.protocol.ProducerMetadata;
 import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.enums.ControlMessageType;
 import com.linkedin.venice.kafka.protocol.enums.MessageType;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.meta.BufferReplayPolicy;
@@ -54,12 +64,15 @@ import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.meta.VersionImpl;
 import com.linkedin.venice.meta.ZKStore;
 import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.pubsub.ImmutablePubSubMessage;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
 import com.linkedin.venice.pubsub.PubSubTopicRepository;
 import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubProduceResult;
 import com.linkedin.venice.pubsub.api.PubSubProducerAdapter;
 import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.pubsub.api.PubSubTopicType;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
@@ -69,6 +82,7 @@ import com.linkedin.venice.storage.protocol.ChunkId;
 import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.lazy.Lazy;
@@ -79,6 +93,9 @@ import it.unimi.dsi.fastutil.objects.Object2IntArrayMap;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
@@ -526,6 +543,278 @@ public class ActiveActiveStoreIngestionTaskTest {
     Assert.assertEquals(result3, expectedChunkedValue2);
   }
 
+  @Test
+  public void testBatchReadingChunkedRmdFromStorage() {
+    int subPartition = 1;
+    int valueSchema = 2;
+    KeyWithChunkingSuffixSerializer keyWithChunkingSuffixSerializer = new KeyWithChunkingSuffixSerializer();
+    ChunkedValueManifestSerializer chunkedValueManifestSerializer = new ChunkedValueManifestSerializer(true);
+
+    byte[] key1 = "foo".getBytes();
+    byte[] key2 = "bar".getBytes();
+    byte[] missingKey = "ljl".getBytes();
+
+    byte[] expectedNonChunkedValue = new byte[8];
+    ByteUtils.writeInt(expectedNonChunkedValue, valueSchema, 0);
+    ByteUtils.writeInt(expectedNonChunkedValue, 666, 4);
+
+    byte[] expectedChunkedValue = new byte[12];
+    ByteUtils.writeInt(expectedChunkedValue, valueSchema, 0);
+    ByteUtils.writeInt(expectedChunkedValue, 666, 4);
+    ByteUtils.writeInt(expectedChunkedValue, 777, 8);
+    byte[] chunkedValue = new byte[12];
+    ByteUtils.writeInt(chunkedValue, AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion(), 0);
+    ByteUtils.writeInt(chunkedValue, 666, 4);
+    ByteUtils.writeInt(chunkedValue, 777, 8);
+
+    ChunkedKeySuffix chunkedKeySuffix = new ChunkedKeySuffix();
+    chunkedKeySuffix.isChunk = true;
+    chunkedKeySuffix.chunkId = new ChunkId();
+    chunkedKeySuffix.chunkId.producerGUID = new GUID();
+    chunkedKeySuffix.chunkId.segmentNumber = 1;
+    chunkedKeySuffix.chunkId.messageSequenceNumber = 2;
+    chunkedKeySuffix.chunkId.chunkIndex = 0;
+    ByteBuffer chunkedKeyWithSuffix = keyWithChunkingSuffixSerializer.serializeChunkedKey(key2, chunkedKeySuffix);
+    ChunkedValueManifest chunkedValueManifest = new ChunkedValueManifest();
+    chunkedValueManifest.schemaId = valueSchema;
+    chunkedValueManifest.keysWithChunkIdSuffix = new ArrayList<>(1);
+    chunkedValueManifest.size = 8;
+    chunkedValueManifest.keysWithChunkIdSuffix.add(chunkedKeyWithSuffix);
+    byte[] chunkedManifestBytes = chunkedValueManifestSerializer.serialize("testStore_v1", chunkedValueManifest);
+    byte[] chunkedManifestWithSchemaBytes = new byte[SIZE_OF_INT + chunkedManifestBytes.length];
+    System.arraycopy(chunkedManifestBytes, 0, chunkedManifestWithSchemaBytes, SIZE_OF_INT, chunkedManifestBytes.length);
+    ByteUtils.writeInt(
+        chunkedManifestWithSchemaBytes,
+        AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion(),
+        0);
+
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    when(storageEngine.multiGetReplicationMetadata(eq(subPartition), any())).thenAnswer(invocation -> {
+      List<byte[]> topLevelKeys = invocation.getArgument(1);
+      Assert.assertEquals(topLevelKeys.size(), 3);
+      Assert.assertEquals(topLevelKeys.get(0), keyWithChunkingSuffixSerializer.serializeNonChunkedKey(key1));
+      Assert.assertEquals(topLevelKeys.get(1), keyWithChunkingSuffixSerializer.serializeNonChunkedKey(key2));
+      Assert.assertEquals(topLevelKeys.get(2), keyWithChunkingSuffixSerializer.serializeNonChunkedKey(missingKey));
+      return Arrays.asList(expectedNonChunkedValue, chunkedManifestWithSchemaBytes, null);
+    });
+    when(storageEngine.getReplicationMetadata(subPartition, chunkedKeyWithSuffix.array())).thenReturn(chunkedValue);
+
+    List<ChunkedValueManifestContainer> containers = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      containers.add(new ChunkedValueManifestContainer());
+    }
+    List<ValueRecord> results = SingleGetChunkingAdapter.batchGetReplicationMetadata(
+        storageEngine,
+        subPartition,
+        Arrays.asList(key1, key2, missingKey),
+        true,
+        containers);
+    Assert.assertEquals(results.size(), 3);
+    Assert.assertEquals(results.get(0).serialize(), expectedNonChunkedValue);
+    Assert.assertNull(containers.get(0).getManifest());
+    Assert.assertEquals(results.get(1).serialize(), expectedChunkedValue);
+    Assert.assertEquals(containers.get(1).getManifest().getKeysWithChunkIdSuffix().size(), 1);
+    Assert.assertNull(results.get(2));
+    Assert.assertNull(containers.get(2).getManifest());
+    verify(storageEngine, times(1)).multiGetReplicationMetadata(eq(subPartition), any());
+  }
+
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testBatchConflictResolutionLocksAndPrefetchesPerBatch(boolean isLeader) throws InterruptedException {
+    PubSubTopicRepository pubSubTopicRepository = mock(PubSubTopicRepository.class);
+    PubSubTopic versionTopic = new TestPubSubTopic(STORE_NAME + "_v1", STORE_NAME, PubSubTopicType.VERSION_TOPIC);
+    when(pubSubTopicRepository.getTopic(STORE_NAME + "_v1")).thenReturn(versionTopic);
+    PubSubTopic realTimeTopic = new TestPubSubTopic(STORE_NAME + "_rt", STORE_NAME, PubSubTopicType.REALTIME_TOPIC);
+    PubSubTopicPartition realTimeTopicPartition = new PubSubTopicPartitionImpl(realTimeTopic, 0);
+
+    byte[] keyA = "a".getBytes();
+    byte[] keyB = "b".getBytes();
+    byte[] keyC = "c".getBytes();
+    byte[] valueOfA = ValueRecord.create(1, "valueOfA".getBytes()).serialize();
+    byte[] rmdOfA = ValueRecord.create(1, "rmdOfA".getBytes()).serialize();
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    List<List<String>> prefetchedKeys = new ArrayList<>();
+    when(storageEngine.multiGet(eq(0), any())).thenAnswer(invocation -> {
+      List<byte[]> keys = invocation.getArgument(1);
+      List<String> keyStrings = new ArrayList<>();
+      List<byte[]> values = new ArrayList<>();
+      for (byte[] key: keys) {
+        keyStrings.add(new String(key));
+        values.add(Arrays.equals(key, keyA) ? valueOfA : null);
+      }
+      prefetchedKeys.add(keyStrings);
+      return values;
+    });
+    when(storageEngine.multiGetReplicationMetadata(eq(0), any())).thenAnswer(invocation -> {
+      List<byte[]> keys = invocation.getArgument(1);
+      List<byte[]> rmds = new ArrayList<>();
+      keys.forEach(key -> rmds.add(Arrays.equals(key, keyA) ? rmdOfA : null));
+      return rmds;
+    });
+    StorageEngineRepository storageEngineRepository = mock(StorageEngineRepository.class);
+    when(storageEngineRepository.getLocalStorageEngine(any())).thenReturn(storageEngine);
+
+    VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
+    when(serverConfig.getKafkaClusterUrlToIdMap()).thenReturn(new Object2IntArrayMap<>());
+    when(serverConfig.getKafkaClusterIdToUrlMap()).thenReturn(new Int2ObjectArrayMap<>());
+    when(serverConfig.getConsumerPoolSizePerKafkaCluster()).thenReturn(1);
+    when(serverConfig.isActiveActiveBatchConflictResolutionEnabled()).thenReturn(true);
+    when(serverConfig.getActiveActiveBatchConflictResolutionMaxRecords()).thenReturn(2);
+    when(serverConfig.getActiveActiveKeyLevelLockStripeCount()).thenReturn(1024);
+
+    AggHostLevelIngestionStats aggHostLevelIngestionStats = mock(AggHostLevelIngestionStats.class);
+    when(aggHostLevelIngestionStats.getStoreStats(any())).thenReturn(mock(HostLevelIngestionStats.class));
+    StorageEngineBackedCompressorFactory compressorFactory = mock(StorageEngineBackedCompressorFactory.class);
+    when(compressorFactory.getCompressor(any(), any())).thenReturn(new NoopCompressor());
+    AbstractStoreBufferService storeBufferService = mock(AbstractStoreBufferService.class);
+    StoreIngestionTaskFactory.Builder builder = new StoreIngestionTaskFactory.Builder();
+    builder.setPubSubTopicRepository(pubSubTopicRepository);
+    builder.setHostLevelIngestionStats(aggHostLevelIngestionStats);
+    builder.setAggKafkaConsumerService(mock(AggKafkaConsumerService.class));
+    builder.setMetadataRepository(mock(ReadOnlyStoreRepository.class));
+    builder.setServerConfig(serverConfig);
+    builder.setSchemaRepository(mock(ReadOnlySchemaRepository.class));
+    builder.setStorageEngineRepository(storageEngineRepository);
+    builder.setCompressorFactory(compressorFactory);
+    builder.setStoreBufferService(storeBufferService);
+
+    HybridStoreConfig hybridStoreConfig = new HybridStoreConfigImpl(
+        100L,
+        100L,
+        100L,
+        DataReplicationPolicy.ACTIVE_ACTIVE,
+        BufferReplayPolicy.REWIND_FROM_EOP);
+    Version version = new VersionImpl(STORE_NAME, 1, PUSH_JOB_ID);
+    version.setHybridStoreConfig(hybridStoreConfig);
+    Store store = new ZKStore(
+        STORE_NAME,
+        "Felix",
+        100L,
+        PersistenceType.BLACK_HOLE,
+        RoutingStrategy.CONSISTENT_HASH,
+        ReadStrategy.ANY_OF_ONLINE,
+        OfflinePushStrategy.WAIT_ALL_REPLICAS,
+        1);
+    store.setHybridStoreConfig(hybridStoreConfig);
+    Properties kafkaConsumerProperties = new Properties();
+    kafkaConsumerProperties.put(KAFKA_BOOTSTRAP_SERVERS, BOOTSTRAP_SERVER);
+    kafkaConsumerProperties.put(CLUSTER_NAME, TEST_CLUSTER_NAME);
+    kafkaConsumerProperties.put(ZOOKEEPER_ADDRESS, BOOTSTRAP_SERVER);
+    VeniceStoreVersionConfig storeVersionConfig =
+        new VeniceStoreVersionConfig(STORE_NAME + "_v1", new VeniceProperties(kafkaConsumerProperties));
+    ActiveActiveStoreIngestionTask ingestionTask = spy(
+        new ActiveActiveStoreIngestionTask(
+            builder,
+            store,
+            version,
+            kafkaConsumerProperties,
+            () -> true,
+            storeVersionConfig,
+            1,
+            false,
+            Optional.empty()));
+
+    PartitionConsumptionState partitionConsumptionState = mock(PartitionConsumptionState.class);
+    when(partitionConsumptionState.isEndOfPushReceived()).thenReturn(true);
+    // The value of "b" is in the transient record cache, so it is not prefetched
+    when(partitionConsumptionState.getTransientRecord(keyB))
+        .thenReturn(new PartitionConsumptionState.TransientRecord(new byte[] { 0xa }, 0, 0, 0, 0, 0));
+    ingestionTask.addPartitionConsumptionState(0, partitionConsumptionState);
+    doReturn(true).when(ingestionTask).shouldProcessRecord(any(), anyInt());
+    doReturn(isLeader).when(ingestionTask).shouldProduceToVersionTopic(any());
+
+    StripedKeyLevelLocksManager locksManager = ingestionTask.getStripedKeyLevelLocksManager();
+    List<byte[]> allKeys = Arrays.asList(keyA, keyB, keyC);
+    List<String> processedKeys = new ArrayList<>();
+    List<ActiveActiveStoreIngestionTask.PrefetchedRecord> prefetchedRecords = new ArrayList<>();
+    doAnswer(invocation -> {
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record = invocation.getArgument(0);
+      byte[] key = record.getKey().getKey();
+      processedKeys.add(new String(key));
+      if (record.getKey().isControlMessage()) {
+        // Control messages could be queued to the drainer, so they are processed without holding any key lock
+        allKeys.forEach(k -> Assert.assertFalse(locksManager.getLockByKey(k).isHeldByCurrentThread()));
+        return DelegateConsumerRecordResult.QUEUED_TO_DRAINER;
+      }
+      // The whole batch is locked in batch mode. The per-record locking is stubbed out along with this method.
+      Assert.assertEquals(locksManager.getLockByKey(key).isHeldByCurrentThread(), isLeader);
+      prefetchedRecords.add(ingestionTask.removePrefetchedRecord(key));
+      return DelegateConsumerRecordResult.PRODUCED_TO_KAFKA;
+    }).when(ingestionTask).delegateConsumerRecord(any(), anyInt(), anyString(), anyInt(), anyLong(), anyLong());
+
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records = new ArrayList<>();
+    records.add(createDeleteRecord(realTimeTopicPartition, keyA, 0));
+    records.add(createDeleteRecord(realTimeTopicPartition, keyB, 1));
+    records.add(createControlMessageRecord(realTimeTopicPartition, 2));
+    records.add(createDeleteRecord(realTimeTopicPartition, keyA, 3));
+    records.add(createDeleteRecord(realTimeTopicPartition, keyC, 4));
+    records.add(createDeleteRecord(realTimeTopicPartition, keyA, 5));
+    ingestionTask.produceToStoreBufferServiceOrKafka(records, realTimeTopicPartition, "kafkaUrl", 0);
+
+    Assert.assertEquals(processedKeys, Arrays.asList("a", "b", "", "a", "c", "a"));
+    verify(storeBufferService, times(1)).putConsumerRecord(any(), any(), any(), anyInt(), anyString(), anyLong());
+    allKeys.forEach(k -> Assert.assertFalse(locksManager.getLockByKey(k).isLocked()));
+    if (!isLeader) {
+      // Followers don't resolve conflicts, so there is nothing to batch
+      verify(storageEngine, never()).multiGet(anyInt(), any());
+      prefetchedRecords.forEach(Assert::assertNull);
+      return;
+    }
+    // The batches are [a, b], [a, c] and [a], split by the control message and by the max batch size
+    Assert.assertEquals(prefetchedKeys.size(), 3);
+    Assert.assertEquals(prefetchedKeys.get(0), Collections.singletonList("a"));
+    Assert.assertEquals(prefetchedKeys.get(1), Arrays.asList("a", "c"));
+    Assert.assertEquals(prefetchedKeys.get(2), Collections.singletonList("a"));
+    Assert.assertEquals(prefetchedRecords.size(), 5);
+    for (int i: new int[] { 0, 2, 4 }) {
+      ActiveActiveStoreIngestionTask.PrefetchedRecord prefetchedRecordOfA = prefetchedRecords.get(i);
+      Assert.assertNotNull(prefetchedRecordOfA);
+      Assert.assertEquals(ByteUtils.extractByteArray(prefetchedRecordOfA.value.value()), "valueOfA".getBytes());
+      Assert.assertEquals(prefetchedRecordOfA.value.writerSchemaId(), 1);
+      Assert.assertEquals(prefetchedRecordOfA.rmdWithValueSchemaBytes, rmdOfA);
+    }
+    // Cached in the transient record cache
+    Assert.assertNull(prefetchedRecords.get(1));
+    // Missing from the storage engine
+    ActiveActiveStoreIngestionTask.PrefetchedRecord prefetchedRecordOfC = prefetchedRecords.get(3);
+    Assert.assertNotNull(prefetchedRecordOfC);
+    Assert.assertNull(prefetchedRecordOfC.value.value());
+    Assert.assertNull(prefetchedRecordOfC.rmdWithValueSchemaBytes);
+  }
+
+  private PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> createDeleteRecord(
+      PubSubTopicPartition topicPartition,
+      byte[] key,
+      long offset) {
+    KafkaMessageEnvelope kafkaValue = new KafkaMessageEnvelope();
+    kafkaValue.messageType = MessageType.DELETE.getValue();
+    kafkaValue.payloadUnion = new Delete();
+    return new ImmutablePubSubMessage<>(
+        new KafkaKey(MessageType.DELETE, key),
+        kafkaValue,
+        topicPartition,
+        offset,
+        0,
+        key.length);
+  }
+
+  private PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> createControlMessageRecord(
+      PubSubTopicPartition topicPartition,
+      long offset) {
+    ControlMessage controlMessage = new ControlMessage();
+    controlMessage.controlMessageType = ControlMessageType.START_OF_SEGMENT.getValue();
+    KafkaMessageEnvelope kafkaValue = new KafkaMessageEnvelope();
+    kafkaValue.messageType = MessageType.CONTROL_MESSAGE.getValue();
+    kafkaValue.payloadUnion = controlMessage;
+    return new ImmutablePubSubMessage<>(
+        new KafkaKey(MessageType.CONTROL_MESSAGE, new byte[0]),
+        kafkaValue,
+        topicPartition,
+        offset,
+        0,
+        0);
+  }
+
   private VeniceCompressor getCompressor(CompressionStrategy strategy) {
     if (Objects.requireNonNull(strategy) == CompressionStrategy.ZSTD_WITH_DICT) {
       byte[] dictionary = ZstdWithDictCompressor.buildDictionaryOnSyntheticAvroData();
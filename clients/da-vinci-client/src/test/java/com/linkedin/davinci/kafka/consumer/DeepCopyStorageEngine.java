@@ -3,6 +3,7 @@ package com.linkedin.davinci.kafka.consumer;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.StorageWriteBatch;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.meta.PersistenceType;
@@ -165,6 +166,12 @@ public class DeepCopyStorageEngine extends AbstractStorageEngine<AbstractStorage
     this.delegate.delete(logicalPartitionId, key);
   }
 
+  @Override
+  public void writeBatch(int logicalPartitionId, StorageWriteBatch batch) {
+    // The writes of a batch are already copies of the consumed records.
+    this.delegate.writeBatch(logicalPartitionId, batch);
+  }
+
   public void preparePartitionForReading(int partition) {
     delegate.preparePartitionForReading(partition);
   }
@@ -211,6 +211,47 @@ public class StoreBufferServiceTest {
     }
   }
 
+  @Test
+  public void testDynamicDrainerAssignment() throws Exception {
+    StoreBufferService bufferService = new StoreBufferService(2, 10000, 1000, true, true);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    PubSubTopic pubSubTopic = pubSubTopicRepository.getTopic(Utils.getUniqueString("test_topic") + "_v1");
+    String kafkaUrl = "blah";
+    int partition1 = 0;
+    // Both partitions are statically hashed onto the same drainer
+    int partition2 = 2;
+    PubSubTopicPartition pubSubTopicPartition1 = new PubSubTopicPartitionImpl(pubSubTopic, partition1);
+    PubSubTopicPartition pubSubTopicPartition2 = new PubSubTopicPartitionImpl(pubSubTopic, partition2);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr1 =
+        new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition1, 0, 0, 0);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr2 =
+        new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition1, 1, 0, 0);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr3 =
+        new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition2, 0, 0, 0);
+    int staticDrainerIndex = bufferService.getDrainerIndexForConsumerRecord(cr1, partition1);
+    Assert.assertEquals(bufferService.getDrainerIndexForConsumerRecord(cr3, partition2), staticDrainerIndex);
+    int otherDrainerIndex = 1 - staticDrainerIndex;
+
+    bufferService.putConsumerRecord(cr1, mockTask, null, partition1, kafkaUrl, 0L);
+    long memoryUsageAfterFirstRecord = bufferService.getDrainerQueueMemoryUsage(staticDrainerIndex);
+    Assert.assertTrue(memoryUsageAfterFirstRecord > 0);
+    // The first partition still has a pending record, so it must stay on the same drainer
+    bufferService.putConsumerRecord(cr2, mockTask, null, partition1, kafkaUrl, 0L);
+    Assert.assertTrue(bufferService.getDrainerQueueMemoryUsage(staticDrainerIndex) > memoryUsageAfterFirstRecord);
+    Assert.assertEquals(bufferService.getDrainerQueueMemoryUsage(otherDrainerIndex), 0);
+    // The second partition goes to the idle drainer instead of the statically hashed one
+    bufferService.putConsumerRecord(cr3, mockTask, null, partition2, kafkaUrl, 0L);
+    Assert.assertTrue(bufferService.getDrainerQueueMemoryUsage(otherDrainerIndex) > 0);
+
+    bufferService.start();
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr1, null, partition1, kafkaUrl, 0L);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr2, null, partition1, kafkaUrl, 0L);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr3, null, partition2, kafkaUrl, 0L);
+    bufferService.internalDrainBufferedRecordsFromTopicPartition(pubSubTopicPartition1, 3, 50);
+    bufferService.internalDrainBufferedRecordsFromTopicPartition(pubSubTopicPartition2, 3, 50);
+    bufferService.stop();
+  }
+
   @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
   public void testRunWhenThrowVeniceCheckSumFailException(boolean queueLeaderWrites) throws Exception {
     StoreBufferService bufferService = new StoreBufferService(1, 10000, 1000, queueLeaderWrites);
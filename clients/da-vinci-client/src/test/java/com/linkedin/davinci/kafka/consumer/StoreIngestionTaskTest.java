@@ -16,6 +16,9 @@ import static com.linkedin.venice.ConfigKeys.SERVER_NUM_SCHEMA_FAST_CLASS_WARMUP
 import static com.linkedin.venice.ConfigKeys.SERVER_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_CONSUMER_CONFIG_PREFIX;
 import static com.linkedin.venice.ConfigKeys.SERVER_UNSUB_AFTER_BATCHPUSH;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_WRITE_BATCH_ENABLED;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_WRITE_BATCH_MAX_DELAY_MS;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_WRITE_BATCH_MAX_SIZE_IN_BYTES;
 import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
 import static com.linkedin.venice.schema.rmd.RmdConstants.REPLICATION_CHECKPOINT_VECTOR_FIELD_NAME;
 import static com.linkedin.venice.schema.rmd.RmdConstants.TIMESTAMP_FIELD_NAME;
@@ -74,6 +77,7 @@ import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.StorageWriteBatch;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
 import com.linkedin.venice.compression.CompressionStrategy;
@@ -286,6 +290,7 @@ public abstract class StoreIngestionTaskTest {
   private AggKafkaConsumerService aggKafkaConsumerService;
   private BooleanSupplier isCurrentVersion;
   private Optional<HybridStoreConfig> hybridStoreConfig;
+  private boolean isWriteComputationEnabled;
   private VeniceServerConfig veniceServerConfig;
   private RocksDBServerConfig rocksDBServerConfig;
   private long databaseSyncBytesIntervalForTransactionalMode = 1;
@@ -465,6 +470,7 @@ public abstract class StoreIngestionTaskTest {
 
     isCurrentVersion = () -> false;
     hybridStoreConfig = Optional.empty();
+    isWriteComputationEnabled = false;
 
     databaseChecksumVerificationEnabled = false;
     rocksDBServerConfig = mock(RocksDBServerConfig.class);
@@ -780,7 +786,7 @@ public abstract class StoreIngestionTaskTest {
     version.setPushStreamSourceAddress("");
     doReturn("").when(mockStore).getPushStreamSourceAddress();
 
-    doReturn(false).when(mockStore).isWriteComputationEnabled();
+    doReturn(isWriteComputationEnabled).when(mockStore).isWriteComputationEnabled();
 
     doReturn(1).when(mockStore).getPartitionCount();
 
@@ -3251,6 +3257,180 @@ public abstract class StoreIngestionTaskTest {
     Assert.assertEquals(mockNotifierError.size(), 0);
   }
 
+  /**
+   * The writes drained since the last offset sync must be applied before the offset gets checkpointed, so every offset
+   * sync has to apply the pending write batch first.
+   */
+  @Test
+  public void testWriteBatchAppliedBeforeOffsetSync() throws Exception {
+    List<String> storageEngineCalls = Collections.synchronizedList(new ArrayList<>());
+    doAnswer(invocation -> {
+      storageEngineCalls.add("writeBatch");
+      return null;
+    }).when(mockAbstractStorageEngine).writeBatch(eq(PARTITION_FOO), any());
+    doAnswer(invocation -> {
+      storageEngineCalls.add("sync");
+      return Collections.emptyMap();
+    }).when(mockAbstractStorageEngine).sync(PARTITION_FOO);
+
+    localVeniceWriter.broadcastStartOfPush(new HashMap<>());
+    localVeniceWriter.broadcastEndOfPush(new HashMap<>());
+    localVeniceWriter.put(putKeyFoo, putValue, SCHEMA_ID);
+    localVeniceWriter.put(putKeyFoo2, putValue, SCHEMA_ID);
+
+    // Neither the size nor the delay limit is ever reached, while the offset is synced after every record.
+    runWriteBatchTest(Long.MAX_VALUE, Long.MAX_VALUE, 1, () -> {
+      waitForNonDeterministicAssertion(TEST_TIMEOUT_MS, TimeUnit.MILLISECONDS, () -> {
+        int firstWriteBatchIndex = storageEngineCalls.indexOf("writeBatch");
+        assertTrue(firstWriteBatchIndex >= 0);
+        assertEquals(
+            new ArrayList<>(storageEngineCalls.subList(firstWriteBatchIndex, storageEngineCalls.size())),
+            Arrays.asList("writeBatch", "sync", "writeBatch", "sync"));
+      });
+      verify(mockAbstractStorageEngine, never()).put(anyInt(), any(), (ByteBuffer) any());
+    });
+  }
+
+  @Test
+  public void testWriteBatchAppliedWhenReachingMaxSize() throws Exception {
+    List<List<ByteArray>> appliedWriteBatches = recordAppliedWriteBatches();
+    localVeniceWriter.broadcastStartOfPush(new HashMap<>());
+    localVeniceWriter.broadcastEndOfPush(new HashMap<>());
+    localVeniceWriter.put(putKeyFoo, putValue, SCHEMA_ID);
+    localVeniceWriter.put(putKeyFoo2, putValue, SCHEMA_ID);
+
+    // Every write exceeds the max size on its own, so it is applied right away.
+    runWriteBatchTest(1, Long.MAX_VALUE, Long.MAX_VALUE, () -> {
+      waitForNonDeterministicAssertion(
+          TEST_TIMEOUT_MS,
+          TimeUnit.MILLISECONDS,
+          () -> assertEquals(
+              appliedWriteBatches,
+              Arrays.asList(
+                  Collections.singletonList(new ByteArray(putKeyFoo)),
+                  Collections.singletonList(new ByteArray(putKeyFoo2)))));
+      verify(mockAbstractStorageEngine, never()).put(anyInt(), any(), (ByteBuffer) any());
+    });
+  }
+
+  /**
+   * No record is drained after the last put, so it can only be applied by the ingestion task applying the stale
+   * batches on its own.
+   */
+  @Test
+  public void testStaleWriteBatchAppliedAfterMaxDelay() throws Exception {
+    List<List<ByteArray>> appliedWriteBatches = recordAppliedWriteBatches();
+    localVeniceWriter.broadcastStartOfPush(new HashMap<>());
+    localVeniceWriter.broadcastEndOfPush(new HashMap<>());
+    localVeniceWriter.put(putKeyFoo, putValue, SCHEMA_ID);
+    localVeniceWriter.put(putKeyFoo2, putValue, SCHEMA_ID);
+
+    runWriteBatchTest(Long.MAX_VALUE, 10, Long.MAX_VALUE, () -> {
+      waitForNonDeterministicAssertion(TEST_TIMEOUT_MS, TimeUnit.MILLISECONDS, () -> {
+        List<ByteArray> appliedKeys = new ArrayList<>();
+        synchronized (appliedWriteBatches) {
+          appliedWriteBatches.forEach(appliedKeys::addAll);
+        }
+        assertEquals(appliedKeys, Arrays.asList(new ByteArray(putKeyFoo), new ByteArray(putKeyFoo2)));
+      });
+      verify(mockAbstractStorageEngine, never()).put(anyInt(), any(), (ByteBuffer) any());
+    });
+  }
+
+  /**
+   * A failure to apply a stale batch only fails its partition, instead of killing the whole ingestion task.
+   */
+  @Test
+  public void testStaleWriteBatchFailureOnlyFailsItsPartition() throws Exception {
+    doThrow(new VeniceException("Failed to write the batch")).when(mockAbstractStorageEngine)
+        .writeBatch(eq(PARTITION_FOO), any());
+    localVeniceWriter.broadcastStartOfPush(new HashMap<>());
+    localVeniceWriter.broadcastEndOfPush(new HashMap<>());
+    localVeniceWriter.put(putKeyFoo, putValue, SCHEMA_ID);
+
+    runWriteBatchTest(Long.MAX_VALUE, 10, Long.MAX_VALUE, () -> {
+      waitForNonDeterministicAssertion(TEST_TIMEOUT_MS, TimeUnit.MILLISECONDS, () -> {
+        assertTrue(storeIngestionTaskUnderTest.getFailedPartitions().contains(PARTITION_FOO));
+        // The failed partition is unsubscribed through the per-partition exception handling
+        assertNull(storeIngestionTaskUnderTest.getPartitionConsumptionState(PARTITION_FOO));
+      });
+      verify(mockAbstractStorageEngine, never()).put(anyInt(), any(), (ByteBuffer) any());
+    });
+  }
+
+  /**
+   * The writes are not batched before End of Push, nor when the drained records are read back through the transient
+   * record buffer, which is the case for write compute stores.
+   */
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testWriteBatchNotUsedBeforeEndOfPushOrWithTransientRecordBuffer(boolean isEndOfPushReceived)
+      throws Exception {
+    isWriteComputationEnabled = isEndOfPushReceived;
+    localVeniceWriter.broadcastStartOfPush(new HashMap<>());
+    if (isEndOfPushReceived) {
+      localVeniceWriter.broadcastEndOfPush(new HashMap<>());
+    }
+    localVeniceWriter.put(putKeyFoo, putValue, SCHEMA_ID);
+    localVeniceWriter.put(putKeyFoo2, putValue, SCHEMA_ID);
+
+    runWriteBatchTest(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, () -> {
+      verify(mockAbstractStorageEngine, timeout(TEST_TIMEOUT_MS))
+          .put(eq(PARTITION_FOO), eq(putKeyFoo), (ByteBuffer) any());
+      verify(mockAbstractStorageEngine, timeout(TEST_TIMEOUT_MS))
+          .put(eq(PARTITION_FOO), eq(putKeyFoo2), (ByteBuffer) any());
+      verify(mockAbstractStorageEngine, never()).writeBatch(anyInt(), any());
+    });
+  }
+
+  private void runWriteBatchTest(
+      long writeBatchMaxSizeInBytes,
+      long writeBatchMaxDelayMs,
+      long databaseSyncBytesInterval,
+      Runnable assertions) throws Exception {
+    Map<String, Object> serverProperties = new HashMap<>();
+    serverProperties.put(STORE_WRITER_WRITE_BATCH_ENABLED, true);
+    serverProperties.put(STORE_WRITER_WRITE_BATCH_MAX_SIZE_IN_BYTES, writeBatchMaxSizeInBytes);
+    serverProperties.put(STORE_WRITER_WRITE_BATCH_MAX_DELAY_MS, writeBatchMaxDelayMs);
+    Optional<HybridStoreConfig> hybridStoreConfig = Optional.of(
+        new HybridStoreConfigImpl(
+            100,
+            100,
+            HybridStoreConfigImpl.DEFAULT_HYBRID_TIME_LAG_THRESHOLD,
+            DataReplicationPolicy.NON_AGGREGATE,
+            BufferReplayPolicy.REWIND_FROM_EOP));
+    runTest(
+        new RandomPollStrategy(),
+        Utils.setOf(PARTITION_FOO),
+        () -> {},
+        assertions,
+        hybridStoreConfig,
+        false,
+        Optional.empty(),
+        false,
+        1,
+        serverProperties,
+        configOverride -> doReturn(databaseSyncBytesInterval).when(configOverride)
+            .getDatabaseSyncBytesIntervalForTransactionalMode());
+  }
+
+  /**
+   * @return the keys of each batch applied to the storage engine, which are recorded when the batch is applied, since
+   *         the batch is cleared right after.
+   */
+  private List<List<ByteArray>> recordAppliedWriteBatches() {
+    List<List<ByteArray>> appliedWriteBatches = Collections.synchronizedList(new ArrayList<>());
+    doAnswer(invocation -> {
+      StorageWriteBatch writeBatch = invocation.getArgument(1);
+      List<ByteArray> keys = new ArrayList<>(writeBatch.size());
+      for (int i = 0; i < writeBatch.size(); i++) {
+        keys.add(new ByteArray(writeBatch.getKey(i)));
+      }
+      appliedWriteBatches.add(keys);
+      return null;
+    }).when(mockAbstractStorageEngine).writeBatch(anyInt(), any());
+    return appliedWriteBatches;
+  }
+
   @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
   public void testProduceToStoreBufferService(boolean activeActiveEnabled) throws Exception {
     byte[] keyBytes = new byte[1];
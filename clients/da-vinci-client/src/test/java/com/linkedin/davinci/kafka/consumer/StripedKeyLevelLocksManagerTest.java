@@ -0,0 +1,56 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.utils.ByteArrayKey;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class StripedKeyLevelLocksManagerTest {
+  @Test
+  public void testStripeCountIsRoundedUpToPowerOfTwo() {
+    Assert.assertEquals(new StripedKeyLevelLocksManager(1).getStripeCount(), 1);
+    Assert.assertEquals(new StripedKeyLevelLocksManager(16).getStripeCount(), 16);
+    Assert.assertEquals(new StripedKeyLevelLocksManager(100).getStripeCount(), 128);
+    Assert.assertThrows(IllegalArgumentException.class, () -> new StripedKeyLevelLocksManager(0));
+  }
+
+  @Test
+  public void testSameLockReturnedForSameKeyBytes() {
+    StripedKeyLevelLocksManager locksManager = new StripedKeyLevelLocksManager(1024);
+    byte[] rawKeyBytes = { 'a', 'b', 'c' };
+    byte[] sameRawKeyBytes = "abc".getBytes(StandardCharsets.UTF_8);
+    Assert.assertSame(locksManager.getLockByKey(rawKeyBytes), locksManager.getLockByKey(sameRawKeyBytes));
+
+    List<ByteArrayKey> keys = new ArrayList<>();
+    keys.add(ByteArrayKey.wrap(sameRawKeyBytes));
+    List<ReentrantLock> locks = locksManager.getLocksInAcquisitionOrder(keys);
+    Assert.assertEquals(locks.size(), 1);
+    Assert.assertSame(locks.get(0), locksManager.getLockByKey(rawKeyBytes));
+  }
+
+  @Test
+  public void testLocksInAcquisitionOrderAreDistinctAndConsistentlyOrdered() {
+    StripedKeyLevelLocksManager locksManager = new StripedKeyLevelLocksManager(8);
+    List<ByteArrayKey> keys = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      keys.add(ByteArrayKey.wrap(("key_" + i).getBytes(StandardCharsets.UTF_8)));
+    }
+    List<ReentrantLock> locks = locksManager.getLocksInAcquisitionOrder(keys);
+    // 100 keys must have covered all the stripes, and each stripe is only returned once.
+    Assert.assertEquals(locks.size(), 8);
+    Assert.assertEquals(locks.stream().distinct().count(), 8);
+
+    // Any subset of the keys must be locked in the same relative order to avoid deadlocks.
+    List<ReentrantLock> subsetLocks = locksManager.getLocksInAcquisitionOrder(keys.subList(50, 60));
+    int lastIndex = -1;
+    for (ReentrantLock lock: subsetLocks) {
+      int index = locks.indexOf(lock);
+      Assert.assertTrue(index > lastIndex);
+      lastIndex = index;
+    }
+  }
+}
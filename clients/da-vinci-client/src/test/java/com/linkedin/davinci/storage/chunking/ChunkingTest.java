@@ -1,8 +1,13 @@
 package com.linkedin.davinci.storage.chunking;
 
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.storage.StorageMetadataService;
@@ -12,20 +17,26 @@ import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.helix.HelixReadOnlySchemaRepository;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
 import com.linkedin.venice.serialization.RawBytesStoreDeserializerCache;
 import com.linkedin.venice.serialization.StoreDeserializerCache;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -284,4 +295,149 @@ public class ChunkingTest {
       return null;
     }, true);
   }
+
+  /**
+   * Stores a small value, a large value split into two chunks, and nothing for a third key, and returns the values of
+   * the three keys, as handed out by the batched lookup of the given adapter.
+   */
+  private Map<Integer, Object> runBatchGetTest(
+      GenericRecord smallRecord,
+      GenericRecord largeRecord,
+      BatchGetRunner batchGetRunner) {
+    int partition = 9;
+    String storeName = "test";
+    Schema schema = smallRecord.getSchema();
+    RecordSerializer<GenericRecord> serializer = SerializerDeserializerFactory.getAvroGenericSerializer(schema);
+    List<byte[]> keys = Arrays.asList("small".getBytes(), "large".getBytes(), "missing".getBytes());
+    Map<ByteBuffer, byte[]> storage = new HashMap<>();
+
+    byte[] serializedSmallRecord = serializer.serialize(smallRecord);
+    storage.put(
+        ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(ByteBuffer.wrap(keys.get(0))),
+        ValueRecord.create(1, serializedSmallRecord).serialize());
+
+    byte[] serializedLargeRecord = serializer.serialize(largeRecord);
+    int cutOff = serializedLargeRecord.length / 2;
+    List<byte[]> chunks = Arrays.asList(
+        Arrays.copyOfRange(serializedLargeRecord, 0, cutOff),
+        Arrays.copyOfRange(serializedLargeRecord, cutOff, serializedLargeRecord.length));
+    ChunkedValueManifest chunkedValueManifest = new ChunkedValueManifest();
+    chunkedValueManifest.keysWithChunkIdSuffix = new ArrayList<>(chunks.size());
+    chunkedValueManifest.schemaId = 1;
+    chunkedValueManifest.size = serializedLargeRecord.length;
+    for (int i = 0; i < chunks.size(); i++) {
+      ByteBuffer chunkKey = ByteBuffer.wrap(("large-chunk-" + i).getBytes());
+      chunkedValueManifest.keysWithChunkIdSuffix.add(chunkKey);
+      int chunkSchemaId = AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion();
+      storage.put(chunkKey, ValueRecord.create(chunkSchemaId, chunks.get(i)).serialize());
+    }
+    byte[] serializedCVM = SerializerDeserializerFactory.getAvroGenericSerializer(ChunkedValueManifest.SCHEMA$)
+        .serialize(chunkedValueManifest);
+    storage.put(
+        ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(ByteBuffer.wrap(keys.get(1))),
+        ValueRecord.create(AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion(), serializedCVM)
+            .serialize());
+
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    doAnswer(invocation -> {
+      List<byte[]> keysToLookup = invocation.getArgument(1);
+      List<byte[]> values = new ArrayList<>(keysToLookup.size());
+      keysToLookup.forEach(k -> values.add(storage.get(ByteBuffer.wrap(k))));
+      return values;
+    }).when(storageEngine).multiGet(eq(partition), any());
+
+    SchemaEntry schemaEntry = new SchemaEntry(1, schema);
+    HelixReadOnlySchemaRepository schemaRepository = mock(HelixReadOnlySchemaRepository.class);
+    doReturn(schemaEntry).when(schemaRepository).getValueSchema(storeName, 1);
+    doReturn(schemaEntry).when(schemaRepository).getSupersetOrLatestValueSchema(storeName);
+    StoreDeserializerCache storeDeserializerCache = new AvroStoreDeserializerCache(schemaRepository, storeName, true);
+
+    Map<Integer, Object> values = new HashMap<>();
+    try (StorageEngineBackedCompressorFactory compressorFactory =
+        new StorageEngineBackedCompressorFactory(mock(StorageMetadataService.class))) {
+      VeniceCompressor compressor =
+          compressorFactory.getCompressor(CompressionStrategy.NO_OP, storageEngine.getStoreName());
+      batchGetRunner.run(storageEngine, partition, keys, storeDeserializerCache, compressor, (value, index) -> {
+        Assert.assertFalse(values.containsKey(index), "Each key should be handed out only once");
+        values.put(index, value);
+      });
+    }
+    // One lookup for the keys, and a second one for the chunks of the large value
+    verify(storageEngine, times(2)).multiGet(anyInt(), any());
+    verify(storageEngine, times(0)).get(anyInt(), any(byte[].class));
+    Assert.assertEquals(values.size(), keys.size());
+    Assert.assertNull(values.get(2));
+    return values;
+  }
+
+  private interface BatchGetRunner {
+    void run(
+        AbstractStorageEngine storageEngine,
+        int partition,
+        List<byte[]> keys,
+        StoreDeserializerCache storeDeserializerCache,
+        VeniceCompressor compressor,
+        ObjIntConsumer<Object> valueConsumer);
+  }
+
+  private GenericRecord createStringRecord(int length) {
+    Schema schema = new Schema.Parser().parse(
+        "{\"type\": \"record\", \"name\": \"SomeRecordWithAString\", \"fields\": [{\"name\": \"test\", "
+            + "\"type\": \"string\", \"default\": \"\"}]}");
+    GenericRecord record = new GenericData.Record(schema);
+    byte[] bytes = new byte[length];
+    Arrays.fill(bytes, (byte) 'a');
+    record.put("test", new Utf8(bytes));
+    return record;
+  }
+
+  @Test
+  public void testGenericRecordChunkingAdapterBatchGet() {
+    GenericRecord smallRecord = createStringRecord(10);
+    GenericRecord largeRecord = createStringRecord(100000);
+    Map<Integer, Object> values = runBatchGetTest(
+        smallRecord,
+        largeRecord,
+        (storageEngine, partition, keys, storeDeserializerCache, compressor, valueConsumer) -> {
+          GenericRecordChunkingAdapter.INSTANCE.batchGet(
+              storageEngine,
+              partition,
+              keys,
+              true,
+              null,
+              null,
+              null,
+              1,
+              storeDeserializerCache,
+              compressor,
+              valueConsumer::accept);
+        });
+    Assert.assertEquals(values.get(0), smallRecord);
+    Assert.assertEquals(values.get(1), largeRecord);
+  }
+
+  @Test
+  public void testBatchGetChunkingAdapterBatchGet() {
+    GenericRecord smallRecord = createStringRecord(10);
+    GenericRecord largeRecord = createStringRecord(100000);
+    Map<Integer, Object> values = runBatchGetTest(
+        smallRecord,
+        largeRecord,
+        (storageEngine, partition, keys, storeDeserializerCache, compressor, valueConsumer) -> {
+          List<ByteBuffer> keyBuffers = new ArrayList<>(keys.size());
+          keys.forEach(key -> keyBuffers.add(ByteBuffer.wrap(key)));
+          BatchGetChunkingAdapter.batchGet(storageEngine, partition, keyBuffers, true, null, valueConsumer::accept);
+        });
+    Schema schema = smallRecord.getSchema();
+    MultiGetResponseRecordV1 smallValue = (MultiGetResponseRecordV1) values.get(0);
+    Assert.assertEquals(smallValue.schemaId, 1);
+    Assert.assertEquals(
+        ByteUtils.extractByteArray(smallValue.value),
+        SerializerDeserializerFactory.getAvroGenericSerializer(schema).serialize(smallRecord));
+    MultiGetResponseRecordV1 largeValue = (MultiGetResponseRecordV1) values.get(1);
+    Assert.assertEquals(largeValue.schemaId, 1);
+    Assert.assertEquals(
+        ByteUtils.extractByteArray(largeValue.value),
+        SerializerDeserializerFactory.getAvroGenericSerializer(schema).serialize(largeRecord));
+  }
 }
@@ -0,0 +1,82 @@
+package com.linkedin.davinci.store.mmap;
+
+import com.linkedin.venice.utils.Utils;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class MmapHashIndexedFileTest {
+  private static byte[] bytes(String string) {
+    return string.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void testBuildAndGet() throws IOException {
+    Map<String, String> records = new LinkedHashMap<>();
+    for (int i = 0; i < 1000; i++) {
+      records.put("key" + i, "value" + i);
+    }
+    // Empty keys and values are valid records too
+    records.put("", "empty_key");
+    records.put("empty_value", "");
+    File file = new File(Utils.getTempDataDirectory(), "index");
+    MmapHashIndexedFile.build(
+        file,
+        consumer -> records.forEach((key, value) -> consumer.accept(bytes(key), bytes(value))));
+    Assert.assertTrue(file.exists());
+    Assert.assertFalse(new File(file.getPath() + ".tmp").exists());
+
+    MmapHashIndexedFile indexedFile = MmapHashIndexedFile.open(file);
+    Assert.assertNotNull(indexedFile);
+    Assert.assertEquals(indexedFile.getRecordCount(), records.size());
+    Assert.assertEquals(indexedFile.getSizeInBytes(), file.length());
+    for (Map.Entry<String, String> record: records.entrySet()) {
+      ByteBuffer value = indexedFile.get(bytes(record.getKey()));
+      Assert.assertNotNull(value, record.getKey());
+      Assert.assertTrue(value.isReadOnly());
+      Assert.assertEquals(value, ByteBuffer.wrap(bytes(record.getValue())));
+    }
+    Assert.assertNull(indexedFile.get(bytes("key1000")));
+    Assert.assertNull(indexedFile.get(bytes("value1")));
+
+    // The file is unmapped right away, so it can't be read anymore
+    indexedFile.close();
+    Assert.assertThrows(() -> indexedFile.get(bytes("key1")));
+  }
+
+  @Test
+  public void testOpenInvalidFile() throws IOException {
+    File directory = Utils.getTempDataDirectory();
+    File file = new File(directory, "index");
+    Assert.assertNull(MmapHashIndexedFile.open(file));
+
+    // A file without the magic number, e.g. left by an interrupted build, is ignored
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+      randomAccessFile.setLength(1024);
+    }
+    Assert.assertNull(MmapHashIndexedFile.open(file));
+
+    // And overwritten by the next build
+    MmapHashIndexedFile.build(file, consumer -> consumer.accept(bytes("key"), bytes("value")));
+    MmapHashIndexedFile indexedFile = MmapHashIndexedFile.open(file);
+    Assert.assertNotNull(indexedFile);
+    Assert.assertEquals(indexedFile.get(bytes("key")), ByteBuffer.wrap(bytes("value")));
+  }
+
+  @Test
+  public void testEmptyFile() throws IOException {
+    File file = new File(Utils.getTempDataDirectory(), "index");
+    MmapHashIndexedFile.build(file, consumer -> {});
+    MmapHashIndexedFile indexedFile = MmapHashIndexedFile.open(file);
+    Assert.assertNotNull(indexedFile);
+    Assert.assertEquals(indexedFile.getRecordCount(), 0);
+    Assert.assertNull(indexedFile.get(bytes("key")));
+  }
+}
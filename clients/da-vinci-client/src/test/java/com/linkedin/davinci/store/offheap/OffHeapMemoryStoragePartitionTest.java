@@ -0,0 +1,120 @@
+package com.linkedin.davinci.store.offheap;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class OffHeapMemoryStoragePartitionTest {
+  private static final int PARTITION_NUM = 0;
+  private static final int SLAB_SIZE = 1024;
+
+  private static byte[] bytes(String string) {
+    return string.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static List<String> getKeysByPrefix(OffHeapMemoryStoragePartition storagePartition, byte[] keyPrefix) {
+    List<String> keys = new ArrayList<>();
+    storagePartition.getByKeyPrefix(keyPrefix, new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        keys.add(new String(key, StandardCharsets.UTF_8));
+      }
+
+      @Override
+      public void onCompletion() {
+      }
+    });
+    return keys;
+  }
+
+  @Test
+  public void testGetPutAndDelete() {
+    OffHeapMemoryStoragePartition storagePartition = new OffHeapMemoryStoragePartition(PARTITION_NUM, SLAB_SIZE);
+    Assert.assertNull(storagePartition.get(bytes("key")));
+
+    storagePartition.put(bytes("key"), bytes("value"));
+    Assert.assertEquals(storagePartition.get(bytes("key")), bytes("value"));
+    Assert.assertEquals(storagePartition.get(ByteBuffer.wrap(bytes("key"))), bytes("value"));
+
+    storagePartition.put(bytes("key"), ByteBuffer.wrap(bytes("__new_value__"), 2, 9));
+    Assert.assertEquals(storagePartition.get(bytes("key")), bytes("new_value"));
+    Assert.assertEquals(storagePartition.getPartitionSizeInBytes(), "key".length() + "new_value".length());
+
+    storagePartition.delete(bytes("key"));
+    Assert.assertNull(storagePartition.get(bytes("key")));
+    Assert.assertEquals(storagePartition.getPartitionSizeInBytes(), 0);
+    // Deleting a missing key doesn't change the size
+    storagePartition.delete(bytes("key"));
+    Assert.assertEquals(storagePartition.getPartitionSizeInBytes(), 0);
+  }
+
+  @Test
+  public void testGetWithBufferToPopulate() {
+    OffHeapMemoryStoragePartition storagePartition = new OffHeapMemoryStoragePartition(PARTITION_NUM, SLAB_SIZE);
+    storagePartition.put(bytes("key"), bytes("value"));
+
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    ByteBuffer value = storagePartition.get(bytes("key"), buffer);
+    Assert.assertSame(value, buffer);
+    Assert.assertEquals(value.position(), 0);
+    Assert.assertEquals(value.remaining(), "value".length());
+    Assert.assertEquals(value, ByteBuffer.wrap(bytes("value")));
+
+    // The buffer is only reallocated when it is too small
+    value = storagePartition.get(bytes("key"), ByteBuffer.allocate(2));
+    Assert.assertEquals(value, ByteBuffer.wrap(bytes("value")));
+
+    Assert.assertNull(storagePartition.get(bytes("missing"), buffer));
+  }
+
+  @Test
+  public void testGetByKeyPrefixIsOrdered() {
+    OffHeapMemoryStoragePartition storagePartition = new OffHeapMemoryStoragePartition(PARTITION_NUM, SLAB_SIZE);
+    for (String key: new String[] { "b2", "a", "b1", "c", "b" }) {
+      storagePartition.put(bytes(key), bytes(key));
+    }
+    // Keys are compared as unsigned bytes
+    storagePartition.put(new byte[] { 'b', (byte) 0xFF }, bytes("max"));
+
+    Assert.assertEquals(getKeysByPrefix(storagePartition, null).size(), 6);
+    Assert.assertEquals(getKeysByPrefix(storagePartition, null).get(0), "a");
+    List<String> keys = getKeysByPrefix(storagePartition, bytes("b"));
+    Assert.assertEquals(keys.size(), 4);
+    Assert.assertEquals(keys.subList(0, 3), Arrays.asList("b", "b1", "b2"));
+    Assert.assertTrue(getKeysByPrefix(storagePartition, bytes("d")).isEmpty());
+  }
+
+  @Test
+  public void testGarbageIsReclaimed() {
+    OffHeapMemoryStoragePartition storagePartition = new OffHeapMemoryStoragePartition(PARTITION_NUM, SLAB_SIZE);
+    byte[] value = new byte[100];
+    for (int i = 0; i < 1000; i++) {
+      // Only 10 keys are live at any time
+      byte[] key = bytes("key" + (i % 10));
+      value[0] = (byte) i;
+      storagePartition.put(key, value);
+    }
+    Assert.assertEquals(storagePartition.getPartitionSizeInBytes(), 10 * ("key0".length() + value.length));
+    // The live records fit in two slabs, so there shouldn't be many more of them
+    Assert.assertTrue(storagePartition.getAllocatedBytes() <= 4 * SLAB_SIZE);
+    for (int i = 990; i < 1000; i++) {
+      Assert.assertEquals(storagePartition.get(bytes("key" + (i % 10)))[0], (byte) i);
+    }
+
+    // A record larger than a slab gets its own slab
+    byte[] largeValue = new byte[10 * SLAB_SIZE];
+    storagePartition.put(bytes("large"), largeValue);
+    Assert.assertEquals(storagePartition.get(bytes("large")), largeValue);
+
+    storagePartition.drop();
+    Assert.assertNull(storagePartition.get(bytes("key0")));
+    Assert.assertEquals(storagePartition.getPartitionSizeInBytes(), 0);
+    Assert.assertEquals(storagePartition.getAllocatedBytes(), 0);
+  }
+}
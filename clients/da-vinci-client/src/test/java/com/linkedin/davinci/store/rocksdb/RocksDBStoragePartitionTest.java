@@ -10,6 +10,7 @@ import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEV
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_MAX_MEMTABLE_COUNT;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_MEMTABLE_SIZE_IN_BYTES;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_READ_ONLY_MMAP_HASH_INDEX_ENABLED;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_TOTAL_MEMTABLE_USAGE_CAP_IN_BYTES;
 import static com.linkedin.venice.ConfigKeys.INGESTION_MEMORY_LIMIT;
 import static com.linkedin.venice.ConfigKeys.INGESTION_USE_DA_VINCI_CLIENT;
@@ -20,6 +21,7 @@ import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.store.AbstractStorageEngineTest;
 import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.StorageWriteBatch;
 import com.linkedin.venice.exceptions.MemoryLimitExhaustedException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.validation.checksum.CheckSum;
@@ -27,28 +29,40 @@ import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.DataProviderUtils;
+import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.apache.commons.lang.RandomStringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.mockito.Mockito;
 import org.rocksdb.ComparatorOptions;
+import org.rocksdb.EnvOptions;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
 import org.rocksdb.util.BytewiseComparator;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -611,6 +625,105 @@ public class RocksDBStoragePartitionTest {
     removeDir(storeDir);
   }
 
+  private static void writePushSSTFileMetadata(File pushSSTFileDir, int partitionId, long recordCount, byte[] checksum)
+      throws IOException {
+    Properties metadata = new Properties();
+    metadata.setProperty(RocksDBUtils.PUSH_SST_FILE_RECORD_COUNT, Long.toString(recordCount));
+    metadata.setProperty(RocksDBUtils.PUSH_SST_FILE_CHECKSUM, Base64.getEncoder().encodeToString(checksum));
+    try (OutputStream outputStream =
+        new FileOutputStream(new File(pushSSTFileDir, RocksDBUtils.composePushSSTFileMetadataName(partitionId)))) {
+      metadata.store(outputStream, null);
+    }
+  }
+
+  @Test
+  public void testIngestPushSSTFile() throws RocksDBException, IOException {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store_push_sst"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    partitionConfig.setDeferredWrite(true);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    // The metadata of every partition is required, since it tells whether the partition has any record
+    File pushSSTFileDir = Utils.getTempDataDirectory();
+    VeniceException ex =
+        Assert.expectThrows(VeniceException.class, () -> storagePartition.ingestPushSSTFile(pushSSTFileDir.getPath()));
+    Assert.assertTrue(ex.getMessage().contains("Failed to read push SST file metadata"), ex.getMessage());
+
+    // Generate the SST file like a push job would, outside of the database directory
+    Map<String, String> inputRecords = generateInput(1024, true, 0);
+    File sstFile = new File(pushSSTFileDir, RocksDBUtils.composePushSSTFileName(partitionId));
+    CheckSum checksum = CheckSum.getInstance(CheckSumType.MD5);
+    try (EnvOptions envOptions = new EnvOptions();
+        Options options = new Options();
+        SstFileWriter sstFileWriter = new SstFileWriter(envOptions, options)) {
+      sstFileWriter.open(sstFile.getAbsolutePath());
+      for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+        sstFileWriter.put(entry.getKey().getBytes(), entry.getValue().getBytes());
+        checksum.update(entry.getKey().getBytes());
+        checksum.update(entry.getValue().getBytes());
+      }
+      sstFileWriter.finish();
+    }
+
+    writePushSSTFileMetadata(pushSSTFileDir, partitionId, inputRecords.size(), new byte[16]);
+    ex = Assert.expectThrows(VeniceException.class, () -> storagePartition.ingestPushSSTFile(pushSSTFileDir.getPath()));
+    Assert.assertTrue(ex.getMessage().contains("push sstFile checksum didn't match"), ex.getMessage());
+    Assert.assertNull(storagePartition.get((KEY_PREFIX + 0).getBytes()));
+
+    writePushSSTFileMetadata(pushSSTFileDir, partitionId, inputRecords.size(), checksum.getCheckSum());
+    storagePartition.ingestPushSSTFile(pushSSTFileDir.getPath());
+    for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+      Assert.assertEquals(storagePartition.get(entry.getKey().getBytes()), entry.getValue().getBytes());
+    }
+    // The file is fetched, so the push job output is left untouched for the other replicas
+    Assert.assertTrue(sstFile.exists());
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
+  @Test
+  public void testIngestPushSSTFileOfEmptyPartition() throws IOException {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store_push_sst"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    partitionConfig.setDeferredWrite(true);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    // An empty partition only comes with its metadata
+    File pushSSTFileDir = Utils.getTempDataDirectory();
+    writePushSSTFileMetadata(pushSSTFileDir, partitionId, 0, CheckSum.getInstance(CheckSumType.MD5).getCheckSum());
+    storagePartition.ingestPushSSTFile(pushSSTFileDir.getPath());
+    Assert.assertNull(storagePartition.get((KEY_PREFIX + 0).getBytes()));
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
   @Test
   public void testRocksDBValidityCheck() {
     String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
@@ -643,6 +756,212 @@ public class RocksDBStoragePartitionTest {
     removeDir(storeDir);
   }
 
+  @Test
+  public void testConcurrentWritesAndSync() throws Exception {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    partitionConfig.setDeferredWrite(false);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    int threadCount = 4;
+    int recordCountPerThread = 1000;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount + 1);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threadCount; t++) {
+        int threadId = t;
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < recordCountPerThread; i++) {
+            String key = KEY_PREFIX + threadId + "_" + i;
+            storagePartition.put(key.getBytes(), (VALUE_PREFIX + threadId + "_" + i).getBytes());
+            if (i % 2 == 1) {
+              storagePartition.delete((KEY_PREFIX + threadId + "_" + (i - 1)).getBytes());
+            }
+          }
+        }));
+      }
+      // Flushes are not supposed to block or break the concurrent writes
+      futures.add(executor.submit(() -> {
+        for (int i = 0; i < 10; i++) {
+          storagePartition.sync();
+        }
+      }));
+      for (Future<?> future: futures) {
+        future.get(60, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    storagePartition.sync();
+
+    for (int t = 0; t < threadCount; t++) {
+      for (int i = 0; i < recordCountPerThread; i++) {
+        byte[] value = storagePartition.get((KEY_PREFIX + t + "_" + i).getBytes());
+        if (i % 2 == 0) {
+          Assert.assertNull(value);
+        } else {
+          Assert.assertEquals(new String(value), VALUE_PREFIX + t + "_" + i);
+        }
+      }
+    }
+
+    storagePartition.close();
+    Assert.assertThrows(VeniceException.class, () -> storagePartition.put("key".getBytes(), "value".getBytes()));
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
+  @Test
+  public void testWriteBatch() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    partitionConfig.setDeferredWrite(false);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+    storagePartition.put((KEY_PREFIX + "existing").getBytes(), (VALUE_PREFIX + "existing").getBytes());
+
+    StorageWriteBatch writeBatch = new StorageWriteBatch();
+    Assert.assertTrue(writeBatch.isEmpty());
+    Assert.assertEquals(writeBatch.getFirstWriteTimeMs(), -1);
+    for (int i = 0; i < 100; i++) {
+      writeBatch.put((KEY_PREFIX + i).getBytes(), (VALUE_PREFIX + i).getBytes());
+    }
+    // Writes of the same key must be applied in order
+    writeBatch.delete((KEY_PREFIX + 0).getBytes());
+    writeBatch.put((KEY_PREFIX + 1).getBytes(), (VALUE_PREFIX + "updated").getBytes());
+    writeBatch.delete((KEY_PREFIX + "existing").getBytes());
+    Assert.assertEquals(writeBatch.size(), 103);
+    Assert.assertTrue(writeBatch.getFirstWriteTimeMs() > 0);
+    storagePartition.writeBatch(writeBatch);
+
+    Assert.assertNull(storagePartition.get((KEY_PREFIX + 0).getBytes()));
+    Assert.assertEquals(new String(storagePartition.get((KEY_PREFIX + 1).getBytes())), VALUE_PREFIX + "updated");
+    for (int i = 2; i < 100; i++) {
+      Assert.assertEquals(new String(storagePartition.get((KEY_PREFIX + i).getBytes())), VALUE_PREFIX + i);
+    }
+    Assert.assertNull(storagePartition.get((KEY_PREFIX + "existing").getBytes()));
+
+    writeBatch.clear();
+    Assert.assertTrue(writeBatch.isEmpty());
+    Assert.assertEquals(writeBatch.getSizeInBytes(), 0);
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
+  @Test
+  public void testReadOnlyMmapHashIndex() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    Properties properties = new Properties();
+    properties.put(ROCKSDB_READ_ONLY_MMAP_HASH_INDEX_ENABLED, true);
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+    Map<String, String> inputRecords = generateInput(1000, false, 0);
+    for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+      storagePartition.put(entry.getKey().getBytes(), entry.getValue().getBytes());
+    }
+    storagePartition.sync();
+    storagePartition.close();
+    File indexFile = new File(
+        RocksDBUtils.composePartitionDbDir(DATA_BASE_DIR, storeName, partitionId),
+        RocksDBStoragePartition.MMAP_HASH_INDEX_FILE_NAME);
+    Assert.assertFalse(indexFile.exists());
+
+    // The index is built in the background when the partition is opened in read-only mode, and reused afterwards
+    partitionConfig.setReadOnly(true);
+    for (int i = 0; i < 2; i++) {
+      storagePartition = new RocksDBStoragePartition(
+          partitionConfig,
+          factory,
+          DATA_BASE_DIR,
+          null,
+          ROCKSDB_THROTTLER,
+          rocksDBServerConfig);
+      long sizeInBytesWithoutIndex = storagePartition.getRocksDBStatValue("rocksdb.live-sst-files-size");
+      if (i == 0) {
+        // The lookups are served from RocksDB until the index is ready
+        Assert.assertEquals(
+            new String(storagePartition.get(inputRecords.keySet().iterator().next().getBytes())),
+            inputRecords.values().iterator().next());
+        RocksDBStoragePartition partition = storagePartition;
+        TestUtils.waitForNonDeterministicAssertion(
+            10,
+            TimeUnit.SECONDS,
+            () -> Assert.assertTrue(partition.isMmapHashIndexLoaded()));
+      } else {
+        Assert.assertTrue(storagePartition.isMmapHashIndexLoaded());
+      }
+      Assert.assertTrue(indexFile.exists());
+      // The index takes disk space too
+      Assert.assertEquals(storagePartition.getPartitionSizeInBytes(), sizeInBytesWithoutIndex + indexFile.length());
+      for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+        Assert.assertEquals(new String(storagePartition.get(entry.getKey().getBytes())), entry.getValue());
+        ByteBuffer value = storagePartition.get(entry.getKey().getBytes(), ByteBuffer.allocate(4));
+        Assert.assertEquals(value, ByteBuffer.wrap(entry.getValue().getBytes()));
+      }
+      Assert.assertNull(storagePartition.get((KEY_PREFIX + "missing").getBytes()));
+      Assert.assertNull(storagePartition.get((KEY_PREFIX + "missing").getBytes(), ByteBuffer.allocate(4)));
+      List<byte[]> values =
+          storagePartition.multiGet(Arrays.asList((KEY_PREFIX + 1).getBytes(), (KEY_PREFIX + "missing").getBytes()));
+      Assert.assertEquals(new String(values.get(0)), VALUE_PREFIX + 1);
+      Assert.assertNull(values.get(1));
+      storagePartition.close();
+      Assert.assertFalse(storagePartition.isMmapHashIndexLoaded());
+    }
+
+    // The index is dropped once the partition can be written to again
+    partitionConfig.setReadOnly(false);
+    storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+    Assert.assertFalse(indexFile.exists());
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
   @Test
   public void testPlainTableCompactionTriggerSetting() {
     String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
@@ -62,6 +62,17 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
   private final int longTailRetryThresholdForSingleGetInMicroSeconds;
   private final int longTailRetryThresholdForBatchGetInMicroSeconds;
   private final int longTailRetryThresholdForComputeInMicroSeconds;
+  /**
+   * When enabled, the long-tail retry thresholds above are only used until enough latency samples have been
+   * collected, after which the threshold is derived from {@link #longTailRetryAdaptiveThresholdPercentile} of the
+   * recent latency distribution per request type (and per key count bucket for batch get).
+   */
+  private final boolean longTailRetryAdaptiveThresholdEnabled;
+  private final double longTailRetryAdaptiveThresholdPercentile;
+  /**
+   * The max retry volume as a fraction of the original requests, and non-positive value means no limit.
+   */
+  private final double longTailRetryBudgetPercentDecimal;
   private final ClusterStats clusterStats;
   private final boolean isVsonStore;
   private final StoreMetadataFetchMode storeMetadataFetchMode;
@@ -112,6 +123,9 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       int longTailRetryThresholdForBatchGetInMicroSeconds,
       boolean longTailRetryEnabledForCompute,
       int longTailRetryThresholdForComputeInMicroSeconds,
+      boolean longTailRetryAdaptiveThresholdEnabled,
+      double longTailRetryAdaptiveThresholdPercentile,
+      double longTailRetryBudgetPercentDecimal,
       boolean isVsonStore,
       StoreMetadataFetchMode storeMetadataFetchMode,
       D2Client d2Client,
@@ -224,6 +238,23 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       }
     }
 
+    this.longTailRetryAdaptiveThresholdEnabled = longTailRetryAdaptiveThresholdEnabled;
+    this.longTailRetryAdaptiveThresholdPercentile = longTailRetryAdaptiveThresholdPercentile;
+    if (this.longTailRetryAdaptiveThresholdEnabled) {
+      if (this.longTailRetryAdaptiveThresholdPercentile <= 0 || this.longTailRetryAdaptiveThresholdPercentile >= 1) {
+        throw new VeniceClientException(
+            "longTailRetryAdaptiveThresholdPercentile must be in the range of (0, 1), but got: "
+                + this.longTailRetryAdaptiveThresholdPercentile);
+      }
+    }
+
+    this.longTailRetryBudgetPercentDecimal = longTailRetryBudgetPercentDecimal;
+    if (this.longTailRetryBudgetPercentDecimal > 1) {
+      throw new VeniceClientException(
+          "longTailRetryBudgetPercentDecimal must not be larger than 1, but got: "
+              + this.longTailRetryBudgetPercentDecimal);
+    }
+
     // TODO: Need to check whether this case applies for BatchGet
     if (this.speculativeQueryEnabled && this.longTailRetryEnabledForSingleGet) {
       throw new VeniceClientException(
@@ -354,6 +385,18 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return longTailRetryThresholdForComputeInMicroSeconds;
   }
 
+  public boolean isLongTailRetryAdaptiveThresholdEnabled() {
+    return longTailRetryAdaptiveThresholdEnabled;
+  }
+
+  public double getLongTailRetryAdaptiveThresholdPercentile() {
+    return longTailRetryAdaptiveThresholdPercentile;
+  }
+
+  public double getLongTailRetryBudgetPercentDecimal() {
+    return longTailRetryBudgetPercentDecimal;
+  }
+
   @Deprecated
   public boolean isVsonStore() {
     return isVsonStore;
@@ -439,6 +482,10 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     private boolean longTailRetryEnabledForCompute = false;
     private int longTailRetryThresholdForComputeInMicroSeconds = 10000; // 10ms.
 
+    private boolean longTailRetryAdaptiveThresholdEnabled = false;
+    private double longTailRetryAdaptiveThresholdPercentile = 0.99;
+    private double longTailRetryBudgetPercentDecimal = -1;
+
     private boolean isVsonStore = false;
     private StoreMetadataFetchMode storeMetadataFetchMode = StoreMetadataFetchMode.DA_VINCI_CLIENT_BASED_METADATA;
     private D2Client d2Client;
@@ -590,6 +637,23 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    public ClientConfigBuilder<K, V, T> setLongTailRetryAdaptiveThresholdEnabled(
+        boolean longTailRetryAdaptiveThresholdEnabled) {
+      this.longTailRetryAdaptiveThresholdEnabled = longTailRetryAdaptiveThresholdEnabled;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setLongTailRetryAdaptiveThresholdPercentile(
+        double longTailRetryAdaptiveThresholdPercentile) {
+      this.longTailRetryAdaptiveThresholdPercentile = longTailRetryAdaptiveThresholdPercentile;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setLongTailRetryBudgetPercentDecimal(double longTailRetryBudgetPercentDecimal) {
+      this.longTailRetryBudgetPercentDecimal = longTailRetryBudgetPercentDecimal;
+      return this;
+    }
+
     @Deprecated
     public ClientConfigBuilder<K, V, T> setVsonStore(boolean vsonStore) {
       isVsonStore = vsonStore;
@@ -658,6 +722,9 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           .setLongTailRetryThresholdForBatchGetInMicroSeconds(longTailRetryThresholdForBatchGetInMicroSeconds)
           .setLongTailRetryEnabledForCompute(longTailRetryEnabledForCompute)
           .setLongTailRetryThresholdForComputeInMicroSeconds(longTailRetryThresholdForComputeInMicroSeconds)
+          .setLongTailRetryAdaptiveThresholdEnabled(longTailRetryAdaptiveThresholdEnabled)
+          .setLongTailRetryAdaptiveThresholdPercentile(longTailRetryAdaptiveThresholdPercentile)
+          .setLongTailRetryBudgetPercentDecimal(longTailRetryBudgetPercentDecimal)
           .setVsonStore(isVsonStore)
           .setStoreMetadataFetchMode(storeMetadataFetchMode)
           .setD2Client(d2Client)
@@ -696,6 +763,9 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           longTailRetryThresholdForBatchGetInMicroSeconds,
           longTailRetryEnabledForCompute,
           longTailRetryThresholdForComputeInMicroSeconds,
+          longTailRetryAdaptiveThresholdEnabled,
+          longTailRetryAdaptiveThresholdPercentile,
+          longTailRetryBudgetPercentDecimal,
           isVsonStore,
           storeMetadataFetchMode,
           d2Client,
@@ -0,0 +1,129 @@
+package com.linkedin.venice.fastclient;
+
+import com.linkedin.venice.utils.Time;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * This class maintains a streaming latency histogram for one kind of request and derives the long-tail retry
+ * threshold from a configured percentile of it.
+ *
+ * The histogram uses log-scale buckets, which bounds the relative error of the derived threshold to
+ * {@link #BUCKET_GROWTH_FACTOR} while keeping both recording and lookup allocation-free. Latencies are kept in two
+ * rolling windows, so the threshold follows the recent latency distribution: it grows during a GC storm, which
+ * avoids retry amplification, and shrinks back once the servers recover. Until enough samples have been collected,
+ * the statically configured threshold is used.
+ */
+public class LongTailRetryThresholdTracker {
+  static final double BUCKET_GROWTH_FACTOR = 1.05;
+  static final long MAX_TRACKED_LATENCY_IN_MICROSECONDS = 60 * Time.US_PER_SECOND;
+  static final long WINDOW_SIZE_IN_MS = 30 * Time.MS_PER_SECOND;
+  static final long THRESHOLD_REFRESH_INTERVAL_IN_MS = Time.MS_PER_SECOND;
+  static final int MIN_SAMPLE_COUNT = 100;
+
+  private static final double LOG_BUCKET_GROWTH_FACTOR = Math.log(BUCKET_GROWTH_FACTOR);
+  private static final int BUCKET_COUNT =
+      (int) Math.ceil(Math.log(MAX_TRACKED_LATENCY_IN_MICROSECONDS) / LOG_BUCKET_GROWTH_FACTOR) + 1;
+
+  private final double percentile;
+  private final int fallbackThresholdInMicroSeconds;
+  /**
+   * The minimum number of samples needed before the percentile is trusted, e.g. 10,000 samples for p99.9, so that
+   * the tail bucket is backed by at least 10 samples.
+   */
+  private final long minSampleCount;
+  private final Time time;
+
+  private volatile LatencyWindow currentWindow;
+  private volatile LatencyWindow previousWindow;
+  private volatile long nextRefreshTimeInMs;
+  private volatile int thresholdInMicroSeconds;
+
+  public LongTailRetryThresholdTracker(double percentile, int fallbackThresholdInMicroSeconds, Time time) {
+    if (percentile <= 0 || percentile >= 1) {
+      throw new IllegalArgumentException("percentile must be in the range of (0, 1), but got: " + percentile);
+    }
+    this.percentile = percentile;
+    this.fallbackThresholdInMicroSeconds = fallbackThresholdInMicroSeconds;
+    this.minSampleCount = Math.max(MIN_SAMPLE_COUNT, (long) Math.ceil(10 / (1 - percentile)));
+    this.time = time;
+    long now = time.getMilliseconds();
+    this.currentWindow = new LatencyWindow(now);
+    this.previousWindow = new LatencyWindow(now);
+    this.nextRefreshTimeInMs = now + THRESHOLD_REFRESH_INTERVAL_IN_MS;
+    this.thresholdInMicroSeconds = fallbackThresholdInMicroSeconds;
+  }
+
+  public void recordLatency(long latencyInMicroSeconds) {
+    currentWindow.record(getBucketIndex(latencyInMicroSeconds));
+  }
+
+  public int getThresholdInMicroSeconds() {
+    long now = time.getMilliseconds();
+    if (now >= nextRefreshTimeInMs) {
+      refresh(now);
+    }
+    return thresholdInMicroSeconds;
+  }
+
+  private synchronized void refresh(long now) {
+    if (now < nextRefreshTimeInMs) {
+      // Another thread has refreshed the threshold already
+      return;
+    }
+    if (now - currentWindow.startTimeInMs >= WINDOW_SIZE_IN_MS) {
+      previousWindow = currentWindow;
+      currentWindow = new LatencyWindow(now);
+    }
+    LatencyWindow current = currentWindow;
+    LatencyWindow previous = previousWindow;
+    long totalCount = current.totalCount.sum() + previous.totalCount.sum();
+    if (totalCount < minSampleCount) {
+      thresholdInMicroSeconds = fallbackThresholdInMicroSeconds;
+    } else {
+      long targetCount = (long) Math.ceil(totalCount * percentile);
+      long cumulativeCount = 0;
+      int bucketIndex = 0;
+      for (; bucketIndex < BUCKET_COUNT - 1; bucketIndex++) {
+        cumulativeCount += current.bucketCounts.get(bucketIndex) + previous.bucketCounts.get(bucketIndex);
+        if (cumulativeCount >= targetCount) {
+          break;
+        }
+      }
+      thresholdInMicroSeconds = getBucketUpperBound(bucketIndex);
+    }
+    nextRefreshTimeInMs = now + THRESHOLD_REFRESH_INTERVAL_IN_MS;
+  }
+
+  static int getBucketIndex(long latencyInMicroSeconds) {
+    if (latencyInMicroSeconds <= 1) {
+      return 0;
+    }
+    if (latencyInMicroSeconds >= MAX_TRACKED_LATENCY_IN_MICROSECONDS) {
+      return BUCKET_COUNT - 1;
+    }
+    return Math.min(BUCKET_COUNT - 1, (int) Math.ceil(Math.log(latencyInMicroSeconds) / LOG_BUCKET_GROWTH_FACTOR));
+  }
+
+  static int getBucketUpperBound(int bucketIndex) {
+    return (int) Math.min(
+        MAX_TRACKED_LATENCY_IN_MICROSECONDS,
+        Math.max(1, (long) Math.ceil(Math.pow(BUCKET_GROWTH_FACTOR, bucketIndex))));
+  }
+
+  private static class LatencyWindow {
+    private final long startTimeInMs;
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+
+    LatencyWindow(long startTimeInMs) {
+      this.startTimeInMs = startTimeInMs;
+    }
+
+    void record(int bucketIndex) {
+      bucketCounts.incrementAndGet(bucketIndex);
+      totalCount.increment();
+    }
+  }
+}
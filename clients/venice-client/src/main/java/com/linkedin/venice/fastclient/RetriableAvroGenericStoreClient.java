@@ -6,8 +6,11 @@ import com.linkedin.venice.client.store.ComputeGenericRecord;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -23,9 +26,10 @@ import org.apache.logging.log4j.Logger;
  * 1. The original request latency exceeds the retry threshold.
  * 2. The original request fails.
  *
- * TODO:
- * 1. Limit the retry volume.
- * 2. Leverage some smart logic to avoid useless retry, such as retry triggered by heavy GC.
+ * When {@link ClientConfig#isLongTailRetryAdaptiveThresholdEnabled()} is true, the long-tail retry threshold is
+ * derived from the recent latency distribution by {@link LongTailRetryThresholdTracker} instead of being static,
+ * and when {@link ClientConfig#getLongTailRetryBudgetPercentDecimal()} is positive, the total retry volume is
+ * capped by {@link RetryBudget}.
  */
 public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient<K, V> {
   private final boolean longTailRetryEnabledForSingleGet;
@@ -34,10 +38,26 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
   private final int longTailRetryThresholdForSingleGetInMicroSeconds;
   private final int longTailRetryThresholdForBatchGetInMicroSeconds;
   private final int longTailRetryThresholdForComputeInMicroSeconds;
+  private final boolean longTailRetryAdaptiveThresholdEnabled;
+  private final double longTailRetryAdaptiveThresholdPercentile;
+  private final LongTailRetryThresholdTracker singleGetThresholdTracker;
+  private final LongTailRetryThresholdTracker computeThresholdTracker;
+  /**
+   * Batch get latency heavily depends on the key count, so the latency is tracked per power-of-two key count bucket.
+   */
+  private final Map<Integer, LongTailRetryThresholdTracker> batchGetThresholdTrackers;
+  private final RetryBudget retryBudget;
+  private final Time time;
   private TimeoutProcessor timeoutProcessor;
+  private static final VeniceClientException RETRY_BUDGET_EXHAUSTED_EXCEPTION =
+      new VeniceClientException("Retry is skipped since the retry budget is exhausted");
   private static final Logger LOGGER = LogManager.getLogger(RetriableAvroGenericStoreClient.class);
 
   public RetriableAvroGenericStoreClient(InternalAvroStoreClient<K, V> delegate, ClientConfig clientConfig) {
+    this(delegate, clientConfig, SystemTime.INSTANCE);
+  }
+
+  RetriableAvroGenericStoreClient(InternalAvroStoreClient<K, V> delegate, ClientConfig clientConfig, Time time) {
     super(delegate, clientConfig);
     if (!(clientConfig.isLongTailRetryEnabledForSingleGet() || clientConfig.isLongTailRetryEnabledForBatchGet()
         || clientConfig.isLongTailRetryEnabledForCompute())) {
@@ -52,6 +72,27 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         clientConfig.getLongTailRetryThresholdForBatchGetInMicroSeconds();
     this.longTailRetryThresholdForComputeInMicroSeconds =
         clientConfig.getLongTailRetryThresholdForComputeInMicroSeconds();
+    this.longTailRetryAdaptiveThresholdEnabled = clientConfig.isLongTailRetryAdaptiveThresholdEnabled();
+    this.longTailRetryAdaptiveThresholdPercentile = clientConfig.getLongTailRetryAdaptiveThresholdPercentile();
+    if (longTailRetryAdaptiveThresholdEnabled) {
+      this.singleGetThresholdTracker = new LongTailRetryThresholdTracker(
+          longTailRetryAdaptiveThresholdPercentile,
+          longTailRetryThresholdForSingleGetInMicroSeconds,
+          time);
+      this.computeThresholdTracker = new LongTailRetryThresholdTracker(
+          longTailRetryAdaptiveThresholdPercentile,
+          longTailRetryThresholdForComputeInMicroSeconds,
+          time);
+      this.batchGetThresholdTrackers = new VeniceConcurrentHashMap<>();
+    } else {
+      this.singleGetThresholdTracker = null;
+      this.computeThresholdTracker = null;
+      this.batchGetThresholdTrackers = null;
+    }
+    this.time = time;
+    this.retryBudget = clientConfig.getLongTailRetryBudgetPercentDecimal() > 0
+        ? new RetryBudget(clientConfig.getLongTailRetryBudgetPercentDecimal(), time)
+        : null;
   }
 
   enum RetryType {
@@ -62,15 +103,25 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     private final GetRequestContext requestContext;
     private final RetryType retryType;
     private final Runnable retryTask;
+    private final Runnable retrySkippedTask;
 
-    RetryRunnable(GetRequestContext requestContext, RetryType retryType, Runnable retryTask) {
+    RetryRunnable(
+        GetRequestContext requestContext,
+        RetryType retryType,
+        Runnable retryTask,
+        Runnable retrySkippedTask) {
       this.requestContext = requestContext;
       this.retryType = retryType;
       this.retryTask = retryTask;
+      this.retrySkippedTask = retrySkippedTask;
     }
 
     @Override
     public void run() {
+      if (!tryAcquireRetryBudget()) {
+        retrySkippedTask.run();
+        return;
+      }
       requestContext.retryContext = new GetRequestContext.RetryContext();
       switch (retryType) {
         case LONG_TAIL_RETRY:
@@ -87,20 +138,19 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
   }
 
   /**
-   * TODO:
-   * Limit the retry volume: Even though retry for a single request is being scheduled at max twice (once
-   * via scheduler (LONG_TAIL_RETRY) and once instant (ERROR_RETRY) if originalRequestFuture fails), there
-   * is no way to control the total allowed retry per node. It would be good to design some mechanism to make
-   * it configurable, such as retry at most the slowest 5% of traffic, otherwise, too many retry requests
-   * could cause cascading failure.
+   * Retry for a single request is being scheduled at max twice (once via scheduler (LONG_TAIL_RETRY) and once
+   * instant (ERROR_RETRY) if originalRequestFuture fails), and both are charged against {@link #retryBudget}
+   * if it is configured.
    */
   @Override
   protected CompletableFuture<V> get(GetRequestContext requestContext, K key) throws VeniceClientException {
+    final long startTimeInNS = System.nanoTime();
     final CompletableFuture<V> originalRequestFuture = super.get(requestContext, key);
     if (!longTailRetryEnabledForSingleGet) {
       // if longTailRetry is not enabled for single get, simply return the original future
       return originalRequestFuture;
     }
+    recordRequestForRetryBudget();
 
     if (timeoutProcessor == null) {
       /**
@@ -130,14 +180,20 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       });
     };
 
+    // Without a retry, the outcome only depends on the original request
+    Runnable retrySkippedTask = () -> retryFuture.completeExceptionally(RETRY_BUDGET_EXHAUSTED_EXCEPTION);
+
     // Schedule the created task for long-tail retry
     TimeoutProcessor.TimeoutFuture timeoutFuture = timeoutProcessor.schedule(
-        new RetryRunnable(requestContext, RetryType.LONG_TAIL_RETRY, retryTask),
-        longTailRetryThresholdForSingleGetInMicroSeconds,
+        new RetryRunnable(requestContext, RetryType.LONG_TAIL_RETRY, retryTask, retrySkippedTask),
+        getLongTailRetryThresholdInMicroSeconds(
+            singleGetThresholdTracker,
+            longTailRetryThresholdForSingleGetInMicroSeconds),
         TimeUnit.MICROSECONDS);
 
     originalRequestFuture.whenComplete((value, throwable) -> {
       if (throwable == null) {
+        recordLatency(singleGetThresholdTracker, startTimeInNS);
         if (!timeoutFuture.isDone()) {
           timeoutFuture.cancel();
         }
@@ -149,7 +205,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         // Trigger the retry right away when receiving any error
         if (!timeoutFuture.isDone()) {
           timeoutFuture.cancel();
-          new RetryRunnable(requestContext, RetryType.ERROR_RETRY, retryTask).run();
+          new RetryRunnable(requestContext, RetryType.ERROR_RETRY, retryTask, retrySkippedTask).run();
         }
       }
     });
@@ -186,6 +242,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         requestContext,
         keys,
         callback,
+        getBatchGetThresholdTracker(keys.size()),
         longTailRetryThresholdForBatchGetInMicroSeconds,
         BatchGetRequestContext::new,
         super::streamingBatchGet);
@@ -209,6 +266,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         requestContext,
         keys,
         callback,
+        computeThresholdTracker,
         longTailRetryThresholdForComputeInMicroSeconds,
         ComputeRequestContext::new,
         (requestContextInternal, internalKeys, internalCallback) -> {
@@ -226,9 +284,12 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       R requestContext,
       Set<K> keys,
       StreamingCallback<K, RESPONSE> callback,
+      LongTailRetryThresholdTracker thresholdTracker,
       int longTailRetryThresholdInMicroSeconds,
       RequestContextConstructor<K, V, R> requestContextConstructor,
       StreamingRequestExecutor<K, V, R, RESPONSE> streamingRequestExecutor) throws VeniceClientException {
+    final long startTimeInNS = System.nanoTime();
+    recordRequestForRetryBudget();
     R originalRequestContext = requestContextConstructor.construct(keys.size(), requestContext.isPartialSuccessAllowed);
 
     requestContext.retryContext = new MultiKeyRequestContext.RetryContext<K, V>();
@@ -253,10 +314,14 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       pendingKeysFuture.put(key, originalCompletion);
     }
 
+    StreamingCallback<K, RESPONSE> originalRequestCallback =
+        getStreamingCallback(originalRequestContext, finalRequestCompletionFuture, savedException, pendingKeysFuture);
     streamingRequestExecutor.trigger(
         originalRequestContext,
         keys,
-        getStreamingCallback(originalRequestContext, finalRequestCompletionFuture, savedException, pendingKeysFuture));
+        thresholdTracker == null
+            ? originalRequestCallback
+            : getLatencyTrackingCallback(originalRequestCallback, thresholdTracker, startTimeInNS));
 
     if (timeoutProcessor == null) {
       /** Reuse the {@link TimeoutProcessor} from {@link InstanceHealthMonitor} of the original request to
@@ -265,7 +330,15 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     }
 
     Runnable retryTask = () -> { // Look at the remaining keys and setup completion
-      if (!pendingKeysFuture.isEmpty()) {
+      if (!pendingKeysFuture.isEmpty() && !tryAcquireRetryBudget()) {
+        /** No retry will be issued, so the outcome only depends on the original request. If the original request
+         has failed already, complete the final request with its exception; otherwise, occupy the saved exception
+         slot, so that a later failure of the original request will complete the final request right away. */
+        if (!savedException.compareAndSet(null, RETRY_BUDGET_EXHAUSTED_EXCEPTION)) {
+          finalRequestCompletionFuture.completeExceptionally(savedException.get());
+        }
+        LOGGER.debug("Retry for {} incomplete keys is skipped due to retry budget", pendingKeysFuture.size());
+      } else if (!pendingKeysFuture.isEmpty()) {
         Set<K> pendingKeys = Collections.unmodifiableSet(pendingKeysFuture.keySet());
         R retryRequestContext =
             requestContextConstructor.construct(pendingKeys.size(), requestContext.isPartialSuccessAllowed);
@@ -286,8 +359,10 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       }
     };
 
-    TimeoutProcessor.TimeoutFuture scheduledRetryTask =
-        timeoutProcessor.schedule(retryTask, longTailRetryThresholdInMicroSeconds, TimeUnit.MICROSECONDS);
+    TimeoutProcessor.TimeoutFuture scheduledRetryTask = timeoutProcessor.schedule(
+        retryTask,
+        getLongTailRetryThresholdInMicroSeconds(thresholdTracker, longTailRetryThresholdInMicroSeconds),
+        TimeUnit.MICROSECONDS);
 
     finalRequestCompletionFuture.whenComplete((ignore, finalException) -> {
       if (!scheduledRetryTask.isDone()) {
@@ -355,6 +430,64 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     };
   }
 
+  private <RESPONSE> StreamingCallback<K, RESPONSE> getLatencyTrackingCallback(
+      StreamingCallback<K, RESPONSE> callback,
+      LongTailRetryThresholdTracker thresholdTracker,
+      long startTimeInNS) {
+    return new StreamingCallback<K, RESPONSE>() {
+      @Override
+      public void onRecordReceived(K key, RESPONSE value) {
+        callback.onRecordReceived(key, value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        if (!exception.isPresent()) {
+          recordLatency(thresholdTracker, startTimeInNS);
+        }
+        callback.onCompletion(exception);
+      }
+    };
+  }
+
+  /**
+   * Key counts are bucketed by the next power of two, e.g. 3 and 4 keys share the same bucket.
+   */
+  private LongTailRetryThresholdTracker getBatchGetThresholdTracker(int keyCount) {
+    if (batchGetThresholdTrackers == null) {
+      return null;
+    }
+    int bucket = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(keyCount, 1) - 1);
+    return batchGetThresholdTrackers.computeIfAbsent(
+        bucket,
+        ignored -> new LongTailRetryThresholdTracker(
+            longTailRetryAdaptiveThresholdPercentile,
+            longTailRetryThresholdForBatchGetInMicroSeconds,
+            time));
+  }
+
+  private static int getLongTailRetryThresholdInMicroSeconds(
+      LongTailRetryThresholdTracker thresholdTracker,
+      int staticThresholdInMicroSeconds) {
+    return thresholdTracker == null ? staticThresholdInMicroSeconds : thresholdTracker.getThresholdInMicroSeconds();
+  }
+
+  private static void recordLatency(LongTailRetryThresholdTracker thresholdTracker, long startTimeInNS) {
+    if (thresholdTracker != null) {
+      thresholdTracker.recordLatency(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTimeInNS));
+    }
+  }
+
+  private void recordRequestForRetryBudget() {
+    if (retryBudget != null) {
+      retryBudget.recordRequest();
+    }
+  }
+
+  private boolean tryAcquireRetryBudget() {
+    return retryBudget == null || retryBudget.tryAcquire();
+  }
+
   interface RequestContextConstructor<K, V, R extends MultiKeyRequestContext<K, V>> {
     R construct(int numKeysInRequest, boolean isPartialSuccessAllowed);
   }
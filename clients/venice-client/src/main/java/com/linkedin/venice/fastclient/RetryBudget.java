@@ -0,0 +1,80 @@
+package com.linkedin.venice.fastclient;
+
+import com.linkedin.venice.utils.Time;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * This class caps the retry volume to a fraction of the original traffic observed in the last two rolling windows,
+ * so that a slowdown on the server side doesn't get amplified into a retry storm and cause cascading failures.
+ * A small number of retries per window is always allowed to keep retry effective for low-traffic stores.
+ */
+public class RetryBudget {
+  static final long WINDOW_SIZE_IN_MS = 10 * Time.MS_PER_SECOND;
+  static final long MIN_RETRIES_PER_WINDOW = 10;
+
+  private final double retryBudgetPercentDecimal;
+  private final Time time;
+
+  private volatile BudgetWindow currentWindow;
+  private volatile BudgetWindow previousWindow;
+
+  public RetryBudget(double retryBudgetPercentDecimal, Time time) {
+    if (retryBudgetPercentDecimal <= 0 || retryBudgetPercentDecimal > 1) {
+      throw new IllegalArgumentException(
+          "retryBudgetPercentDecimal must be in the range of (0, 1], but got: " + retryBudgetPercentDecimal);
+    }
+    this.retryBudgetPercentDecimal = retryBudgetPercentDecimal;
+    this.time = time;
+    long now = time.getMilliseconds();
+    this.currentWindow = new BudgetWindow(now);
+    this.previousWindow = new BudgetWindow(now);
+  }
+
+  public void recordRequest() {
+    maybeRotate().requestCount.increment();
+  }
+
+  /**
+   * @return true if a retry can be issued, and the retry is charged against the budget in that case.
+   */
+  public synchronized boolean tryAcquire() {
+    BudgetWindow current = maybeRotate();
+    BudgetWindow previous = previousWindow;
+    long requestCount = current.requestCount.sum() + previous.requestCount.sum();
+    long allowedRetryCount = Math.max(MIN_RETRIES_PER_WINDOW, (long) (requestCount * retryBudgetPercentDecimal));
+    if (current.retryCount + previous.retryCount >= allowedRetryCount) {
+      return false;
+    }
+    current.retryCount++;
+    return true;
+  }
+
+  private BudgetWindow maybeRotate() {
+    BudgetWindow current = currentWindow;
+    long now = time.getMilliseconds();
+    if (now - current.startTimeInMs < WINDOW_SIZE_IN_MS) {
+      return current;
+    }
+    synchronized (this) {
+      if (currentWindow == current) {
+        previousWindow = current;
+        currentWindow = new BudgetWindow(now);
+      }
+      return currentWindow;
+    }
+  }
+
+  private static class BudgetWindow {
+    private final long startTimeInMs;
+    private final LongAdder requestCount = new LongAdder();
+    /**
+     * Only accessed while holding the lock of the enclosing {@link RetryBudget}.
+     */
+    private long retryCount = 0;
+
+    BudgetWindow(long startTimeInMs) {
+      this.startTimeInMs = startTimeInMs;
+    }
+  }
+}
@@ -1,12 +1,14 @@
 package com.linkedin.venice.fastclient.transport;
 
 import com.google.protobuf.ByteString;
+import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.HttpMethod;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.exceptions.VeniceClientHttpException;
 import com.linkedin.venice.client.exceptions.VeniceClientRateExceededException;
 import com.linkedin.venice.client.store.transport.TransportClient;
 import com.linkedin.venice.client.store.transport.TransportClientResponse;
+import com.linkedin.venice.client.store.transport.TransportClientStreamingCallback;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.fastclient.GrpcClientConfig;
@@ -26,7 +28,9 @@ import io.grpc.StatusRuntimeException;
 import io.grpc.TlsChannelCredentials;
 import io.grpc.stub.StreamObserver;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -35,6 +39,7 @@ import org.apache.logging.log4j.Logger;
 public class GrpcTransportClient extends InternalTransportClient {
   private static final Logger LOGGER = LogManager.getLogger(GrpcTransportClient.class);
   private static final String STORAGE_ACTION = "storage";
+  private static final String COMPUTE_ACTION = "compute";
   private final VeniceConcurrentHashMap<String, ManagedChannel> serverGrpcChannels;
   private final Map<String, String> nettyAddressToGrpcAddressMap;
   // we cache stubs to avoid creating a new stub for each request, improves performance
@@ -101,6 +106,57 @@ public class GrpcTransportClient extends InternalTransportClient {
     return handleRequest(requestPath, headers, requestBody, false);
   }
 
+  /**
+   * Sends batch get and compute requests over the server-streaming gRPC calls, so that the records are handed to the
+   * {@param callback} as soon as the storage node reads them, instead of once the whole response is received.
+   */
+  @Override
+  public void streamPost(
+      String requestPath,
+      Map<String, String> headers,
+      byte[] requestBody,
+      TransportClientStreamingCallback callback,
+      int keyCount) {
+    String[] requestParts = requestPath.split("/");
+    // https://localhost:1234/compute/store_v1
+    // ["https:", "", "localhost:1234", "compute", "store_v1"]
+    boolean isCompute = requestParts[3].equals(COMPUTE_ACTION);
+    if (!isCompute && !requestParts[3].equals(STORAGE_ACTION)) {
+      callback.onCompletion(
+          Optional.of(new VeniceClientException("Unsupported gRPC streaming action: " + requestParts[3])));
+      return;
+    }
+    VeniceClientRequest.Builder requestBuilder = VeniceClientRequest.newBuilder()
+        .setResourceName(requestParts[4])
+        .setIsBatchRequest(true)
+        .setIsComputeRequest(isCompute)
+        .setIsStreamingRequest(true)
+        .setMethod(HttpMethod.POST.name())
+        .setKeyBytes(ByteString.copyFrom(requestBody));
+    if (isCompute) {
+      String computeApiVersion = headers.get(HttpConstants.VENICE_API_VERSION);
+      if (computeApiVersion != null) {
+        requestBuilder.setComputeApiVersion(Integer.parseInt(computeApiVersion));
+      }
+      String computeValueSchemaId = headers.get(HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID);
+      if (computeValueSchemaId != null) {
+        requestBuilder.setComputeValueSchemaId(Integer.parseInt(computeValueSchemaId));
+      }
+    }
+
+    GrpcTransportClientStreamingObserver observer = new GrpcTransportClientStreamingObserver(callback);
+    try {
+      VeniceReadServiceGrpc.VeniceReadServiceStub clientStub = getStub(getChannel(requestParts[2]));
+      if (isCompute) {
+        clientStub.computeStreaming(requestBuilder.build(), observer);
+      } else {
+        clientStub.batchGetStreaming(requestBuilder.build(), observer);
+      }
+    } catch (Exception e) {
+      observer.onError(e);
+    }
+  }
+
   @Override
   public void close() throws IOException {
     for (Map.Entry<String, ManagedChannel> entry: serverGrpcChannels.entrySet()) {
@@ -223,66 +279,120 @@ public class GrpcTransportClient extends InternalTransportClient {
       return valueFuture;
     }
 
-    // used for errors that are raised within the gRPC handler pipeline
     private void handleResponseError(VeniceServerResponse response) {
-      int statusCode = response.getErrorCode();
-      String errorMessage = response.getErrorMessage();
-      Exception exception;
-
-      switch (statusCode) {
-        case GrpcErrorCodes.BAD_REQUEST:
-          exception = new VeniceClientHttpException(errorMessage, statusCode);
-          break;
-        case GrpcErrorCodes.TOO_MANY_REQUESTS:
-          exception = new VeniceClientRateExceededException(errorMessage);
-          break;
-        case GrpcErrorCodes.KEY_NOT_FOUND:
-          valueFuture.complete(null);
-          return;
-        default:
-          exception = new VeniceClientException(
-              String
-                  .format("An unexpected error occurred with status code: %d, message: %s", statusCode, errorMessage));
-          break;
+      if (response.getErrorCode() == GrpcErrorCodes.KEY_NOT_FOUND) {
+        valueFuture.complete(null);
+        return;
       }
-
-      valueFuture.completeExceptionally(exception);
+      valueFuture.completeExceptionally(getResponseException(response));
     }
 
-    // used for errors raised during the gRPC call itself
     private void handleGrpcError(Throwable t) {
-      LOGGER.debug("gRPC error occurred", t);
-
-      if (t instanceof StatusRuntimeException) {
-        StatusRuntimeException statusRuntimeException = (StatusRuntimeException) t;
-        Status status = statusRuntimeException.getStatus();
-        Status.Code statusCode = status.getCode();
-
-        String errorMessage =
-            status.getDescription() != null ? status.getDescription() : statusRuntimeException.getMessage();
-        int statusCodeValue = statusCode.value();
-        LOGGER.error("gRPC error occurred with status code: {}, message: {}", statusCodeValue, errorMessage);
-        Exception exception;
-        switch (statusCode) {
-          case PERMISSION_DENIED:
-          case UNAUTHENTICATED:
-          case INVALID_ARGUMENT:
-            // these errors are purposefully raised by the server, and we provide a more specific message when they
-            // occur
-            exception = new VeniceClientHttpException(errorMessage, statusCodeValue);
-            break;
-          default:
-            exception = new VeniceClientException(
-                String.format(
-                    "An unexpected gRPC error occurred with status code: %d, message: %s",
-                    statusCodeValue,
-                    errorMessage));
-            break;
+      valueFuture.completeExceptionally(getGrpcException(t));
+    }
+  }
+
+  /**
+   * Forwards the responses of a server-streaming call to a {@link TransportClientStreamingCallback}: the first response
+   * stands for the headers of an HTTP streaming response, and the records of each response are passed on as a chunk.
+   * gRPC invokes the methods of an observer one at a time, so the callback is invoked sequentially too.
+   */
+  private static class GrpcTransportClientStreamingObserver implements StreamObserver<VeniceServerResponse> {
+    private final TransportClientStreamingCallback callback;
+    private boolean isHeaderReceived = false;
+    private boolean isDone = false;
+
+    public GrpcTransportClientStreamingObserver(TransportClientStreamingCallback callback) {
+      this.callback = callback;
+    }
+
+    @Override
+    public void onNext(VeniceServerResponse value) {
+      if (isDone) {
+        return;
+      }
+      if (value.getErrorCode() != GrpcErrorCodes.OK) {
+        complete(Optional.of(getResponseException(value)));
+        return;
+      }
+      if (!isHeaderReceived) {
+        isHeaderReceived = true;
+        Map<String, String> headers = new HashMap<>();
+        headers.put(HttpConstants.VENICE_SCHEMA_ID, Integer.toString(value.getSchemaId()));
+        headers.put(HttpConstants.VENICE_COMPRESSION_STRATEGY, Integer.toString(value.getCompressionStrategy()));
+        if (value.getIsStreamingResponse()) {
+          headers.put(HttpConstants.VENICE_STREAMING_RESPONSE, "1");
         }
-        valueFuture.completeExceptionally(exception);
-      } else {
-        valueFuture.completeExceptionally(new VeniceException("A gRPC error occurred when completing this request", t));
+        callback.onHeaderReceived(headers);
+      }
+      if (!value.getData().isEmpty()) {
+        callback.onDataReceived(value.getData().asReadOnlyByteBuffer());
+      }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      complete(Optional.of(getGrpcException(t)));
+    }
+
+    @Override
+    public void onCompleted() {
+      complete(Optional.empty());
+    }
+
+    private void complete(Optional<VeniceClientException> exception) {
+      if (isDone) {
+        return;
+      }
+      isDone = true;
+      callback.onCompletion(exception);
+    }
+  }
+
+  // used for errors that are raised within the gRPC handler pipeline
+  private static VeniceClientException getResponseException(VeniceServerResponse response) {
+    int statusCode = response.getErrorCode();
+    String errorMessage = response.getErrorMessage();
+
+    switch (statusCode) {
+      case GrpcErrorCodes.BAD_REQUEST:
+        return new VeniceClientHttpException(errorMessage, statusCode);
+      case GrpcErrorCodes.TOO_MANY_REQUESTS:
+        return new VeniceClientRateExceededException(errorMessage);
+      default:
+        return new VeniceClientException(
+            String.format("An unexpected error occurred with status code: %d, message: %s", statusCode, errorMessage));
+    }
+  }
+
+  // used for errors raised during the gRPC call itself
+  private static VeniceClientException getGrpcException(Throwable t) {
+    LOGGER.debug("gRPC error occurred", t);
+
+    if (t instanceof StatusRuntimeException) {
+      StatusRuntimeException statusRuntimeException = (StatusRuntimeException) t;
+      Status status = statusRuntimeException.getStatus();
+      Status.Code statusCode = status.getCode();
+
+      String errorMessage =
+          status.getDescription() != null ? status.getDescription() : statusRuntimeException.getMessage();
+      int statusCodeValue = statusCode.value();
+      LOGGER.error("gRPC error occurred with status code: {}, message: {}", statusCodeValue, errorMessage);
+      switch (statusCode) {
+        case PERMISSION_DENIED:
+        case UNAUTHENTICATED:
+        case INVALID_ARGUMENT:
+          // these errors are purposefully raised by the server, and we provide a more specific message when they
+          // occur
+          return new VeniceClientHttpException(errorMessage, statusCodeValue);
+        default:
+          return new VeniceClientException(
+              String.format(
+                  "An unexpected gRPC error occurred with status code: %d, message: %s",
+                  statusCodeValue,
+                  errorMessage));
       }
     }
+    return new VeniceClientException("A gRPC error occurred when completing this request", t);
   }
 }
@@ -69,6 +69,15 @@ public class ClientConfigTest {
     clientConfigBuilder.build();
   }
 
+  @Test(expectedExceptions = VeniceClientException.class, expectedExceptionsMessageRegExp = "longTailRetryAdaptiveThresholdPercentile must be in the range.*")
+  public void testClientWithInvalidLongTailRetryAdaptiveThresholdPercentile() {
+    ClientConfig.ClientConfigBuilder clientConfigBuilder = getClientConfigWithMinimumRequiredInputs();
+    clientConfigBuilder.setLongTailRetryEnabledForSingleGet(true);
+    clientConfigBuilder.setLongTailRetryAdaptiveThresholdEnabled(true);
+    clientConfigBuilder.setLongTailRetryAdaptiveThresholdPercentile(1.0);
+    clientConfigBuilder.build();
+  }
+
   @Test(expectedExceptions = VeniceClientException.class, expectedExceptionsMessageRegExp = "Speculative query feature can't be enabled together with long-tail retry for single-get")
   public void testLongTailRetryWithSpeculativeQuery() {
     ClientConfig.ClientConfigBuilder clientConfigBuilder = getClientConfigWithMinimumRequiredInputs();
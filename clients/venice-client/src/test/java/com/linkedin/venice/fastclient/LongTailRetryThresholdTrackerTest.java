@@ -0,0 +1,77 @@
+package com.linkedin.venice.fastclient;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.utils.TestMockTime;
+import org.testng.annotations.Test;
+
+
+public class LongTailRetryThresholdTrackerTest {
+  private static final int FALLBACK_THRESHOLD_IN_MICROSECONDS = 10000;
+
+  @Test
+  public void testFallbackThresholdWithoutEnoughSamples() {
+    TestMockTime time = new TestMockTime();
+    LongTailRetryThresholdTracker tracker =
+        new LongTailRetryThresholdTracker(0.99, FALLBACK_THRESHOLD_IN_MICROSECONDS, time);
+    for (int i = 0; i < 10; i++) {
+      tracker.recordLatency(100);
+    }
+    time.addMilliseconds(LongTailRetryThresholdTracker.THRESHOLD_REFRESH_INTERVAL_IN_MS);
+    assertEquals(tracker.getThresholdInMicroSeconds(), FALLBACK_THRESHOLD_IN_MICROSECONDS);
+  }
+
+  @Test
+  public void testThresholdFollowsPercentile() {
+    TestMockTime time = new TestMockTime();
+    LongTailRetryThresholdTracker tracker =
+        new LongTailRetryThresholdTracker(0.99, FALLBACK_THRESHOLD_IN_MICROSECONDS, time);
+    // 1..1000us evenly distributed, so p99 should be around 990us
+    for (int i = 1; i <= 1000; i++) {
+      tracker.recordLatency(i);
+    }
+    // The threshold is only refreshed periodically
+    assertEquals(tracker.getThresholdInMicroSeconds(), FALLBACK_THRESHOLD_IN_MICROSECONDS);
+    time.addMilliseconds(LongTailRetryThresholdTracker.THRESHOLD_REFRESH_INTERVAL_IN_MS);
+    int threshold = tracker.getThresholdInMicroSeconds();
+    assertThresholdWithinOneBucket(threshold, 990);
+
+    // A slowdown should push the threshold up
+    for (int i = 0; i < 1000; i++) {
+      tracker.recordLatency(50000);
+    }
+    time.addMilliseconds(LongTailRetryThresholdTracker.THRESHOLD_REFRESH_INTERVAL_IN_MS);
+    threshold = tracker.getThresholdInMicroSeconds();
+    assertThresholdWithinOneBucket(threshold, 50000);
+
+    // Once both windows have rotated out, the old latencies shouldn't be considered any more
+    time.addMilliseconds(LongTailRetryThresholdTracker.WINDOW_SIZE_IN_MS);
+    tracker.getThresholdInMicroSeconds();
+    for (int i = 0; i < 1000; i++) {
+      tracker.recordLatency(200);
+    }
+    time.addMilliseconds(LongTailRetryThresholdTracker.WINDOW_SIZE_IN_MS);
+    threshold = tracker.getThresholdInMicroSeconds();
+    assertThresholdWithinOneBucket(threshold, 200);
+  }
+
+  private static void assertThresholdWithinOneBucket(int threshold, int expectedThreshold) {
+    assertTrue(
+        threshold >= expectedThreshold
+            && threshold <= expectedThreshold * LongTailRetryThresholdTracker.BUCKET_GROWTH_FACTOR,
+        "Unexpected threshold: " + threshold);
+  }
+
+  @Test
+  public void testBucketBoundaries() {
+    for (long latency: new long[] { 1, 2, 7, 100, 12345, 1000000 }) {
+      int bucketIndex = LongTailRetryThresholdTracker.getBucketIndex(latency);
+      assertTrue(LongTailRetryThresholdTracker.getBucketUpperBound(bucketIndex) >= latency);
+    }
+    assertEquals(
+        LongTailRetryThresholdTracker
+            .getBucketUpperBound(LongTailRetryThresholdTracker.getBucketIndex(Long.MAX_VALUE)),
+        LongTailRetryThresholdTracker.MAX_TRACKED_LATENCY_IN_MICROSECONDS);
+  }
+}
@@ -26,6 +26,7 @@ import com.linkedin.venice.fastclient.stats.FastClientStats;
 import com.linkedin.venice.fastclient.utils.ClientTestUtils;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.utils.DataProviderUtils;
+import com.linkedin.venice.utils.TestMockTime;
 import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Time;
 import io.tehuti.Metric;
@@ -41,6 +42,11 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -720,4 +726,226 @@ public class RetriableAvroGenericStoreClientTest {
       testComputeAndValidateMetrics(true, true, false, false);
     }
   }
+
+  /**
+   * Mocking the dispatchingClient, where the behavior of each request, including the retries, is decided by its
+   * 1-based index.
+   */
+  private InternalAvroStoreClient prepareDispatchingClient(
+      ClientConfig clientConfig,
+      AtomicInteger requestCount,
+      IntPredicate requestThrowsException,
+      IntToLongFunction requestDelayMs) {
+    StoreMetadata mockMetadata = mock(StoreMetadata.class);
+    doReturn(STORE_NAME).when(mockMetadata).getStoreName();
+    doReturn(STORE_VALUE_SCHEMA).when(mockMetadata).getLatestValueSchema();
+    return new DispatchingAvroGenericStoreClient(mockMetadata, clientConfig) {
+      private void mockInstanceHealthMonitor(RequestContext requestContext) {
+        InstanceHealthMonitor instanceHealthMonitor = mock(InstanceHealthMonitor.class);
+        doReturn(timeoutProcessor).when(instanceHealthMonitor).getTimeoutProcessor();
+        requestContext.instanceHealthMonitor = instanceHealthMonitor;
+      }
+
+      private void runRequest(Runnable onSuccess, Runnable onFailure) {
+        int requestIndex = requestCount.incrementAndGet();
+        Runnable request = requestThrowsException.test(requestIndex) ? onFailure : onSuccess;
+        long delayMs = requestDelayMs.applyAsLong(requestIndex);
+        if (delayMs == 0) {
+          request.run();
+        } else {
+          scheduledExecutor.schedule(request, delayMs, TimeUnit.MILLISECONDS);
+        }
+      }
+
+      @Override
+      protected CompletableFuture get(GetRequestContext requestContext, Object key) throws VeniceClientException {
+        mockInstanceHealthMonitor(requestContext);
+        CompletableFuture requestFuture = new CompletableFuture();
+        runRequest(
+            () -> requestFuture.complete(SINGLE_GET_VALUE_RESPONSE),
+            () -> requestFuture.completeExceptionally(new VeniceClientException("Request exception")));
+        return requestFuture;
+      }
+
+      @Override
+      protected void streamingBatchGet(BatchGetRequestContext requestContext, Set keys, StreamingCallback callback) {
+        mockInstanceHealthMonitor(requestContext);
+        runRequest(() -> {
+          BATCH_GET_KEYS.forEach(key -> callback.onRecordReceived(key, BATCH_GET_VALUE_RESPONSE.get(key)));
+          callback.onCompletion(Optional.empty());
+        }, () -> callback.onCompletion(Optional.of(new VeniceClientException("Request exception"))));
+      }
+
+      @Override
+      protected void compute(
+          ComputeRequestContext requestContext,
+          ComputeRequestWrapper computeRequest,
+          Set keys,
+          Schema resultSchema,
+          StreamingCallback callback,
+          long preRequestTimeInNS) throws VeniceClientException {
+        mockInstanceHealthMonitor(requestContext);
+        runRequest(() -> {
+          COMPUTE_REQUEST_KEYS.forEach(key -> callback.onRecordReceived(key, COMPUTE_REQUEST_VALUE_RESPONSE.get(key)));
+          callback.onCompletion(Optional.empty());
+        }, () -> callback.onCompletion(Optional.of(new VeniceClientException("Request exception"))));
+      }
+    };
+  }
+
+  /**
+   * Issues single gets which fail along with their error retries, until all the retries allowed by the budget of a
+   * low-traffic client are used up.
+   */
+  private void exhaustRetryBudget(
+      RetriableAvroGenericStoreClient<String, GenericRecord> client,
+      AtomicInteger requestCount) throws InterruptedException {
+    for (int i = 0; i < RetryBudget.MIN_RETRIES_PER_WINDOW; i++) {
+      GetRequestContext requestContext = new GetRequestContext(false);
+      try {
+        client.get(requestContext, "test_key").get();
+        fail("An ExecutionException should be thrown here");
+      } catch (ExecutionException e) {
+        assertTrue(requestContext.retryContext.errorRetryRequestTriggered);
+      }
+    }
+    // Each request was retried once
+    assertEquals(requestCount.get(), 2 * RetryBudget.MIN_RETRIES_PER_WINDOW);
+  }
+
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testSingleGetSkipsRetryWhenRetryBudgetIsExhausted() throws ExecutionException, InterruptedException {
+    ClientConfig budgetClientConfig = clientConfigBuilder.clone()
+        .setMetricsRepository(new MetricsRepository())
+        .setLongTailRetryBudgetPercentDecimal(0.01)
+        .build();
+    AtomicInteger requestCount = new AtomicInteger();
+    int budgetExhaustingRequestCount = (int) (2 * RetryBudget.MIN_RETRIES_PER_WINDOW);
+    RetriableAvroGenericStoreClient<String, GenericRecord> client = new RetriableAvroGenericStoreClient<>(
+        prepareDispatchingClient(
+            budgetClientConfig,
+            requestCount,
+            requestIndex -> requestIndex <= budgetExhaustingRequestCount,
+            requestIndex -> requestIndex <= budgetExhaustingRequestCount ? 0 : LONG_TAIL_RETRY_THRESHOLD_IN_MS * 2),
+        budgetClientConfig,
+        new TestMockTime());
+    exhaustRetryBudget(client, requestCount);
+
+    // The long-tail retry is skipped, and the slow original request decides the outcome
+    GetRequestContext requestContext = new GetRequestContext(false);
+    assertEquals(client.get(requestContext, "test_key").get(), SINGLE_GET_VALUE_RESPONSE);
+    assertNull(requestContext.retryContext);
+    assertEquals(requestCount.get(), budgetExhaustingRequestCount + 1);
+
+    // The error retry is skipped as well, so the failure of the original request is returned right away
+    AtomicInteger failingRequestCount = new AtomicInteger();
+    client = new RetriableAvroGenericStoreClient<>(
+        prepareDispatchingClient(budgetClientConfig, failingRequestCount, requestIndex -> true, requestIndex -> 0),
+        budgetClientConfig,
+        new TestMockTime());
+    exhaustRetryBudget(client, failingRequestCount);
+    GetRequestContext failingRequestContext = new GetRequestContext(false);
+    CompletableFuture<GenericRecord> future = client.get(failingRequestContext, "test_key");
+    assertTrue(future.isCompletedExceptionally());
+    assertNull(failingRequestContext.retryContext);
+    assertEquals(failingRequestCount.get(), budgetExhaustingRequestCount + 1);
+  }
+
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class, timeOut = TEST_TIMEOUT)
+  public void testMultiKeyRequestCompletesWhenRetryBudgetIsExhausted(boolean isCompute)
+      throws ExecutionException, InterruptedException, TimeoutException {
+    ClientConfig budgetClientConfig = clientConfigBuilder.clone()
+        .setMetricsRepository(new MetricsRepository())
+        .setLongTailRetryBudgetPercentDecimal(0.01)
+        .build();
+    AtomicInteger requestCount = new AtomicInteger();
+    RetriableAvroGenericStoreClient<String, GenericRecord> client = new RetriableAvroGenericStoreClient<>(
+        prepareDispatchingClient(budgetClientConfig, requestCount, requestIndex -> true, requestIndex -> 0),
+        budgetClientConfig,
+        new TestMockTime());
+    exhaustRetryBudget(client, requestCount);
+
+    /**
+     * The original request fails right away, and the long-tail retry is skipped once the threshold is reached, so the
+     * request completes with the failure of the original request instead of hanging.
+     */
+    CompletableFuture<Optional<Exception>> completionFuture = new CompletableFuture<>();
+    StreamingCallback callback = new StreamingCallback() {
+      @Override
+      public void onRecordReceived(Object key, Object value) {
+        fail("No record should be received");
+      }
+
+      @Override
+      public void onCompletion(Optional exception) {
+        completionFuture.complete(exception);
+      }
+    };
+    MultiKeyRequestContext requestContext;
+    if (isCompute) {
+      requestContext = new ComputeRequestContext<>(COMPUTE_REQUEST_KEYS.size(), false);
+      client.compute(
+          (ComputeRequestContext) requestContext,
+          mock(ComputeRequestWrapper.class),
+          COMPUTE_REQUEST_KEYS,
+          COMPUTE_PROJECTION_VALUE_SCHEMA,
+          callback,
+          System.nanoTime());
+    } else {
+      requestContext = new BatchGetRequestContext<>(BATCH_GET_KEYS.size(), false);
+      client.streamingBatchGet((BatchGetRequestContext) requestContext, BATCH_GET_KEYS, callback);
+    }
+
+    Optional<Exception> exception = completionFuture.get(TEST_TIMEOUT, TimeUnit.MILLISECONDS);
+    assertTrue(exception.isPresent());
+    assertEquals(exception.get().getCause().getMessage(), "Request exception");
+    assertNull(requestContext.retryContext.retryRequestContext);
+    assertEquals(requestCount.get(), 2 * RetryBudget.MIN_RETRIES_PER_WINDOW + 1);
+  }
+
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testAdaptiveThresholdReplacesStaticThresholdAfterWarmUp()
+      throws ExecutionException, InterruptedException {
+    ClientConfig adaptiveClientConfig = clientConfigBuilder.clone()
+        .setMetricsRepository(new MetricsRepository())
+        .setLongTailRetryAdaptiveThresholdEnabled(true)
+        .setLongTailRetryAdaptiveThresholdPercentile(0.5)
+        .build();
+    int warmUpRequestCount = LongTailRetryThresholdTracker.MIN_SAMPLE_COUNT;
+    AtomicInteger requestCount = new AtomicInteger();
+    AtomicLong slowRequestDelayMs = new AtomicLong();
+    TestMockTime time = new TestMockTime();
+    // The warm-up requests are fast, while a slow request takes half of the static threshold
+    RetriableAvroGenericStoreClient<String, GenericRecord> client = new RetriableAvroGenericStoreClient<>(
+        prepareDispatchingClient(
+            adaptiveClientConfig,
+            requestCount,
+            requestIndex -> false,
+            requestIndex -> slowRequestDelayMs.get()),
+        adaptiveClientConfig,
+        time);
+
+    // Before the warm-up, the static threshold applies, so the slow request isn't retried
+    slowRequestDelayMs.set(LONG_TAIL_RETRY_THRESHOLD_IN_MS / 2);
+    GetRequestContext requestContext = new GetRequestContext(false);
+    assertEquals(client.get(requestContext, "test_key").get(), SINGLE_GET_VALUE_RESPONSE);
+    assertNull(requestContext.retryContext);
+    slowRequestDelayMs.set(0);
+
+    for (int i = 0; i < warmUpRequestCount; i++) {
+      assertEquals(client.get(new GetRequestContext(false), "test_key").get(), SINGLE_GET_VALUE_RESPONSE);
+    }
+    assertEquals(requestCount.get(), warmUpRequestCount + 1);
+    // Let the threshold be refreshed from the recorded latencies
+    time.addMilliseconds(LongTailRetryThresholdTracker.THRESHOLD_REFRESH_INTERVAL_IN_MS);
+
+    // The median latency is far below the static threshold, so the same slow request is retried now
+    slowRequestDelayMs.set(LONG_TAIL_RETRY_THRESHOLD_IN_MS / 2);
+    requestContext = new GetRequestContext(false);
+    CompletableFuture<GenericRecord> future = client.get(requestContext, "test_key");
+    slowRequestDelayMs.set(0);
+    assertEquals(future.get(), SINGLE_GET_VALUE_RESPONSE);
+    assertTrue(requestContext.retryContext.longTailRetryRequestTriggered);
+    assertEquals(requestCount.get(), warmUpRequestCount + 3);
+  }
 }
@@ -0,0 +1,37 @@
+package com.linkedin.venice.fastclient;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.utils.TestMockTime;
+import org.testng.annotations.Test;
+
+
+public class RetryBudgetTest {
+  @Test
+  public void testRetryIsCappedByBudget() {
+    TestMockTime time = new TestMockTime();
+    RetryBudget retryBudget = new RetryBudget(0.1, time);
+    // The min retry count is always allowed
+    for (int i = 0; i < RetryBudget.MIN_RETRIES_PER_WINDOW; i++) {
+      assertTrue(retryBudget.tryAcquire());
+    }
+    assertFalse(retryBudget.tryAcquire());
+
+    for (int i = 0; i < 1000; i++) {
+      retryBudget.recordRequest();
+    }
+    for (int i = 0; i < 100 - RetryBudget.MIN_RETRIES_PER_WINDOW; i++) {
+      assertTrue(retryBudget.tryAcquire());
+    }
+    assertFalse(retryBudget.tryAcquire());
+
+    // The budget is still exhausted after one window since the previous window is counted as well
+    time.addMilliseconds(RetryBudget.WINDOW_SIZE_IN_MS);
+    assertFalse(retryBudget.tryAcquire());
+
+    // The budget is replenished after both windows have rotated out
+    time.addMilliseconds(RetryBudget.WINDOW_SIZE_IN_MS);
+    assertTrue(retryBudget.tryAcquire());
+  }
+}
@@ -0,0 +1,264 @@
+package com.linkedin.venice.fastclient.transport;
+
+import static org.mockito.Mockito.mock;
+
+import com.google.protobuf.ByteString;
+import com.linkedin.r2.transport.common.Client;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.exceptions.VeniceClientHttpException;
+import com.linkedin.venice.client.store.transport.TransportClientStreamingCallback;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.fastclient.GrpcClientConfig;
+import com.linkedin.venice.grpc.GrpcErrorCodes;
+import com.linkedin.venice.protocols.VeniceClientRequest;
+import com.linkedin.venice.protocols.VeniceReadServiceGrpc;
+import com.linkedin.venice.protocols.VeniceServerResponse;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class GrpcTransportClientTest {
+  private static final String SERVER_ADDRESS = "localhost:1234";
+  private static final String RESOURCE_NAME = "test_store_v1";
+  private static final int TIMEOUT_MS = 10000;
+
+  private FakeReadService readService;
+  private Server server;
+  private GrpcTransportClient transportClient;
+
+  /**
+   * Replies to the streaming calls with the configured responses, then completes the call or fails it.
+   */
+  private static class FakeReadService extends VeniceReadServiceGrpc.VeniceReadServiceImplBase {
+    private volatile String lastMethod;
+    private volatile VeniceClientRequest lastRequest;
+    private volatile List<VeniceServerResponse> responses = Collections.emptyList();
+    private volatile Status error;
+
+    @Override
+    public void batchGetStreaming(VeniceClientRequest request, StreamObserver<VeniceServerResponse> responseObserver) {
+      reply("batchGetStreaming", request, responseObserver);
+    }
+
+    @Override
+    public void computeStreaming(VeniceClientRequest request, StreamObserver<VeniceServerResponse> responseObserver) {
+      reply("computeStreaming", request, responseObserver);
+    }
+
+    private void reply(
+        String method,
+        VeniceClientRequest request,
+        StreamObserver<VeniceServerResponse> responseObserver) {
+      lastMethod = method;
+      lastRequest = request;
+      responses.forEach(responseObserver::onNext);
+      if (error == null) {
+        responseObserver.onCompleted();
+      } else {
+        responseObserver.onError(error.asRuntimeException());
+      }
+    }
+  }
+
+  /**
+   * Records everything passed to the callback, and checks that the callback is completed exactly once.
+   */
+  private static class RecordingCallback implements TransportClientStreamingCallback {
+    private final List<Map<String, String>> headers = new ArrayList<>();
+    private final List<byte[]> chunks = new ArrayList<>();
+    private final CompletableFuture<Optional<VeniceClientException>> completion = new CompletableFuture<>();
+
+    @Override
+    public void onHeaderReceived(Map<String, String> headers) {
+      this.headers.add(headers);
+    }
+
+    @Override
+    public void onDataReceived(ByteBuffer chunk) {
+      byte[] bytes = new byte[chunk.remaining()];
+      chunk.get(bytes);
+      chunks.add(bytes);
+    }
+
+    @Override
+    public void onCompletion(Optional<VeniceClientException> exception) {
+      Assert.assertTrue(completion.complete(exception), "The callback is completed more than once");
+    }
+
+    Optional<VeniceClientException> awaitCompletion() throws Exception {
+      return completion.get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @BeforeClass
+  public void setUp() throws Exception {
+    readService = new FakeReadService();
+    server = Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create()).addService(readService).build();
+    server.start();
+    GrpcClientConfig grpcClientConfig = new GrpcClientConfig.Builder().setR2Client(mock(Client.class))
+        .setNettyServerToGrpcAddressMap(Collections.singletonMap(SERVER_ADDRESS, "localhost:" + server.getPort()))
+        .build();
+    transportClient = new GrpcTransportClient(grpcClientConfig);
+  }
+
+  @AfterClass
+  public void cleanUp() throws Exception {
+    transportClient.close();
+    server.shutdownNow().awaitTermination(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+  }
+
+  @BeforeMethod
+  public void resetReadService() {
+    readService.responses = Collections.emptyList();
+    readService.error = null;
+  }
+
+  private static VeniceServerResponse createResponse(byte[] data) {
+    return VeniceServerResponse.newBuilder()
+        .setErrorCode(GrpcErrorCodes.OK)
+        .setSchemaId(1)
+        .setCompressionStrategy(CompressionStrategy.GZIP.getValue())
+        .setIsStreamingResponse(true)
+        .setData(ByteString.copyFrom(data))
+        .build();
+  }
+
+  private RecordingCallback streamPost(String action, Map<String, String> headers, byte[] requestBody) {
+    RecordingCallback callback = new RecordingCallback();
+    transportClient.streamPost(
+        "https://" + SERVER_ADDRESS + "/" + action + "/" + RESOURCE_NAME,
+        headers,
+        requestBody,
+        callback,
+        2);
+    return callback;
+  }
+
+  @Test(timeOut = TIMEOUT_MS)
+  public void testStreamingBatchGet() throws Exception {
+    readService.responses = Arrays.asList(
+        createResponse(new byte[] { 1, 2 }),
+        createResponse(new byte[] { 3 }),
+        // The last response of a call may hold no record
+        createResponse(new byte[0]));
+    RecordingCallback callback = streamPost("storage", Collections.emptyMap(), new byte[] { 10, 11 });
+
+    Assert.assertFalse(callback.awaitCompletion().isPresent());
+    Assert.assertEquals(readService.lastMethod, "batchGetStreaming");
+    VeniceClientRequest request = readService.lastRequest;
+    Assert.assertEquals(request.getResourceName(), RESOURCE_NAME);
+    Assert.assertTrue(request.getIsBatchRequest());
+    Assert.assertTrue(request.getIsStreamingRequest());
+    Assert.assertFalse(request.getIsComputeRequest());
+    Assert.assertEquals(request.getKeyBytes().toByteArray(), new byte[] { 10, 11 });
+
+    // The first response stands for the headers, and each non-empty response is a chunk
+    Assert.assertEquals(callback.headers.size(), 1);
+    Map<String, String> expectedHeaders = new HashMap<>();
+    expectedHeaders.put(HttpConstants.VENICE_SCHEMA_ID, "1");
+    expectedHeaders
+        .put(HttpConstants.VENICE_COMPRESSION_STRATEGY, Integer.toString(CompressionStrategy.GZIP.getValue()));
+    expectedHeaders.put(HttpConstants.VENICE_STREAMING_RESPONSE, "1");
+    Assert.assertEquals(callback.headers.get(0), expectedHeaders);
+    Assert.assertEquals(callback.chunks.size(), 2);
+    Assert.assertEquals(callback.chunks.get(0), new byte[] { 1, 2 });
+    Assert.assertEquals(callback.chunks.get(1), new byte[] { 3 });
+  }
+
+  @Test(timeOut = TIMEOUT_MS)
+  public void testStreamingCompute() throws Exception {
+    readService.responses = Collections.singletonList(createResponse(new byte[] { 1 }));
+    Map<String, String> headers = new HashMap<>();
+    headers.put(HttpConstants.VENICE_API_VERSION, "3");
+    headers.put(HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID, "2");
+    RecordingCallback callback = streamPost("compute", headers, new byte[] { 10 });
+
+    Assert.assertFalse(callback.awaitCompletion().isPresent());
+    Assert.assertEquals(readService.lastMethod, "computeStreaming");
+    VeniceClientRequest request = readService.lastRequest;
+    Assert.assertTrue(request.getIsComputeRequest());
+    Assert.assertTrue(request.getIsStreamingRequest());
+    Assert.assertEquals(request.getComputeApiVersion(), 3);
+    Assert.assertEquals(request.getComputeValueSchemaId(), 2);
+    Assert.assertEquals(request.getKeyBytes().toByteArray(), new byte[] { 10 });
+    Assert.assertEquals(callback.headers.size(), 1);
+    Assert.assertEquals(callback.chunks.size(), 1);
+  }
+
+  @Test(timeOut = TIMEOUT_MS)
+  public void testErrorResponseAfterFirstChunk() throws Exception {
+    // The server reports the errors raised after the first chunk in the last response
+    readService.responses = Arrays.asList(
+        createResponse(new byte[] { 1 }),
+        VeniceServerResponse.newBuilder()
+            .setErrorCode(GrpcErrorCodes.INTERNAL_ERROR)
+            .setErrorMessage("Internal Error: failed to read")
+            .build());
+    RecordingCallback callback = streamPost("storage", Collections.emptyMap(), new byte[] { 10 });
+
+    Optional<VeniceClientException> exception = callback.awaitCompletion();
+    Assert.assertTrue(exception.isPresent());
+    Assert.assertTrue(exception.get().getMessage().contains("Internal Error: failed to read"), exception.toString());
+    // The records received before the error are still handed to the callback
+    Assert.assertEquals(callback.headers.size(), 1);
+    Assert.assertEquals(callback.chunks.size(), 1);
+  }
+
+  @Test(timeOut = TIMEOUT_MS)
+  public void testCallFailedAfterFirstChunk() throws Exception {
+    readService.responses = Collections.singletonList(createResponse(new byte[] { 1 }));
+    readService.error = Status.INVALID_ARGUMENT.withDescription("Compute API version is missing");
+    RecordingCallback callback = streamPost("compute", Collections.emptyMap(), new byte[] { 10 });
+
+    Optional<VeniceClientException> exception = callback.awaitCompletion();
+    Assert.assertTrue(exception.isPresent());
+    Assert.assertTrue(exception.get() instanceof VeniceClientHttpException, exception.toString());
+    Assert.assertTrue(exception.get().getMessage().contains("Compute API version is missing"), exception.toString());
+    Assert.assertEquals(callback.headers.size(), 1);
+    Assert.assertEquals(callback.chunks.size(), 1);
+  }
+
+  @Test(timeOut = TIMEOUT_MS)
+  public void testErrorResponseBeforeFirstChunk() throws Exception {
+    readService.responses = Collections.singletonList(
+        VeniceServerResponse.newBuilder()
+            .setErrorCode(GrpcErrorCodes.BAD_REQUEST)
+            .setErrorMessage("No storage exists for: test_store")
+            .build());
+    RecordingCallback callback = streamPost("storage", Collections.emptyMap(), new byte[] { 10 });
+
+    Optional<VeniceClientException> exception = callback.awaitCompletion();
+    Assert.assertTrue(exception.isPresent());
+    Assert.assertTrue(exception.get() instanceof VeniceClientHttpException, exception.toString());
+    Assert.assertTrue(callback.headers.isEmpty());
+    Assert.assertTrue(callback.chunks.isEmpty());
+  }
+
+  @Test(timeOut = TIMEOUT_MS)
+  public void testUnsupportedStreamingAction() throws Exception {
+    RecordingCallback callback = streamPost("metadata", Collections.emptyMap(), new byte[0]);
+
+    Optional<VeniceClientException> exception = callback.awaitCompletion();
+    Assert.assertTrue(exception.isPresent());
+    Assert.assertEquals(exception.get().getMessage(), "Unsupported gRPC streaming action: metadata");
+  }
+}
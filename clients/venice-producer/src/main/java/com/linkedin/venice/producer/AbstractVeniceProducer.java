@@ -1,11 +1,14 @@
 package com.linkedin.venice.producer;
 
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_MAX_IN_FLIGHT_WRITES;
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_MAX_PENDING_WRITES;
 import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_THREAD_NUM;
 import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
 import static com.linkedin.venice.ConfigKeys.KAFKA_OVER_SSL;
 import static com.linkedin.venice.ConfigKeys.SSL_KAFKA_BOOTSTRAP_SERVERS;
 import static com.linkedin.venice.writer.VeniceWriter.APP_DEFAULT_LOGICAL_TS;
 
+import com.linkedin.venice.client.exceptions.VeniceClientRateExceededException;
 import com.linkedin.venice.controllerapi.VersionCreationResponse;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.partitioner.VenicePartitioner;
@@ -25,6 +28,7 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.BlockingQueueType;
 import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.writer.VeniceWriter;
 import com.linkedin.venice.writer.VeniceWriterFactory;
 import com.linkedin.venice.writer.VeniceWriterOptions;
@@ -35,12 +39,22 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericContainer;
 import org.apache.avro.generic.GenericRecord;
@@ -65,6 +79,10 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
 
   private SchemaReader schemaReader;
   private ThreadPoolExecutor producerExecutor;
+  private int maxInFlightWrites;
+  private Semaphore inFlightWrites;
+  private BlockingQueue<PendingWrite> pendingWrites;
+  private final Map<Schema, Integer> valueSchemaIdCache = new VeniceConcurrentHashMap<>();
   private VeniceWriter<byte[], byte[], byte[]> veniceWriter;
 
   private RecordSerializer<Object> keySerializer;
@@ -102,6 +120,9 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     if (metricsRepository != null) {
       new ThreadPoolStats(metricsRepository, producerExecutor, "client_producer_thread_pool");
     }
+    this.maxInFlightWrites = producerConfigs.getInt(CLIENT_PRODUCER_MAX_IN_FLIGHT_WRITES, 10000);
+    this.inFlightWrites = new Semaphore(maxInFlightWrites);
+    this.pendingWrites = new LinkedBlockingQueue<>(producerConfigs.getInt(CLIENT_PRODUCER_MAX_PENDING_WRITES, 100000));
     this.keySerializer = getSerializer(schemaReader.getKeySchema());
 
     VersionCreationResponse versionCreationResponse = requestTopic();
@@ -198,7 +219,7 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     }
 
     producerMetrics.recordPutRequest();
-    return CompletableFuture.supplyAsync(() -> {
+    return submitWrite(1, "requested data", callbackProvider -> {
       Schema valueSchema;
       try {
         valueSchema = getSchemaFromObject(value);
@@ -206,49 +227,89 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
         producerMetrics.recordFailedRequest();
         throw e;
       }
-      // Might block
-      int valueSchemaId;
-      Exception schemaReadException = null;
-      try {
-        valueSchemaId = schemaReader.getValueSchemaId(valueSchema);
-      } catch (Exception e) {
-        valueSchemaId = SchemaData.INVALID_VALUE_SCHEMA_ID;
-        schemaReadException = e;
-      }
-      if (valueSchemaId == SchemaData.INVALID_VALUE_SCHEMA_ID) {
-        producerMetrics.recordFailedRequest();
-        throw new VeniceException(
-            "Could not find a registered schema id for schema: " + valueSchema
-                + ". This might be transient if the schema has been registered recently.",
-            schemaReadException);
-      }
-      final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-      final Instant sendStartTime = Instant.now();
-      final PubSubProducerCallback callback = (PubSubProduceResult produceResult, Exception exception) -> {
-        Duration sendDuration = Duration.between(sendStartTime, Instant.now());
-        if (exception == null) {
-          producerMetrics.recordSuccessfulRequestWithLatency(sendDuration.toMillis());
-          completableFuture.complete(null);
-        } else {
-          producerMetrics.recordFailedRequest();
-          LOGGER.error("Failed to write the requested data to the PubSub system", exception);
-          completableFuture.completeExceptionally(exception);
-        }
-      };
+      int valueSchemaId = getValueSchemaId(valueSchema);
 
       byte[] keyBytes = keySerializer.serialize(key);
       byte[] valueBytes = getSerializer(valueSchema).serialize(value);
 
-      veniceWriter.put(keyBytes, valueBytes, valueSchemaId, logicalTime, callback);
+      veniceWriter.put(keyBytes, valueBytes, valueSchemaId, logicalTime, callbackProvider.get());
+    });
+  }
 
-      try {
-        completableFuture.get();
-      } catch (InterruptedException | ExecutionException e) {
-        throw new VeniceException(e);
+  @Override
+  public CompletableFuture<DurableWrite> asyncPutAll(Map<K, V> records) {
+    String error = validateProducer();
+    if (!StringUtils.isEmpty(error)) {
+      return getFutureCompletedExceptionally(error);
+    }
+    if (records.isEmpty()) {
+      return CompletableFuture.completedFuture(DURABLE_WRITE);
+    }
+
+    for (int i = 0; i < records.size(); i++) {
+      producerMetrics.recordPutRequest();
+    }
+    return submitWrite(records.size(), "requested data", callbackProvider -> {
+      // The records are grouped by value schema, since a batch is written with a single value schema id
+      Map<Integer, List<byte[]>> keysBySchemaId = new HashMap<>();
+      Map<Integer, List<byte[]>> valuesBySchemaId = new HashMap<>();
+      for (Map.Entry<K, V> record: records.entrySet()) {
+        Schema valueSchema;
+        int valueSchemaId;
+        try {
+          try {
+            valueSchema = getSchemaFromObject(record.getValue());
+          } catch (Exception e) {
+            producerMetrics.recordFailedRequest();
+            throw e;
+          }
+          valueSchemaId = getValueSchemaId(valueSchema);
+        } catch (Exception e) {
+          // The other records of the batch are failed as well
+          for (int i = 1; i < records.size(); i++) {
+            producerMetrics.recordFailedRequest();
+          }
+          throw e;
+        }
+        keysBySchemaId.computeIfAbsent(valueSchemaId, id -> new ArrayList<>())
+            .add(keySerializer.serialize(record.getKey()));
+        valuesBySchemaId.computeIfAbsent(valueSchemaId, id -> new ArrayList<>())
+            .add(getSerializer(valueSchema).serialize(record.getValue()));
+      }
+
+      PubSubProducerCallback callback = callbackProvider.get();
+      for (Map.Entry<Integer, List<byte[]>> entry: keysBySchemaId.entrySet()) {
+        veniceWriter.putBatch(entry.getValue(), valuesBySchemaId.get(entry.getKey()), entry.getKey(), callback);
       }
+    });
+  }
 
-      return DURABLE_WRITE;
-    }, producerExecutor);
+  /**
+   * @return the id of the value schema, which is cached since the id of a registered schema never changes.
+   */
+  private int getValueSchemaId(Schema valueSchema) {
+    Integer cachedValueSchemaId = valueSchemaIdCache.get(valueSchema);
+    if (cachedValueSchemaId != null) {
+      return cachedValueSchemaId;
+    }
+    // Might block
+    int valueSchemaId;
+    Exception schemaReadException = null;
+    try {
+      valueSchemaId = schemaReader.getValueSchemaId(valueSchema);
+    } catch (Exception e) {
+      valueSchemaId = SchemaData.INVALID_VALUE_SCHEMA_ID;
+      schemaReadException = e;
+    }
+    if (valueSchemaId == SchemaData.INVALID_VALUE_SCHEMA_ID) {
+      producerMetrics.recordFailedRequest();
+      throw new VeniceException(
+          "Could not find a registered schema id for schema: " + valueSchema
+              + ". This might be transient if the schema has been registered recently.",
+          schemaReadException);
+    }
+    valueSchemaIdCache.put(valueSchema, valueSchemaId);
+    return valueSchemaId;
   }
 
   @Override
@@ -272,33 +333,11 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     }
 
     producerMetrics.recordDeleteRequest();
-    return CompletableFuture.supplyAsync(() -> {
-      final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-      final Instant sendStartTime = Instant.now();
-      final PubSubProducerCallback callback = (PubSubProduceResult produceResult, Exception exception) -> {
-        Duration sendDuration = Duration.between(sendStartTime, Instant.now());
-        if (exception == null) {
-          producerMetrics.recordSuccessfulRequestWithLatency(sendDuration.toMillis());
-          completableFuture.complete(null);
-        } else {
-          producerMetrics.recordFailedRequest();
-          LOGGER.error("Failed to write the delete operation to the PubSub system", exception);
-          completableFuture.completeExceptionally(exception);
-        }
-      };
-
+    return submitWrite(1, "delete operation", callbackProvider -> {
       byte[] keyBytes = keySerializer.serialize(key);
 
-      veniceWriter.delete(keyBytes, logicalTime, callback);
-
-      try {
-        completableFuture.get();
-      } catch (InterruptedException | ExecutionException e) {
-        throw new VeniceException(e);
-      }
-
-      return DURABLE_WRITE;
-    }, producerExecutor);
+      veniceWriter.delete(keyBytes, logicalTime, callbackProvider.get());
+    });
   }
 
   @Override
@@ -325,7 +364,7 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     }
 
     producerMetrics.recordUpdateRequest();
-    return CompletableFuture.supplyAsync(() -> {
+    return submitWrite(1, "partial update record", callbackProvider -> {
       // Caching to avoid race conditions during processing of the function
       DerivedSchemaEntry updateSchemaEntry = schemaReader.getLatestUpdateSchema();
 
@@ -350,20 +389,6 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
       updateFunction.accept(updateBuilder);
       GenericRecord updateRecord = updateBuilder.build();
 
-      final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-      final Instant sendStartTime = Instant.now();
-      final PubSubProducerCallback callback = (PubSubProduceResult produceResult, Exception exception) -> {
-        Duration sendDuration = Duration.between(sendStartTime, Instant.now());
-        if (exception == null) {
-          producerMetrics.recordSuccessfulRequestWithLatency(sendDuration.toMillis());
-          completableFuture.complete(null);
-        } else {
-          producerMetrics.recordFailedRequest();
-          LOGGER.error("Failed to write the partial update record to the PubSub system", exception);
-          completableFuture.completeExceptionally(exception);
-        }
-      };
-
       byte[] keyBytes = keySerializer.serialize(key);
       byte[] updateBytes = getSerializer(updateSchema).serialize(updateRecord);
 
@@ -372,17 +397,144 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
           updateBytes,
           updateSchemaEntry.getValueSchemaID(),
           updateSchemaEntry.getId(),
-          callback,
+          callbackProvider.get(),
           logicalTime);
+    });
+  }
+
+  /**
+   * Runs the write on {@link #producerExecutor} once fewer than {@link #maxInFlightWrites} records are waiting for the
+   * acknowledgement of the PubSub system, without waiting for the acknowledgement itself. The returned future is
+   * completed from the {@link PubSubProducerCallback}, once all the records of the write are durable.
+   *
+   * The callers are never blocked: if {@link #pendingWrites} is full, the returned future is failed right away with a
+   * {@link VeniceClientRateExceededException}, and the caller is expected to back off.
+   */
+  private CompletableFuture<DurableWrite> submitWrite(int recordCount, String description, WriteTask writeTask) {
+    PendingWrite pendingWrite = new PendingWrite(recordCount, description, writeTask);
+    if (!pendingWrites.offer(pendingWrite)) {
+      for (int i = 0; i < recordCount; i++) {
+        producerMetrics.recordFailedRequest();
+      }
+      pendingWrite.future.completeExceptionally(
+          new VeniceClientRateExceededException(
+              "Too many writes are waiting to be sent. Retry the " + description + " later."));
+      return pendingWrite.future;
+    }
+    dispatchPendingWrites();
+    return pendingWrite.future;
+  }
+
+  private void dispatchPendingWrites() {
+    while (!pendingWrites.isEmpty()) {
+      PendingWrite pendingWrite = pendingWrites.peek();
+      if (pendingWrite == null || !inFlightWrites.tryAcquire(pendingWrite.permits)) {
+        return;
+      }
+      if (!pendingWrites.remove(pendingWrite)) {
+        // Dispatched by another thread in the meantime
+        inFlightWrites.release(pendingWrite.permits);
+        continue;
+      }
+      try {
+        producerExecutor.execute(pendingWrite);
+      } catch (RejectedExecutionException e) {
+        pendingWrite.abort(new VeniceException("Producer is already closed. New requests are not accepted.", e));
+      }
+    }
+  }
+
+  /**
+   * Completes the futures on {@link #producerExecutor}, so that the actions depending on them don't run on the I/O
+   * thread of the PubSub producer.
+   */
+  private void complete(Runnable completion) {
+    try {
+      producerExecutor.execute(completion);
+    } catch (RejectedExecutionException e) {
+      completion.run();
+    }
+  }
+
+  private interface WriteTask {
+    /**
+     * @param callbackProvider provides the callback which must be passed to the {@link VeniceWriter}, and which
+     *                         expects to be invoked once per record of the write.
+     */
+    void write(Supplier<PubSubProducerCallback> callbackProvider);
+  }
 
+  /**
+   * The permits of a write are only released once all its records have been acknowledged, successfully or not, since
+   * they are in flight until then. A failure of one of the records fails the future right away though.
+   */
+  private class PendingWrite implements Runnable {
+    private final CompletableFuture<DurableWrite> future = new CompletableFuture<>();
+    private final int permits;
+    private final String description;
+    private final WriteTask writeTask;
+    private final AtomicInteger remainingRecordCount;
+    private final AtomicBoolean failed = new AtomicBoolean(false);
+
+    private PendingWrite(int recordCount, String description, WriteTask writeTask) {
+      // A batch larger than the limit takes all the permits, otherwise it would never be dispatched
+      this.permits = Math.min(recordCount, maxInFlightWrites);
+      this.description = description;
+      this.writeTask = writeTask;
+      this.remainingRecordCount = new AtomicInteger(recordCount);
+    }
+
+    @Override
+    public void run() {
       try {
-        completableFuture.get();
-      } catch (InterruptedException | ExecutionException e) {
-        throw new VeniceException(e);
+        writeTask.write(this::createCallback);
+      } catch (Exception e) {
+        abort(e);
+      }
+    }
+
+    private PubSubProducerCallback createCallback() {
+      final Instant sendStartTime = Instant.now();
+      return (PubSubProduceResult produceResult, Exception exception) -> {
+        Duration sendDuration = Duration.between(sendStartTime, Instant.now());
+        if (exception == null) {
+          producerMetrics.recordSuccessfulRequestWithLatency(sendDuration.toMillis());
+        } else {
+          producerMetrics.recordFailedRequest();
+          LOGGER.error("Failed to write the {} to the PubSub system", description, exception);
+          fail(exception instanceof VeniceException ? exception : new VeniceException(exception));
+        }
+        if (remainingRecordCount.decrementAndGet() == 0) {
+          release();
+          if (!failed.get()) {
+            complete(() -> future.complete(DURABLE_WRITE));
+          }
+        }
+      };
+    }
+
+    private void fail(Exception exception) {
+      if (failed.compareAndSet(false, true)) {
+        complete(() -> future.completeExceptionally(exception));
       }
+    }
 
-      return DURABLE_WRITE;
-    }, producerExecutor);
+    /**
+     * Fails a write which could not hand all its records to the {@link VeniceWriter}. The records which were not handed
+     * over will never be acknowledged, so the permits are released right away instead of waiting for them, and the
+     * acknowledgements of the records already handed over are ignored.
+     */
+    private void abort(Exception exception) {
+      fail(exception);
+      if (remainingRecordCount.getAndSet(0) > 0) {
+        release();
+      }
+    }
+
+    private void release() {
+      inFlightWrites.release(permits);
+      dispatchPendingWrites();
+    }
   }
 
   /**
@@ -412,6 +564,13 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
   @Override
   public void close() throws IOException {
     closed = true;
+    if (pendingWrites != null) {
+      PendingWrite pendingWrite;
+      while ((pendingWrite = pendingWrites.poll()) != null) {
+        pendingWrite.future
+            .completeExceptionally(new VeniceException("Producer was closed before the write was sent."));
+      }
+    }
     if (producerExecutor != null) {
       producerExecutor.shutdownNow();
       try {
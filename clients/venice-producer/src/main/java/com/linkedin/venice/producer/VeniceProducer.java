@@ -2,6 +2,7 @@ package com.linkedin.venice.producer;
 
 import com.linkedin.venice.writer.update.UpdateBuilder;
 import java.io.Closeable;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
@@ -48,6 +49,16 @@ public interface VeniceProducer<K, V> extends Closeable {
    */
   CompletableFuture<DurableWrite> asyncPut(long logicalTime, K key, V value);
 
+  /**
+   * A write operation where full values are written to replace the existing values of several keys. The records are
+   * produced as batches, which is cheaper than a call to {@link #asyncPut(Object, Object)} per record. The time at
+   * which the records are produced is used as their logical timestamp.
+   * @param records The full values that need to be written, per key
+   * @return A {@link CompletableFuture} that completes when all the write operations are durable, or exceptionally as
+   *         soon as one of them fails. It does not imply that the data is available to readers.
+   */
+  CompletableFuture<DurableWrite> asyncPutAll(Map<K, V> records);
+
   /**
    * A write operation to delete the record for a key.
    * @param key The key associated with the record that should be deleted
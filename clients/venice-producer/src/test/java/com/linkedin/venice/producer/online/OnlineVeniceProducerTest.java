@@ -1,5 +1,7 @@
 package com.linkedin.venice.producer.online;
 
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_MAX_IN_FLIGHT_WRITES;
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_MAX_PENDING_WRITES;
 import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_SCHEMA_REFRESH_INTERVAL_SECONDS;
 import static com.linkedin.venice.serialization.avro.AvroProtocolDefinition.KAFKA_MESSAGE_ENVELOPE;
 import static com.linkedin.venice.utils.TestWriteUtils.loadFileAsStringQuietlyWithErrorLogged;
@@ -10,6 +12,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
@@ -23,6 +26,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.avroutil1.compatibility.RandomRecordGenerator;
 import com.linkedin.avroutil1.compatibility.RecordGenerationConfig;
+import com.linkedin.venice.client.exceptions.VeniceClientRateExceededException;
 import com.linkedin.venice.client.store.ClientConfig;
 import com.linkedin.venice.client.store.ClientFactory;
 import com.linkedin.venice.client.store.ClientFactoryTestUtils;
@@ -67,10 +71,13 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import org.apache.avro.Schema;
@@ -346,6 +353,183 @@ public class OnlineVeniceProducerTest {
     }
   }
 
+  @Test
+  public void testPutAll() throws IOException, ExecutionException, InterruptedException {
+    ClientConfig storeClientConfig = configureMocksAndGetStoreConfig(storeName);
+
+    MetricsRepository metricsRepository = new MetricsRepository();
+    Properties backendConfigs = new Properties();
+    try (TestOnlineVeniceProducer producer =
+        new TestOnlineVeniceProducer(storeClientConfig, new VeniceProperties(backendConfigs), metricsRepository)) {
+      Map<String, Object> records = new HashMap<>();
+      records.put("KEY1", mockValue1);
+      records.put("KEY2", mockValue2);
+      records.put("KEY3", mockValue1);
+
+      producer.asyncPutAll(records).get();
+
+      // One batch per value schema
+      ArgumentCaptor<List<byte[]>> keysArg = ArgumentCaptor.forClass(List.class);
+      ArgumentCaptor<List<byte[]>> valuesArg = ArgumentCaptor.forClass(List.class);
+      verify(producer.mockVeniceWriter, times(1)).putBatch(keysArg.capture(), valuesArg.capture(), eq(1), any());
+      assertEquals(keysArg.getValue().size(), 2);
+      for (byte[] valueBytes: valuesArg.getValue()) {
+        assertEquals(valueBytes, value1Serializer.serialize(mockValue1));
+      }
+      verify(producer.mockVeniceWriter, times(1)).putBatch(keysArg.capture(), valuesArg.capture(), eq(2), any());
+      assertEquals(keysArg.getValue().size(), 1);
+      assertEquals(keysArg.getValue().get(0), keySerializer.serialize("KEY2"));
+      assertEquals(valuesArg.getValue().get(0), value2Serializer.serialize(mockValue2));
+      verify(producer.mockVeniceWriter, never()).put(any(), any(), anyInt(), anyLong(), any());
+
+      Assert.assertTrue(metricsRepository.getMetric(PUT_OPERATION_METRIC_NAME).value() > 0.0);
+      Assert.assertTrue(metricsRepository.getMetric(SUCCESS_OPERATION_METRIC_NAME).value() > 0.0);
+      Assert.assertEquals(metricsRepository.getMetric(FAILED_OPERATION_METRIC_NAME).value(), 0.0);
+      Assert.assertEquals(metricsRepository.getMetric(MIN_PENDING_OPERATION_METRIC_NAME).value(), 0.0);
+      Assert.assertEquals(metricsRepository.getMetric(MAX_PENDING_OPERATION_METRIC_NAME).value(), 3.0);
+
+      // A batch with an invalid value fails as a whole
+      records.put("KEY4", true);
+      assertThrowsExceptionFromFuture(VeniceException.class, () -> producer.asyncPutAll(records).get());
+      verify(producer.mockVeniceWriter, times(2)).putBatch(any(), any(), anyInt(), any());
+    }
+  }
+
+  @Test
+  public void testPutAllWithFailedWrite() throws IOException {
+    ClientConfig storeClientConfig = configureMocksAndGetStoreConfig(storeName);
+
+    MetricsRepository metricsRepository = new MetricsRepository();
+    Properties backendConfigs = new Properties();
+    try (TestOnlineVeniceProducer producer = new TestOnlineVeniceProducer(
+        storeClientConfig,
+        new VeniceProperties(backendConfigs),
+        metricsRepository,
+        true)) {
+      Map<String, Object> records = new HashMap<>();
+      records.put("KEY1", mockValue1);
+      records.put("KEY2", mockValue2);
+      assertThrowsExceptionFromFuture(VeniceException.class, () -> producer.asyncPutAll(records).get());
+
+      Assert.assertEquals(metricsRepository.getMetric(SUCCESS_OPERATION_METRIC_NAME).value(), 0.0);
+      Assert.assertTrue(metricsRepository.getMetric(FAILED_OPERATION_METRIC_NAME).value() > 0.0);
+      Assert.assertEquals(metricsRepository.getMetric(MIN_PENDING_OPERATION_METRIC_NAME).value(), 0.0);
+    }
+  }
+
+  @Test
+  public void testMaxInFlightWrites() throws IOException, ExecutionException, InterruptedException {
+    ClientConfig storeClientConfig = configureMocksAndGetStoreConfig(storeName);
+
+    MetricsRepository metricsRepository = new MetricsRepository();
+    Properties backendConfigs = new Properties();
+    backendConfigs.put(CLIENT_PRODUCER_MAX_IN_FLIGHT_WRITES, 1);
+    try (TestOnlineVeniceProducer producer =
+        new TestOnlineVeniceProducer(storeClientConfig, new VeniceProperties(backendConfigs), metricsRepository)) {
+      // Hold on to the callbacks to control when the writes are acknowledged
+      Queue<PubSubProducerCallback> callbacks = new ConcurrentLinkedQueue<>();
+      doAnswer(invocation -> {
+        callbacks.add(invocation.getArgument(4));
+        return null;
+      }).when(producer.mockVeniceWriter).put(any(), any(), anyInt(), anyLong(), any());
+
+      CompletableFuture<DurableWrite> firstWrite = producer.asyncPut("KEY1", mockValue1);
+      CompletableFuture<DurableWrite> secondWrite = producer.asyncPut("KEY2", mockValue2);
+      TestUtils.waitForNonDeterministicAssertion(
+          10,
+          TimeUnit.SECONDS,
+          () -> verify(producer.mockVeniceWriter, times(1)).put(any(), any(), anyInt(), anyLong(), any()));
+
+      // The second write isn't sent until the first one is acknowledged
+      Assert.assertFalse(firstWrite.isDone());
+      Assert.assertFalse(secondWrite.isDone());
+      verify(producer.mockVeniceWriter, times(1)).put(any(), any(), anyInt(), anyLong(), any());
+
+      callbacks.poll().onCompletion(null, null);
+      firstWrite.get();
+      TestUtils.waitForNonDeterministicAssertion(
+          10,
+          TimeUnit.SECONDS,
+          () -> verify(producer.mockVeniceWriter, times(2)).put(any(), any(), anyInt(), anyLong(), any()));
+      Assert.assertFalse(secondWrite.isDone());
+
+      callbacks.poll().onCompletion(null, null);
+      secondWrite.get();
+    }
+  }
+
+  @Test
+  public void testMaxPendingWrites() throws IOException, ExecutionException, InterruptedException {
+    ClientConfig storeClientConfig = configureMocksAndGetStoreConfig(storeName);
+
+    MetricsRepository metricsRepository = new MetricsRepository();
+    Properties backendConfigs = new Properties();
+    backendConfigs.put(CLIENT_PRODUCER_MAX_IN_FLIGHT_WRITES, 1);
+    backendConfigs.put(CLIENT_PRODUCER_MAX_PENDING_WRITES, 1);
+    try (TestOnlineVeniceProducer producer =
+        new TestOnlineVeniceProducer(storeClientConfig, new VeniceProperties(backendConfigs), metricsRepository)) {
+      Queue<PubSubProducerCallback> callbacks = new ConcurrentLinkedQueue<>();
+      doAnswer(invocation -> {
+        callbacks.add(invocation.getArgument(4));
+        return null;
+      }).when(producer.mockVeniceWriter).put(any(), any(), anyInt(), anyLong(), any());
+
+      CompletableFuture<DurableWrite> firstWrite = producer.asyncPut("KEY1", mockValue1);
+      TestUtils.waitForNonDeterministicAssertion(
+          10,
+          TimeUnit.SECONDS,
+          () -> verify(producer.mockVeniceWriter, times(1)).put(any(), any(), anyInt(), anyLong(), any()));
+      // The second write waits for the first one, and there is no room left for a third one
+      CompletableFuture<DurableWrite> secondWrite = producer.asyncPut("KEY2", mockValue2);
+      assertThrowsExceptionFromFuture(
+          VeniceClientRateExceededException.class,
+          () -> producer.asyncPut("KEY3", mockValue1).get());
+
+      callbacks.poll().onCompletion(null, null);
+      firstWrite.get();
+      TestUtils.waitForNonDeterministicAssertion(
+          10,
+          TimeUnit.SECONDS,
+          () -> verify(producer.mockVeniceWriter, times(2)).put(any(), any(), anyInt(), anyLong(), any()));
+      callbacks.poll().onCompletion(null, null);
+      secondWrite.get();
+    }
+  }
+
+  @Test
+  public void testPermitsOfFailedBatchAreReleasedOnceAllRecordsAreAcknowledged()
+      throws IOException, ExecutionException, InterruptedException {
+    ClientConfig storeClientConfig = configureMocksAndGetStoreConfig(storeName);
+
+    MetricsRepository metricsRepository = new MetricsRepository();
+    Properties backendConfigs = new Properties();
+    backendConfigs.put(CLIENT_PRODUCER_MAX_IN_FLIGHT_WRITES, 2);
+    try (TestOnlineVeniceProducer producer =
+        new TestOnlineVeniceProducer(storeClientConfig, new VeniceProperties(backendConfigs), metricsRepository)) {
+      Queue<PubSubProducerCallback> callbacks = new ConcurrentLinkedQueue<>();
+      doAnswer(invocation -> {
+        callbacks.add(invocation.getArgument(3));
+        return null;
+      }).when(producer.mockVeniceWriter).putBatch(any(), any(), anyInt(), any());
+
+      Map<String, Object> records = new HashMap<>();
+      records.put("KEY1", mockValue1);
+      records.put("KEY3", mockValue1);
+      CompletableFuture<DurableWrite> batchWrite = producer.asyncPutAll(records);
+      TestUtils.waitForNonDeterministicAssertion(10, TimeUnit.SECONDS, () -> assertEquals(callbacks.size(), 1));
+      PubSubProducerCallback batchCallback = callbacks.poll();
+
+      // The first failed record fails the batch, while the other record of the batch is still in flight
+      batchCallback.onCompletion(null, new VeniceException());
+      assertThrowsExceptionFromFuture(VeniceException.class, batchWrite::get);
+      CompletableFuture<DurableWrite> nextWrite = producer.asyncPut("KEY2", mockValue2);
+      verify(producer.mockVeniceWriter, after(500).never()).put(any(), any(), anyInt(), anyLong(), any());
+
+      batchCallback.onCompletion(null, null);
+      nextWrite.get();
+    }
+  }
+
   @Test
   public void testDelete() throws IOException, ExecutionException, InterruptedException {
     ClientConfig storeClientConfig = configureMocksAndGetStoreConfig(storeName);
@@ -1050,6 +1234,15 @@ public class OnlineVeniceProducerTest {
           .update(any(), any(), anyInt(), anyInt(), any());
       doAnswer(getPubSubProducerCallbackAnswer(failPubSubWrites, 4)).when(mockVeniceWriter)
           .update(any(), any(), anyInt(), anyInt(), any(), anyLong());
+
+      // The callback of a batch is invoked once per record
+      doAnswer(invocation -> {
+        List<?> keys = invocation.getArgument(0);
+        for (int i = 0; i < keys.size(); i++) {
+          getPubSubProducerCallbackAnswer(failPubSubWrites, 3).answer(invocation);
+        }
+        return null;
+      }).when(mockVeniceWriter).putBatch(any(), any(), anyInt(), any());
     }
 
     private static Answer getPubSubProducerCallbackAnswer(boolean error, int callbackArgIndex) {
@@ -0,0 +1,722 @@
+package com.linkedin.venice.hadoop;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.Utils;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.io.FileUtils;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.hadoop.io.RawComparator;
+import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.io.WritableUtils;
+import org.apache.hadoop.mapred.Counters;
+import org.apache.hadoop.mapred.InputFormat;
+import org.apache.hadoop.mapred.InputSplit;
+import org.apache.hadoop.mapred.JobClient;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.JobID;
+import org.apache.hadoop.mapred.Mapper;
+import org.apache.hadoop.mapred.OutputCollector;
+import org.apache.hadoop.mapred.Partitioner;
+import org.apache.hadoop.mapred.RecordReader;
+import org.apache.hadoop.mapred.RecordWriter;
+import org.apache.hadoop.mapred.Reducer;
+import org.apache.hadoop.mapred.Reporter;
+import org.apache.hadoop.mapred.RunningJob;
+import org.apache.hadoop.mapred.TaskAttemptID;
+import org.apache.hadoop.mapred.TaskID;
+import org.apache.hadoop.mapreduce.TaskType;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link JobClientWrapper} which runs the map -> partition -> sort -> reduce pipeline of a job in the current process
+ * instead of submitting it to a MapReduce cluster, reusing the mapper, partitioner and reducer configured in the
+ * {@link JobConf}, e.g. {@link VeniceAvroMapper}, {@link VeniceMRPartitioner} and {@link VeniceReducer}.
+ *
+ * The input splits are mapped in parallel on a fixed thread pool. Each map task serializes its output into in-memory
+ * per-partition buffers, and whenever they grow over the spill threshold, sorts them with the job's output key
+ * comparator and spills them to a single file in the local spill directory, with one segment per partition. Once all
+ * the map tasks are done, the partitions are reduced in parallel on the same thread pool, each of them merging its
+ * segments of all the spill files and grouping the values with the job's value grouping comparator. Since every
+ * running map task has its own buffers, the memory footprint of the map output is bounded by the spill threshold times
+ * the parallelism, regardless of the size of the input.
+ *
+ * This skips the scheduling overhead of MapReduce, which dominates the push time of small and mid-size inputs, and
+ * allows running a push job without a cluster. The differences with MapReduce are:
+ * 1. Map output keys and values must be {@link Writable}.
+ * 2. Combiners are not run, which is allowed by the MapReduce contract.
+ * 3. Failed tasks are not retried, and fail the job right away.
+ * 4. Map-only jobs are delegated to {@link #mapOnlyJobClientWrapper}, since their output usually needs to be committed
+ *    by the output format.
+ */
+public class LocalJobClientWrapper implements JobClientWrapper {
+  private static final Logger LOGGER = LogManager.getLogger(LocalJobClientWrapper.class);
+  private static final AtomicInteger JOB_COUNTER = new AtomicInteger();
+  /**
+   * Rough per-record memory overhead of the map output buffers on top of the serialized bytes.
+   */
+  private static final int RECORD_OVERHEAD_IN_BYTES = 48;
+  private static final int END_OF_SEGMENT = -1;
+  private static final long TASK_TERMINATION_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(1);
+
+  private final int parallelism;
+  private final long spillThresholdInBytes;
+  private final File spillDirectory;
+  private final JobClientWrapper mapOnlyJobClientWrapper;
+
+  public LocalJobClientWrapper(int parallelism, long spillThresholdInBytes, File spillDirectory) {
+    this(parallelism, spillThresholdInBytes, spillDirectory, new DefaultJobClientWrapper());
+  }
+
+  LocalJobClientWrapper(
+      int parallelism,
+      long spillThresholdInBytes,
+      File spillDirectory,
+      JobClientWrapper mapOnlyJobClientWrapper) {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("Parallelism must be positive, but got: " + parallelism);
+    }
+    if (spillThresholdInBytes <= 0) {
+      throw new IllegalArgumentException("Spill threshold must be positive, but got: " + spillThresholdInBytes);
+    }
+    this.parallelism = parallelism;
+    this.spillThresholdInBytes = spillThresholdInBytes;
+    this.spillDirectory = spillDirectory;
+    this.mapOnlyJobClientWrapper = mapOnlyJobClientWrapper;
+  }
+
+  @Override
+  public RunningJob runJobWithConfig(JobConf jobConf) throws IOException {
+    if (jobConf.getNumReduceTasks() == 0) {
+      LOGGER.info("Job: {} has no reducer, delegating it to {}", jobConf.getJobName(), mapOnlyJobClientWrapper);
+      return mapOnlyJobClientWrapper.runJobWithConfig(jobConf);
+    }
+    JobID jobId = new JobID("local" + System.currentTimeMillis(), JOB_COUNTER.incrementAndGet());
+    LocalRunningJob runningJob = new LocalRunningJob(jobConf, jobId);
+    if (!spillDirectory.exists() && !spillDirectory.mkdirs()) {
+      throw new IOException("Failed to create the spill directory: " + spillDirectory);
+    }
+    File jobSpillDirectory = Files.createTempDirectory(spillDirectory.toPath(), jobId.toString()).toFile();
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory("LocalPushEngine"));
+    try {
+      long startTimeMs = System.currentTimeMillis();
+      List<SpillFile> spillFiles = runMapPhase(jobConf, jobId, runningJob.getCounters(), jobSpillDirectory, executor);
+      LOGGER.info(
+          "Map phase of job: {} finished in {} ms with {} spill file(s)",
+          jobId,
+          System.currentTimeMillis() - startTimeMs,
+          spillFiles.size());
+      startTimeMs = System.currentTimeMillis();
+      runReducePhase(jobConf, runningJob, spillFiles, executor);
+      LOGGER.info("Reduce phase of job: {} finished in {} ms", jobId, System.currentTimeMillis() - startTimeMs);
+    } finally {
+      shutdownAndAwaitTermination(executor);
+      FileUtils.deleteQuietly(jobSpillDirectory);
+    }
+    return runningJob;
+  }
+
+  private List<SpillFile> runMapPhase(
+      JobConf jobConf,
+      JobID jobId,
+      Counters counters,
+      File jobSpillDirectory,
+      ExecutorService executor) throws IOException {
+    InputSplit[] splits = jobConf.getInputFormat().getSplits(jobConf, parallelism);
+    LOGGER.info("Running {} map task(s) of job: {} with parallelism: {}", splits.length, jobId, parallelism);
+    List<Future<List<SpillFile>>> mapTasks = new ArrayList<>(splits.length);
+    for (int i = 0; i < splits.length; i++) {
+      TaskID taskId = new TaskID(jobId, TaskType.MAP, i);
+      InputSplit split = splits[i];
+      mapTasks.add(executor.submit(() -> runMapTask(jobConf, taskId, split, counters, jobSpillDirectory)));
+    }
+    List<SpillFile> spillFiles = new ArrayList<>();
+    for (List<SpillFile> mapTaskSpillFiles: waitForTasks(mapTasks)) {
+      spillFiles.addAll(mapTaskSpillFiles);
+    }
+    return spillFiles;
+  }
+
+  private void runReducePhase(
+      JobConf jobConf,
+      LocalRunningJob runningJob,
+      List<SpillFile> spillFiles,
+      ExecutorService executor) throws IOException {
+    int partitionCount = jobConf.getNumReduceTasks();
+    List<Future<Void>> reduceTasks = new ArrayList<>(partitionCount);
+    for (int partition = 0; partition < partitionCount; partition++) {
+      TaskID taskId = new TaskID(runningJob.getID(), TaskType.REDUCE, partition);
+      int reducePartition = partition;
+      reduceTasks.add(executor.submit(() -> {
+        runReduceTask(jobConf, taskId, reducePartition, spillFiles, runningJob);
+        return null;
+      }));
+    }
+    waitForTasks(reduceTasks);
+  }
+
+  private static <T> List<T> waitForTasks(List<Future<T>> tasks) throws IOException {
+    List<T> results = new ArrayList<>(tasks.size());
+    try {
+      for (Future<T> task: tasks) {
+        results.add(task.get());
+      }
+      return results;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VeniceException("Interrupted while waiting for the local tasks to finish", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new VeniceException("Local task failed", cause);
+    } finally {
+      // Stop the remaining tasks early if any of them failed
+      for (Future<T> task: tasks) {
+        task.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * Waits for the tasks which were still running after a failure, so they don't write into the spill directory while it
+   * gets deleted.
+   */
+  private static void shutdownAndAwaitTermination(ExecutorService executor) {
+    executor.shutdownNow();
+    try {
+      if (!executor.awaitTermination(TASK_TERMINATION_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        LOGGER.warn("Some local tasks are still running after {} ms", TASK_TERMINATION_TIMEOUT_MS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static JobConf getTaskConf(JobConf jobConf, TaskID taskId) {
+    JobConf taskConf = new JobConf(jobConf);
+    taskConf.set(VeniceReducer.MAP_REDUCE_JOB_ID_PROP, taskId.getJobID().toString());
+    taskConf.set(AbstractMapReduceTask.MAPRED_TASK_ID_PROP_NAME, new TaskAttemptID(taskId, 0).toString());
+    return taskConf;
+  }
+
+  private List<SpillFile> runMapTask(
+      JobConf jobConf,
+      TaskID taskId,
+      InputSplit split,
+      Counters counters,
+      File jobSpillDirectory) throws IOException {
+    JobConf taskConf = getTaskConf(jobConf, taskId);
+    LocalReporter reporter = new LocalReporter(counters, split);
+    Mapper mapper = ReflectionUtils.newInstance(taskConf.getMapperClass(), taskConf);
+    Partitioner partitioner = ReflectionUtils.newInstance(taskConf.getPartitionerClass(), taskConf);
+    SortingCollector collector = new SortingCollector(
+        partitioner,
+        taskConf.getNumReduceTasks(),
+        taskConf.getOutputKeyComparator(),
+        spillThresholdInBytes,
+        jobSpillDirectory,
+        "map-" + taskId.getId());
+    InputFormat inputFormat = taskConf.getInputFormat();
+    boolean succeeded = false;
+    try {
+      RecordReader recordReader = inputFormat.getRecordReader(split, taskConf, reporter);
+      try {
+        Object key = recordReader.createKey();
+        Object value = recordReader.createValue();
+        while (recordReader.next(key, value)) {
+          mapper.map(key, value, collector, reporter);
+        }
+      } finally {
+        recordReader.close();
+      }
+      // The mapper may still emit records when closing
+      mapper.close();
+      succeeded = true;
+    } finally {
+      if (!succeeded) {
+        Utils.closeQuietlyWithErrorLogged(mapper);
+      }
+    }
+    reporter.setProgress(1.0f);
+    return collector.spillAll();
+  }
+
+  private void runReduceTask(
+      JobConf jobConf,
+      TaskID taskId,
+      int partition,
+      List<SpillFile> spillFiles,
+      LocalRunningJob runningJob) throws IOException {
+    JobConf taskConf = getTaskConf(jobConf, taskId);
+    LocalReporter reporter = new LocalReporter(runningJob.getCounters(), null);
+    // Instantiate without a config to be able to wire the local job into the reducer before configuring it
+    Reducer reducer = ReflectionUtils.newInstance(taskConf.getReducerClass(), null);
+    if (reducer instanceof VeniceReducer) {
+      // The reducer reads the input size from the job counters to check the storage quota
+      ((VeniceReducer) reducer).setHadoopJobClientProvider(job -> new LocalJobClient(runningJob));
+    }
+    reducer.configure(taskConf);
+
+    String outputName = String.format("part-%05d", partition);
+    RecordWriter recordWriter =
+        taskConf.getOutputFormat().getRecordWriter(FileSystem.get(taskConf), taskConf, outputName, reporter);
+    OutputCollector outputCollector = recordWriter::write;
+    Writable key = (Writable) ReflectionUtils.newInstance(taskConf.getMapOutputKeyClass(), taskConf);
+    Writable value = (Writable) ReflectionUtils.newInstance(taskConf.getMapOutputValueClass(), taskConf);
+    boolean succeeded = false;
+    try (RecordMerger merger = new RecordMerger(spillFiles, partition, taskConf.getOutputKeyComparator())) {
+      RawComparator groupingComparator = taskConf.getOutputValueGroupingComparator();
+      boolean hasRecord = merger.next();
+      while (hasRecord) {
+        GroupedValuesIterator values = new GroupedValuesIterator(merger, groupingComparator, key, value);
+        reducer.reduce(key, values, outputCollector, reporter);
+        hasRecord = values.skipToNextGroup();
+      }
+      // The reducer relies on the progress to decide whether all the input was processed when closing
+      reporter.setProgress(1.0f);
+      reducer.close();
+      succeeded = true;
+    } finally {
+      if (!succeeded) {
+        Utils.closeQuietlyWithErrorLogged(reducer);
+      }
+      recordWriter.close(reporter);
+    }
+  }
+
+  /**
+   * A spill of a map task, which holds the sorted records of each partition in a segment starting at the partition's
+   * offset and terminated by {@link #END_OF_SEGMENT}.
+   */
+  private static class SpillFile {
+    private final File file;
+    private final long[] segmentOffsets;
+    private final boolean[] emptySegments;
+
+    SpillFile(File file, long[] segmentOffsets, boolean[] emptySegments) {
+      this.file = file;
+      this.segmentOffsets = segmentOffsets;
+      this.emptySegments = emptySegments;
+    }
+  }
+
+  /**
+   * A map output record, serialized as the key followed by the value.
+   */
+  private static class SerializedRecord {
+    private final byte[] bytes;
+    private final int keyLength;
+
+    SerializedRecord(byte[] bytes, int keyLength) {
+      this.bytes = bytes;
+      this.keyLength = keyLength;
+    }
+  }
+
+  /**
+   * Collects the output of a map task into per-partition buffers, and spills them sorted to local disk.
+   */
+  private static class SortingCollector implements OutputCollector<Writable, Writable> {
+    private final Partitioner partitioner;
+    private final RawComparator sortComparator;
+    private final long spillThresholdInBytes;
+    private final File spillDirectory;
+    private final String spillFilePrefix;
+    private final List<SerializedRecord>[] partitionBuffers;
+    private final DataOutputBuffer serializationBuffer = new DataOutputBuffer();
+    private final List<SpillFile> spillFiles = new ArrayList<>();
+    private long bufferedBytes = 0;
+
+    SortingCollector(
+        Partitioner partitioner,
+        int partitionCount,
+        RawComparator sortComparator,
+        long spillThresholdInBytes,
+        File spillDirectory,
+        String spillFilePrefix) {
+      this.partitioner = partitioner;
+      this.sortComparator = sortComparator;
+      this.spillThresholdInBytes = spillThresholdInBytes;
+      this.spillDirectory = spillDirectory;
+      this.spillFilePrefix = spillFilePrefix;
+      this.partitionBuffers = new List[partitionCount];
+      for (int i = 0; i < partitionCount; i++) {
+        partitionBuffers[i] = new ArrayList<>();
+      }
+    }
+
+    @Override
+    public void collect(Writable key, Writable value) throws IOException {
+      int partition = partitioner.getPartition(key, value, partitionBuffers.length);
+      if (partition < 0 || partition >= partitionBuffers.length) {
+        throw new VeniceException(
+            "Partitioner returned partition: " + partition + ", which is out of range [0, " + partitionBuffers.length
+                + ")");
+      }
+      // Keys and values are usually reused by the mapper, so they must be serialized right away
+      serializationBuffer.reset();
+      key.write(serializationBuffer);
+      int keyLength = serializationBuffer.getLength();
+      value.write(serializationBuffer);
+      byte[] bytes = new byte[serializationBuffer.getLength()];
+      System.arraycopy(serializationBuffer.getData(), 0, bytes, 0, bytes.length);
+      partitionBuffers[partition].add(new SerializedRecord(bytes, keyLength));
+      bufferedBytes += bytes.length + RECORD_OVERHEAD_IN_BYTES;
+      if (bufferedBytes >= spillThresholdInBytes) {
+        spill();
+      }
+    }
+
+    List<SpillFile> spillAll() throws IOException {
+      if (bufferedBytes > 0) {
+        spill();
+      }
+      return spillFiles;
+    }
+
+    private void spill() throws IOException {
+      File file = new File(spillDirectory, spillFilePrefix + "-spill-" + spillFiles.size());
+      long[] segmentOffsets = new long[partitionBuffers.length];
+      boolean[] emptySegments = new boolean[partitionBuffers.length];
+      long offset = 0;
+      try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+        for (int partition = 0; partition < partitionBuffers.length; partition++) {
+          List<SerializedRecord> records = partitionBuffers[partition];
+          segmentOffsets[partition] = offset;
+          emptySegments[partition] = records.isEmpty();
+          records.sort(
+              (r1, r2) -> sortComparator.compare(r1.bytes, 0, r1.keyLength, r2.bytes, 0, r2.keyLength));
+          for (SerializedRecord record: records) {
+            WritableUtils.writeVInt(output, record.keyLength);
+            WritableUtils.writeVInt(output, record.bytes.length - record.keyLength);
+            output.write(record.bytes);
+            offset += WritableUtils.getVIntSize(record.keyLength)
+                + WritableUtils.getVIntSize(record.bytes.length - record.keyLength) + record.bytes.length;
+          }
+          WritableUtils.writeVInt(output, END_OF_SEGMENT);
+          offset += WritableUtils.getVIntSize(END_OF_SEGMENT);
+          partitionBuffers[partition] = new ArrayList<>();
+        }
+      }
+      spillFiles.add(new SpillFile(file, segmentOffsets, emptySegments));
+      bufferedBytes = 0;
+    }
+  }
+
+  /**
+   * Reads the records of one partition from a {@link SpillFile}, in the order they were spilled.
+   */
+  private static class SegmentReader implements Closeable {
+    private final DataInputStream input;
+    private byte[] recordBytes = new byte[1024];
+    private int keyLength;
+    private int valueLength;
+
+    SegmentReader(SpillFile spillFile, int partition) throws IOException {
+      FileInputStream fileInput = new FileInputStream(spillFile.file);
+      try {
+        fileInput.getChannel().position(spillFile.segmentOffsets[partition]);
+      } catch (IOException e) {
+        fileInput.close();
+        throw e;
+      }
+      this.input = new DataInputStream(new BufferedInputStream(fileInput));
+    }
+
+    boolean next() throws IOException {
+      keyLength = WritableUtils.readVInt(input);
+      if (keyLength == END_OF_SEGMENT) {
+        return false;
+      }
+      valueLength = WritableUtils.readVInt(input);
+      if (recordBytes.length < keyLength + valueLength) {
+        recordBytes = new byte[Math.max(keyLength + valueLength, 2 * recordBytes.length)];
+      }
+      input.readFully(recordBytes, 0, keyLength + valueLength);
+      return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+      input.close();
+    }
+  }
+
+  /**
+   * Merges the sorted segments of one partition from all the spill files into a single sorted stream of records.
+   */
+  private static class RecordMerger implements Closeable {
+    private final RawComparator sortComparator;
+    private final List<SegmentReader> readers = new ArrayList<>();
+    private final PriorityQueue<SegmentReader> queue;
+    private SegmentReader current = null;
+
+    RecordMerger(List<SpillFile> spillFiles, int partition, RawComparator sortComparator) throws IOException {
+      this.sortComparator = sortComparator;
+      this.queue = new PriorityQueue<>(
+          Math.max(1, spillFiles.size()),
+          (r1, r2) -> sortComparator.compare(r1.recordBytes, 0, r1.keyLength, r2.recordBytes, 0, r2.keyLength));
+      try {
+        for (SpillFile spillFile: spillFiles) {
+          if (spillFile.emptySegments[partition]) {
+            continue;
+          }
+          SegmentReader reader = new SegmentReader(spillFile, partition);
+          readers.add(reader);
+          if (reader.next()) {
+            queue.add(reader);
+          }
+        }
+      } catch (IOException e) {
+        close();
+        throw e;
+      }
+    }
+
+    /**
+     * Moves to the next record in sort order, and returns false if there is none.
+     */
+    boolean next() throws IOException {
+      if (current != null && current.next()) {
+        queue.add(current);
+      }
+      current = queue.poll();
+      return current != null;
+    }
+
+    int compareCurrentKey(RawComparator comparator, byte[] key, int keyLength) {
+      return comparator.compare(current.recordBytes, 0, current.keyLength, key, 0, keyLength);
+    }
+
+    void readCurrent(DataInputBuffer inputBuffer, Writable key, Writable value) throws IOException {
+      inputBuffer.reset(current.recordBytes, 0, current.keyLength + current.valueLength);
+      key.readFields(inputBuffer);
+      value.readFields(inputBuffer);
+    }
+
+    @Override
+    public void close() throws IOException {
+      IOException closeException = null;
+      for (SegmentReader reader: readers) {
+        try {
+          reader.close();
+        } catch (IOException e) {
+          closeException = e;
+        }
+      }
+      if (closeException != null) {
+        throw closeException;
+      }
+    }
+  }
+
+  /**
+   * Iterates over the values of the group starting at the current record of a {@link RecordMerger}. Like in MapReduce,
+   * the key and the value instances are reused, and the key is updated along with each value, which matters when the
+   * grouping comparator is coarser than the sort comparator.
+   */
+  private static class GroupedValuesIterator implements Iterator<Writable> {
+    private final RecordMerger merger;
+    private final RawComparator groupingComparator;
+    private final Writable key;
+    private final Writable value;
+    private final DataInputBuffer inputBuffer = new DataInputBuffer();
+    private final byte[] groupKey;
+    /**
+     * Whether the current record of the merger belongs to this group, and hasn't been returned yet.
+     */
+    private boolean hasPendingRecord = true;
+    /**
+     * The first record of the group is deserialized upfront, since the key is passed to the reducer along the values.
+     */
+    private boolean isPendingRecordDeserialized;
+    private boolean endOfGroup = false;
+    private boolean endOfPartition = false;
+
+    GroupedValuesIterator(RecordMerger merger, RawComparator groupingComparator, Writable key, Writable value)
+        throws IOException {
+      this.merger = merger;
+      this.groupingComparator = groupingComparator;
+      this.key = key;
+      this.value = value;
+      this.groupKey = new byte[merger.current.keyLength];
+      System.arraycopy(merger.current.recordBytes, 0, groupKey, 0, groupKey.length);
+      merger.readCurrent(inputBuffer, key, value);
+      this.isPendingRecordDeserialized = true;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (hasPendingRecord) {
+        return true;
+      }
+      if (endOfGroup) {
+        return false;
+      }
+      try {
+        if (!merger.next()) {
+          endOfPartition = true;
+          endOfGroup = true;
+        } else if (merger.compareCurrentKey(groupingComparator, groupKey, groupKey.length) != 0) {
+          endOfGroup = true;
+        } else {
+          hasPendingRecord = true;
+        }
+      } catch (IOException e) {
+        throw new VeniceException("Failed to read the next record from the spill files", e);
+      }
+      return hasPendingRecord;
+    }
+
+    @Override
+    public Writable next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      hasPendingRecord = false;
+      if (isPendingRecordDeserialized) {
+        isPendingRecordDeserialized = false;
+        return value;
+      }
+      try {
+        merger.readCurrent(inputBuffer, key, value);
+      } catch (IOException e) {
+        throw new VeniceException("Failed to deserialize the record from the spill files", e);
+      }
+      return value;
+    }
+
+    /**
+     * Skips the values which haven't been consumed by the reducer.
+     *
+     * @return whether the merger is positioned on the first record of the next group.
+     */
+    boolean skipToNextGroup() {
+      while (hasNext()) {
+        hasPendingRecord = false;
+        isPendingRecordDeserialized = false;
+      }
+      return !endOfPartition;
+    }
+  }
+
+  /**
+   * Reports the counters of a local task into the counters of its job, which are shared by all its tasks.
+   */
+  private static class LocalReporter implements Reporter {
+    private final Counters counters;
+    private final InputSplit inputSplit;
+    private volatile float progress = 0.0f;
+
+    LocalReporter(Counters counters, InputSplit inputSplit) {
+      this.counters = counters;
+      this.inputSplit = inputSplit;
+    }
+
+    void setProgress(float progress) {
+      this.progress = progress;
+    }
+
+    @Override
+    public void progress() {
+      // There is no task tracker to keep alive
+    }
+
+    @Override
+    public void setStatus(String status) {
+      // There is no task tracker to report to
+    }
+
+    @Override
+    public Counters.Counter getCounter(Enum<?> name) {
+      synchronized (counters) {
+        return counters.findCounter(name);
+      }
+    }
+
+    @Override
+    public Counters.Counter getCounter(String group, String name) {
+      synchronized (counters) {
+        return counters.findCounter(group, name);
+      }
+    }
+
+    @Override
+    public void incrCounter(Enum<?> key, long amount) {
+      synchronized (counters) {
+        counters.incrCounter(key, amount);
+      }
+    }
+
+    @Override
+    public void incrCounter(String group, String counter, long amount) {
+      synchronized (counters) {
+        counters.incrCounter(group, counter, amount);
+      }
+    }
+
+    @Override
+    public InputSplit getInputSplit() {
+      if (inputSplit == null) {
+        throw new UnsupportedOperationException("Reduce tasks don't have any input split");
+      }
+      return inputSplit;
+    }
+
+    @Override
+    public float getProgress() {
+      return progress;
+    }
+  }
+
+  /**
+   * Serves the counters of a local job to the reducers, which would otherwise query the MapReduce cluster.
+   */
+  private static class LocalJobClient extends JobClient {
+    private final LocalRunningJob runningJob;
+
+    LocalJobClient(LocalRunningJob runningJob) {
+      this.runningJob = runningJob;
+    }
+
+    @Override
+    public RunningJob getJob(JobID jobId) {
+      return runningJob.getID().equals(jobId) ? runningJob : null;
+    }
+
+    @Override
+    public synchronized void close() {
+      // Not connected to any cluster
+    }
+  }
+}
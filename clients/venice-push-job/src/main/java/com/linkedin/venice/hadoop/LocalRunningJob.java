@@ -0,0 +1,156 @@
+package com.linkedin.venice.hadoop;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.mapred.Counters;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.JobID;
+import org.apache.hadoop.mapred.JobStatus;
+import org.apache.hadoop.mapred.RunningJob;
+import org.apache.hadoop.mapred.TaskAttemptID;
+import org.apache.hadoop.mapred.TaskCompletionEvent;
+
+
+/**
+ * The {@link RunningJob} handle of a job run by {@link LocalJobClientWrapper}, which only exposes the job's identity
+ * and counters, since the job is complete by the time it is returned, and it doesn't run on any cluster.
+ */
+class LocalRunningJob implements RunningJob {
+  private final JobConf jobConf;
+  private final JobID jobId;
+  private final Counters counters = new Counters();
+
+  LocalRunningJob(JobConf jobConf, JobID jobId) {
+    this.jobConf = jobConf;
+    this.jobId = jobId;
+  }
+
+  @Override
+  public Configuration getConfiguration() {
+    return jobConf;
+  }
+
+  @Override
+  public JobID getID() {
+    return jobId;
+  }
+
+  @Override
+  @Deprecated
+  public String getJobID() {
+    return jobId.toString();
+  }
+
+  @Override
+  public String getJobName() {
+    return jobConf.getJobName();
+  }
+
+  @Override
+  public String getJobFile() {
+    return null;
+  }
+
+  @Override
+  public String getTrackingURL() {
+    return null;
+  }
+
+  @Override
+  public float mapProgress() {
+    return 1.0f;
+  }
+
+  @Override
+  public float reduceProgress() {
+    return 1.0f;
+  }
+
+  @Override
+  public float cleanupProgress() {
+    return 1.0f;
+  }
+
+  @Override
+  public float setupProgress() {
+    return 1.0f;
+  }
+
+  @Override
+  public boolean isComplete() {
+    return true;
+  }
+
+  @Override
+  public boolean isSuccessful() {
+    return true;
+  }
+
+  @Override
+  public void waitForCompletion() {
+    // The job is complete already
+  }
+
+  @Override
+  public int getJobState() {
+    return JobStatus.SUCCEEDED;
+  }
+
+  @Override
+  public JobStatus getJobStatus() {
+    throw new UnsupportedOperationException("Local jobs don't have any status on a cluster");
+  }
+
+  @Override
+  public void killJob() {
+    // The job is complete already
+  }
+
+  @Override
+  public void setJobPriority(String priority) {
+    // The job is complete already
+  }
+
+  @Override
+  public TaskCompletionEvent[] getTaskCompletionEvents(int startFrom) {
+    return new TaskCompletionEvent[0];
+  }
+
+  @Override
+  public void killTask(TaskAttemptID taskId, boolean shouldFail) {
+    // The job is complete already
+  }
+
+  @Override
+  @Deprecated
+  public void killTask(String taskId, boolean shouldFail) {
+    // The job is complete already
+  }
+
+  /**
+   * The counters are shared with the tasks of the job while it runs.
+   */
+  @Override
+  public Counters getCounters() {
+    return counters;
+  }
+
+  @Override
+  public String[] getTaskDiagnostics(TaskAttemptID taskId) {
+    return new String[0];
+  }
+
+  @Override
+  public String getHistoryUrl() {
+    return null;
+  }
+
+  @Override
+  public boolean isRetired() {
+    return false;
+  }
+
+  @Override
+  public String getFailureInfo() {
+    return "";
+  }
+}
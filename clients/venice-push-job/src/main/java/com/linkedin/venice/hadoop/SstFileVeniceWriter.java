@@ -0,0 +1,222 @@
+package com.linkedin.venice.hadoop;
+
+import static com.linkedin.venice.store.rocksdb.RocksDBUtils.PUSH_SST_FILE_CHECKSUM;
+import static com.linkedin.venice.store.rocksdb.RocksDBUtils.PUSH_SST_FILE_RECORD_COUNT;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.validation.checksum.CheckSum;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.pubsub.adapter.SimplePubSubProduceResultImpl;
+import com.linkedin.venice.pubsub.api.PubSubProduceResult;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.writer.AbstractVeniceWriter;
+import com.linkedin.venice.writer.DeleteMetadata;
+import com.linkedin.venice.writer.PutMetadata;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Base64;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.rocksdb.EnvOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
+
+
+/**
+ * A writer used by {@link VeniceReducer} when {@link VenicePushJob#SST_FILE_PUSH_OUTPUT_DIR} is set, which writes the
+ * records of one partition into a RocksDB SST file instead of producing them to the version topic.
+ *
+ * The records are stored in the same format as the one used by the servers, i.e. the value prefixed by its schema id,
+ * and the reducer receives the keys in the byte-wise order required by {@link SstFileWriter}. The checksum of the
+ * file is computed like the one the servers compute while ingesting a batch push, so that the servers can validate
+ * the file with the existing mechanism before ingesting it. Once closed, the SST file is uploaded to the output
+ * directory along with a metadata file holding its record count and checksum, which the servers fetch when they
+ * receive the end of push announcing the directory.
+ *
+ * The produce results report the partition each key belongs to, so that the reducer detects the keys sent to the
+ * wrong reducer like when producing to the version topic. Those keys are not written into the file.
+ */
+public class SstFileVeniceWriter extends AbstractVeniceWriter<byte[], byte[], byte[]> {
+  private static final Logger LOGGER = LogManager.getLogger(SstFileVeniceWriter.class);
+
+  private final int partitionId;
+  private final VenicePartitioner partitioner;
+  private final int partitionCount;
+  private final FileSystem outputFileSystem;
+  private final Path outputDir;
+  private final File localSstFile;
+  private final Options options;
+  private final EnvOptions envOptions;
+  private final SstFileWriter sstFileWriter;
+  private final CheckSum checkSum = CheckSum.getInstance(CheckSumType.MD5);
+  private long recordCount = 0;
+  private boolean closed = false;
+
+  public SstFileVeniceWriter(
+      String topicName,
+      int partitionId,
+      VenicePartitioner partitioner,
+      int partitionCount,
+      FileSystem outputFileSystem,
+      Path outputDir,
+      File localTempDir) {
+    super(topicName);
+    this.partitionId = partitionId;
+    this.partitioner = partitioner;
+    this.partitionCount = partitionCount;
+    this.outputFileSystem = outputFileSystem;
+    this.outputDir = outputDir;
+    this.localSstFile = new File(localTempDir, RocksDBUtils.composePushSSTFileName(partitionId));
+    this.options = new Options();
+    this.envOptions = new EnvOptions();
+    this.sstFileWriter = new SstFileWriter(envOptions, options);
+    try {
+      sstFileWriter.open(localSstFile.getAbsolutePath());
+    } catch (RocksDBException e) {
+      closeRocksDBObjects();
+      throw new VeniceException("Failed to open SST file: " + localSstFile + " for topic: " + topicName, e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<PubSubProduceResult> put(
+      byte[] key,
+      byte[] value,
+      int valueSchemaId,
+      PubSubProducerCallback callback) {
+    int keyPartition = partitioner.getPartitionId(key, partitionCount);
+    if (keyPartition != partitionId) {
+      PubSubProduceResult produceResult = new SimplePubSubProduceResultImpl(topicName, keyPartition, -1, -1);
+      if (callback != null) {
+        callback.onCompletion(produceResult, null);
+      }
+      return CompletableFuture.completedFuture(produceResult);
+    }
+    byte[] storedValue = new byte[ByteUtils.SIZE_OF_INT + value.length];
+    ByteUtils.writeInt(storedValue, valueSchemaId, 0);
+    System.arraycopy(value, 0, storedValue, ByteUtils.SIZE_OF_INT, value.length);
+    try {
+      sstFileWriter.put(key, storedValue);
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to write into SST file: " + localSstFile + " for topic: " + topicName, e);
+    }
+    checkSum.update(key);
+    checkSum.update(valueSchemaId);
+    checkSum.update(value);
+
+    PubSubProduceResult produceResult =
+        new SimplePubSubProduceResultImpl(topicName, partitionId, recordCount++, key.length + storedValue.length);
+    if (callback != null) {
+      callback.onCompletion(produceResult, null);
+    }
+    return CompletableFuture.completedFuture(produceResult);
+  }
+
+  @Override
+  public Future<PubSubProduceResult> put(
+      byte[] key,
+      byte[] value,
+      int valueSchemaId,
+      PubSubProducerCallback callback,
+      PutMetadata putMetadata) {
+    if (putMetadata != null) {
+      throw new UnsupportedOperationException("Replication metadata is not supported in SST files");
+    }
+    return put(key, value, valueSchemaId, callback);
+  }
+
+  @Override
+  public Future<PubSubProduceResult> delete(
+      byte[] key,
+      PubSubProducerCallback callback,
+      DeleteMetadata deleteMetadata) {
+    throw new UnsupportedOperationException("Deletes are not supported in SST files");
+  }
+
+  @Override
+  public Future<PubSubProduceResult> update(
+      byte[] key,
+      byte[] update,
+      int valueSchemaId,
+      int derivedSchemaId,
+      PubSubProducerCallback callback) {
+    throw new UnsupportedOperationException("Partial updates are not supported in SST files");
+  }
+
+  @Override
+  public void flush() {
+    // Nothing is buffered outside of the SST file, which is only complete once closed
+  }
+
+  /**
+   * Finishes the SST file and uploads it, unless the close isn't graceful, in which case the partial output is
+   * discarded, since the push has failed anyway.
+   */
+  @Override
+  public void close(boolean gracefulClose) throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      if (gracefulClose) {
+        finishAndUpload();
+      }
+    } finally {
+      closeRocksDBObjects();
+      if (localSstFile.exists() && !localSstFile.delete()) {
+        LOGGER.warn("Failed to delete local SST file: {}", localSstFile);
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    close(true);
+  }
+
+  private void finishAndUpload() throws IOException {
+    // RocksDB doesn't allow to finish an empty SST file, so empty partitions only come with a metadata file
+    if (recordCount > 0) {
+      try {
+        sstFileWriter.finish();
+      } catch (RocksDBException e) {
+        throw new VeniceException("Failed to finish SST file: " + localSstFile + " for topic: " + topicName, e);
+      }
+      outputFileSystem.copyFromLocalFile(
+          true,
+          true,
+          new Path(localSstFile.getAbsolutePath()),
+          new Path(outputDir, RocksDBUtils.composePushSSTFileName(partitionId)));
+    }
+    Properties metadata = new Properties();
+    metadata.setProperty(PUSH_SST_FILE_RECORD_COUNT, Long.toString(recordCount));
+    metadata.setProperty(PUSH_SST_FILE_CHECKSUM, Base64.getEncoder().encodeToString(checkSum.getCheckSum()));
+    Path metadataPath = new Path(outputDir, RocksDBUtils.composePushSSTFileMetadataName(partitionId));
+    try (OutputStream outputStream = outputFileSystem.create(metadataPath, true)) {
+      metadata.store(outputStream, null);
+    }
+    LOGGER.info(
+        "Uploaded {} records of partition: {} of topic: {} to: {}",
+        recordCount,
+        partitionId,
+        topicName,
+        outputDir);
+  }
+
+  private void closeRocksDBObjects() {
+    sstFileWriter.close();
+    envOptions.close();
+    options.close();
+  }
+}
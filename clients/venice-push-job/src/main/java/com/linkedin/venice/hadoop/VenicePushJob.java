@@ -77,6 +77,7 @@ import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.status.PushJobDetailsStatus;
 import com.linkedin.venice.status.protocol.PushJobDetails;
 import com.linkedin.venice.status.protocol.PushJobDetailsStatusTuple;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.AvroSupersetSchemaUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.DictionaryUtils;
@@ -90,6 +91,7 @@ import com.linkedin.venice.utils.lazy.Lazy;
 import com.linkedin.venice.writer.VeniceWriter;
 import com.linkedin.venice.writer.VeniceWriterFactory;
 import com.linkedin.venice.writer.VeniceWriterOptions;
+import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -430,6 +432,44 @@ public class VenicePushJob implements AutoCloseable {
    */
   public static final String POST_VALIDATION_CONSUMPTION_ENABLED = "post.validation.consumption.enabled";
 
+  /**
+   * Config to run the push job in the current process with {@link LocalJobClientWrapper} instead of submitting it to
+   * a MapReduce cluster, which is much faster for small and mid-size inputs.
+   */
+  public static final String LOCAL_PUSH_ENGINE_ENABLED = "local.push.engine.enabled";
+
+  /**
+   * Number of threads used to run the map and reduce tasks when {@link #LOCAL_PUSH_ENGINE_ENABLED} is true.
+   * Defaults to the number of available processors.
+   */
+  public static final String LOCAL_PUSH_ENGINE_PARALLELISM = "local.push.engine.parallelism";
+
+  /**
+   * Size of the in-memory map output buffer of each map task after which it is sorted and spilled to local disk when
+   * {@link #LOCAL_PUSH_ENGINE_ENABLED} is true. Up to {@link #LOCAL_PUSH_ENGINE_PARALLELISM} map tasks run at once,
+   * each with its own buffer.
+   */
+  public static final String LOCAL_PUSH_ENGINE_SPILL_THRESHOLD_BYTES = "local.push.engine.spill.threshold.bytes";
+  public static final long DEFAULT_LOCAL_PUSH_ENGINE_SPILL_THRESHOLD_BYTES = 64 * 1024 * 1024;
+
+  /**
+   * Local directory the map output is spilled to when {@link #LOCAL_PUSH_ENGINE_ENABLED} is true. Defaults to the
+   * temporary directory of the JVM.
+   */
+  public static final String LOCAL_PUSH_ENGINE_SPILL_DIR = "local.push.engine.spill.dir";
+
+  /**
+   * Experimental: when set, the reducers write the records of each partition into a RocksDB SST file under this
+   * directory, in a sub-directory named after the version topic, instead of producing them to the version topic, which
+   * then only carries the control messages of the push. Each SST file comes with a metadata file holding its record
+   * count and checksum. The end of push announces the sub-directory, and the servers fetch, validate and ingest the
+   * file of each of their partitions when they receive it, so the directory must be on a file system mounted at the
+   * same path on the servers, and must be kept as long as the version, since it is needed to bootstrap new replicas.
+   *
+   * Only supported for full pushes of batch-only stores without chunking, sending the control messages directly.
+   */
+  public static final String SST_FILE_PUSH_OUTPUT_DIR = "sst.file.push.output.dir";
+
   /**
    * Since the job is calculating the raw data file size, which is not accurate because of compression,
    * key/value schema and backend storage overhead, we are applying this factor to provide a more
@@ -507,6 +547,8 @@ public class VenicePushJob implements AutoCloseable {
     long pollJobStatusIntervalMs;
     long jobStatusInUnknownStateTimeoutMs;
     boolean sendControlMessagesDirectly;
+    /** Refer {@link #SST_FILE_PUSH_OUTPUT_DIR} **/
+    String sstFilePushOutputDir;
     boolean isSourceETL;
     boolean enableWriteCompute;
     ETLValueSchemaTransformation etlValueSchemaTransformation;
@@ -709,6 +751,9 @@ public class VenicePushJob implements AutoCloseable {
     pushJobSettingToReturn.jobStatusInUnknownStateTimeoutMs =
         props.getLong(JOB_STATUS_IN_UNKNOWN_STATE_TIMEOUT_MS, DEFAULT_JOB_STATUS_IN_UNKNOWN_STATE_TIMEOUT_MS);
     pushJobSettingToReturn.sendControlMessagesDirectly = props.getBoolean(SEND_CONTROL_MESSAGES_DIRECTLY, false);
+    if (props.containsKey(SST_FILE_PUSH_OUTPUT_DIR)) {
+      pushJobSettingToReturn.sstFilePushOutputDir = props.getString(SST_FILE_PUSH_OUTPUT_DIR);
+    }
     pushJobSettingToReturn.enableWriteCompute = props.getBoolean(ENABLE_WRITE_COMPUTE, false);
     pushJobSettingToReturn.isSourceETL = props.getBoolean(SOURCE_ETL, false);
     pushJobSettingToReturn.isSourceKafka = props.getBoolean(SOURCE_KAFKA, false);
@@ -1149,7 +1194,7 @@ public class VenicePushJob implements AutoCloseable {
 
           if (!pushJobSetting.suppressEndOfPushMessage) {
             if (pushJobSetting.sendControlMessagesDirectly) {
-              getVeniceWriter(kafkaTopicInfo).broadcastEndOfPush(Collections.emptyMap());
+              getVeniceWriter(kafkaTopicInfo).broadcastEndOfPush(getEndOfPushDebugInfo());
             } else {
               controllerClient.writeEndOfPush(pushJobSetting.storeName, kafkaTopicInfo.version);
             }
@@ -1731,7 +1776,7 @@ public class VenicePushJob implements AutoCloseable {
 
   private RunningJob runJobWithConfig(JobConf jobConf) throws IOException {
     if (jobClientWrapper == null) {
-      jobClientWrapper = new DefaultJobClientWrapper();
+      jobClientWrapper = createJobClientWrapper();
     }
     try {
       return jobClientWrapper.runJobWithConfig(jobConf);
@@ -1743,6 +1788,23 @@ public class VenicePushJob implements AutoCloseable {
     }
   }
 
+  private JobClientWrapper createJobClientWrapper() {
+    if (!props.getBoolean(LOCAL_PUSH_ENGINE_ENABLED, false)) {
+      return new DefaultJobClientWrapper();
+    }
+    int parallelism = props.getInt(LOCAL_PUSH_ENGINE_PARALLELISM, Runtime.getRuntime().availableProcessors());
+    long spillThresholdInBytes =
+        props.getLong(LOCAL_PUSH_ENGINE_SPILL_THRESHOLD_BYTES, DEFAULT_LOCAL_PUSH_ENGINE_SPILL_THRESHOLD_BYTES);
+    File spillDirectory =
+        new File(props.getString(LOCAL_PUSH_ENGINE_SPILL_DIR, System.getProperty("java.io.tmpdir")));
+    LOGGER.info(
+        "Running the push job locally with parallelism: {}, spill threshold: {} bytes and spill directory: {}",
+        parallelism,
+        spillThresholdInBytes,
+        spillDirectory);
+    return new LocalJobClientWrapper(parallelism, spillThresholdInBytes, spillDirectory);
+  }
+
   protected InputDataInfoProvider getInputDataInfoProvider() {
     if (inputDataInfoProvider == null) {
       inputDataInfoProvider = new DefaultInputDataInfoProvider(storeSetting, pushJobSetting, props);
@@ -2521,6 +2583,17 @@ public class VenicePushJob implements AutoCloseable {
       jobSetting.sendControlMessagesDirectly = false;
     }
 
+    if (jobSetting.sstFilePushOutputDir != null) {
+      if (jobSetting.isIncrementalPush || jobSetting.isSourceKafka || hybridStoreConfig != null) {
+        throw new VeniceException("SST file push is only supported for full pushes of batch-only stores.");
+      }
+      if (!jobSetting.sendControlMessagesDirectly) {
+        throw new VeniceException(
+            "SST file push requires " + SEND_CONTROL_MESSAGES_DIRECTLY
+                + ", since the end of push announces the SST files.");
+      }
+    }
+
     storeSetting.keySchema =
         getKeySchemaFromController(controllerClient, jobSetting.controllerRetries, jobSetting.storeName);
 
@@ -2741,6 +2814,18 @@ public class VenicePushJob implements AutoCloseable {
     return veniceWriterProperties;
   }
 
+  /**
+   * The end of push of an SST file push announces the directory of the SST files to the servers, which ingest them
+   * when they receive it.
+   */
+  private Map<String, String> getEndOfPushDebugInfo() {
+    if (pushJobSetting.sstFilePushOutputDir == null) {
+      return Collections.emptyMap();
+    }
+    Path sstFileDir = new Path(pushJobSetting.sstFilePushOutputDir, kafkaTopicInfo.topic);
+    return Collections.singletonMap(RocksDBUtils.PUSH_SST_FILE_DIR, sstFileDir.toUri().getPath());
+  }
+
   private synchronized void closeVeniceWriter() {
     if (veniceWriter != null) {
       veniceWriter.close();
@@ -2999,6 +3084,9 @@ public class VenicePushJob implements AutoCloseable {
       });
     }
     conf.setBoolean(ALLOW_DUPLICATE_KEY, pushJobSetting.isDuplicateKeyAllowed);
+    if (pushJobSetting.sstFilePushOutputDir != null) {
+      conf.set(SST_FILE_PUSH_OUTPUT_DIR, pushJobSetting.sstFilePushOutputDir);
+    }
     conf.setBoolean(VeniceWriter.ENABLE_CHUNKING, kafkaTopicInfo.chunkingEnabled);
     conf.setBoolean(VeniceWriter.ENABLE_RMD_CHUNKING, kafkaTopicInfo.rmdChunkingEnabled);
 
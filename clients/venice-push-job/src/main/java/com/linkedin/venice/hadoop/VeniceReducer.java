@@ -4,6 +4,7 @@ import static com.linkedin.venice.hadoop.VenicePushJob.ALLOW_DUPLICATE_KEY;
 import static com.linkedin.venice.hadoop.VenicePushJob.DEFAULT_IS_DUPLICATED_KEY_ALLOWED;
 import static com.linkedin.venice.hadoop.VenicePushJob.DERIVED_SCHEMA_ID_PROP;
 import static com.linkedin.venice.hadoop.VenicePushJob.ENABLE_WRITE_COMPUTE;
+import static com.linkedin.venice.hadoop.VenicePushJob.SST_FILE_PUSH_OUTPUT_DIR;
 import static com.linkedin.venice.hadoop.VenicePushJob.STORAGE_QUOTA_PROP;
 import static com.linkedin.venice.hadoop.VenicePushJob.TELEMETRY_MESSAGE_INTERVAL;
 import static com.linkedin.venice.hadoop.VenicePushJob.TOPIC_PROP;
@@ -53,6 +54,7 @@ import java.util.function.Consumer;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.avro.io.Encoder;
+import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.BytesWritable;
 import org.apache.hadoop.mapred.Counters;
 import org.apache.hadoop.mapred.JobClient;
@@ -164,6 +166,11 @@ public class VeniceReducer extends AbstractMapReduceTask
   private long lastMessageCompletedCount = 0;
 
   private AbstractVeniceWriter<byte[], byte[], byte[]> veniceWriter = null;
+  /**
+   * Set when the records are written into SST files instead of the version topic.
+   */
+  private Path sstFileOutputDir = null;
+  private JobConf jobConf;
   private int valueSchemaId = -1;
   private int derivedValueSchemaId = -1;
   private boolean enableWriteCompute = false;
@@ -356,7 +363,7 @@ public class VeniceReducer extends AbstractMapReduceTask
       Consumer<AbstractVeniceWriter<byte[], byte[], byte[]>> writerConsumer) {
     maybePropagateCallbackException();
     if (veniceWriter == null) {
-      veniceWriter = createBasicVeniceWriter();
+      veniceWriter = createVeniceWriter();
     }
     writerConsumer.accept(veniceWriter);
     messageSent++;
@@ -372,6 +379,24 @@ public class VeniceReducer extends AbstractMapReduceTask
     return false;
   }
 
+  private AbstractVeniceWriter<byte[], byte[], byte[]> createVeniceWriter() {
+    if (sstFileOutputDir == null) {
+      return createBasicVeniceWriter();
+    }
+    try {
+      return new SstFileVeniceWriter(
+          props.getString(TOPIC_PROP),
+          getTaskId(),
+          PartitionUtils.getVenicePartitioner(props),
+          getPartitionCount(),
+          sstFileOutputDir.getFileSystem(jobConf),
+          sstFileOutputDir,
+          Utils.getTempDataDirectory());
+    } catch (IOException e) {
+      throw new VeniceException("Failed to access the SST file output directory: " + sstFileOutputDir, e);
+    }
+  }
+
   private VeniceWriter<byte[], byte[], byte[]> createBasicVeniceWriter() {
     Properties writerProps = props.toProperties();
     writerProps.put(GuidUtils.GUID_GENERATOR_IMPLEMENTATION, GuidUtils.DETERMINISTIC_GUID_GENERATOR_IMPLEMENTATION);
@@ -440,12 +465,16 @@ public class VeniceReducer extends AbstractMapReduceTask
     try {
       LOGGER.info("Kafka message progress before flushing and closing producer:");
       logMessageProgress();
+      if (veniceWriter == null && sstFileOutputDir != null) {
+        // The servers expect a metadata file for every partition, even for the ones without any record
+        veniceWriter = createVeniceWriter();
+      }
       if (veniceWriter != null) {
         boolean shouldEndAllSegments = false;
         try {
           veniceWriter.flush();
           shouldEndAllSegments = messageErrored.get() == 0 && messageSent == messageCompleted.get()
-              && previousReporter.getProgress() == 1.0;
+              && (previousReporter == null || previousReporter.getProgress() == 1.0);
         } finally {
           veniceWriter.close(shouldEndAllSegments);
         }
@@ -482,6 +511,13 @@ public class VeniceReducer extends AbstractMapReduceTask
     this.enableWriteCompute = (props.containsKey(ENABLE_WRITE_COMPUTE)) && props.getBoolean(ENABLE_WRITE_COMPUTE);
     this.duplicateKeyPrinter = initDuplicateKeyPrinter(job);
     this.telemetryMessageInterval = props.getInt(TELEMETRY_MESSAGE_INTERVAL, 10000);
+    if (props.containsKey(SST_FILE_PUSH_OUTPUT_DIR)) {
+      if (isChunkingEnabled() || enableWriteCompute) {
+        throw new VeniceException("SST file push doesn't support chunking or write compute");
+      }
+      this.jobConf = job;
+      this.sstFileOutputDir = new Path(props.getString(SST_FILE_PUSH_OUTPUT_DIR), props.getString(TOPIC_PROP));
+    }
     initStorageQuotaFields(props, job);
     /**
      * A dummy background task that reports progress every 5 minutes.
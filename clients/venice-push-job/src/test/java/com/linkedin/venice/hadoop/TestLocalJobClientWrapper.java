@@ -0,0 +1,183 @@
+package com.linkedin.venice.hadoop;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.linkedin.venice.utils.Utils;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.IntWritable;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapred.FileInputFormat;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.MapReduceBase;
+import org.apache.hadoop.mapred.Mapper;
+import org.apache.hadoop.mapred.OutputCollector;
+import org.apache.hadoop.mapred.Reducer;
+import org.apache.hadoop.mapred.Reporter;
+import org.apache.hadoop.mapred.RunningJob;
+import org.apache.hadoop.mapred.TextInputFormat;
+import org.apache.hadoop.mapred.lib.HashPartitioner;
+import org.apache.hadoop.mapred.lib.NullOutputFormat;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class TestLocalJobClientWrapper {
+  private static final String COUNTER_GROUP = "Test";
+  private static final String COUNTER_REDUCED_KEYS = "reduced keys";
+  private static final int FILE_COUNT = 4;
+  private static final int LINES_PER_FILE = 500;
+  private static final int DISTINCT_WORDS = 300;
+  private static final int PARTITION_COUNT = 7;
+
+  private static final Map<String, Integer> WORD_COUNTS = new ConcurrentHashMap<>();
+
+  @BeforeMethod
+  public void setUp() {
+    WORD_COUNTS.clear();
+  }
+
+  /**
+   * Emits every word of a line with a count of 1, reusing the key and value instances like real mappers do.
+   */
+  public static class WordMapper extends MapReduceBase implements Mapper<LongWritable, Text, Text, IntWritable> {
+    private final Text word = new Text();
+    private final IntWritable one = new IntWritable(1);
+
+    @Override
+    public void map(LongWritable offset, Text line, OutputCollector<Text, IntWritable> output, Reporter reporter)
+        throws IOException {
+      for (String token: line.toString().split(" ")) {
+        if (token.equals("fail")) {
+          throw new IllegalStateException("Failed to map the line: " + line);
+        }
+        word.set(token);
+        output.collect(word, one);
+      }
+    }
+  }
+
+  /**
+   * Sums the counts of every word, and checks that the words are reduced in order, in the right partition.
+   */
+  public static class WordCountReducer extends MapReduceBase implements Reducer<Text, IntWritable, Text, IntWritable> {
+    private final HashPartitioner<Text, IntWritable> partitioner = new HashPartitioner<>();
+    private String previousWord = null;
+    private int partition = -1;
+
+    @Override
+    public void reduce(
+        Text word,
+        Iterator<IntWritable> counts,
+        OutputCollector<Text, IntWritable> output,
+        Reporter reporter) {
+      String currentWord = word.toString();
+      if (previousWord != null) {
+        Assert.assertTrue(previousWord.compareTo(currentWord) < 0, previousWord + " is reduced before " + currentWord);
+      }
+      previousWord = currentWord;
+      int wordPartition = partitioner.getPartition(word, null, PARTITION_COUNT);
+      if (partition == -1) {
+        partition = wordPartition;
+      }
+      Assert.assertEquals(wordPartition, partition);
+
+      int sum = 0;
+      while (counts.hasNext()) {
+        sum += counts.next().get();
+      }
+      Assert.assertNull(WORD_COUNTS.put(currentWord, sum));
+      reporter.incrCounter(COUNTER_GROUP, COUNTER_REDUCED_KEYS, 1);
+    }
+  }
+
+  private static JobConf getJobConf(File inputDir) throws IOException {
+    JobConf jobConf = new JobConf();
+    jobConf.setJobName("local-word-count");
+    jobConf.setInputFormat(TextInputFormat.class);
+    FileInputFormat.setInputPaths(jobConf, new Path(inputDir.toURI()));
+    jobConf.setMapperClass(WordMapper.class);
+    jobConf.setPartitionerClass(HashPartitioner.class);
+    jobConf.setMapOutputKeyClass(Text.class);
+    jobConf.setMapOutputValueClass(IntWritable.class);
+    jobConf.setReducerClass(WordCountReducer.class);
+    jobConf.setNumReduceTasks(PARTITION_COUNT);
+    jobConf.setOutputFormat(NullOutputFormat.class);
+    return jobConf;
+  }
+
+  private static File writeInput(String extraLine) throws IOException {
+    File inputDir = Utils.getTempDataDirectory();
+    for (int file = 0; file < FILE_COUNT; file++) {
+      try (PrintWriter writer = new PrintWriter(new File(inputDir, "input-" + file + ".txt"))) {
+        for (int line = 0; line < LINES_PER_FILE; line++) {
+          writer.println("word" + ((file * LINES_PER_FILE + line) % DISTINCT_WORDS) + " common");
+        }
+        if (extraLine != null) {
+          writer.println(extraLine);
+        }
+      }
+    }
+    return inputDir;
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testWordCountWithSpills() throws IOException {
+    File inputDir = writeInput(null);
+    File spillDir = Utils.getTempDataDirectory();
+    // A tiny spill threshold makes every map task spill many times
+    LocalJobClientWrapper jobClientWrapper = new LocalJobClientWrapper(3, 1024, spillDir);
+    RunningJob runningJob = jobClientWrapper.runJobWithConfig(getJobConf(inputDir));
+
+    Assert.assertTrue(runningJob.isComplete());
+    Assert.assertTrue(runningJob.isSuccessful());
+    int totalLines = FILE_COUNT * LINES_PER_FILE;
+    Assert.assertEquals(WORD_COUNTS.size(), DISTINCT_WORDS + 1);
+    Assert.assertEquals(WORD_COUNTS.get("common"), Integer.valueOf(totalLines));
+    for (int i = 0; i < DISTINCT_WORDS; i++) {
+      int expectedCount = totalLines / DISTINCT_WORDS + (i < totalLines % DISTINCT_WORDS ? 1 : 0);
+      Assert.assertEquals(WORD_COUNTS.get("word" + i), Integer.valueOf(expectedCount));
+    }
+    Assert.assertEquals(
+        runningJob.getCounters().getGroup(COUNTER_GROUP).getCounter(COUNTER_REDUCED_KEYS),
+        DISTINCT_WORDS + 1);
+    // The spilled map output is cleaned up
+    Assert.assertEquals(spillDir.list().length, 0);
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testMapperFailureFailsTheJob() throws IOException {
+    File inputDir = writeInput("fail");
+    File spillDir = Utils.getTempDataDirectory();
+    LocalJobClientWrapper jobClientWrapper = new LocalJobClientWrapper(2, 1024, spillDir);
+    IllegalStateException e = Assert.expectThrows(
+        IllegalStateException.class,
+        () -> jobClientWrapper.runJobWithConfig(getJobConf(inputDir)));
+    Assert.assertTrue(e.getMessage().contains("fail"), e.getMessage());
+    Assert.assertTrue(WORD_COUNTS.isEmpty());
+    Assert.assertEquals(spillDir.list().length, 0);
+  }
+
+  @Test
+  public void testMapOnlyJobIsDelegated() throws IOException {
+    JobClientWrapper mapOnlyJobClientWrapper = mock(JobClientWrapper.class);
+    RunningJob runningJob = mock(RunningJob.class);
+    JobConf jobConf = new JobConf();
+    jobConf.setNumReduceTasks(0);
+    when(mapOnlyJobClientWrapper.runJobWithConfig(jobConf)).thenReturn(runningJob);
+
+    LocalJobClientWrapper jobClientWrapper =
+        new LocalJobClientWrapper(2, 1024, Utils.getTempDataDirectory(), mapOnlyJobClientWrapper);
+    Assert.assertSame(jobClientWrapper.runJobWithConfig(jobConf), runningJob);
+    verify(mapOnlyJobClientWrapper).runJobWithConfig(jobConf);
+  }
+}
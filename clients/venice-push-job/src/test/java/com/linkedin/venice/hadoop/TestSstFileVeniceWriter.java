@@ -0,0 +1,168 @@
+package com.linkedin.venice.hadoop;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.kafka.validation.checksum.CheckSum;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.pubsub.api.PubSubProduceResult;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.Utils;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Properties;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.mockito.ArgumentCaptor;
+import org.rocksdb.Options;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileReader;
+import org.rocksdb.SstFileReaderIterator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestSstFileVeniceWriter {
+  private static final String TOPIC = "test_store_v1";
+  private static final int PARTITION = 3;
+  private static final int VALUE_SCHEMA_ID = 2;
+  private static final int PARTITION_COUNT = 4;
+  private static final int RECORD_COUNT = 100;
+
+  private static byte[] getKey(int i) {
+    return String.format("key_%05d", i).getBytes();
+  }
+
+  private static byte[] getValue(int i) {
+    return ("value_" + i).getBytes();
+  }
+
+  private static VenicePartitioner createPartitioner(int partition) {
+    VenicePartitioner partitioner = mock(VenicePartitioner.class);
+    doReturn(partition).when(partitioner).getPartitionId(any(byte[].class), eq(PARTITION_COUNT));
+    return partitioner;
+  }
+
+  private static SstFileVeniceWriter createWriter(VenicePartitioner partitioner, File outputDir, File localTempDir)
+      throws IOException {
+    return new SstFileVeniceWriter(
+        TOPIC,
+        PARTITION,
+        partitioner,
+        PARTITION_COUNT,
+        FileSystem.getLocal(new Configuration()),
+        new Path(outputDir.toURI()),
+        localTempDir);
+  }
+
+  private static Properties readMetadata(File outputDir) throws IOException {
+    Properties metadata = new Properties();
+    try (InputStream inputStream =
+        new FileInputStream(new File(outputDir, RocksDBUtils.composePushSSTFileMetadataName(PARTITION)))) {
+      metadata.load(inputStream);
+    }
+    return metadata;
+  }
+
+  @Test
+  public void testRecordsAreWrittenInServerFormat() throws IOException, RocksDBException {
+    File outputDir = Utils.getTempDataDirectory();
+    File localTempDir = Utils.getTempDataDirectory();
+    PubSubProducerCallback callback = mock(PubSubProducerCallback.class);
+    CheckSum expectedCheckSum = CheckSum.getInstance(CheckSumType.MD5);
+
+    SstFileVeniceWriter writer = createWriter(createPartitioner(PARTITION), outputDir, localTempDir);
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      writer.put(getKey(i), getValue(i), VALUE_SCHEMA_ID, callback, null);
+      expectedCheckSum.update(getKey(i));
+      expectedCheckSum.update(VALUE_SCHEMA_ID);
+      expectedCheckSum.update(getValue(i));
+    }
+    writer.close(true);
+    verify(callback, times(RECORD_COUNT)).onCompletion(any(), isNull());
+
+    // The metadata matches what the servers compute over the stored records
+    Properties metadata = readMetadata(outputDir);
+    Assert.assertEquals(metadata.getProperty(RocksDBUtils.PUSH_SST_FILE_RECORD_COUNT), String.valueOf(RECORD_COUNT));
+    byte[] checksum = Base64.getDecoder().decode(metadata.getProperty(RocksDBUtils.PUSH_SST_FILE_CHECKSUM));
+    Assert.assertEquals(checksum, expectedCheckSum.getCheckSum());
+
+    File sstFile = new File(outputDir, RocksDBUtils.composePushSSTFileName(PARTITION));
+    CheckSum actualCheckSum = CheckSum.getInstance(CheckSumType.MD5);
+    try (Options options = new Options();
+        SstFileReader reader = new SstFileReader(options);
+        ReadOptions readOptions = new ReadOptions()) {
+      reader.open(sstFile.getAbsolutePath());
+      Assert.assertEquals(reader.getTableProperties().getNumEntries(), RECORD_COUNT);
+      try (SstFileReaderIterator iterator = reader.newIterator(readOptions)) {
+        iterator.seekToFirst();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+          Assert.assertTrue(iterator.isValid());
+          Assert.assertEquals(iterator.key(), getKey(i));
+          byte[] storedValue = iterator.value();
+          Assert.assertEquals(ByteUtils.readInt(storedValue, 0), VALUE_SCHEMA_ID);
+          Assert.assertEquals(Arrays.copyOfRange(storedValue, ByteUtils.SIZE_OF_INT, storedValue.length), getValue(i));
+          actualCheckSum.update(iterator.key());
+          actualCheckSum.update(storedValue);
+          iterator.next();
+        }
+        Assert.assertFalse(iterator.isValid());
+      }
+    }
+    Assert.assertEquals(actualCheckSum.getCheckSum(), checksum);
+    // The local copy is cleaned up
+    Assert.assertEquals(localTempDir.list().length, 0);
+  }
+
+  @Test
+  public void testEmptyPartitionOnlyHasMetadata() throws IOException {
+    File outputDir = Utils.getTempDataDirectory();
+    SstFileVeniceWriter writer =
+        createWriter(createPartitioner(PARTITION), outputDir, Utils.getTempDataDirectory());
+    writer.close(true);
+    Assert.assertFalse(new File(outputDir, RocksDBUtils.composePushSSTFileName(PARTITION)).exists());
+    Assert.assertEquals(readMetadata(outputDir).getProperty(RocksDBUtils.PUSH_SST_FILE_RECORD_COUNT), "0");
+  }
+
+  @Test
+  public void testNonGracefulCloseDiscardsTheOutput() throws IOException {
+    File outputDir = Utils.getTempDataDirectory();
+    File localTempDir = Utils.getTempDataDirectory();
+    SstFileVeniceWriter writer = createWriter(createPartitioner(PARTITION), outputDir, localTempDir);
+    writer.put(getKey(0), getValue(0), VALUE_SCHEMA_ID, null, null);
+    Assert.assertThrows(UnsupportedOperationException.class, () -> writer.delete(getKey(1), null, null));
+    writer.close(false);
+    Assert.assertEquals(outputDir.list().length, 0);
+    Assert.assertEquals(localTempDir.list().length, 0);
+  }
+
+  @Test
+  public void testKeyOfOtherPartitionIsReportedAndSkipped() throws IOException {
+    File outputDir = Utils.getTempDataDirectory();
+    PubSubProducerCallback callback = mock(PubSubProducerCallback.class);
+    SstFileVeniceWriter writer =
+        createWriter(createPartitioner(PARTITION + 1), outputDir, Utils.getTempDataDirectory());
+    writer.put(getKey(0), getValue(0), VALUE_SCHEMA_ID, callback, null);
+
+    // The reducer fails the push when a produce result reports another partition than its own
+    ArgumentCaptor<PubSubProduceResult> resultCaptor = ArgumentCaptor.forClass(PubSubProduceResult.class);
+    verify(callback).onCompletion(resultCaptor.capture(), isNull());
+    Assert.assertEquals(resultCaptor.getValue().getPartition(), PARTITION + 1);
+    writer.close(true);
+    Assert.assertEquals(readMetadata(outputDir).getProperty(RocksDBUtils.PUSH_SST_FILE_RECORD_COUNT), "0");
+  }
+}
@@ -169,26 +169,14 @@ public class ComputeUtils {
     if (list1.size() != list2.size()) {
       throw new VeniceException("Two lists are with different dimensions: " + list1.size() + ", and " + list2.size());
     }
-    if (list1 instanceof PrimitiveFloatList && list2 instanceof PrimitiveFloatList) {
-      PrimitiveFloatList primitiveFloatList1 = (PrimitiveFloatList) list1;
-      PrimitiveFloatList primitiveFloatList2 = (PrimitiveFloatList) list2;
-      return dotProduct(list1.size(), primitiveFloatList1::getPrimitive, primitiveFloatList2::getPrimitive);
-    } else {
-      return dotProduct(list1.size(), list1::get, list2::get);
-    }
+    return dotProduct(list1.size(), getFloatSupplier(list1), getFloatSupplier(list2));
   }
 
   public static List<Float> hadamardProduct(List<Float> list1, List<Float> list2) {
     if (list1.size() != list2.size()) {
       throw new VeniceException("Two lists are with different dimensions: " + list1.size() + ", and " + list2.size());
     }
-    if (list1 instanceof PrimitiveFloatList && list2 instanceof PrimitiveFloatList) {
-      PrimitiveFloatList primitiveFloatList1 = (PrimitiveFloatList) list1;
-      PrimitiveFloatList primitiveFloatList2 = (PrimitiveFloatList) list2;
-      return hadamardProduct(list1.size(), primitiveFloatList1::getPrimitive, primitiveFloatList2::getPrimitive);
-    } else {
-      return hadamardProduct(list1.size(), list1::get, list2::get);
-    }
+    return hadamardProduct(list1.size(), getFloatSupplier(list1), getFloatSupplier(list2));
   }
 
   public static List<Schema.Field> getOperationResultFields(List<ComputeOperation> operations, Schema resultSchema) {
@@ -207,6 +195,17 @@ public class ComputeUtils {
     float get(int index);
   }
 
+  /**
+   * Each list is checked independently, so that a {@link PrimitiveFloatList} is never accessed via boxed floats,
+   * even when the other operand is a regular {@link List}.
+   */
+  private static FloatSupplierByIndex getFloatSupplier(List<Float> list) {
+    if (list instanceof PrimitiveFloatList) {
+      return ((PrimitiveFloatList) list)::getPrimitive;
+    }
+    return list::get;
+  }
+
   private static float dotProduct(int size, FloatSupplierByIndex floatSupplier1, FloatSupplierByIndex floatSupplier2) {
     float dotProductResult = 0.0f;
 
@@ -259,16 +258,8 @@ public class ComputeUtils {
   }
 
   public static float squaredL2Norm(List<Float> list) {
-    if (list instanceof PrimitiveFloatList) {
-      PrimitiveFloatList primitiveFloatList = (PrimitiveFloatList) list;
-      int size = primitiveFloatList.size();
-      FloatSupplierByIndex floatSupplierByIndex = primitiveFloatList::getPrimitive;
-      return dotProduct(size, floatSupplierByIndex, floatSupplierByIndex);
-    } else {
-      int size = list.size();
-      FloatSupplierByIndex floatSupplierByIndex = list::get;
-      return dotProduct(size, floatSupplierByIndex, floatSupplierByIndex);
-    }
+    FloatSupplierByIndex floatSupplierByIndex = getFloatSupplier(list);
+    return dotProduct(list.size(), floatSupplierByIndex, floatSupplierByIndex);
   }
 
   /**
@@ -0,0 +1,47 @@
+package com.linkedin.venice.serializer;
+
+import com.linkedin.avro.api.PrimitiveFloatList;
+import com.linkedin.avro.fastserde.primitive.PrimitiveFloatArrayList;
+import java.io.IOException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.ResolvingDecoder;
+
+
+/**
+ * {@code PrimitiveFloatListDatumReader} deserializes {@code array<float>} items straight into a
+ * {@link PrimitiveFloatList} backed by a primitive float array, instead of the {@link java.util.List} of boxed
+ * {@link Float} produced by the vanilla {@link GenericDatumReader}. This is the same representation which the
+ * fast-avro deserializers produce, so that the read compute operators can run over it without boxing regardless
+ * of whether fast-avro is enabled.
+ *
+ * When a previous instance of the record is passed in for re-use, its float lists get cleared and re-populated,
+ * rather than re-allocated.
+ */
+public class PrimitiveFloatListDatumReader<T> extends GenericDatumReader<T> {
+  public PrimitiveFloatListDatumReader(Schema writer, Schema reader) {
+    super(writer, reader);
+  }
+
+  @Override
+  protected Object readArray(Object old, Schema expected, ResolvingDecoder in) throws IOException {
+    if (expected.getElementType().getType() != Schema.Type.FLOAT) {
+      return super.readArray(old, expected, in);
+    }
+    long blockSize = in.readArrayStart();
+    PrimitiveFloatArrayList floatList;
+    if (old instanceof PrimitiveFloatArrayList) {
+      floatList = (PrimitiveFloatArrayList) old;
+      floatList.clear();
+    } else {
+      floatList = new PrimitiveFloatArrayList((int) blockSize);
+    }
+    while (blockSize > 0) {
+      for (long i = 0; i < blockSize; i++) {
+        floatList.addPrimitive(in.readFloat());
+      }
+      blockSize = in.arrayNext();
+    }
+    return floatList;
+  }
+}
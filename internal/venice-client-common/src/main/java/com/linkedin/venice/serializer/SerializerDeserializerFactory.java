@@ -94,6 +94,20 @@ public class SerializerDeserializerFactory {
         .computeIfAbsent(container, key -> new AvroGenericDeserializer<>(key.writer, key.reader));
   }
 
+  /**
+   * Same as {@link #getAvroGenericDeserializer(Schema, Schema)}, except that {@code array<float>} items are deserialized
+   * into primitive float lists, see {@link PrimitiveFloatListDatumReader}.
+   */
+  public static <V> RecordDeserializer<V> getAvroGenericDeserializerWithPrimitiveFloatList(
+      Schema writer,
+      Schema reader) {
+    SchemaPairAndClassContainer container =
+        new SchemaPairAndClassContainer(writer, reader, PrimitiveFloatListDatumReader.class);
+    return (AvroGenericDeserializer<V>) avroGenericDeserializerMap.computeIfAbsent(
+        container,
+        key -> new AvroGenericDeserializer<>(new PrimitiveFloatListDatumReader<>(key.writer, key.reader)));
+  }
+
   /**
    * This function is assuming that both writer and reader are using the same schema.
    * @param schema
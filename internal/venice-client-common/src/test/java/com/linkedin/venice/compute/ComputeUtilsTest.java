@@ -159,6 +159,15 @@ public class ComputeUtilsTest {
     Assert.assertEquals(result, expectedOutput);
   }
 
+  @Test
+  public void testDotProduct_MixedFloatLists() {
+    List<Float> list1 = Arrays.asList(1.0f, 2.0f, 3.0f);
+    PrimitiveFloatList list2 = createPrimitiveFloatList(4.0f, 5.0f, 6.0f);
+    Assert.assertEquals(ComputeUtils.dotProduct(list1, list2), 32.0f);
+    Assert.assertEquals(ComputeUtils.dotProduct(list2, list1), 32.0f);
+    Assert.assertEquals(ComputeUtils.hadamardProduct(list1, list2), Arrays.asList(4.0f, 10.0f, 18.0f));
+  }
+
   private static GenericRecord createGetNullableFieldValueAsListRecord() {
     Schema schema = SchemaBuilder.record("SampleSchema")
         .fields()
@@ -1,12 +1,17 @@
 package com.linkedin.venice.serializer;
 
+import com.linkedin.avro.api.PrimitiveFloatList;
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.schemas.TestValueRecord;
 import com.linkedin.venice.client.store.schemas.TestValueRecordWithMoreFields;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
 import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -54,6 +59,49 @@ public class SerializerDeserializerFactoryTest {
     Assert.assertSame(anotherDeserializer, deserializer);
   }
 
+  @Test
+  public void getAvroGenericDeserializerWithPrimitiveFloatListTest() {
+    Schema schema = SchemaBuilder.record("SampleSchema")
+        .fields()
+        .name("floatListField")
+        .type()
+        .array()
+        .items()
+        .floatType()
+        .noDefault()
+        .name("longListField")
+        .type()
+        .array()
+        .items()
+        .longType()
+        .noDefault()
+        .endRecord();
+    GenericData.Record record = new GenericData.Record(schema);
+    record.put("floatListField", Arrays.asList(1.0f, 2.0f, 3.0f));
+    record.put("longListField", Arrays.asList(1L, 2L));
+    byte[] serializedValue = SerializerDeserializerFactory.getAvroGenericSerializer(schema).serialize(record);
+
+    RecordDeserializer<GenericRecord> deserializer =
+        SerializerDeserializerFactory.getAvroGenericDeserializerWithPrimitiveFloatList(schema, schema);
+    Assert.assertSame(
+        SerializerDeserializerFactory.getAvroGenericDeserializerWithPrimitiveFloatList(schema, schema),
+        deserializer);
+    Assert.assertNotSame(SerializerDeserializerFactory.getAvroGenericDeserializer(schema, schema), deserializer);
+
+    GenericRecord deserializedRecord = deserializer.deserialize(serializedValue);
+    List<Float> floatList = (List<Float>) deserializedRecord.get("floatListField");
+    Assert.assertTrue(floatList instanceof PrimitiveFloatList);
+    Assert.assertEquals(floatList, Arrays.asList(1.0f, 2.0f, 3.0f));
+    Assert.assertEquals((List<Long>) deserializedRecord.get("longListField"), Arrays.asList(1L, 2L));
+
+    // The float list of a re-used record should be re-populated rather than re-allocated
+    record.put("floatListField", Arrays.asList(4.0f, 5.0f));
+    serializedValue = SerializerDeserializerFactory.getAvroGenericSerializer(schema).serialize(record);
+    GenericRecord reusedRecord = deserializer.deserialize(deserializedRecord, serializedValue);
+    Assert.assertSame(reusedRecord.get("floatListField"), floatList);
+    Assert.assertEquals(floatList, Arrays.asList(4.0f, 5.0f));
+  }
+
   @Test
   public void getAvroSpecificDeserializerTest() throws IOException, VeniceClientException {
     Schema actualSchema = TestValueRecord.SCHEMA$;
@@ -374,6 +374,15 @@ public class ConfigKeys {
   public static final String GRPC_READ_SERVER_PORT = "grpc.read.server.port";
   public static final String ENABLE_GRPC_READ_SERVER = "grpc.read.server.enabled";
   public static final String GRPC_SERVER_WORKER_THREAD_COUNT = "grpc.server.worker.thread.count";
+  /**
+   * The max number of records sent back in each response of the server-streaming gRPC batch get and compute calls.
+   */
+  public static final String GRPC_STREAMING_MAX_RECORDS_PER_RESPONSE = "grpc.streaming.max.records.per.response";
+  /**
+   * How long a server-streaming gRPC call waits for the client to read the responses already sent, before failing the
+   * request.
+   */
+  public static final String GRPC_STREAMING_MAX_READY_WAIT_MS = "grpc.streaming.max.ready.wait.ms";
 
   public static final String LISTENER_HOSTNAME = "listener.hostname";
 
@@ -392,8 +401,58 @@ public class ConfigKeys {
   public static final String UNSORTED_INPUT_DRAINER_SIZE = "unsorted.input.drainer.size";
   public static final String STORE_WRITER_BUFFER_AFTER_LEADER_LOGIC_ENABLED =
       "store.writer.buffer.after.leader.logic.enabled";
+  /**
+   * Whether to move topic partitions to the least loaded drainer whenever none of their records are buffered, instead
+   * of statically hashing each topic partition onto a drainer.
+   */
+  public static final String STORE_WRITER_DYNAMIC_DRAINER_ASSIGNMENT_ENABLED =
+      "store.writer.dynamic.drainer.assignment.enabled";
+
+  /**
+   * Whether drainers should accumulate the writes of each partition into a write batch, which is applied to the
+   * storage engine at once, instead of writing every record individually. Only the partitions that have received
+   * End of Push are batched, and only for stores that don't rely on the transient record cache, i.e. neither
+   * write-compute nor active/active stores, since their leaders read back what has been drained.
+   */
+  public static final String STORE_WRITER_WRITE_BATCH_ENABLED = "store.writer.write.batch.enabled";
+
+  /**
+   * The pending write batch of a partition is applied once its size reaches this threshold.
+   */
+  public static final String STORE_WRITER_WRITE_BATCH_MAX_SIZE_IN_BYTES = "store.writer.write.batch.max.size.in.bytes";
+
+  /**
+   * The pending write batch of a partition is applied once its oldest write has waited this long, which bounds the
+   * extra staleness of reads. The pending write batch is always applied before the offset of the partition is synced.
+   */
+  public static final String STORE_WRITER_WRITE_BATCH_MAX_DELAY_MS = "store.writer.write.batch.max.delay.ms";
 
   public static final String SERVER_INGESTION_TASK_MAX_IDLE_COUNT = "server.ingestion.task.max.idle.count";
+
+  /**
+   * Whether the leader of an active/active store should process each polled batch of real-time records with one
+   * key-level lock acquisition per distinct key, and with the existing values and replication metadata of these keys
+   * fetched by batched storage reads, instead of locking and looking up one record at a time.
+   */
+  public static final String SERVER_ACTIVE_ACTIVE_BATCH_CONFLICT_RESOLUTION_ENABLED =
+      "server.active.active.batch.conflict.resolution.enabled";
+
+  /**
+   * The maximum number of records processed together when
+   * {@link #SERVER_ACTIVE_ACTIVE_BATCH_CONFLICT_RESOLUTION_ENABLED} is on, which also bounds the number of distinct
+   * keys locked at once, since a batch may hold several records of the same key. Larger polled batches are split, which
+   * bounds how long consumers of other regions could wait for the locks of a batch.
+   */
+  public static final String SERVER_ACTIVE_ACTIVE_BATCH_CONFLICT_RESOLUTION_MAX_RECORDS =
+      "server.active.active.batch.conflict.resolution.max.records";
+
+  /**
+   * The number of striped key-level locks used by each active/active ingestion task, which is rounded up to a power
+   * of two. When it is positive, each key is guarded by the stripe its hash maps to, instead of a dedicated lock from
+   * a reference-counted pool. The default value 0 keeps using the pool.
+   */
+  public static final String SERVER_ACTIVE_ACTIVE_KEY_LEVEL_LOCK_STRIPE_COUNT =
+      "server.active.active.key.level.lock.stripe.count";
   public static final String STORE_WRITER_BUFFER_MEMORY_CAPACITY = "store.writer.buffer.memory.capacity";
   public static final String STORE_WRITER_BUFFER_NOTIFY_DELTA = "store.writer.buffer.notify.delta";
   public static final String SERVER_REST_SERVICE_STORAGE_THREAD_NUM = "server.rest.service.storage.thread.num";
@@ -556,6 +615,25 @@ public class ConfigKeys {
    */
   public static final String SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE = "server.parallel.batch.get.chunk.size";
 
+  /**
+   * Whether to choose the number of chunks of each parallel batch-get from the load of the read executor and the recent
+   * per-key lookup latency, instead of always splitting the keys into chunks of
+   * {@link #SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE}, which then becomes the min chunk size.
+   */
+  public static final String SERVER_PARALLEL_BATCH_GET_ADAPTIVE_ENABLED = "server.parallel.batch.get.adaptive.enabled";
+
+  /**
+   * The latency each chunk of an adaptive parallel batch-get aims for: requests expected to be faster aren't split.
+   */
+  public static final String SERVER_PARALLEL_BATCH_GET_TARGET_CHUNK_LATENCY_US =
+      "server.parallel.batch.get.target.chunk.latency.us";
+
+  /**
+   * Whether to look up the keys of batch-get and compute requests with one batched storage read (e.g. RocksDB
+   * MultiGet) per sub-partition, instead of one storage read per key.
+   */
+  public static final String SERVER_ENABLE_BATCH_LOOKUP = "server.enable.batch.lookup";
+
   /**
    * The request early termination threshold map:
    * The key will be store name, and the value will be the actual threshold.
@@ -1450,6 +1528,17 @@ public class ConfigKeys {
    */
   public static final String ROUTER_HTTP_CLIENT_OPENSSL_ENABLED = "router.http.client.openssl.enabled";
 
+  /**
+   * Comma-separated list of stores whose single-get responses should be cached in Router. Only batch-only stores
+   * will be cached, and the cache is disabled when the list is empty.
+   */
+  public static final String ROUTER_HOT_KEY_CACHE_STORES = "router.hot.key.cache.stores";
+
+  /**
+   * The max total size of the Router hot key cache, shared by all the enabled stores.
+   */
+  public static final String ROUTER_HOT_KEY_CACHE_SIZE_IN_BYTES = "router.hot.key.cache.size.in.bytes";
+
   /**
    * In Leader/Follower state transition model, in order to avoid split brain problem (multiple leaders) as much as possible,
    * the newly promoted leader should keep checking whether there is any new messages from the old leader in the version
@@ -1621,6 +1710,40 @@ public class ConfigKeys {
   public static final String ROUTER_HTTP_CLIENT5_SKIP_CIPHER_CHECK_ENABLED =
       "router.http.client5.skip.cipher.check.enabled";
 
+  /**
+   * Number of event loop threads used by the Netty HTTP/2 storage node client.
+   */
+  public static final String ROUTER_NETTY_HTTP2_CLIENT_EVENT_LOOP_THREAD_COUNT =
+      "router.netty.http2.client.event.loop.thread.count";
+
+  /**
+   * Maximum number of connections opened by the Netty HTTP/2 storage node client to each storage node, over which
+   * the requests are multiplexed.
+   */
+  public static final String ROUTER_NETTY_HTTP2_CLIENT_MAX_CONNECTIONS_PER_HOST =
+      "router.netty.http2.client.max.connections.per.host";
+
+  /**
+   * Lower bound of the adaptive number of concurrent streams the Netty HTTP/2 storage node client sends to each
+   * storage node.
+   */
+  public static final String ROUTER_NETTY_HTTP2_CLIENT_MIN_CONCURRENT_STREAMS_PER_HOST =
+      "router.netty.http2.client.min.concurrent.streams.per.host";
+
+  /**
+   * Upper bound of the adaptive number of concurrent streams the Netty HTTP/2 storage node client sends to each
+   * storage node.
+   */
+  public static final String ROUTER_NETTY_HTTP2_CLIENT_MAX_CONCURRENT_STREAMS_PER_HOST =
+      "router.netty.http2.client.max.concurrent.streams.per.host";
+
+  /**
+   * Response latency above which the Netty HTTP/2 storage node client considers a storage node as overloaded, and
+   * reduces the number of concurrent streams it sends to it.
+   */
+  public static final String ROUTER_NETTY_HTTP2_CLIENT_STREAM_LATENCY_THRESHOLD_MS =
+      "router.netty.http2.client.stream.latency.threshold.ms";
+
   /**
    * Number of IO threads used for AHAC client.
    */
@@ -1799,6 +1922,20 @@ public class ConfigKeys {
   public static final String CONTROLLER_AUTO_MATERIALIZE_DAVINCI_PUSH_STATUS_SYSTEM_STORE =
       "controller.auto.materialize.davinci.push.status.system.store";
 
+  /**
+   * Whether the controller writes the store metadata to ZK in the compact binary format of
+   * {@link com.linkedin.venice.helix.StoreBinarySerializer} instead of json. All the routers, servers and clients
+   * reading the store metadata from ZK must be able to read the binary format before enabling it.
+   */
+  public static final String CONTROLLER_STORE_METADATA_BINARY_FORMAT_ENABLED =
+      "controller.store.metadata.binary.format.enabled";
+
+  /**
+   * Whether the store metadata written in the binary format is compressed with gzip.
+   */
+  public static final String CONTROLLER_STORE_METADATA_COMPRESSION_ENABLED =
+      "controller.store.metadata.compression.enabled";
+
   /**
    * This will indicate which ReplicationMetadataSchemaGenerator version to use to generate replication metadata schema.
    * This config should be set on a per-cluster level, meaning that each cluster can have its own RMD version ID.
@@ -1949,10 +2086,24 @@ public class ConfigKeys {
   public static final String SERVER_SSL_HANDSHAKE_QUEUE_CAPACITY = "server.ssl.handshake.queue.capacity";
 
   /**
-   * Number of threads for online Venice producer controlling the number of concurrent write operations.
+   * Number of threads for online Venice producer, which serialize the write operations and hand them over to the
+   * PubSub producer.
    */
   public static final String CLIENT_PRODUCER_THREAD_NUM = "client.producer.thread.num";
 
+  /**
+   * Maximum number of write operations of the online Venice producer which can be waiting for the acknowledgement of
+   * the PubSub system. The write operations beyond this limit are queued until some in-flight ones complete.
+   */
+  public static final String CLIENT_PRODUCER_MAX_IN_FLIGHT_WRITES = "client.producer.max.in.flight.writes";
+
+  /**
+   * Maximum number of write operations of the online Venice producer which can be queued, waiting for the number of
+   * in-flight writes to get below {@link #CLIENT_PRODUCER_MAX_IN_FLIGHT_WRITES}. The write operations beyond this limit
+   * are not queued nor blocked: they fail right away with a rate-exceeded exception.
+   */
+  public static final String CLIENT_PRODUCER_MAX_PENDING_WRITES = "client.producer.max.pending.writes";
+
   /**
    * The refresh interval for online producer to refresh value schemas and update schemas that rely on periodic polling.
    */
@@ -2015,4 +2166,10 @@ public class ConfigKeys {
    * with SOS, EOS or skipped records.
    */
   public static final String SERVER_INGESTION_HEARTBEAT_INTERVAL_MS = "server.ingestion.heartbeat.interval.ms";
+
+  /**
+   * The size of the off-heap memory blocks (slabs) allocated by the OFF_HEAP_MEMORY storage engine. Records larger
+   * than a slab get a slab of their own.
+   */
+  public static final String SERVER_OFF_HEAP_MEMORY_SLAB_SIZE_IN_BYTES = "server.off.heap.memory.slab.size.in.bytes";
 }
@@ -41,20 +41,30 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   protected final Map<String, Store> storeMap = new VeniceConcurrentHashMap<>();
   private final AtomicLong totalStoreReadQuota = new AtomicLong();
   private final Set<StoreDataChangedListener> listeners = new CopyOnWriteArraySet<>();
+  private final StoreBinarySerializer storeSerializer;
 
   public CachedReadOnlyStoreRepository(
       ZkClient zkClient,
       String clusterName,
       HelixAdapterSerializer compositeSerializer,
       ClusterLockManager clusterLockManager) {
+    this(zkClient, clusterName, compositeSerializer, clusterLockManager, new StoreBinarySerializer());
+  }
+
+  protected CachedReadOnlyStoreRepository(
+      ZkClient zkClient,
+      String clusterName,
+      HelixAdapterSerializer compositeSerializer,
+      ClusterLockManager clusterLockManager,
+      StoreBinarySerializer storeSerializer) {
     this.zkClient = zkClient;
     this.zkDataAccessor = new ZkBaseDataAccessor<>(zkClient);
     this.clusterName = clusterName;
     this.clusterStoreRepositoryPath =
         Paths.get(HelixUtils.getHelixClusterZkPath(clusterName), STORE_REPOSITORY_PATH).toString();
     compositeSerializer.registerSerializer(clusterStoreRepositoryPath, new VeniceJsonSerializer<>(Integer.TYPE));
-    compositeSerializer
-        .registerSerializer(getStoreZkPath(PathResourceRegistry.WILDCARD_MATCH_ANY), new StoreJSONSerializer());
+    this.storeSerializer = storeSerializer;
+    compositeSerializer.registerSerializer(getStoreZkPath(PathResourceRegistry.WILDCARD_MATCH_ANY), storeSerializer);
     zkClient.setZkSerializer(compositeSerializer);
     this.clusterLockManager = clusterLockManager;
   }
@@ -180,6 +190,7 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
         totalStoreReadQuota.addAndGet(-oldStore.getReadQuotaInCU());
         notifyStoreDeleted(oldStore);
       }
+      storeSerializer.clearDecodedVersions(getStoreZkPath(storeName));
       return oldStore;
     }
   }
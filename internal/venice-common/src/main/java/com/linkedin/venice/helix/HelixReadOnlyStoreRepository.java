@@ -28,8 +28,15 @@ public class HelixReadOnlyStoreRepository extends CachedReadOnlyStoreRepository
     /**
      * HelixReadOnlyStoreRepository is used in router, server, fast-client, da-vinci and system store.
      * Its centralized locking should NOT be shared with other classes. Create a new instance.
+     * The stores are only exposed as read-only stores, so the versions which didn't change can be shared between the
+     * successive reads of a store.
      */
-    super(zkClient, clusterName, compositeSerializer, new ClusterLockManager(clusterName));
+    super(
+        zkClient,
+        clusterName,
+        compositeSerializer,
+        new ClusterLockManager(clusterName),
+        new StoreBinarySerializer(false, false, true));
   }
 
   @Override
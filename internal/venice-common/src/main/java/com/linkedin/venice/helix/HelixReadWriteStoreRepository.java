@@ -30,7 +30,20 @@ public class HelixReadWriteStoreRepository extends CachedReadOnlyStoreRepository
       String clusterName,
       Optional<MetaStoreWriter> metaStoreWriter,
       ClusterLockManager storeLock) {
-    super(zkClient, clusterName, compositeSerializer, storeLock);
+    this(zkClient, compositeSerializer, clusterName, metaStoreWriter, storeLock, new StoreBinarySerializer());
+  }
+
+  /**
+   * @param storeSerializer decides the format in which the stores are written to ZK, see {@link StoreBinarySerializer}.
+   */
+  public HelixReadWriteStoreRepository(
+      ZkClient zkClient,
+      HelixAdapterSerializer compositeSerializer,
+      String clusterName,
+      Optional<MetaStoreWriter> metaStoreWriter,
+      ClusterLockManager storeLock,
+      StoreBinarySerializer storeSerializer) {
+    super(zkClient, clusterName, compositeSerializer, storeLock, storeSerializer);
     this.clusterName = clusterName;
     this.metaStoreWriter = metaStoreWriter;
   }
@@ -0,0 +1,277 @@
+package com.linkedin.venice.helix;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.GzipCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.VeniceSerializer;
+import com.linkedin.venice.meta.ZKStore;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.systemstore.schemas.StorePartitionerConfig;
+import com.linkedin.venice.systemstore.schemas.StoreProperties;
+import com.linkedin.venice.systemstore.schemas.StoreVersion;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+
+
+/**
+ * Serializer used to convert the data between {@link Store} and a compact binary format, which is the Avro encoding
+ * of the {@link StoreProperties} backing {@link ZKStore}, as used by the meta system store.
+ *
+ * The binary format is laid out as follows:
+ * 1. A magic byte, which can't be the first byte of a json document, so that json and binary data can be told apart.
+ * 2. The protocol version of {@link AvroProtocolDefinition#METADATA_SYSTEM_SCHEMA_STORE} used by the writer, which
+ *    allows the readers to resolve older (or newer, if known) writer schemas.
+ * 3. The {@link CompressionStrategy} of the payload, either {@link CompressionStrategy#NO_OP} or
+ *    {@link CompressionStrategy#GZIP}.
+ * 4. The payload, which is made of the store level fields encoded as a {@link StoreProperties} without any version,
+ *    followed by the number of versions and the Avro encoding of every {@link StoreVersion}, prefixed by its length.
+ *
+ * Encoding every version separately allows to skip decoding the versions which didn't change since the previous read of
+ * the same znode, when {@link #reuseUnchangedVersions} is enabled. As store updates typically touch a few fields or a
+ * single version, this saves most of the decoding on the readers, especially for the stores with many versions.
+ *
+ * The data written in json by {@link StoreJSONSerializer} can always be read, and the json format is also used to write
+ * unless {@link #binaryWriteEnabled} is set, so that all the readers can be upgraded before the writers switch to the
+ * binary format.
+ */
+public class StoreBinarySerializer implements VeniceSerializer<Store> {
+  /**
+   * ZK has a max size limit of 0xfffff bytes or just under 1 MB of data per znode specified by jute.maxbuffer.
+   */
+  private static final int SERIALIZED_STORE_SIZE_LIMIT = 0xfffff;
+  static final byte MAGIC_BYTE = 0;
+  private static final int MAGIC_BYTE_OFFSET = 0;
+  private static final int PROTOCOL_VERSION_OFFSET = 1;
+  private static final int COMPRESSION_STRATEGY_OFFSET = 2;
+  private static final int PAYLOAD_OFFSET = 3;
+
+  private static final AvroProtocolDefinition PROTOCOL = AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE;
+  private static final Map<Integer, Schema> PROTOCOL_SCHEMAS = Utils.getAllSchemasFromResources(PROTOCOL);
+
+  private static final SpecificDatumWriter<StoreProperties> STORE_WRITER =
+      new SpecificDatumWriter<>(StoreProperties.SCHEMA$);
+  private static final SpecificDatumWriter<StoreVersion> VERSION_WRITER =
+      new SpecificDatumWriter<>(StoreVersion.SCHEMA$);
+  private static final Map<Integer, SpecificDatumReader<StoreProperties>> STORE_READERS =
+      new VeniceConcurrentHashMap<>();
+  private static final Map<Integer, SpecificDatumReader<StoreVersion>> VERSION_READERS =
+      new VeniceConcurrentHashMap<>();
+
+  private final StoreJSONSerializer jsonSerializer = new StoreJSONSerializer();
+  private final GzipCompressor compressor = new GzipCompressor();
+  private final boolean binaryWriteEnabled;
+  private final boolean compressionEnabled;
+  private final boolean reuseUnchangedVersions;
+  /**
+   * The versions decoded during the previous read of each znode, by their encoded bytes.
+   */
+  private final Map<String, Map<ByteBuffer, StoreVersion>> decodedVersionsByPath = new VeniceConcurrentHashMap<>();
+
+  /**
+   * Creates a serializer which reads both formats, but only writes json.
+   */
+  public StoreBinarySerializer() {
+    this(false, false, false);
+  }
+
+  /**
+   * @param binaryWriteEnabled whether to write in the binary format instead of json.
+   * @param compressionEnabled whether to compress the binary payload with gzip.
+   * @param reuseUnchangedVersions whether to reuse the versions decoded by the previous read of the same znode when
+   *                               their encoding didn't change. The deserialized stores share these versions, so it
+   *                               must only be enabled when the deserialized stores are not modified.
+   */
+  public StoreBinarySerializer(
+      boolean binaryWriteEnabled,
+      boolean compressionEnabled,
+      boolean reuseUnchangedVersions) {
+    this.binaryWriteEnabled = binaryWriteEnabled;
+    this.compressionEnabled = compressionEnabled;
+    this.reuseUnchangedVersions = reuseUnchangedVersions;
+  }
+
+  @Override
+  public byte[] serialize(Store object, String path) throws IOException {
+    if (!binaryWriteEnabled) {
+      return jsonSerializer.serialize(object, path);
+    }
+    /**
+     * This function will only serialize {@link ZKStore}.
+     */
+    if (!(object instanceof ZKStore)) {
+      throw new VeniceException("This serializer only supports ZKStore type for binary serialization");
+    }
+    /**
+     * The readers fill the missing fields of the versions with the store level configs, which would modify the
+     * versions shared by the stores deserialized with {@link #reuseUnchangedVersions}, so they are filled beforehand.
+     */
+    object.fixMissingFields();
+    StoreProperties storeProperties = ((ZKStore) object).dataModel();
+
+    ByteArrayOutputStream payloadStream = new ByteArrayOutputStream();
+    BinaryEncoder encoder = AvroCompatibilityHelper.newBinaryEncoder(payloadStream, true, null);
+    STORE_WRITER.write(withoutVersions(storeProperties), encoder);
+    encoder.writeInt(storeProperties.versions.size());
+    ByteArrayOutputStream versionStream = new ByteArrayOutputStream();
+    BinaryEncoder versionEncoder = AvroCompatibilityHelper.newBinaryEncoder(versionStream, true, null);
+    for (StoreVersion version: storeProperties.versions) {
+      versionStream.reset();
+      VERSION_WRITER.write(version, versionEncoder);
+      versionEncoder.flush();
+      encoder.writeBytes(versionStream.toByteArray());
+    }
+    encoder.flush();
+
+    CompressionStrategy compressionStrategy =
+        compressionEnabled ? CompressionStrategy.GZIP : CompressionStrategy.NO_OP;
+    byte[] payload = payloadStream.toByteArray();
+    if (compressionEnabled) {
+      payload = compressor.compress(payload);
+    }
+    byte[] serializedStore = new byte[PAYLOAD_OFFSET + payload.length];
+    serializedStore[MAGIC_BYTE_OFFSET] = MAGIC_BYTE;
+    serializedStore[PROTOCOL_VERSION_OFFSET] = (byte) PROTOCOL.getCurrentProtocolVersion();
+    serializedStore[COMPRESSION_STRATEGY_OFFSET] = (byte) compressionStrategy.getValue();
+    System.arraycopy(payload, 0, serializedStore, PAYLOAD_OFFSET, payload.length);
+    if (serializedStore.length > SERIALIZED_STORE_SIZE_LIMIT) {
+      throw new IOException("Serialized store exceeded the size limit of " + SERIALIZED_STORE_SIZE_LIMIT + " bytes");
+    }
+    return serializedStore;
+  }
+
+  @Override
+  public Store deserialize(byte[] bytes, String path) throws IOException {
+    if (bytes.length == 0 || bytes[MAGIC_BYTE_OFFSET] != MAGIC_BYTE) {
+      return jsonSerializer.deserialize(bytes, path);
+    }
+    if (bytes.length < PAYLOAD_OFFSET) {
+      throw new IOException("Invalid serialized store of " + bytes.length + " bytes at path: " + path);
+    }
+    int protocolVersion = bytes[PROTOCOL_VERSION_OFFSET];
+    CompressionStrategy compressionStrategy = CompressionStrategy.valueOf(bytes[COMPRESSION_STRATEGY_OFFSET]);
+    ByteBuffer payload;
+    if (compressionStrategy == CompressionStrategy.NO_OP) {
+      payload = ByteBuffer.wrap(bytes, PAYLOAD_OFFSET, bytes.length - PAYLOAD_OFFSET);
+    } else if (compressionStrategy == CompressionStrategy.GZIP) {
+      payload = compressor.decompress(bytes, PAYLOAD_OFFSET, bytes.length - PAYLOAD_OFFSET);
+    } else {
+      throw new IOException("Unsupported compression strategy: " + compressionStrategy + " at path: " + path);
+    }
+
+    BinaryDecoder decoder = AvroCompatibilityHelper
+        .newBinaryDecoder(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining(), null);
+    StoreProperties storeProperties = getStoreReader(protocolVersion).read(null, decoder);
+    useStringKeys(storeProperties.partitionerConfig);
+    if (storeProperties.views != null) {
+      storeProperties.views = withStringKeys(storeProperties.views);
+    }
+    Map<ByteBuffer, StoreVersion> previousVersions =
+        reuseUnchangedVersions && path != null ? decodedVersionsByPath.get(path) : null;
+    Map<ByteBuffer, StoreVersion> decodedVersions = new HashMap<>();
+    int versionCount = decoder.readInt();
+    List<StoreVersion> versions = new ArrayList<>(versionCount);
+    for (int i = 0; i < versionCount; i++) {
+      ByteBuffer encodedVersion = decoder.readBytes(null);
+      StoreVersion version = previousVersions == null ? null : previousVersions.get(encodedVersion);
+      if (version == null) {
+        version = getVersionReader(protocolVersion).read(
+            null,
+            AvroCompatibilityHelper.newBinaryDecoder(
+                encodedVersion.array(),
+                encodedVersion.arrayOffset() + encodedVersion.position(),
+                encodedVersion.remaining(),
+                null));
+        useStringKeys(version.partitionerConfig);
+      }
+      decodedVersions.put(encodedVersion, version);
+      versions.add(version);
+    }
+    if (reuseUnchangedVersions && path != null) {
+      decodedVersionsByPath.put(path, decodedVersions);
+    }
+    storeProperties.versions = versions;
+    return new ZKStore(storeProperties);
+  }
+
+  /**
+   * Drops the versions kept for the given znode, which should be called once the store is deleted.
+   */
+  public void clearDecodedVersions(String path) {
+    decodedVersionsByPath.remove(path);
+  }
+
+  /**
+   * @return a shallow copy of the given store properties without any version.
+   */
+  private static StoreProperties withoutVersions(StoreProperties storeProperties) {
+    StoreProperties storeFields = new StoreProperties();
+    for (Schema.Field field: StoreProperties.SCHEMA$.getFields()) {
+      storeFields.put(field.pos(), storeProperties.get(field.pos()));
+    }
+    storeFields.versions = Collections.emptyList();
+    return storeFields;
+  }
+
+  /**
+   * The maps which are populated with {@link String} keys by the setters of the store are decoded with
+   * {@link org.apache.avro.util.Utf8} keys, which would make the decoded store differ from the one written.
+   */
+  private static void useStringKeys(StorePartitionerConfig partitionerConfig) {
+    if (partitionerConfig != null && partitionerConfig.partitionerParams != null) {
+      partitionerConfig.partitionerParams = withStringKeys(partitionerConfig.partitionerParams);
+    }
+  }
+
+  private static <V> Map<CharSequence, V> withStringKeys(Map<CharSequence, V> map) {
+    Map<CharSequence, V> stringKeyedMap = new HashMap<>(map.size());
+    map.forEach((key, value) -> stringKeyedMap.put(key.toString(), value));
+    return stringKeyedMap;
+  }
+
+  private static SpecificDatumReader<StoreProperties> getStoreReader(int protocolVersion) throws IOException {
+    Schema writerSchema = getWriterStoreSchema(protocolVersion);
+    return STORE_READERS.computeIfAbsent(
+        protocolVersion,
+        version -> new SpecificDatumReader<>(writerSchema, StoreProperties.SCHEMA$));
+  }
+
+  private static SpecificDatumReader<StoreVersion> getVersionReader(int protocolVersion) throws IOException {
+    Schema writerSchema = getWriterStoreSchema(protocolVersion).getField("versions").schema().getElementType();
+    return VERSION_READERS
+        .computeIfAbsent(protocolVersion, version -> new SpecificDatumReader<>(writerSchema, StoreVersion.SCHEMA$));
+  }
+
+  /**
+   * @return the {@link StoreProperties} schema nested in the meta system store value schema of the given version.
+   */
+  private static Schema getWriterStoreSchema(int protocolVersion) throws IOException {
+    Schema metaValueSchema = PROTOCOL_SCHEMAS.get(protocolVersion);
+    if (metaValueSchema == null) {
+      throw new IOException(
+          "Unknown protocol version: " + protocolVersion + " of " + PROTOCOL + ", the known ones are: "
+              + PROTOCOL_SCHEMAS.keySet());
+    }
+    for (Schema schema: metaValueSchema.getField("storeProperties").schema().getTypes()) {
+      if (schema.getType() == Schema.Type.RECORD) {
+        return schema;
+      }
+    }
+    throw new VeniceException(
+        "Failed to find the store properties in protocol version: " + protocolVersion + " of " + PROTOCOL);
+  }
+}
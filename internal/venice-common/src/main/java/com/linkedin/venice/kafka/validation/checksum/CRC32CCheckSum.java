@@ -0,0 +1,199 @@
+package com.linkedin.venice.kafka.validation.checksum;
+
+import com.linkedin.venice.utils.ByteUtils;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.zip.Checksum;
+
+
+/**
+ * CRC32C (Castagnoli) running checksum, which is hardware accelerated by the JVM on Java 9+, and which supports
+ * checkpointing, unlike {@link CRC32CheckSum} and {@link Adler32CheckSum}.
+ *
+ * The JDK implementation can't be seeded with a previous state, so a checksum restored from its encoded state keeps
+ * the CRC of the data checkpointed so far on the side, computes the CRC of the data added afterwards from scratch, and
+ * combines both whenever the running value is needed, which only costs a logarithmic number of small matrix
+ * operations in the length of the new data.
+ */
+public class CRC32CCheckSum extends CheckSum {
+  /**
+   * Reversed polynomial of CRC32C.
+   */
+  private static final int POLYNOMIAL = 0x82F63B78;
+  private static final MethodHandle JDK_CRC32C_CONSTRUCTOR = getJdkCrc32CConstructor();
+
+  private final Checksum checkSumGenerator;
+  /**
+   * The CRC of the data checkpointed before this instance was restored, which precedes all the data the generator has
+   * seen.
+   */
+  private int checkpointedCrc;
+  private long lengthSinceCheckpoint;
+
+  public CRC32CCheckSum() {
+    this.checkSumGenerator = newCrc32C();
+  }
+
+  public CRC32CCheckSum(byte[] encodedState) {
+    this();
+    this.checkpointedCrc = ByteUtils.readInt(encodedState, 0);
+  }
+
+  @Override
+  public byte[] getFinalCheckSum() {
+    byte[] returnedCheckSum = new byte[ByteUtils.SIZE_OF_LONG];
+    ByteUtils.writeLong(returnedCheckSum, getCurrentCrc() & 0xFFFFFFFFL, 0);
+    return returnedCheckSum;
+  }
+
+  @Override
+  public void updateChecksum(byte[] input, int startIndex, int length) {
+    checkSumGenerator.update(input, startIndex, length);
+    lengthSinceCheckpoint += length;
+  }
+
+  @Override
+  public void resetInternal() {
+    checkSumGenerator.reset();
+    checkpointedCrc = 0;
+    lengthSinceCheckpoint = 0;
+  }
+
+  @Override
+  public CheckSumType getType() {
+    return CheckSumType.CRC32C;
+  }
+
+  @Override
+  public byte[] getEncodedState() {
+    byte[] encodedState = new byte[ByteUtils.SIZE_OF_INT];
+    ByteUtils.writeInt(encodedState, getCurrentCrc(), 0);
+    return encodedState;
+  }
+
+  private int getCurrentCrc() {
+    return combine(checkpointedCrc, (int) checkSumGenerator.getValue(), lengthSinceCheckpoint);
+  }
+
+  /**
+   * @return the CRC of the concatenation of two byte sequences, given their CRCs and the length of the second one.
+   *         This is the {@code crc32_combine} algorithm of zlib.
+   */
+  static int combine(int crc1, int crc2, long length2) {
+    if (length2 <= 0) {
+      return crc1;
+    }
+    int[] even = new int[32];
+    int[] odd = new int[32];
+
+    // The operator for one zero bit
+    odd[0] = POLYNOMIAL;
+    int row = 1;
+    for (int n = 1; n < 32; n++) {
+      odd[n] = row;
+      row <<= 1;
+    }
+    // The operator for two zero bits, and then for four zero bits
+    squareMatrix(even, odd);
+    squareMatrix(odd, even);
+
+    // Apply the zeros of the second sequence to the first CRC, the first square giving the operator for one zero byte
+    do {
+      squareMatrix(even, odd);
+      if ((length2 & 1) != 0) {
+        crc1 = multiplyMatrix(even, crc1);
+      }
+      length2 >>= 1;
+      if (length2 == 0) {
+        break;
+      }
+      squareMatrix(odd, even);
+      if ((length2 & 1) != 0) {
+        crc1 = multiplyMatrix(odd, crc1);
+      }
+      length2 >>= 1;
+    } while (length2 != 0);
+    return crc1 ^ crc2;
+  }
+
+  private static int multiplyMatrix(int[] matrix, int vector) {
+    int sum = 0;
+    for (int i = 0; vector != 0; i++, vector >>>= 1) {
+      if ((vector & 1) != 0) {
+        sum ^= matrix[i];
+      }
+    }
+    return sum;
+  }
+
+  private static void squareMatrix(int[] square, int[] matrix) {
+    for (int n = 0; n < 32; n++) {
+      square[n] = multiplyMatrix(matrix, matrix[n]);
+    }
+  }
+
+  private static MethodHandle getJdkCrc32CConstructor() {
+    try {
+      return MethodHandles.publicLookup()
+          .findConstructor(Class.forName("java.util.zip.CRC32C"), MethodType.methodType(void.class));
+    } catch (ReflectiveOperationException e) {
+      // Not available before Java 9
+      return null;
+    }
+  }
+
+  private static Checksum newCrc32C() {
+    if (JDK_CRC32C_CONSTRUCTOR != null) {
+      try {
+        return (Checksum) JDK_CRC32C_CONSTRUCTOR.invoke();
+      } catch (Throwable e) {
+        // Fall back to the pure Java implementation below
+      }
+    }
+    return new PureJavaCrc32C();
+  }
+
+  /**
+   * A table-driven CRC32C for JVMs without {@code java.util.zip.CRC32C}.
+   */
+  private static class PureJavaCrc32C implements Checksum {
+    private static final int[] TABLE = new int[256];
+
+    static {
+      for (int i = 0; i < 256; i++) {
+        int crc = i;
+        for (int bit = 0; bit < 8; bit++) {
+          crc = (crc & 1) != 0 ? (crc >>> 1) ^ POLYNOMIAL : crc >>> 1;
+        }
+        TABLE[i] = crc;
+      }
+    }
+
+    private int crc = 0xFFFFFFFF;
+
+    @Override
+    public void update(int b) {
+      crc = (crc >>> 8) ^ TABLE[(crc ^ b) & 0xFF];
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+      int localCrc = crc;
+      for (int i = off; i < off + len; i++) {
+        localCrc = (localCrc >>> 8) ^ TABLE[(localCrc ^ b[i]) & 0xFF];
+      }
+      crc = localCrc;
+    }
+
+    @Override
+    public long getValue() {
+      return (~crc) & 0xFFFFFFFFL;
+    }
+
+    @Override
+    public void reset() {
+      crc = 0xFFFFFFFF;
+    }
+  }
+}
@@ -130,6 +130,8 @@ public abstract class CheckSum {
         return new Adler32CheckSum();
       case CRC32:
         return new CRC32CheckSum();
+      case CRC32C:
+        return new CRC32CCheckSum();
       case MD5:
         return new MD5CheckSum();
       default:
@@ -144,6 +146,8 @@ public abstract class CheckSum {
           return null;
         case MD5:
           return new MD5CheckSum(encodedState);
+        case CRC32C:
+          return new CRC32CCheckSum(encodedState);
         default:
           return null;
       }
@@ -33,7 +33,12 @@ public enum PersistenceType {
   /**
    * Similar to IN_MEMORY but with different retention rules of data (that is, data is evicted under certain circumstances)
    */
-  CACHE(4);
+  CACHE(4),
+
+  /**
+   * Volatile storage engine which keeps the records sorted by key, with the records themselves in off-heap memory.
+   */
+  OFF_HEAP_MEMORY(5);
 
   public final int value;
 
@@ -27,6 +27,13 @@ public class AvroStoreDeserializerCache<T> implements StoreDeserializerCache<T>
             : SerializerDeserializerFactory::getAvroGenericDeserializer);
   }
 
+  public AvroStoreDeserializerCache(
+      ReadOnlySchemaRepository schemaRepository,
+      String storeName,
+      BiFunction<Schema, Schema, RecordDeserializer<T>> deserializerGetter) {
+    this(id -> schemaRepository.getValueSchema(storeName, id).getSchema(), deserializerGetter);
+  }
+
   private AvroStoreDeserializerCache(
       IntFunction<Schema> schemaGetter,
       BiFunction<Schema, Schema, RecordDeserializer<T>> deserializerGetter) {
@@ -18,6 +18,20 @@ public class RocksDBUtils {
   private static final String TEMP_RMD_SST_FILE_DIR = ".sst_rmd_files";
   private static final String TEMP_SST_FILE_PREFIX = "sst_file_";
   private static final String TEMP_RMD_SST_FILE_PREFIX = "sst_rmd_file_";
+  private static final String PUSH_SST_FILE_PREFIX = "push_sst_file_";
+  private static final String PUSH_SST_FILE_METADATA_SUFFIX = ".metadata";
+
+  /**
+   * Key of the debug info of the end of push control message, which announces the directory holding the SST files
+   * generated by the push job, when its records are not in the version topic.
+   */
+  public static final String PUSH_SST_FILE_DIR = "push.sst.file.dir";
+
+  /**
+   * Keys of the metadata file written by the push job alongside the SST file of each partition.
+   */
+  public static final String PUSH_SST_FILE_RECORD_COUNT = "record.count";
+  public static final String PUSH_SST_FILE_CHECKSUM = "checksum";
 
   public static String getPartitionDbName(String storeName, int partitionId) {
     return String.format(PARTITION_DB_NAME, storeName, partitionId);
@@ -84,4 +98,12 @@ public class RocksDBUtils {
     }
     return Integer.parseInt(fileName.substring(TEMP_RMD_SST_FILE_PREFIX.length()));
   }
+
+  public static String composePushSSTFileName(int partitionId) {
+    return PUSH_SST_FILE_PREFIX + partitionId;
+  }
+
+  public static String composePushSSTFileMetadataName(int partitionId) {
+    return composePushSSTFileName(partitionId) + PUSH_SST_FILE_METADATA_SUFFIX;
+  }
 }
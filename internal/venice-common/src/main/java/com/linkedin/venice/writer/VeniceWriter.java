@@ -63,6 +63,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -139,7 +140,8 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
   public static final int DEFAULT_CLOSE_TIMEOUT_MS = 30 * Time.MS_PER_SECOND;
 
   /**
-   * Default checksum type. N.B.: Only MD5 (and having no checksums) supports checkpointing mid-checksum.
+   * Default checksum type. N.B.: Only MD5, CRC32C (and having no checksums) support checkpointing mid-checksum.
+   * CRC32C is much cheaper to compute, but can only be used once all the consumers are able to validate it.
    */
   public static final String DEFAULT_CHECK_SUM_TYPE = CheckSumType.MD5.name();
 
@@ -854,7 +856,35 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
     byte[] serializedKey = keySerializer.serialize(topicName, key);
     byte[] serializedValue = valueSerializer.serialize(topicName, value);
     int partition = getPartition(serializedKey);
+    return putSerialized(
+        serializedKey,
+        serializedValue,
+        valueSchemaId,
+        callback,
+        partition,
+        leaderMetadataWrapper,
+        logicalTs,
+        putMetadata,
+        oldValueManifest,
+        oldRmdManifest);
+  }
 
+  /**
+   * The part of {@link #put(Object, Object, int, PubSubProducerCallback, LeaderMetadataWrapper, long, PutMetadata,
+   * ChunkedValueManifest, ChunkedValueManifest)} which runs once the record has been serialized and its partition is
+   * known, shared with {@link #putBatch}.
+   */
+  private CompletableFuture<PubSubProduceResult> putSerialized(
+      byte[] serializedKey,
+      byte[] serializedValue,
+      int valueSchemaId,
+      PubSubProducerCallback callback,
+      int partition,
+      LeaderMetadataWrapper leaderMetadataWrapper,
+      long logicalTs,
+      PutMetadata putMetadata,
+      ChunkedValueManifest oldValueManifest,
+      ChunkedValueManifest oldRmdManifest) {
     int replicationMetadataPayloadSize = putMetadata == null ? 0 : putMetadata.getSerializedSize();
     isChunkingFlagInvoked = true;
     if (serializedKey.length + serializedValue.length
@@ -923,6 +953,87 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
     return produceResultFuture;
   }
 
+  /**
+   * Execute a standard "put" on each of the {@param keys}, with the value at the same index of {@param values}. This is
+   * equivalent to calling {@link #put(Object, Object, int, PubSubProducerCallback)} for every record in order, but it
+   * is cheaper for large numbers of small records, since the records are grouped by partition and all the records of a
+   * partition are sent with a single acquisition of the partition lock.
+   *
+   * Records too large for a single message are chunked as usual. A {@link ChunkAwareCallback} keeps track of a single
+   * record, so such a callback falls back to one {@link #put} per record.
+   *
+   * @param callback invoked once for every record of the batch, and could be null.
+   * @return the futures of the records, in the same order as {@param keys}.
+   */
+  public List<CompletableFuture<PubSubProduceResult>> putBatch(
+      List<K> keys,
+      List<V> values,
+      int valueSchemaId,
+      PubSubProducerCallback callback) {
+    if (keys.size() != values.size()) {
+      throw new IllegalArgumentException(
+          "The number of keys: " + keys.size() + " doesn't match the number of values: " + values.size());
+    }
+    List<CompletableFuture<PubSubProduceResult>> futures = new ArrayList<>(Collections.nCopies(keys.size(), null));
+    if (callback instanceof ChunkAwareCallback) {
+      for (int i = 0; i < keys.size(); i++) {
+        futures.set(
+            i,
+            put(
+                keys.get(i),
+                values.get(i),
+                valueSchemaId,
+                callback,
+                DEFAULT_LEADER_METADATA_WRAPPER,
+                APP_DEFAULT_LOGICAL_TS,
+                null));
+      }
+      return futures;
+    }
+
+    /**
+     * Serialize and validate everything before taking any lock, so that a record too large to be sent fails the whole
+     * batch before any record gets produced. The records of each partition are kept in their original order.
+     */
+    byte[][] serializedKeys = new byte[keys.size()][];
+    byte[][] serializedValues = new byte[keys.size()][];
+    Map<Integer, List<Integer>> recordIndicesByPartition = new LinkedHashMap<>();
+    for (int i = 0; i < keys.size(); i++) {
+      serializedKeys[i] = keySerializer.serialize(topicName, keys.get(i));
+      serializedValues[i] = valueSerializer.serialize(topicName, values.get(i));
+      if (!isChunkingEnabled
+          && serializedKeys[i].length + serializedValues[i].length > maxSizeForUserPayloadPerMessageInBytes) {
+        throw new RecordTooLargeException(
+            "This record exceeds the maximum size. "
+                + getSizeReport(serializedKeys[i].length, serializedValues[i].length, 0));
+      }
+      recordIndicesByPartition.computeIfAbsent(getPartition(serializedKeys[i]), p -> new ArrayList<>()).add(i);
+    }
+
+    for (Map.Entry<Integer, List<Integer>> entry: recordIndicesByPartition.entrySet()) {
+      int partition = entry.getKey();
+      // The lock is reentrant, so sending each record re-acquires it without contention.
+      synchronized (this.partitionLocks[partition]) {
+        for (int i: entry.getValue()) {
+          futures.set(
+              i,
+              putSerialized(
+                  serializedKeys[i],
+                  serializedValues[i],
+                  valueSchemaId,
+                  callback,
+                  partition,
+                  DEFAULT_LEADER_METADATA_WRAPPER,
+                  APP_DEFAULT_LOGICAL_TS,
+                  null,
+                  null,
+                  null));
+        }
+      }
+    }
+    return futures;
+  }
+
   /**
    * Write a message with the kafka message envelope (KME) passed in. This allows users re-using existing KME to
    * speed up the performance. If this is called, VeniceWriter will also reuse the existing DIV data (producer
@@ -0,0 +1,119 @@
+package com.linkedin.venice.helix;
+
+import com.linkedin.venice.meta.BufferReplayPolicy;
+import com.linkedin.venice.meta.DataReplicationPolicy;
+import com.linkedin.venice.meta.HybridStoreConfigImpl;
+import com.linkedin.venice.meta.PartitionerConfigImpl;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.VersionImpl;
+import com.linkedin.venice.meta.VersionStatus;
+import com.linkedin.venice.meta.ViewConfig;
+import com.linkedin.venice.meta.ViewConfigImpl;
+import com.linkedin.venice.meta.ZKStore;
+import com.linkedin.venice.systemstore.schemas.StoreVersion;
+import com.linkedin.venice.utils.TestUtils;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class TestStoreBinarySerializer {
+  private static final String PATH = "/test-cluster/Stores/s1";
+
+  private static Store createStore(int versionCount) {
+    Store store = TestUtils.createTestStore("s1", "owner", 1L);
+    store.setPartitionCount(10);
+    store.setPartitionerConfig(new PartitionerConfigImpl("TestPartitioner", Collections.singletonMap("k", "v"), 1));
+    store.setHybridStoreConfig(
+        new HybridStoreConfigImpl(
+            1000,
+            1000,
+            HybridStoreConfigImpl.DEFAULT_HYBRID_TIME_LAG_THRESHOLD,
+            DataReplicationPolicy.NON_AGGREGATE,
+            BufferReplayPolicy.REWIND_FROM_EOP));
+    Map<String, ViewConfig> viewConfigMap = new HashMap<>();
+    viewConfigMap.put(
+        "changeCapture",
+        new ViewConfigImpl("com.linkedin.venice.views.ChangeCaptureView", Collections.singletonMap("k", "v")));
+    store.setViewConfigs(viewConfigMap);
+    for (int i = 0; i < versionCount; i++) {
+      store.addVersion(new VersionImpl(store.getName(), store.getLargestUsedVersionNumber() + 1, "pushJobId" + i));
+    }
+    return store;
+  }
+
+  private static List<StoreVersion> getVersions(Store store) {
+    return ((ZKStore) store).dataModel().versions;
+  }
+
+  @DataProvider(name = "compressionEnabled")
+  public static Object[][] compressionEnabled() {
+    return new Object[][] { { false }, { true } };
+  }
+
+  @Test(dataProvider = "compressionEnabled")
+  public void testSerializeAndDeserializeStore(boolean compressionEnabled) throws IOException {
+    Store store = createStore(3);
+    StoreBinarySerializer serializer = new StoreBinarySerializer(true, compressionEnabled, false);
+    byte[] data = serializer.serialize(store, PATH);
+    Assert.assertEquals(data[0], StoreBinarySerializer.MAGIC_BYTE);
+    Assert.assertTrue(data.length < new StoreJSONSerializer().serialize(store, PATH).length);
+
+    Store newStore = serializer.deserialize(data, PATH);
+    Assert.assertEquals(newStore, store);
+    Assert.assertEquals(newStore.getViewConfigs(), store.getViewConfigs());
+    Assert.assertEquals(newStore.getPartitionerConfig(), store.getPartitionerConfig());
+    // The deserialized store can be updated
+    newStore.addVersion(new VersionImpl(store.getName(), store.getLargestUsedVersionNumber() + 1, "newPushJobId"));
+    Assert.assertEquals(newStore.getVersions().size(), 4);
+  }
+
+  @Test
+  public void testJsonIsReadAndWrittenByDefault() throws IOException {
+    Store store = createStore(2);
+    byte[] jsonData = new StoreJSONSerializer().serialize(store, PATH);
+    StoreBinarySerializer serializer = new StoreBinarySerializer();
+    Assert.assertEquals(serializer.serialize(store, PATH), jsonData);
+    Assert.assertEquals(serializer.deserialize(jsonData, PATH), store);
+    // The binary readers are also able to read the json data
+    Assert.assertEquals(new StoreBinarySerializer(true, true, true).deserialize(jsonData, PATH), store);
+  }
+
+  @Test
+  public void testUnchangedVersionsAreReused() throws IOException {
+    Store store = createStore(3);
+    StoreBinarySerializer writer = new StoreBinarySerializer(true, false, false);
+    StoreBinarySerializer reader = new StoreBinarySerializer(false, false, true);
+    Store firstStore = reader.deserialize(writer.serialize(store, PATH), PATH);
+
+    // Update one version and add another one
+    store.updateVersionStatus(2, VersionStatus.ONLINE);
+    store.addVersion(new VersionImpl(store.getName(), store.getLargestUsedVersionNumber() + 1, "newPushJobId"));
+    Store secondStore = reader.deserialize(writer.serialize(store, PATH), PATH);
+    Assert.assertEquals(secondStore, store);
+    List<StoreVersion> firstVersions = getVersions(firstStore);
+    List<StoreVersion> secondVersions = getVersions(secondStore);
+    Assert.assertSame(secondVersions.get(0), firstVersions.get(0));
+    Assert.assertNotSame(secondVersions.get(1), firstVersions.get(1));
+    Assert.assertSame(secondVersions.get(2), firstVersions.get(2));
+
+    // The versions are not reused for the other znodes, nor once the store is deleted
+    String otherPath = PATH + "_other";
+    Store otherStore = reader.deserialize(writer.serialize(store, otherPath), otherPath);
+    Assert.assertNotSame(getVersions(otherStore).get(0), secondVersions.get(0));
+    reader.clearDecodedVersions(PATH);
+    Store thirdStore = reader.deserialize(writer.serialize(store, PATH), PATH);
+    Assert.assertNotSame(getVersions(thirdStore).get(0), secondVersions.get(0));
+
+    // The versions are never reused unless enabled
+    StoreBinarySerializer nonReusingReader = new StoreBinarySerializer(false, false, false);
+    Store fourthStore = nonReusingReader.deserialize(writer.serialize(store, PATH), PATH);
+    Store fifthStore = nonReusingReader.deserialize(writer.serialize(store, PATH), PATH);
+    Assert.assertNotSame(getVersions(fifthStore).get(0), getVersions(fourthStore).get(0));
+  }
+}
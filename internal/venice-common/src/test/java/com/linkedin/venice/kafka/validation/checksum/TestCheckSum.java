@@ -1,7 +1,10 @@
 package com.linkedin.venice.kafka.validation.checksum;
 
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Random;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -27,4 +30,37 @@ public class TestCheckSum {
     checkSum.update(3);
     Assert.assertFalse(Arrays.equals(curCheckSumVal, checkSum.getCheckSum()));
   }
+
+  @Test
+  public void testCRC32CCheckSum() {
+    CheckSum checkSum = CheckSum.getInstance(CheckSumType.CRC32C);
+    checkSum.update("123456789".getBytes(StandardCharsets.US_ASCII));
+    // The standard check value of CRC32C
+    Assert.assertEquals(ByteUtils.readLong(checkSum.getCheckSum(), 0), 0xE3069283L);
+
+    checkSum.reset();
+    checkSum.update(new byte[0]);
+    Assert.assertEquals(ByteUtils.readLong(checkSum.getCheckSum(), 0), 0L);
+  }
+
+  @Test
+  public void testCRC32CCheckSumCheckpointing() {
+    Assert.assertTrue(CheckSumType.CRC32C.isCheckpointingSupported());
+    byte[] data = new byte[10000];
+    new Random(1).nextBytes(data);
+    CheckSum fullCheckSum = CheckSum.getInstance(CheckSumType.CRC32C);
+    fullCheckSum.update(data);
+
+    for (int checkpoint: new int[] { 0, 1, 4567, 9999, 10000 }) {
+      CheckSum checkSum = CheckSum.getInstance(CheckSumType.CRC32C);
+      checkSum.update(data, 0, checkpoint);
+      // Restore from a checkpoint twice to make sure the combined state is restorable as well
+      CheckSum restoredCheckSum = CheckSum.getInstance(CheckSumType.CRC32C, checkSum.getEncodedState());
+      restoredCheckSum.update(data, checkpoint, (data.length - checkpoint) / 2);
+      restoredCheckSum = CheckSum.getInstance(CheckSumType.CRC32C, restoredCheckSum.getEncodedState());
+      int restoredLength = checkpoint + (data.length - checkpoint) / 2;
+      restoredCheckSum.update(data, restoredLength, data.length - restoredLength);
+      Assert.assertEquals(restoredCheckSum.getCheckSum(), fullCheckSum.getCheckSum());
+    }
+  }
 }
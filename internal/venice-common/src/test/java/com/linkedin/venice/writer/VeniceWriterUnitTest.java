@@ -8,14 +8,17 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.linkedin.davinci.kafka.consumer.LeaderFollowerStoreIngestionTask;
 import com.linkedin.davinci.kafka.consumer.LeaderProducerCallback;
 import com.linkedin.davinci.kafka.consumer.PartitionConsumptionState;
+import com.linkedin.venice.exceptions.RecordTooLargeException;
 import com.linkedin.venice.guid.HeartbeatGuidV3Generator;
 import com.linkedin.venice.kafka.protocol.ControlMessage;
 import com.linkedin.venice.kafka.protocol.Delete;
@@ -38,12 +41,14 @@ import com.linkedin.venice.serialization.avro.VeniceAvroKafkaSerializer;
 import com.linkedin.venice.storage.protocol.ChunkId;
 import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -95,6 +100,94 @@ public class VeniceWriterUnitTest {
     Assert.assertEquals(putPartitionArgumentCaptor.getValue(), updatePartitionArgumentCaptor.getValue());
   }
 
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testPutBatchSendsTheSameMessagesAsIndividualPuts(boolean isChunkingEnabled) {
+    List<Object> keys = new ArrayList<>();
+    List<Object> values = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      keys.add("key_" + i);
+      // A few of the values are too large for a single message
+      values.add(i % 25 == 0 && isChunkingEnabled ? new String(new char[1024 * 1024]) : "value_" + i);
+    }
+
+    PubSubProducerAdapter batchProducer = mock(PubSubProducerAdapter.class);
+    when(batchProducer.sendMessage(any(), any(), any(), any(), any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    VeniceWriter<Object, Object, Object> batchWriter = getWriterForPutBatch(batchProducer, isChunkingEnabled);
+    Assert.assertEquals(batchWriter.putBatch(keys, values, 1, null).size(), keys.size());
+
+    PubSubProducerAdapter producer = mock(PubSubProducerAdapter.class);
+    when(producer.sendMessage(any(), any(), any(), any(), any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    VeniceWriter<Object, Object, Object> writer = getWriterForPutBatch(producer, isChunkingEnabled);
+    for (int i = 0; i < keys.size(); i++) {
+      writer.put(keys.get(i), values.get(i), 1, null);
+    }
+
+    // The messages of each partition must be identical, while the partitions could be interleaved differently
+    for (int partition = 0; partition < 4; partition++) {
+      List<String> batchMessages = getSentMessages(batchProducer, partition);
+      Assert.assertFalse(batchMessages.isEmpty());
+      Assert.assertEquals(batchMessages, getSentMessages(producer, partition));
+    }
+
+    if (!isChunkingEnabled) {
+      // The batch is rejected before any of its records is produced, even if the too large record is the last one
+      clearInvocations(batchProducer);
+      values.set(values.size() - 1, new String(new char[1024 * 1024]));
+      Assert.assertThrows(RecordTooLargeException.class, () -> batchWriter.putBatch(keys, values, 1, null));
+      verify(batchProducer, never()).sendMessage(any(), any(), any(), any(), any(), any());
+    }
+    Assert.assertThrows(
+        IllegalArgumentException.class,
+        () -> batchWriter.putBatch(keys, values.subList(0, 1), 1, null));
+  }
+
+  private static VeniceWriter<Object, Object, Object> getWriterForPutBatch(
+      PubSubProducerAdapter producer,
+      boolean isChunkingEnabled) {
+    VeniceKafkaSerializer serializer = new VeniceAvroKafkaSerializer("\"string\"");
+    VeniceWriterOptions veniceWriterOptions = new VeniceWriterOptions.Builder("test").setKeySerializer(serializer)
+        .setValueSerializer(serializer)
+        .setWriteComputeSerializer(serializer)
+        .setPartitioner(new DefaultVenicePartitioner())
+        .setPartitionCount(4)
+        .setChunkingEnabled(isChunkingEnabled)
+        .build();
+    return new VeniceWriter(veniceWriterOptions, VeniceProperties.empty(), producer);
+  }
+
+  /**
+   * @return a description of every message sent to the partition, with the DIV metadata but without the timestamps
+   *         and the producer GUIDs, which are embedded in the keys of chunks and control messages.
+   */
+  private static List<String> getSentMessages(PubSubProducerAdapter producer, int partition) {
+    ArgumentCaptor<KafkaKey> keyCaptor = ArgumentCaptor.forClass(KafkaKey.class);
+    ArgumentCaptor<KafkaMessageEnvelope> valueCaptor = ArgumentCaptor.forClass(KafkaMessageEnvelope.class);
+    verify(producer, atLeast(1))
+        .sendMessage(any(), eq(partition), keyCaptor.capture(), valueCaptor.capture(), any(), any());
+    List<String> messages = new ArrayList<>();
+    for (int i = 0; i < keyCaptor.getAllValues().size(); i++) {
+      byte[] key = keyCaptor.getAllValues().get(i).getKey();
+      KafkaMessageEnvelope value = valueCaptor.getAllValues().get(i);
+      String description = ByteUtils.toHexString(key);
+      if (value.payloadUnion instanceof Put) {
+        Put put = (Put) value.payloadUnion;
+        if (put.schemaId == AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion()) {
+          description = String.valueOf(key.length);
+        }
+        description += "|" + put.schemaId + "|" + put.putValue.remaining();
+      } else {
+        // The keys of control messages are derived from the producer GUID as well
+        description = key.length + "|" + value.payloadUnion.getClass().getSimpleName();
+      }
+      messages.add(
+          description + "|" + value.messageType + "|" + value.producerMetadata.segmentNumber + "|"
+              + value.producerMetadata.messageSequenceNumber);
+    }
+    return messages;
+  }
+
   @Test
   public void testDeleteDeprecatedChunk() throws ExecutionException, InterruptedException, TimeoutException {
     PubSubProducerAdapter mockedProducer = mock(PubSubProducerAdapter.class);
@@ -43,6 +43,7 @@ import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.ingestion.main.MainIngestionRequestClient;
 import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
 import com.linkedin.venice.D2.D2ClientUtils;
+import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.controllerapi.ControllerClient;
 import com.linkedin.venice.controllerapi.ControllerResponse;
@@ -84,10 +85,12 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -225,6 +228,14 @@ public class DaVinciClientTest {
       // Test batch-get access
       assertEquals(client1.batchGet(keyValueMap.keySet()).get(), keyValueMap);
 
+      // Test streaming batch-get access
+      Set<Integer> streamingKeys = new HashSet<>(keyValueMap.keySet());
+      streamingKeys.add(KEY_COUNT + 1);
+      VeniceResponseMap<Integer, Object> streamingResult = client1.streamingBatchGet(streamingKeys).get();
+      assertTrue(streamingResult.isFullResponse());
+      assertEquals(streamingResult, keyValueMap);
+      assertEquals(streamingResult.getNonExistingKeys(), Collections.singleton(KEY_COUNT + 1));
+
       // Test automatic new version ingestion
       for (int i = 0; i < 2; ++i) {
         // Test per-version partitioning parameters
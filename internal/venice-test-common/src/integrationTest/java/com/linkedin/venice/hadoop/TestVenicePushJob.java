@@ -12,8 +12,13 @@ import static com.linkedin.venice.hadoop.VenicePushJob.KAFKA_INPUT_FABRIC;
 import static com.linkedin.venice.hadoop.VenicePushJob.KAFKA_INPUT_MAX_RECORDS_PER_MAPPER;
 import static com.linkedin.venice.hadoop.VenicePushJob.KAFKA_INPUT_TOPIC;
 import static com.linkedin.venice.hadoop.VenicePushJob.KEY_FIELD_PROP;
+import static com.linkedin.venice.hadoop.VenicePushJob.LOCAL_PUSH_ENGINE_ENABLED;
+import static com.linkedin.venice.hadoop.VenicePushJob.LOCAL_PUSH_ENGINE_PARALLELISM;
+import static com.linkedin.venice.hadoop.VenicePushJob.LOCAL_PUSH_ENGINE_SPILL_DIR;
+import static com.linkedin.venice.hadoop.VenicePushJob.LOCAL_PUSH_ENGINE_SPILL_THRESHOLD_BYTES;
 import static com.linkedin.venice.hadoop.VenicePushJob.SEND_CONTROL_MESSAGES_DIRECTLY;
 import static com.linkedin.venice.hadoop.VenicePushJob.SOURCE_KAFKA;
+import static com.linkedin.venice.hadoop.VenicePushJob.SST_FILE_PUSH_OUTPUT_DIR;
 import static com.linkedin.venice.hadoop.VenicePushJob.SUPPRESS_END_OF_PUSH_MESSAGE;
 import static com.linkedin.venice.hadoop.VenicePushJob.VALUE_FIELD_PROP;
 import static com.linkedin.venice.hadoop.VenicePushJob.getLatestPathOfInputDirectory;
@@ -41,6 +46,7 @@ import com.linkedin.venice.integration.utils.VeniceClusterCreateOptions;
 import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.TestWriteUtils;
@@ -551,6 +557,147 @@ public class TestVenicePushJob {
     // No need for asserts, because we are expecting an exception to be thrown!
   }
 
+  /**
+   * Runs the push job in process with {@link LocalJobClientWrapper}. The store has a finite storage quota, so the
+   * reducers read the input size from the counters of the local job through their job client provider.
+   */
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testRunJobWithLocalPushEngine() throws Exception {
+    File inputDir = getTempDataDirectory();
+    TestWriteUtils.writeSimpleAvroFileWithStringToStringSchema(inputDir);
+
+    // Setup job properties
+    String inputDirPath = "file://" + inputDir.getAbsolutePath();
+    String storeName = Utils.getUniqueString("store");
+    veniceCluster.getNewStore(storeName);
+    TestUtils.assertCommand(
+        veniceCluster.updateStore(
+            storeName,
+            new UpdateStoreQueryParams().setStorageQuotaInByte(1024 * 1024 * 1024).setPartitionCount(3)));
+    Properties props = getLocalPushEngineVPJProps(inputDirPath, storeName);
+
+    TestWriteUtils.runPushJob("Test push job", props);
+    veniceCluster.refreshAllRouterMetaData();
+    try (AvroGenericStoreClient avroClient = ClientFactory.getAndStartGenericAvroClient(
+        ClientConfig.defaultGenericClientConfig(storeName).setVeniceURL(veniceCluster.getRandomRouterURL()))) {
+      for (int i = 1; i <= 100; i++) {
+        Assert.assertEquals(avroClient.get(Integer.toString(i)).get().toString(), "test_name_" + i);
+      }
+    }
+  }
+
+  @Test(
+      timeOut = TEST_TIMEOUT,
+      expectedExceptions = VeniceException.class,
+      expectedExceptionsMessageRegExp = ".*Storage quota exceeded.*")
+  public void testRunJobWithLocalPushEngineExceedingStorageQuota() throws Exception {
+    File inputDir = getTempDataDirectory();
+    TestWriteUtils.writeSimpleAvroFileWithStringToStringSchema(inputDir);
+
+    // Setup job properties
+    String inputDirPath = "file://" + inputDir.getAbsolutePath();
+    String storeName = Utils.getUniqueString("store");
+    veniceCluster.getNewStore(storeName);
+    TestUtils.assertCommand(
+        veniceCluster
+            .updateStore(storeName, new UpdateStoreQueryParams().setStorageQuotaInByte(1).setPartitionCount(3)));
+    Properties props = getLocalPushEngineVPJProps(inputDirPath, storeName);
+
+    TestWriteUtils.runPushJob("Test push job", props);
+    // No need for asserts, because we are expecting an exception to be thrown!
+  }
+
+  /**
+   * The reducers must detect the keys of other partitions sent to them by the local engine like by MapReduce.
+   */
+  @Test(timeOut = TEST_TIMEOUT, expectedExceptions = VeniceException.class)
+  public void testRunJobWithLocalPushEngineAndBuggySprayingMapReduceShufflePartitioner() throws Exception {
+    File inputDir = getTempDataDirectory();
+    TestWriteUtils.writeSimpleAvroFileWithStringToStringSchema(inputDir);
+
+    // Setup job properties
+    String inputDirPath = "file://" + inputDir.getAbsolutePath();
+    String storeName = Utils.getUniqueString("store");
+    veniceCluster.getNewStore(storeName);
+    TestUtils.assertCommand(
+        veniceCluster.updateStore(
+            storeName,
+            new UpdateStoreQueryParams().setStorageQuotaInByte(Store.UNLIMITED_STORAGE_QUOTA).setPartitionCount(3)));
+    Properties props = getLocalPushEngineVPJProps(inputDirPath, storeName);
+
+    TestWriteUtils.runPushJob(
+        "Test push job",
+        props,
+        job -> job.setMapRedPartitionerClass(BuggySprayingMapReduceShufflePartitioner.class));
+    // No need for asserts, because we are expecting an exception to be thrown!
+  }
+
+  private Properties getLocalPushEngineVPJProps(String inputDirPath, String storeName) {
+    Properties props = defaultVPJProps(veniceCluster, inputDirPath, storeName);
+    props.setProperty(LOCAL_PUSH_ENGINE_ENABLED, "true");
+    props.setProperty(LOCAL_PUSH_ENGINE_PARALLELISM, "2");
+    // A tiny spill threshold makes the map tasks spill many times, so the reducers merge many sorted segments.
+    props.setProperty(LOCAL_PUSH_ENGINE_SPILL_THRESHOLD_BYTES, "1024");
+    props.setProperty(LOCAL_PUSH_ENGINE_SPILL_DIR, getTempDataDirectory().getAbsolutePath());
+    return props;
+  }
+
+  /**
+   * The reducers write SST files instead of producing the records, and the servers ingest the files announced by the
+   * end of push, so the version topic only carries control messages.
+   */
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testRunJobWithSstFilePush() throws Exception {
+    File inputDir = getTempDataDirectory();
+    TestWriteUtils.writeSimpleAvroFileWithStringToStringSchema(inputDir);
+
+    // Setup job properties
+    String inputDirPath = "file://" + inputDir.getAbsolutePath();
+    String storeName = Utils.getUniqueString("store");
+    veniceCluster.getNewStore(storeName);
+    TestUtils.assertCommand(
+        veniceCluster.updateStore(
+            storeName,
+            new UpdateStoreQueryParams().setStorageQuotaInByte(Store.UNLIMITED_STORAGE_QUOTA).setPartitionCount(3)));
+    File sstFileOutputDir = getTempDataDirectory();
+    Properties props = defaultVPJProps(veniceCluster, inputDirPath, storeName);
+    props.setProperty(SST_FILE_PUSH_OUTPUT_DIR, sstFileOutputDir.getAbsolutePath());
+    props.setProperty(SEND_CONTROL_MESSAGES_DIRECTLY, "true");
+
+    TestWriteUtils.runPushJob("Test push job", props);
+    // Every partition comes with its metadata, and the files are kept for the replicas bootstrapped later
+    File sstFileDir = new File(sstFileOutputDir, Version.composeKafkaTopic(storeName, 1));
+    for (int partition = 0; partition < 3; partition++) {
+      Assert.assertTrue(new File(sstFileDir, RocksDBUtils.composePushSSTFileMetadataName(partition)).exists());
+    }
+    veniceCluster.refreshAllRouterMetaData();
+    try (AvroGenericStoreClient avroClient = ClientFactory.getAndStartGenericAvroClient(
+        ClientConfig.defaultGenericClientConfig(storeName).setVeniceURL(veniceCluster.getRandomRouterURL()))) {
+      for (int i = 1; i <= 100; i++) {
+        Assert.assertEquals(avroClient.get(Integer.toString(i)).get().toString(), "test_name_" + i);
+      }
+    }
+  }
+
+  @Test(
+      timeOut = TEST_TIMEOUT,
+      expectedExceptions = VeniceException.class,
+      expectedExceptionsMessageRegExp = ".*SST file push requires.*")
+  public void testRunJobWithSstFilePushRequiresSendingControlMessagesDirectly() throws Exception {
+    File inputDir = getTempDataDirectory();
+    TestWriteUtils.writeSimpleAvroFileWithStringToStringSchema(inputDir);
+
+    // Setup job properties
+    String inputDirPath = "file://" + inputDir.getAbsolutePath();
+    String storeName = Utils.getUniqueString("store");
+    veniceCluster.getNewStore(storeName);
+    Properties props = defaultVPJProps(veniceCluster, inputDirPath, storeName);
+    props.setProperty(SST_FILE_PUSH_OUTPUT_DIR, getTempDataDirectory().getAbsolutePath());
+
+    TestWriteUtils.runPushJob("Test push job", props);
+    // No need for asserts, because we are expecting an exception to be thrown!
+  }
+
   @Test(timeOut = TEST_TIMEOUT, description = "KIF repush should copy all data including recent incPush2RT to new VT")
   public void testKIFRepushForIncrementalPushStores() throws Exception {
     File inputDir = getTempDataDirectory();
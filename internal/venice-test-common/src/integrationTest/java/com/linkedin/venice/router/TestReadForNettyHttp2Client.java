@@ -0,0 +1,175 @@
+package com.linkedin.venice.router;
+
+import static com.linkedin.venice.HttpConstants.HTTP_GET;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
+import com.linkedin.venice.integration.utils.VeniceServerWrapper;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.QueryAction;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.httpclient.NettyHttp2StorageNodeClient;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.httpclient.StorageNodeClientType;
+import com.linkedin.venice.router.httpclient.VeniceMetaDataRequest;
+import com.linkedin.venice.utils.SslUtils;
+import com.linkedin.venice.utils.Utils;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestReadForNettyHttp2Client extends TestRead {
+  private final Logger LOGGER = LogManager.getLogger(this.getClass());
+
+  @Override
+  protected StorageNodeClientType getStorageNodeClientType() {
+    return StorageNodeClientType.NETTY_HTTP2_CLIENT;
+  }
+
+  @Override
+  protected boolean isRouterHttp2ClientEnabled() {
+    return true;
+  }
+
+  @Override
+  protected boolean isTestEnabled() {
+    boolean testEnabled = Utils.getJavaMajorVersion() >= 11;
+    if (!testEnabled) {
+      LOGGER.info(
+          "All the tests are disabled since StorageNodeClientType: {} with ALPN requires JDK11 or above",
+          StorageNodeClientType.NETTY_HTTP2_CLIENT);
+    }
+    return testEnabled;
+  }
+
+  private NettyHttp2StorageNodeClient createClient(int minConcurrentStreams, int maxConcurrentStreams) {
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(2).when(config).getNettyHttp2ClientEventLoopThreadCount();
+    doReturn(1).when(config).getNettyHttp2ClientMaxConnectionsPerHost();
+    doReturn(minConcurrentStreams).when(config).getNettyHttp2ClientMinConcurrentStreamsPerHost();
+    doReturn(maxConcurrentStreams).when(config).getNettyHttp2ClientMaxConcurrentStreamsPerHost();
+    doReturn(1000L).when(config).getNettyHttp2ClientStreamLatencyThresholdMs();
+    doReturn(1000).when(config).getConnectionTimeout();
+    doReturn(1000).when(config).getSocketTimeout();
+    return new NettyHttp2StorageNodeClient(Optional.of(SslUtils.getVeniceLocalSslFactory()), config);
+  }
+
+  private Instance getServerInstance() {
+    VeniceClusterWrapper veniceCluster = getVeniceCluster();
+    VeniceServerWrapper serverWrapper = veniceCluster.getVeniceServers().get(0);
+    return Instance.fromHostAndPort(serverWrapper.getHost(), serverWrapper.getPort());
+  }
+
+  private PortableHttpResponse sendRequest(
+      NettyHttp2StorageNodeClient client,
+      String query,
+      String method,
+      Optional<Integer> timeoutMs) throws Exception {
+    VeniceMetaDataRequest request = new VeniceMetaDataRequest(getServerInstance(), query, method, true);
+    timeoutMs.ifPresent(request::setTimeout);
+    CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+    client.sendRequest(request, responseFuture);
+    return responseFuture.get(3, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testNettyHttp2ClientNegotiatesHttp2() throws Exception {
+    if (!isTestEnabled()) {
+      return;
+    }
+    try (NettyHttp2StorageNodeClient client = createClient(1, 10)) {
+      PortableHttpResponse response =
+          sendRequest(client, QueryAction.HEALTH.toString().toLowerCase(), HTTP_GET, Optional.empty());
+      Assert.assertEquals(response.getStatusCode(), HttpResponseStatus.OK.code());
+      // Only the responses received over an HTTP/2 stream carry the id of the stream
+      Assert.assertTrue(response.containsHeader(HttpConversionUtil.ExtensionHeaderNames.STREAM_ID.text().toString()));
+    }
+  }
+
+  @Test
+  public void testNettyHttp2ClientAggregatesResponse() throws Exception {
+    if (!isTestEnabled()) {
+      return;
+    }
+    try (NettyHttp2StorageNodeClient client = createClient(1, 10)) {
+      // The storage node rejects the request with a message listing all the query actions
+      PortableHttpResponse response = sendRequest(client, "storage", "PUT", Optional.empty());
+      Assert.assertEquals(response.getStatusCode(), HttpResponseStatus.BAD_REQUEST.code());
+      byte[] body = new byte[response.getContentInByteBuf().readableBytes()];
+      response.getContentInByteBuf().readBytes(body);
+      String message = new String(body, StandardCharsets.UTF_8);
+      Assert.assertTrue(message.startsWith("Only able to parse GET or POST requests for actions: "), message);
+      Assert.assertTrue(message.endsWith("Cannot parse request for: /storage"), message);
+    }
+  }
+
+  @Test
+  public void testNettyHttp2ClientRequestTimeout() throws Exception {
+    if (!isTestEnabled()) {
+      return;
+    }
+    try (NettyHttp2StorageNodeClient client = createClient(1, 10)) {
+      // The first request cannot complete in time, since it needs to establish the connection first
+      ExecutionException e = Assert.expectThrows(
+          ExecutionException.class,
+          () -> sendRequest(client, QueryAction.HEALTH.toString().toLowerCase(), HTTP_GET, Optional.of(1)));
+      Assert.assertTrue(e.getCause() instanceof TimeoutException, e.toString());
+
+      // The timed out request doesn't prevent the following ones from completing
+      PortableHttpResponse response =
+          sendRequest(client, QueryAction.HEALTH.toString().toLowerCase(), HTTP_GET, Optional.empty());
+      Assert.assertEquals(response.getStatusCode(), HttpResponseStatus.OK.code());
+    }
+  }
+
+  @Test
+  public void testNettyHttp2ClientRejectsRequestsBeyondStreamBudget() throws Exception {
+    if (!isTestEnabled()) {
+      return;
+    }
+    VenicePath path = mock(VenicePath.class);
+    doReturn(QueryAction.HEALTH.toString().toLowerCase()).when(path).getLocation();
+    doReturn(HttpMethod.GET).when(path).getHttpMethod();
+    Instance serverInstance = getServerInstance();
+    try (NettyHttp2StorageNodeClient client = createClient(1, 1)) {
+      CompletableFuture<PortableHttpResponse> firstResponseFuture = new CompletableFuture<>();
+      client.query(
+          serverInstance,
+          path,
+          firstResponseFuture::complete,
+          firstResponseFuture::completeExceptionally,
+          () -> false);
+
+      // The only stream allowed is still in flight, since the connection is being established
+      CompletableFuture<PortableHttpResponse> rejectedResponseFuture = new CompletableFuture<>();
+      client.query(
+          serverInstance,
+          path,
+          rejectedResponseFuture::complete,
+          rejectedResponseFuture::completeExceptionally,
+          () -> false);
+      Assert.assertTrue(rejectedResponseFuture.isDone());
+      Assert.assertEquals(
+          rejectedResponseFuture.get().getStatusCode(),
+          HttpResponseStatus.SERVICE_UNAVAILABLE.code());
+
+      Assert.assertEquals(firstResponseFuture.get(3, TimeUnit.SECONDS).getStatusCode(), HttpResponseStatus.OK.code());
+      // The stream is available again once the first request completes
+      CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+      client.query(serverInstance, path, responseFuture::complete, responseFuture::completeExceptionally, () -> false);
+      Assert.assertEquals(responseFuture.get(3, TimeUnit.SECONDS).getStatusCode(), HttpResponseStatus.OK.code());
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.davinci.kafka.consumer.KeyLevelLocksManager;
+import com.linkedin.davinci.kafka.consumer.StripedKeyLevelLocksManager;
+import com.linkedin.davinci.utils.ByteArrayKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares {@link KeyLevelLocksManager} with {@link StripedKeyLevelLocksManager} with the access pattern of the
+ * active/active write path: each thread locks one key at a time, does a tiny bit of work in the critical section and
+ * then releases the lock.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KeyLevelLocksBenchmark {
+  private static final int NUMBER_OF_KEYS = 100_000;
+  private static final int MAX_THREADS = 32;
+
+  private byte[][] keys;
+  private KeyLevelLocksManager keyLevelLocksManager;
+  private StripedKeyLevelLocksManager stripedKeyLevelLocksManager;
+
+  @Setup
+  public void setUp() {
+    keys = new byte[NUMBER_OF_KEYS][];
+    for (int i = 0; i < NUMBER_OF_KEYS; i++) {
+      keys[i] = ("key_" + i).getBytes(StandardCharsets.UTF_8);
+    }
+    keyLevelLocksManager = new KeyLevelLocksManager("benchmark_store_v1", MAX_THREADS, MAX_THREADS + 1);
+    stripedKeyLevelLocksManager = new StripedKeyLevelLocksManager(1024);
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(KeyLevelLocksBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void pooledLocksWith8Threads(Blackhole blackhole) {
+    lockWithPool(blackhole);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public void pooledLocksWith16Threads(Blackhole blackhole) {
+    lockWithPool(blackhole);
+  }
+
+  @Benchmark
+  @Threads(32)
+  public void pooledLocksWith32Threads(Blackhole blackhole) {
+    lockWithPool(blackhole);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void stripedLocksWith8Threads(Blackhole blackhole) {
+    lockWithStripes(blackhole);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public void stripedLocksWith16Threads(Blackhole blackhole) {
+    lockWithStripes(blackhole);
+  }
+
+  @Benchmark
+  @Threads(32)
+  public void stripedLocksWith32Threads(Blackhole blackhole) {
+    lockWithStripes(blackhole);
+  }
+
+  private void lockWithPool(Blackhole blackhole) {
+    ByteArrayKey key = ByteArrayKey.wrap(nextKey());
+    ReentrantLock lock = keyLevelLocksManager.acquireLockByKey(key);
+    lock.lock();
+    try {
+      blackhole.consume(key);
+    } finally {
+      lock.unlock();
+      keyLevelLocksManager.releaseLock(key);
+    }
+  }
+
+  private void lockWithStripes(Blackhole blackhole) {
+    byte[] key = nextKey();
+    ReentrantLock lock = stripedKeyLevelLocksManager.getLockByKey(key);
+    lock.lock();
+    try {
+      blackhole.consume(key);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private byte[] nextKey() {
+    return keys[ThreadLocalRandom.current().nextInt(NUMBER_OF_KEYS)];
+  }
+}
@@ -17,6 +17,7 @@ import com.linkedin.venice.helix.HelixReadWriteStoreRepositoryAdapter;
 import com.linkedin.venice.helix.HelixStatusMessageChannel;
 import com.linkedin.venice.helix.SafeHelixManager;
 import com.linkedin.venice.helix.StoragePersonaRepository;
+import com.linkedin.venice.helix.StoreBinarySerializer;
 import com.linkedin.venice.helix.VeniceOfflinePushMonitorAccessor;
 import com.linkedin.venice.helix.ZkRoutersClusterManager;
 import com.linkedin.venice.helix.ZkStoreConfigAccessor;
@@ -112,7 +113,11 @@ public class HelixVeniceClusterResources implements VeniceResource {
         adapterSerializer,
         clusterName,
         metaStoreWriter,
-        clusterLockManager);
+        clusterLockManager,
+        new StoreBinarySerializer(
+            config.isStoreMetadataBinaryFormatEnabled(),
+            config.isStoreMetadataCompressionEnabled(),
+            false));
     this.storeMetadataRepository = new HelixReadWriteStoreRepositoryAdapter(
         admin.getReadOnlyZKSharedSystemStoreRepository(),
         readWriteStoreRepository,
@@ -48,6 +48,8 @@ import static com.linkedin.venice.ConfigKeys.CONTROLLER_PARENT_SYSTEM_STORE_REPA
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_GRAVEYARD_CLEANUP_DELAY_MINUTES;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_GRAVEYARD_CLEANUP_ENABLED;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_GRAVEYARD_CLEANUP_SLEEP_INTERVAL_BETWEEN_LIST_FETCH_MINUTES;
+import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_METADATA_BINARY_FORMAT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_METADATA_COMPRESSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_SYSTEM_SCHEMA_CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_SYSTEM_STORE_ACL_SYNCHRONIZATION_DELAY_MS;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_ZK_SHARED_DAVINCI_PUSH_STATUS_SYSTEM_SCHEMA_STORE_AUTO_CREATION_ENABLED;
@@ -256,6 +258,10 @@ public class VeniceControllerConfig extends VeniceControllerClusterConfig {
    */
   private final boolean isAutoMaterializeMetaSystemStoreEnabled;
 
+  private final boolean storeMetadataBinaryFormatEnabled;
+
+  private final boolean storeMetadataCompressionEnabled;
+
   /**
    * Automatically perform empty push to create a new version for corresponding da-vinci push status system store upon
    * new user store creation.
@@ -489,6 +495,8 @@ public class VeniceControllerConfig extends VeniceControllerClusterConfig {
     this.aggregateRealTimeSourceRegion = props.getString(AGGREGATE_REAL_TIME_SOURCE_REGION, "");
     this.isAutoMaterializeMetaSystemStoreEnabled =
         props.getBoolean(CONTROLLER_AUTO_MATERIALIZE_META_SYSTEM_STORE, false);
+    this.storeMetadataBinaryFormatEnabled = props.getBoolean(CONTROLLER_STORE_METADATA_BINARY_FORMAT_ENABLED, false);
+    this.storeMetadataCompressionEnabled = props.getBoolean(CONTROLLER_STORE_METADATA_COMPRESSION_ENABLED, false);
     this.isAutoMaterializeDaVinciPushStatusSystemStoreEnabled =
         props.getBoolean(CONTROLLER_AUTO_MATERIALIZE_DAVINCI_PUSH_STATUS_SYSTEM_STORE, false);
     this.usePushStatusStoreForIncrementalPush = props.getBoolean(USE_PUSH_STATUS_STORE_FOR_INCREMENTAL_PUSH, false);
@@ -885,6 +893,14 @@ public class VeniceControllerConfig extends VeniceControllerClusterConfig {
     return isAutoMaterializeMetaSystemStoreEnabled;
   }
 
+  public boolean isStoreMetadataBinaryFormatEnabled() {
+    return storeMetadataBinaryFormatEnabled;
+  }
+
+  public boolean isStoreMetadataCompressionEnabled() {
+    return storeMetadataCompressionEnabled;
+  }
+
   public boolean isAutoMaterializeDaVinciPushStatusSystemStoreEnabled() {
     return isAutoMaterializeDaVinciPushStatusSystemStoreEnabled;
   }
@@ -37,16 +37,16 @@ import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.Utils;
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
-import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -72,6 +72,20 @@ public class AdminConsumptionTask implements Runnable, Closeable {
     Exception exception;
   }
 
+  private static class StoreExecution {
+    private final Future<Void> future;
+    private final long submissionTimeMs;
+    private long lastProgressTimeMs;
+    private long lastSucceededExecutionId;
+
+    StoreExecution(Future<Void> future, long submissionTimeMs, long lastSucceededExecutionId) {
+      this.future = future;
+      this.submissionTimeMs = submissionTimeMs;
+      this.lastProgressTimeMs = submissionTimeMs;
+      this.lastSucceededExecutionId = lastSucceededExecutionId;
+    }
+  }
+
   // A simplified version of ProducerTracker that only checks against previous message's producer info.
   private static class ProducerInfo {
     private GUID producerGUID;
@@ -164,6 +178,15 @@ public class AdminConsumptionTask implements Runnable, Closeable {
    */
   private final ConcurrentHashMap<String, AdminErrorInfo> problematicStores;
   private final Queue<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> undelegatedRecords;
+  /**
+   * The in-flight {@link AdminExecutionTask} of each store, only accessed by the consumption thread.
+   */
+  private final Map<String, StoreExecution> storeExecutions = new HashMap<>();
+  /**
+   * The offsets and execution ids of the delegated admin messages, in offset order. Each of them can be checkpointed
+   * once all the admin operations up to its offset have been executed.
+   */
+  private final Queue<Pair<Long, Long>> checkpointCandidates = new LinkedList<>();
 
   private final ExecutionIdAccessor executionIdAccessor;
   private final ExecutorService executorService;
@@ -176,8 +199,8 @@ public class AdminConsumptionTask implements Runnable, Closeable {
 
   private final long processingCycleTimeoutInMs;
   /**
-   * Once all admin messages in a cycle is processed successfully, the id would be updated together with the offset.
-   * It represents a kind of comparable progress of admin topic consumption among all controllers.
+   * Once all admin messages up to an offset are processed successfully, the id would be updated together with the
+   * offset. It represents a kind of comparable progress of admin topic consumption among all controllers.
    */
   private long lastPersistedExecutionId = UNASSIGNED_VALUE;
   /**
@@ -375,7 +398,11 @@ public class AdminConsumptionTask implements Runnable, Closeable {
           try {
             long executionId = delegateMessage(undelegatedRecords.peek());
             if (executionId == lastDelegatedExecutionId) {
-              updateLastOffset(undelegatedRecords.peek().getOffset());
+              long offset = undelegatedRecords.peek().getOffset();
+              updateLastOffset(offset);
+              if (executionId != UNASSIGNED_VALUE) {
+                checkpointCandidates.add(new Pair<>(offset, executionId));
+              }
             }
             undelegatedRecords.remove();
           } catch (DataValidationException dve) {
@@ -455,6 +482,11 @@ public class AdminConsumptionTask implements Runnable, Closeable {
     if (isSubscribed) {
       consumer.unSubscribe(new PubSubTopicPartitionImpl(pubSubTopic, AdminTopicUtils.ADMIN_TOPIC_PARTITION_ID));
       storeAdminOperationsMapWithOffset.clear();
+      for (StoreExecution execution: storeExecutions.values()) {
+        execution.future.cancel(true);
+      }
+      storeExecutions.clear();
+      checkpointCandidates.clear();
       problematicStores.clear();
       undelegatedRecords.clear();
       failingOffset = UNASSIGNED_VALUE;
@@ -477,129 +509,163 @@ public class AdminConsumptionTask implements Runnable, Closeable {
   }
 
   /**
-   * Delegate work from the {@code storeAdminOperationsMapWithOffset} to the worker threads. Wait for the worker threads
-   * to complete or when timeout {@code processingCycleTimeoutInMs} is reached. Collect the result of each thread.
-   * The result can either be success: all given {@link AdminOperation}s were processed successfully or made progress
-   * but couldn't finish processing all of it within the time limit for each cycle. Failure is when either an exception
-   * was thrown or the thread got stuck while processing the problematic {@link AdminOperation}.
+   * Delegate work from the {@code storeAdminOperationsMapWithOffset} to the worker threads without waiting for them,
+   * so that the admin operations of each store are pipelined independently of the other stores. Each store has at most
+   * one in-flight {@link AdminExecutionTask}, which keeps executing the operations of the store as they are delegated.
+   * This collects the result of the tasks which completed since the previous cycle: a task either succeeded, i.e. it
+   * emptied the queue of its store, or it failed because an exception was thrown, or because it got stuck while
+   * processing the problematic {@link AdminOperation}, i.e. it didn't make any progress within
+   * {@code processingCycleTimeoutInMs}.
+   *
+   * Since each store advances its own last succeeded execution id, the checkpoint of the admin topic only needs to wait
+   * for the earliest pending admin operation across all the stores, instead of waiting for all of them.
    * @throws InterruptedException
    */
   private void executeMessagesAndCollectResults() throws InterruptedException {
+    if (!isRunning.get()) {
+      return;
+    }
     lastSucceededExecutionIdMap =
         new ConcurrentHashMap<>(executionIdAccessor.getLastSucceededExecutionIdMap(clusterName));
-    List<Callable<Void>> tasks = new ArrayList<>();
-    List<String> stores = new ArrayList<>();
-    // Create a task for each store that has admin messages pending to be processed.
+    long currentTimeMs = System.currentTimeMillis();
     boolean skipOffsetCommandHasBeenProcessed = false;
     for (Map.Entry<String, Queue<AdminOperationWrapper>> entry: storeAdminOperationsMapWithOffset.entrySet()) {
-      if (!entry.getValue().isEmpty()) {
-        if (checkOffsetToSkip(entry.getValue().peek().getOffset(), false)) {
-          entry.getValue().remove();
-          skipOffsetCommandHasBeenProcessed = true;
+      String storeName = entry.getKey();
+      Queue<AdminOperationWrapper> operations = entry.getValue();
+      StoreExecution execution = storeExecutions.get(storeName);
+      if (execution != null) {
+        if (!execution.future.isDone()) {
+          long lastSucceededId = lastSucceededExecutionIdMap.getOrDefault(storeName, UNASSIGNED_VALUE);
+          if (lastSucceededId != execution.lastSucceededExecutionId) {
+            // The task is making progress, so it gets a full timeout period to process the next admin operation.
+            execution.lastSucceededExecutionId = lastSucceededId;
+            execution.lastProgressTimeMs = currentTimeMs;
+            continue;
+          }
+          if (currentTimeMs - execution.lastProgressTimeMs < processingCycleTimeoutInMs) {
+            continue;
+          }
+          execution.future.cancel(true);
+        }
+        storeExecutions.remove(storeName);
+        if (!collectResult(storeName, operations, execution)) {
+          // The failed admin operation stays at the head of the queue and will be retried in the next cycle.
+          continue;
+        }
+      }
+      if (operations.isEmpty()) {
+        continue;
+      }
+      if (checkOffsetToSkip(operations.peek().getOffset(), false)) {
+        operations.remove();
+        skipOffsetCommandHasBeenProcessed = true;
+        if (operations.isEmpty()) {
+          problematicStores.remove(storeName);
+          continue;
         }
-        tasks.add(
-            new AdminExecutionTask(
-                LOGGER,
-                clusterName,
-                entry.getKey(),
-                lastSucceededExecutionIdMap,
-                lastPersistedExecutionId,
-                entry.getValue(),
-                admin,
-                executionIdAccessor,
-                isParentController,
-                stats,
-                regionName));
-        stores.add(entry.getKey());
       }
+      AdminExecutionTask task = new AdminExecutionTask(
+          LOGGER,
+          clusterName,
+          storeName,
+          lastSucceededExecutionIdMap,
+          lastPersistedExecutionId,
+          operations,
+          admin,
+          executionIdAccessor,
+          isParentController,
+          stats,
+          regionName);
+      storeExecutions.put(
+          storeName,
+          new StoreExecution(
+              executorService.submit(task),
+              currentTimeMs,
+              lastSucceededExecutionIdMap.getOrDefault(storeName, UNASSIGNED_VALUE)));
     }
     if (skipOffsetCommandHasBeenProcessed) {
       resetOffsetToSkip();
     }
 
-    if (isRunning.get()) {
-      if (!tasks.isEmpty()) {
-        int pendingAdminMessagesCount = 0;
-        int storesWithPendingAdminMessagesCount = 0;
-        long adminExecutionTasksInvokeTime = System.currentTimeMillis();
-        // Wait for the worker threads to finish processing the internal admin topics.
-        List<Future<Void>> results =
-            executorService.invokeAll(tasks, processingCycleTimeoutInMs, TimeUnit.MILLISECONDS);
-        stats.recordAdminConsumptionCycleDurationMs(System.currentTimeMillis() - adminExecutionTasksInvokeTime);
-        Map<String, Long> newLastSucceededExecutionIdMap =
-            executionIdAccessor.getLastSucceededExecutionIdMap(clusterName);
-        boolean internalQueuesEmptied = true;
-        for (int i = 0; i < results.size(); i++) {
-          String storeName = stores.get(i);
-          Future<Void> result = results.get(i);
-          try {
-            result.get();
-            problematicStores.remove(storeName);
-            if (internalQueuesEmptied && storeAdminOperationsMapWithOffset.containsKey(storeName)
-                && !storeAdminOperationsMapWithOffset.get(storeName).isEmpty()) {
-              internalQueuesEmptied = false;
-            }
-          } catch (ExecutionException | CancellationException e) {
-            internalQueuesEmptied = false;
-            AdminErrorInfo errorInfo = new AdminErrorInfo();
-            int perStorePendingMessagesCount = storeAdminOperationsMapWithOffset.get(storeName).size();
-            pendingAdminMessagesCount += perStorePendingMessagesCount;
-            storesWithPendingAdminMessagesCount += perStorePendingMessagesCount > 0 ? 1 : 0;
-            if (e instanceof CancellationException) {
-              long lastSucceededId = lastSucceededExecutionIdMap.getOrDefault(storeName, -1L);
-              long newLastSucceededId = newLastSucceededExecutionIdMap.getOrDefault(storeName, -1L);
-
-              if (lastSucceededId == -1) {
-                LOGGER.error("Could not find last successful execution ID for store {}", storeName);
-              }
+    int pendingAdminMessagesCount = 0;
+    int storesWithPendingAdminMessagesCount = 0;
+    long smallestPendingOffset = Long.MAX_VALUE;
+    for (Queue<AdminOperationWrapper> operations: storeAdminOperationsMapWithOffset.values()) {
+      // The worker threads only remove operations, so an operation seen here is pending or was just processed.
+      AdminOperationWrapper firstPendingOperation = operations.peek();
+      if (firstPendingOperation != null) {
+        pendingAdminMessagesCount += operations.size();
+        storesWithPendingAdminMessagesCount++;
+        smallestPendingOffset = Math.min(smallestPendingOffset, firstPendingOperation.getOffset());
+      }
+    }
+    stats.recordPendingAdminMessagesCount(pendingAdminMessagesCount);
+    stats.recordStoresWithPendingAdminMessagesCount(storesWithPendingAdminMessagesCount);
 
-              if (lastSucceededId == newLastSucceededId && perStorePendingMessagesCount > 0) {
-                // only mark the store problematic if no progress is made and there are still message(s) in the queue.
-                errorInfo.exception = new VeniceException(
-                    "Could not finish processing admin message for store " + storeName + " in time");
-                errorInfo.offset = storeAdminOperationsMapWithOffset.get(storeName).peek().getOffset();
-                problematicStores.put(storeName, errorInfo);
-                LOGGER.warn(errorInfo.exception.getMessage());
-              }
-            } else {
-              errorInfo.exception = e;
-              errorInfo.offset = storeAdminOperationsMapWithOffset.get(storeName).peek().getOffset();
-              problematicStores.put(storeName, errorInfo);
-            }
-          }
-        }
-        if (problematicStores.isEmpty() && internalQueuesEmptied) {
-          // All admin operations were successfully executed or skipped.
-          // 1. Clear the failing offset.
-          // 3. Persist the latest execution id and offset (cluster wide) to ZK.
-
-          // Ensure failingOffset from the delegateMessage is not overwritten.
-          if (failingOffset <= lastOffset) {
-            failingOffset = UNASSIGNED_VALUE;
-          }
-          persistAdminTopicMetadata();
-        } else {
-          // One or more stores encountered problems while executing their admin operations.
-          // 1. Do not persist the latest offset (cluster wide) to ZK.
-          // 2. Find and set the smallest failing offset amongst the problematic stores.
-          long smallestOffset = UNASSIGNED_VALUE;
-
-          for (Map.Entry<String, AdminErrorInfo> problematicStore: problematicStores.entrySet()) {
-            if (smallestOffset == UNASSIGNED_VALUE || problematicStore.getValue().offset < smallestOffset) {
-              smallestOffset = problematicStore.getValue().offset;
-            }
-          }
-          // Ensure failingOffset from the delegateMessage is not overwritten.
-          if (failingOffset <= lastOffset) {
-            failingOffset = smallestOffset;
-          }
+    if (problematicStores.isEmpty()) {
+      // Ensure failingOffset from the delegateMessage is not overwritten.
+      if (failingOffset <= lastOffset) {
+        failingOffset = UNASSIGNED_VALUE;
+      }
+    } else {
+      // Find and set the smallest failing offset amongst the problematic stores.
+      long smallestOffset = UNASSIGNED_VALUE;
+      for (Map.Entry<String, AdminErrorInfo> problematicStore: problematicStores.entrySet()) {
+        if (smallestOffset == UNASSIGNED_VALUE || problematicStore.getValue().offset < smallestOffset) {
+          smallestOffset = problematicStore.getValue().offset;
         }
-        stats.recordPendingAdminMessagesCount(pendingAdminMessagesCount);
-        stats.recordStoresWithPendingAdminMessagesCount(storesWithPendingAdminMessagesCount);
+      }
+      // Ensure failingOffset from the delegateMessage is not overwritten.
+      if (failingOffset <= lastOffset) {
+        failingOffset = smallestOffset;
+      }
+    }
+
+    if (smallestPendingOffset == Long.MAX_VALUE && problematicStores.isEmpty()) {
+      // All admin operations were successfully executed or skipped, persist the latest execution id and offset.
+      checkpointCandidates.clear();
+      persistAdminTopicMetadata(lastOffset, lastDelegatedExecutionId);
+    } else {
+      // Persist the latest execution id and offset before the earliest pending admin operation, which is a watermark
+      // of the progress made by all the stores.
+      Pair<Long, Long> watermark = null;
+      while (!checkpointCandidates.isEmpty() && checkpointCandidates.peek().getFirst() < smallestPendingOffset) {
+        watermark = checkpointCandidates.poll();
+      }
+      if (watermark != null) {
+        persistAdminTopicMetadata(watermark.getFirst(), watermark.getSecond());
+      }
+    }
+  }
+
+  /**
+   * @return whether the {@link AdminExecutionTask} of the store succeeded, otherwise the store is marked problematic.
+   */
+  private boolean collectResult(String storeName, Queue<AdminOperationWrapper> operations, StoreExecution execution)
+      throws InterruptedException {
+    stats.recordAdminConsumptionCycleDurationMs(System.currentTimeMillis() - execution.submissionTimeMs);
+    try {
+      execution.future.get();
+      problematicStores.remove(storeName);
+      return true;
+    } catch (ExecutionException | CancellationException e) {
+      AdminOperationWrapper problematicOperation = operations.peek();
+      if (problematicOperation == null) {
+        problematicStores.remove(storeName);
+        return true;
+      }
+      AdminErrorInfo errorInfo = new AdminErrorInfo();
+      if (e instanceof CancellationException) {
+        // The task was only cancelled because it didn't make any progress in time.
+        errorInfo.exception =
+            new VeniceException("Could not finish processing admin message for store " + storeName + " in time");
+        LOGGER.warn(errorInfo.exception.getMessage());
       } else {
-        // in situations when we skipped a blocking message (while delegating) and no other messages are queued up.
-        persistAdminTopicMetadata();
+        errorInfo.exception = e;
       }
+      errorInfo.offset = problematicOperation.getOffset();
+      problematicStores.put(storeName, errorInfo);
+      return false;
     }
   }
 
@@ -695,7 +761,7 @@ public class AdminConsumptionTask implements Runnable, Closeable {
       for (Store store: stores) {
         String storeName = store.getName();
         Queue<AdminOperationWrapper> operationQueue =
-            storeAdminOperationsMapWithOffset.computeIfAbsent(storeName, n -> new LinkedList<>());
+            storeAdminOperationsMapWithOffset.computeIfAbsent(storeName, n -> new ConcurrentLinkedQueue<>());
         AdminOperationWrapper adminOperationWrapper = new AdminOperationWrapper(
             adminOperation,
             record.getOffset(),
@@ -726,7 +792,7 @@ public class AdminConsumptionTask implements Runnable, Closeable {
       stats.recordAdminMessageDelegateLatency(
           Math.max(0, adminOperationWrapper.getDelegateTimestamp() - adminOperationWrapper.getLocalBrokerTimestamp()));
       String storeName = extractStoreName(adminOperation);
-      storeAdminOperationsMapWithOffset.putIfAbsent(storeName, new LinkedList<>());
+      storeAdminOperationsMapWithOffset.putIfAbsent(storeName, new ConcurrentLinkedQueue<>());
       storeAdminOperationsMapWithOffset.get(storeName).add(adminOperationWrapper);
 
     }
@@ -837,19 +903,17 @@ public class AdminConsumptionTask implements Runnable, Closeable {
     }
   }
 
-  private void persistAdminTopicMetadata() {
-    if (lastDelegatedExecutionId == lastPersistedExecutionId && lastOffset == lastPersistedOffset) {
+  private void persistAdminTopicMetadata(long offset, long executionId) {
+    if (executionId == lastPersistedExecutionId && offset == lastPersistedOffset) {
       // Skip since there are no new admin messages processed.
       return;
     }
     Map<String, Long> metadata = remoteConsumptionEnabled
-        ? AdminTopicMetadataAccessor
-            .generateMetadataMap(localOffsetCheckpointAtStartTime, lastOffset, lastDelegatedExecutionId)
-        : AdminTopicMetadataAccessor
-            .generateMetadataMap(lastOffset, upstreamOffsetCheckpointAtStartTime, lastDelegatedExecutionId);
+        ? AdminTopicMetadataAccessor.generateMetadataMap(localOffsetCheckpointAtStartTime, offset, executionId)
+        : AdminTopicMetadataAccessor.generateMetadataMap(offset, upstreamOffsetCheckpointAtStartTime, executionId);
     adminTopicMetadataAccessor.updateMetadata(clusterName, metadata);
-    lastPersistedOffset = lastOffset;
-    lastPersistedExecutionId = lastDelegatedExecutionId;
+    lastPersistedOffset = offset;
+    lastPersistedExecutionId = executionId;
     stats.setAdminConsumptionCheckpointOffset(lastPersistedOffset);
   }
 
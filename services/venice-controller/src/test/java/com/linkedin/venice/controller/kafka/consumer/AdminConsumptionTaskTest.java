@@ -115,6 +115,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -1602,6 +1603,68 @@ public class AdminConsumptionTaskTest {
 
   }
 
+  @Test(timeOut = TIMEOUT)
+  public void testSlowStoreOnlyBlocksCheckpointAtItsOwnOffset() throws Exception {
+    String storeName1 = "test_store1";
+    String storeName2 = "test_store2";
+    String storeTopicName1 = storeName1 + "_v1";
+    veniceWriter.put(
+        emptyKeyBytes,
+        getStoreCreationMessage(clusterName, storeName1, owner, keySchema, valueSchema, 1),
+        AdminOperationSerializer.LATEST_SCHEMA_ID_FOR_ADMIN_OPERATION);
+    long slowOffset = ((PubSubProduceResult) veniceWriter
+        .put(
+            emptyKeyBytes,
+            getStoreCreationMessage(clusterName, storeName2, owner, keySchema, valueSchema, 2),
+            AdminOperationSerializer.LATEST_SCHEMA_ID_FOR_ADMIN_OPERATION)
+        .get()).getOffset();
+    long lastOffset = ((PubSubProduceResult) veniceWriter
+        .put(
+            emptyKeyBytes,
+            getKillOfflinePushJobMessage(clusterName, storeTopicName1, 3),
+            AdminOperationSerializer.LATEST_SCHEMA_ID_FOR_ADMIN_OPERATION)
+        .get()).getOffset();
+
+    // The store doesn't exist
+    when(admin.hasStore(clusterName, storeName1)).thenReturn(false);
+    when(admin.hasStore(clusterName, storeName2)).thenReturn(false);
+    // The store creation of the second store is slow, but keeps within the timeout of the admin execution tasks
+    CountDownLatch slowOperationLatch = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      slowOperationLatch.await();
+      return null;
+    }).when(admin).createStore(clusterName, storeName2, owner, keySchema, valueSchema, false);
+
+    AdminConsumptionTask task = getAdminConsumptionTask(new RandomPollStrategy(), false);
+    executor.submit(task);
+
+    // The first store is processed completely, and the checkpoint advances right before the slow admin operation
+    TestUtils.waitForNonDeterministicAssertion(
+        TIMEOUT,
+        TimeUnit.MILLISECONDS,
+        () -> Assert.assertEquals(
+            executionIdAccessor.getLastSucceededExecutionIdMap(clusterName).getOrDefault(storeName1, -1L).longValue(),
+            3L));
+    TestUtils.waitForNonDeterministicAssertion(
+        TIMEOUT,
+        TimeUnit.MILLISECONDS,
+        () -> Assert.assertEquals(getLastOffset(clusterName), slowOffset - 1));
+    Assert.assertEquals(getLastExecutionId(clusterName), 1L);
+    Assert.assertEquals(task.getFailingOffset(), -1L);
+
+    slowOperationLatch.countDown();
+    TestUtils.waitForNonDeterministicAssertion(
+        TIMEOUT,
+        TimeUnit.MILLISECONDS,
+        () -> Assert.assertEquals(getLastOffset(clusterName), lastOffset));
+    Assert.assertEquals(getLastExecutionId(clusterName), 3L);
+
+    task.close();
+    executor.shutdown();
+    executor.awaitTermination(TIMEOUT, TimeUnit.MILLISECONDS);
+    verify(admin, times(1)).createStore(clusterName, storeName2, owner, keySchema, valueSchema, false);
+  }
+
   @Test(timeOut = TIMEOUT)
   public void testSystemStoreMessageOrder() throws InterruptedException, IOException {
     doThrow(new VeniceException("Prevent store creation")).when(admin)
@@ -39,6 +39,7 @@ import com.linkedin.venice.router.api.DictionaryRetrievalService;
 import com.linkedin.venice.router.api.MetaStoreShadowReader;
 import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
 import com.linkedin.venice.router.api.RouterHeartbeat;
+import com.linkedin.venice.router.api.RouterHotKeyCache;
 import com.linkedin.venice.router.api.RouterKey;
 import com.linkedin.venice.router.api.VeniceDelegateMode;
 import com.linkedin.venice.router.api.VeniceDispatcher;
@@ -55,6 +56,7 @@ import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
 import com.linkedin.venice.router.httpclient.ApacheHttpAsyncStorageNodeClient;
 import com.linkedin.venice.router.httpclient.HttpClient5StorageNodeClient;
+import com.linkedin.venice.router.httpclient.NettyHttp2StorageNodeClient;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AdminOperationsStats;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
@@ -438,6 +440,10 @@ public class RouterServer extends AbstractVeniceService {
         LOGGER.info("Router will use HTTP CLIENT5");
         storageNodeClient = new HttpClient5StorageNodeClient(sslFactoryForRequests, config);
         break;
+      case NETTY_HTTP2_CLIENT:
+        LOGGER.info("Router will use Netty HTTP/2 client");
+        storageNodeClient = new NettyHttp2StorageNodeClient(sslFactoryForRequests, config);
+        break;
       default:
         throw new VeniceException(
             "Router client type " + config.getStorageNodeClientType().toString() + " is not supported!");
@@ -456,6 +462,12 @@ public class RouterServer extends AbstractVeniceService {
         routeHttpRequestStats,
         aggHostHealthStats,
         routerStats);
+    Optional<RouterHotKeyCache> hotKeyCache = Optional.empty();
+    if (!config.getHotKeyCacheStores().isEmpty()) {
+      hotKeyCache = Optional.of(
+          new RouterHotKeyCache(metadataRepository, config.getHotKeyCacheStores(), config.getHotKeyCacheSizeInBytes()));
+      dispatcher.initHotKeyCache(hotKeyCache.get());
+    }
     scatterGatherMode = new VeniceDelegateMode(config, routerStats, routeHttpRequestStats);
 
     if (config.isRouterHeartBeatEnabled()) {
@@ -552,6 +564,7 @@ public class RouterServer extends AbstractVeniceService {
     };
 
     responseAggregator = new VeniceResponseAggregator(routerStats, metaStoreShadowReader);
+    hotKeyCache.ifPresent(responseAggregator::initHotKeyCache);
     /**
      * No need to setup {@link com.linkedin.alpini.router.api.HostHealthMonitor} here since
      * {@link VeniceHostFinder} will always do health check.
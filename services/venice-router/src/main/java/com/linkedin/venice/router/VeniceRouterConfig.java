@@ -35,6 +35,8 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_FULL_PENDING_QUEUE_SERVER_OO
 import static com.linkedin.venice.ConfigKeys.ROUTER_HEART_BEAT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HELIX_ASSISTED_ROUTING_GROUP_SELECTION_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HELIX_VIRTUAL_GROUP_FIELD_IN_DOMAIN;
+import static com.linkedin.venice.ConfigKeys.ROUTER_HOT_KEY_CACHE_SIZE_IN_BYTES;
+import static com.linkedin.venice.ConfigKeys.ROUTER_HOT_KEY_CACHE_STORES;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_HEADER_TABLE_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_INBOUND_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_INITIAL_WINDOW_SIZE;
@@ -71,6 +73,11 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_META_STORE_SHADOW_READ_ENABL
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTIGET_TARDY_LATENCY_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_KEY_ROUTING_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_HTTP2_CLIENT_EVENT_LOOP_THREAD_COUNT;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_HTTP2_CLIENT_MAX_CONCURRENT_STREAMS_PER_HOST;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_HTTP2_CLIENT_MAX_CONNECTIONS_PER_HOST;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_HTTP2_CLIENT_MIN_CONCURRENT_STREAMS_PER_HOST;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_HTTP2_CLIENT_STREAM_LATENCY_THRESHOLD_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PENDING_CONNECTION_RESUME_THRESHOLD_PER_ROUTE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_THREAD_COUNT;
@@ -198,6 +205,11 @@ public class VeniceRouterConfig {
   private int httpClient5PoolSize;
   private int httpClient5TotalIOThreadCount;
   private boolean httpClient5SkipCipherCheck;
+  private int nettyHttp2ClientEventLoopThreadCount;
+  private int nettyHttp2ClientMaxConnectionsPerHost;
+  private int nettyHttp2ClientMinConcurrentStreamsPerHost;
+  private int nettyHttp2ClientMaxConcurrentStreamsPerHost;
+  private long nettyHttp2ClientStreamLatencyThresholdMs;
   private boolean http2InboundEnabled;
   private int http2MaxConcurrentStreams;
   private int http2MaxFrameSize;
@@ -209,6 +221,8 @@ public class VeniceRouterConfig {
   private int routerIOWorkerCount;
   private double perStoreRouterQuotaBuffer;
   private boolean httpClientOpensslEnabled;
+  private List<String> hotKeyCacheStores;
+  private long hotKeyCacheSizeInBytes;
 
   public VeniceRouterConfig(VeniceProperties props) {
     try {
@@ -370,6 +384,15 @@ public class VeniceRouterConfig {
     httpClient5TotalIOThreadCount =
         props.getInt(ROUTER_HTTP_CLIENT5_TOTAL_IO_THREAD_COUNT, Runtime.getRuntime().availableProcessors());
     httpClient5SkipCipherCheck = props.getBoolean(ROUTER_HTTP_CLIENT5_SKIP_CIPHER_CHECK_ENABLED, false);
+    nettyHttp2ClientEventLoopThreadCount =
+        props.getInt(ROUTER_NETTY_HTTP2_CLIENT_EVENT_LOOP_THREAD_COUNT, Runtime.getRuntime().availableProcessors());
+    nettyHttp2ClientMaxConnectionsPerHost = props.getInt(ROUTER_NETTY_HTTP2_CLIENT_MAX_CONNECTIONS_PER_HOST, 2);
+    nettyHttp2ClientMinConcurrentStreamsPerHost =
+        props.getInt(ROUTER_NETTY_HTTP2_CLIENT_MIN_CONCURRENT_STREAMS_PER_HOST, 16);
+    nettyHttp2ClientMaxConcurrentStreamsPerHost =
+        props.getInt(ROUTER_NETTY_HTTP2_CLIENT_MAX_CONCURRENT_STREAMS_PER_HOST, 1024);
+    nettyHttp2ClientStreamLatencyThresholdMs =
+        props.getLong(ROUTER_NETTY_HTTP2_CLIENT_STREAM_LATENCY_THRESHOLD_MS, 100);
     http2InboundEnabled = props.getBoolean(ROUTER_HTTP2_INBOUND_ENABLED, false);
     http2MaxConcurrentStreams = props.getInt(ROUTER_HTTP2_MAX_CONCURRENT_STREAMS, 100);
     http2MaxFrameSize = props.getInt(ROUTER_HTTP2_MAX_FRAME_SIZE, 8 * 1024 * 1024);
@@ -386,6 +409,8 @@ public class VeniceRouterConfig {
     routerIOWorkerCount = props.getInt(ROUTER_IO_WORKER_COUNT, 24);
     perStoreRouterQuotaBuffer = props.getDouble(ROUTER_PER_STORE_ROUTER_QUOTA_BUFFER, 1.5);
     httpClientOpensslEnabled = props.getBoolean(ROUTER_HTTP_CLIENT_OPENSSL_ENABLED, true);
+    hotKeyCacheStores = props.getList(ROUTER_HOT_KEY_CACHE_STORES, Collections.emptyList());
+    hotKeyCacheSizeInBytes = props.getSizeInBytes(ROUTER_HOT_KEY_CACHE_SIZE_IN_BYTES, 256 * 1024 * 1024L);
   }
 
   public double getPerStoreRouterQuotaBuffer() {
@@ -789,6 +814,26 @@ public class VeniceRouterConfig {
     return httpClient5SkipCipherCheck;
   }
 
+  public int getNettyHttp2ClientEventLoopThreadCount() {
+    return nettyHttp2ClientEventLoopThreadCount;
+  }
+
+  public int getNettyHttp2ClientMaxConnectionsPerHost() {
+    return nettyHttp2ClientMaxConnectionsPerHost;
+  }
+
+  public int getNettyHttp2ClientMinConcurrentStreamsPerHost() {
+    return nettyHttp2ClientMinConcurrentStreamsPerHost;
+  }
+
+  public int getNettyHttp2ClientMaxConcurrentStreamsPerHost() {
+    return nettyHttp2ClientMaxConcurrentStreamsPerHost;
+  }
+
+  public long getNettyHttp2ClientStreamLatencyThresholdMs() {
+    return nettyHttp2ClientStreamLatencyThresholdMs;
+  }
+
   public boolean isHttp2InboundEnabled() {
     return http2InboundEnabled;
   }
@@ -828,4 +873,12 @@ public class VeniceRouterConfig {
   public boolean isHttpClientOpensslEnabled() {
     return httpClientOpensslEnabled;
   }
+
+  public List<String> getHotKeyCacheStores() {
+    return hotKeyCacheStores;
+  }
+
+  public long getHotKeyCacheSizeInBytes() {
+    return hotKeyCacheSizeInBytes;
+  }
 }
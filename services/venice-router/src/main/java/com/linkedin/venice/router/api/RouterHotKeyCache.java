@@ -0,0 +1,249 @@
+package com.linkedin.venice.router.api;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.StoreDataChangedListener;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * {@code RouterHotKeyCache} caches single-get responses in Router for the stores enabled by
+ * {@link com.linkedin.venice.ConfigKeys#ROUTER_HOT_KEY_CACHE_STORES}, so that the requests for popular keys
+ * don't need to reach storage nodes.
+ *
+ * The cache key contains the store version, and the data of a store version won't change once it has been pushed
+ * if the store is batch-only, so cached responses never need to be refreshed. For this reason, only batch-only stores
+ * are cached, and the entries of a store are discarded once it is no longer batch-only. When the current version
+ * of a store changes, the entries of the other versions become useless and will be discarded as well.
+ *
+ * The cache is bounded by the total bytes of cached keys and values, and it relies on the W-TinyLFU eviction
+ * policy of Caffeine, which works well for skewed key popularity.
+ */
+public class RouterHotKeyCache {
+  private static final Logger LOGGER = LogManager.getLogger(RouterHotKeyCache.class);
+  /**
+   * Rough estimation of the per-entry overhead: object headers, references and the Caffeine node.
+   */
+  private static final int ENTRY_OVERHEAD_IN_BYTES = 128;
+
+  private final ReadOnlyStoreRepository storeRepository;
+  private final Set<String> enabledStores;
+  private final Cache<CacheKey, CachedResponse> cache;
+  /**
+   * Whether each enabled store can be cached right now, which is lazily initialized and kept up-to-date by
+   * {@link #storeChangeListener}.
+   */
+  private final Map<String, Boolean> storeCacheability = new VeniceConcurrentHashMap<>();
+  private final Map<String, Integer> storeCurrentVersions = new VeniceConcurrentHashMap<>();
+
+  public RouterHotKeyCache(
+      ReadOnlyStoreRepository storeRepository,
+      Collection<String> enabledStores,
+      long cacheSizeInBytes) {
+    this.storeRepository = storeRepository;
+    this.enabledStores = new HashSet<>(enabledStores);
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(cacheSizeInBytes)
+        .weigher((CacheKey key, CachedResponse value) -> key.getWeight() + value.getWeight())
+        .build();
+    this.storeRepository.registerStoreDataChangedListener(storeChangeListener);
+    LOGGER.info("Router hot key cache is enabled for stores: {} with size: {} bytes", enabledStores, cacheSizeInBytes);
+  }
+
+  public boolean isCacheable(VenicePath path) {
+    if (path.getRequestType() != RequestType.SINGLE_GET || path.isStreamingRequest()) {
+      return false;
+    }
+    String storeName = path.getStoreName();
+    if (!enabledStores.contains(storeName)) {
+      return false;
+    }
+    return storeCacheability.computeIfAbsent(storeName, ignored -> {
+      Store store = storeRepository.getStore(storeName);
+      return store != null && isBatchOnly(store);
+    });
+  }
+
+  /**
+   * @return the cached response for the given single-get path, or null if it is not cached.
+   */
+  public FullHttpResponse get(VenicePath path) {
+    CachedResponse cachedResponse = cache.getIfPresent(new CacheKey(path));
+    if (cachedResponse == null) {
+      return null;
+    }
+    ByteBuf content = Unpooled.wrappedBuffer(cachedResponse.content);
+    ContentDecompressResult decompressResult =
+        path.getResponseDecompressor().decompressSingleGetContent(cachedResponse.compressionStrategy, content);
+    VeniceFullHttpResponse response = new VeniceFullHttpResponse(
+        HttpVersion.HTTP_1_1,
+        OK,
+        decompressResult.getContent(),
+        decompressResult.getDecompressionTimeInNs());
+    response.headers()
+        .set(HttpHeaderNames.CONTENT_TYPE, cachedResponse.contentType)
+        .set(HttpHeaderNames.CONTENT_LENGTH, decompressResult.getContent().readableBytes())
+        .set(HttpConstants.VENICE_SCHEMA_ID, cachedResponse.schemaId)
+        .set(HttpConstants.VENICE_COMPRESSION_STRATEGY, decompressResult.getCompressionStrategy().getValue())
+        .set(HttpConstants.VENICE_REQUEST_RCU, 1);
+    return response;
+  }
+
+  /**
+   * Cache the given single-get response if it is a successful one. The content of the response is copied, so the
+   * caller still owns the response.
+   */
+  public void put(VenicePath path, FullHttpResponse response) {
+    if (!response.status().equals(HttpResponseStatus.OK)) {
+      return;
+    }
+    String schemaId = response.headers().get(HttpConstants.VENICE_SCHEMA_ID);
+    String contentType = response.headers().get(HttpHeaderNames.CONTENT_TYPE);
+    if (schemaId == null || contentType == null) {
+      return;
+    }
+    CacheKey cacheKey = new CacheKey(path);
+    if (cache.getIfPresent(cacheKey) != null) {
+      // Avoid copying the content again for the response served by the cache.
+      return;
+    }
+    ByteBuf content = response.content();
+    byte[] contentBytes = new byte[content.readableBytes()];
+    content.getBytes(content.readerIndex(), contentBytes);
+    cache.put(
+        cacheKey,
+        new CachedResponse(
+            contentBytes,
+            VeniceResponseDecompressor
+                .getCompressionStrategy(response.headers().get(HttpConstants.VENICE_COMPRESSION_STRATEGY)),
+            schemaId,
+            contentType));
+  }
+
+  /**
+   * For TEST ONLY
+   */
+  long getEstimatedSize() {
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+
+  private static boolean isBatchOnly(Store store) {
+    return !store.isHybrid() && !store.isIncrementalPushEnabled();
+  }
+
+  private void invalidateStore(String storeName, int versionToKeep) {
+    cache.asMap().keySet().removeIf(key -> key.storeName.equals(storeName) && key.version != versionToKeep);
+  }
+
+  private final StoreDataChangedListener storeChangeListener = new StoreDataChangedListener() {
+    @Override
+    public void handleStoreChanged(Store store) {
+      String storeName = store.getName();
+      if (!enabledStores.contains(storeName)) {
+        return;
+      }
+      boolean cacheable = isBatchOnly(store);
+      storeCacheability.put(storeName, cacheable);
+      int currentVersion = store.getCurrentVersion();
+      Integer previousCurrentVersion = storeCurrentVersions.put(storeName, currentVersion);
+      if (!cacheable) {
+        invalidateStore(storeName, Store.NON_EXISTING_VERSION);
+      } else if (previousCurrentVersion != null && previousCurrentVersion != currentVersion) {
+        LOGGER.info(
+            "Current version of store: {} changed from {} to {}, will discard the cached entries of other versions",
+            storeName,
+            previousCurrentVersion,
+            currentVersion);
+        invalidateStore(storeName, currentVersion);
+      }
+    }
+
+    @Override
+    public void handleStoreDeleted(String storeName) {
+      if (!enabledStores.contains(storeName)) {
+        return;
+      }
+      storeCacheability.remove(storeName);
+      storeCurrentVersions.remove(storeName);
+      invalidateStore(storeName, Store.NON_EXISTING_VERSION);
+    }
+  };
+
+  private static final class CacheKey {
+    private final String storeName;
+    private final int version;
+    private final byte[] key;
+    private final int hashCode;
+
+    CacheKey(VenicePath path) {
+      this.storeName = path.getStoreName();
+      this.version = path.getVersionNumber();
+      ByteBuffer keyBuffer = path.getPartitionKey().getKeyBuffer();
+      this.key = new byte[keyBuffer.remaining()];
+      keyBuffer.duplicate().get(this.key);
+      this.hashCode = 31 * (31 * storeName.hashCode() + version) + Arrays.hashCode(key);
+    }
+
+    int getWeight() {
+      return key.length + storeName.length() + ENTRY_OVERHEAD_IN_BYTES;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey other = (CacheKey) o;
+      return version == other.version && storeName.equals(other.storeName) && Arrays.equals(key, other.key);
+    }
+  }
+
+  private static final class CachedResponse {
+    private final byte[] content;
+    private final CompressionStrategy compressionStrategy;
+    private final String schemaId;
+    private final String contentType;
+
+    CachedResponse(byte[] content, CompressionStrategy compressionStrategy, String schemaId, String contentType) {
+      this.content = content;
+      this.compressionStrategy = compressionStrategy;
+      this.schemaId = schemaId;
+      this.contentType = contentType;
+    }
+
+    int getWeight() {
+      return content.length;
+    }
+  }
+}
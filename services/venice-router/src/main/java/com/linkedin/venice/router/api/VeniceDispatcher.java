@@ -91,6 +91,8 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
 
+  private Optional<RouterHotKeyCache> hotKeyCache = Optional.empty();
+
   public VeniceDispatcher(
       VeniceRouterConfig config,
       ReadOnlyStoreRepository storeRepository,
@@ -116,6 +118,10 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     this.routerStats = routerStats;
   }
 
+  public void initHotKeyCache(RouterHotKeyCache hotKeyCache) {
+    this.hotKeyCache = Optional.of(hotKeyCache);
+  }
+
   @Override
   public void dispatch(
       @Nonnull Scatter<Instance, VenicePath, RouterKey> scatter,
@@ -142,6 +148,17 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     Instance storageNode = part.getHosts().get(0);
     hostSelected.setSuccess(storageNode);
 
+    if (hotKeyCache.isPresent() && hotKeyCache.get().isCacheable(path)) {
+      AggRouterHttpRequestStats stats = perStoreStatsByType.getStatsByType(requestType);
+      stats.recordHotKeyCacheLookupRequest(storeName);
+      FullHttpResponse cachedResponse = hotKeyCache.get().get(path);
+      if (cachedResponse != null) {
+        stats.recordHotKeyCacheHitRequest(storeName);
+        responseFuture.setSuccess(Collections.singletonList(cachedResponse));
+        return;
+      }
+    }
+
     // sendRequest completes future either immediately in the calling thread context or on the executor
     sendRequest(storageNode, path, retryFuture).whenComplete((response, throwable) -> {
       try {
@@ -67,6 +67,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
   private final Optional<MetaStoreShadowReader> metaStoreShadowReaderOptional;
 
   private HelixGroupSelector helixGroupSelector;
+  private RouterHotKeyCache hotKeyCache;
 
   // timeout is configurable and should be overwritten elsewhere
   private long singleGetTardyThresholdInMs = TimeUnit.MILLISECONDS.convert(10, TimeUnit.SECONDS);
@@ -116,6 +117,10 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     return this;
   }
 
+  public void initHotKeyCache(RouterHotKeyCache hotKeyCache) {
+    this.hotKeyCache = hotKeyCache;
+  }
+
   public void initHelixGroupSelector(HelixGroupSelector helixGroupSelector) {
     if (this.helixGroupSelector != null) {
       throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
@@ -202,6 +207,9 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
       switch (requestType) {
         case SINGLE_GET:
           finalResponse = gatheredResponses.get(0);
+          if (hotKeyCache != null && hotKeyCache.isCacheable(venicePath)) {
+            hotKeyCache.put(venicePath, finalResponse);
+          }
           break;
         case MULTI_GET:
           finalResponse = processMultiGetResponses(gatheredResponses, storeName, versionNumber, optionalHeaders);
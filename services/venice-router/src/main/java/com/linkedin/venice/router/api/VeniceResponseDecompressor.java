@@ -10,14 +10,12 @@ import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
-import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
-import com.linkedin.venice.serializer.RecordDeserializer;
-import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Pair;
 import io.netty.buffer.ByteBuf;
@@ -27,7 +25,6 @@ import io.netty.handler.codec.http.HttpRequest;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Optional;
-import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 
 
 /**
@@ -35,11 +32,12 @@ import org.apache.avro.io.OptimizedBinaryDecoderFactory;
  * {@link VeniceResponseAggregator} for regular requests and {@link VeniceDispatcher} for streaming requests.
  */
 public class VeniceResponseDecompressor {
-  private static final RecordSerializer<MultiGetResponseRecordV1> recordSerializer =
-      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
-  private static final RecordDeserializer<MultiGetResponseRecordV1> recordDeserializer =
-      FastSerializerDeserializerFactory
-          .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.getClassSchema(), MultiGetResponseRecordV1.class);
+  /**
+   * Max varint size of an int (schemaId and keyIndex) is 5 bytes, and max varint size of a long (value length) is 10.
+   */
+  private static final int MAX_VAR_INT_SIZE = 5;
+  private static final int MAX_VAR_LONG_SIZE = 10;
+  private static final int MAX_ENVELOPE_SIZE_BETWEEN_VALUES = MAX_VAR_INT_SIZE + MAX_VAR_INT_SIZE + MAX_VAR_LONG_SIZE;
 
   private final CompressionStrategy clientCompression;
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
@@ -108,8 +106,8 @@ public class VeniceResponseDecompressor {
   /**
    * Decompressing multi-get response in router side is a bit of overhead.
    * Since records could be concatenated within one response, we need to
-   * deserialize the records; decompress the records and then serialize
-   * them back.
+   * locate the value of each record and decompress it, check
+   * {@link #decompressMultiGetRecords} for more details.
    */
   public ContentDecompressResult decompressMultiGetContent(CompressionStrategy compressionStrategy, ByteBuf content) {
     if (canPassThroughResponse(compressionStrategy)) {
@@ -173,62 +171,118 @@ public class VeniceResponseDecompressor {
       ByteBuffer compressedData,
       RequestType requestType) {
     try {
-      VeniceCompressor compressor;
-      if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
-        compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
-        if (compressor == null) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(requestType),
-              SERVICE_UNAVAILABLE,
-              "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
-        }
-      } else {
-        compressor = compressorFactory.getCompressor(compressionStrategy);
-      }
-      ByteBuffer decompressed = compressor.decompress(compressedData);
-      return decompressed;
+      return getCompressor(compressionStrategy, requestType).decompress(compressedData);
     } catch (IOException e) {
-      String errorMsg = String
-          .format("Failed to decompress data. Store: %s; Version: %d, error: %s", storeName, version, e.getMessage());
-      throw RouterExceptionAndTrackingUtils
-          .newVeniceExceptionAndTracking(Optional.of(storeName), Optional.of(requestType), BAD_GATEWAY, errorMsg);
+      throw newDecompressionException(requestType, e);
     }
   }
 
+  private VeniceCompressor getCompressor(CompressionStrategy compressionStrategy, RequestType requestType) {
+    if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
+      VeniceCompressor compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
+      if (compressor == null) {
+        throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+            Optional.of(storeName),
+            Optional.of(requestType),
+            SERVICE_UNAVAILABLE,
+            "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
+      }
+      return compressor;
+    }
+    return compressorFactory.getCompressor(compressionStrategy);
+  }
+
+  private VeniceException newDecompressionException(RequestType requestType, Exception e) {
+    String errorMsg = String
+        .format("Failed to decompress data. Store: %s; Version: %d, error: %s", storeName, version, e.getMessage());
+    return RouterExceptionAndTrackingUtils
+        .newVeniceExceptionAndTracking(Optional.of(storeName), Optional.of(requestType), BAD_GATEWAY, errorMsg);
+  }
+
+  /**
+   * The records in a multi-get response are {@link MultiGetResponseRecordV1} serialized back to back, and the binary
+   * format of each record is: keyIndex (zig-zag varint), value length (zig-zag varint), value bytes and schemaId
+   * (zig-zag varint). Since only the value and its length change after decompression, the records are scanned in
+   * place instead of being deserialized, and the output is a composite buffer referencing the decompressed values
+   * directly, interleaved with small buffers carrying the untouched keyIndex/schemaId bytes and the new value length.
+   * This way, neither the compressed values nor the decompressed values are copied, and the full response is never
+   * re-serialized.
+   */
   private ByteBuf decompressMultiGetRecords(
       CompressionStrategy compressionStrategy,
       ByteBuf data,
       RequestType requestType) {
-    ByteBuf copy = data.isReadOnly() ? data.copy() : data;
-    Iterable<MultiGetResponseRecordV1> records = recordDeserializer.deserializeObjects(
-        OptimizedBinaryDecoderFactory.defaultFactory()
-            .createOptimizedBinaryDecoder(copy.array(), 0, copy.readableBytes()));
+    VeniceCompressor compressor = getCompressor(compressionStrategy, requestType);
+    ByteBuf input = data.hasArray() ? data : Unpooled.copiedBuffer(data);
+    byte[] array = input.array();
+    int position = input.arrayOffset() + input.readerIndex();
+    int end = position + input.readableBytes();
 
+    CompositeByteBuf output = Unpooled.compositeBuffer(Integer.MAX_VALUE);
+    // Envelope bytes between two values: schemaId of the previous record, keyIndex and value length of the next one
+    ByteBuf envelope = Unpooled.buffer(MAX_ENVELOPE_SIZE_BETWEEN_VALUES);
     try {
-      VeniceCompressor compressor;
-      if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
-        compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
-        if (compressor == null) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(requestType),
-              SERVICE_UNAVAILABLE,
-              "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
+      while (position < end) {
+        int keyIndexEnd = skipVarInt(array, position, end);
+        envelope.writeBytes(array, position, keyIndexEnd - position);
+        position = keyIndexEnd;
+
+        long compressedLength = 0;
+        int shift = 0;
+        byte b;
+        do {
+          if (position >= end || shift >= 7 * MAX_VAR_LONG_SIZE) {
+            throw new IOException("Truncated or malformed value length at position: " + position);
+          }
+          b = array[position++];
+          compressedLength |= (long) (b & 0x7F) << shift;
+          shift += 7;
+        } while ((b & 0x80) != 0);
+        compressedLength = (compressedLength >>> 1) ^ -(compressedLength & 1);
+        if (compressedLength < 0 || compressedLength > end - position) {
+          throw new IOException("Invalid value length: " + compressedLength);
         }
-      } else {
-        compressor = compressorFactory.getCompressor(compressionStrategy);
-      }
-      for (MultiGetResponseRecordV1 record: records) {
-        record.value = compressor.decompress(record.value);
+
+        ByteBuffer decompressedValue = compressedLength == 0
+            ? ByteBuffer.wrap(new byte[0])
+            : compressor.decompress(array, position, (int) compressedLength);
+        position += (int) compressedLength;
+        writeZigZagVarLong(envelope, decompressedValue.remaining());
+        output.addComponent(true, envelope);
+        output.addComponent(true, Unpooled.wrappedBuffer(decompressedValue));
+
+        int schemaIdEnd = skipVarInt(array, position, end);
+        envelope = Unpooled.buffer(MAX_ENVELOPE_SIZE_BETWEEN_VALUES);
+        envelope.writeBytes(array, position, schemaIdEnd - position);
+        position = schemaIdEnd;
       }
-    } catch (IOException e) {
-      String errorMsg = String
-          .format("Failed to decompress data. Store: %s; Version: %d, error: %s", storeName, version, e.getMessage());
-      throw RouterExceptionAndTrackingUtils
-          .newVeniceExceptionAndTracking(Optional.of(storeName), Optional.of(requestType), BAD_GATEWAY, errorMsg);
+    } catch (IOException | IndexOutOfBoundsException e) {
+      output.release();
+      throw newDecompressionException(requestType, e);
     }
+    output.addComponent(true, envelope);
+    return output;
+  }
 
-    return Unpooled.wrappedBuffer(recordSerializer.serializeObjects(records));
+  /**
+   * @return the position right after the varint starting at {@param position}, which must end before {@param end}
+   */
+  private static int skipVarInt(byte[] array, int position, int end) throws IOException {
+    int start = position;
+    do {
+      if (position >= end || position - start >= MAX_VAR_INT_SIZE) {
+        throw new IOException("Truncated or malformed varint at position: " + start);
+      }
+    } while ((array[position++] & 0x80) != 0);
+    return position;
+  }
+
+  private static void writeZigZagVarLong(ByteBuf output, long value) {
+    long n = (value << 1) ^ (value >> 63);
+    while ((n & ~0x7FL) != 0) {
+      output.writeByte((int) ((n & 0x7F) | 0x80));
+      n >>>= 7;
+    }
+    output.writeByte((int) n);
   }
 }
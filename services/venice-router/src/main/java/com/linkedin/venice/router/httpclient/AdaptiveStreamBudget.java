@@ -0,0 +1,105 @@
+package com.linkedin.venice.router.httpclient;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Bounds the number of concurrent requests (i.e. HTTP/2 streams) sent to one storage node, with a limit which adapts
+ * to the latency observed on the responses, the same way TCP adapts its congestion window:
+ * 1. Slow start: the limit starts at the min limit and grows by one for each request completed in time while the limit
+ *    was in use, i.e. it doubles every round trip, until the first decrease.
+ * 2. Afterwards, the limit grows by one once as many requests as the limit have completed in time, while the limit was
+ *    in use.
+ * 3. The limit is cut by {@link #DECREASE_RATIO} when a request fails or completes slower than the latency threshold,
+ *    at most once per round trip, i.e. the requests sent before the last decrease don't decrease it again.
+ *
+ * This way, a slow storage node gets fewer requests, which the router can retry on the other replicas, instead of
+ * piling up more and more requests on it.
+ */
+class AdaptiveStreamBudget {
+  static final double DECREASE_RATIO = 0.75;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long latencyThresholdNs;
+  private final AtomicInteger inFlightCount = new AtomicInteger();
+  private final AtomicInteger completionsSinceIncrease = new AtomicInteger();
+  private volatile int limit;
+  private volatile boolean slowStart = true;
+  private volatile long lastDecreaseTimeNs;
+
+  AdaptiveStreamBudget(int minLimit, int maxLimit, long latencyThresholdNs) {
+    if (minLimit <= 0 || maxLimit < minLimit) {
+      throw new IllegalArgumentException("Invalid concurrent stream limits, min: " + minLimit + ", max: " + maxLimit);
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.latencyThresholdNs = latencyThresholdNs;
+    this.limit = minLimit;
+    this.lastDecreaseTimeNs = System.nanoTime();
+  }
+
+  /**
+   * @return whether a new request can be sent, in which case {@link #release} must be called once it completes.
+   */
+  boolean tryAcquire() {
+    if (inFlightCount.incrementAndGet() > limit) {
+      inFlightCount.decrementAndGet();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * @param startTimeNs the time at which the request was sent, from {@link System#nanoTime()}
+   * @param success whether the storage node served the request, as opposed to failing or rejecting it
+   */
+  void release(long startTimeNs, boolean success) {
+    int inFlight = inFlightCount.getAndDecrement();
+    long nowNs = System.nanoTime();
+    if (!success || nowNs - startTimeNs > latencyThresholdNs) {
+      decrease(startTimeNs, nowNs);
+      return;
+    }
+    // Only grow the limit while it is actually in use, otherwise it would grow forever on an idle storage node
+    int currentLimit = limit;
+    if (inFlight * 2 < currentLimit) {
+      return;
+    }
+    if (slowStart) {
+      synchronized (this) {
+        if (slowStart && limit < maxLimit) {
+          limit++;
+        }
+      }
+      return;
+    }
+    if (completionsSinceIncrease.incrementAndGet() >= currentLimit) {
+      synchronized (this) {
+        if (limit == currentLimit && limit < maxLimit) {
+          limit = currentLimit + 1;
+          completionsSinceIncrease.set(0);
+        }
+      }
+    }
+  }
+
+  private synchronized void decrease(long startTimeNs, long nowNs) {
+    if (startTimeNs - lastDecreaseTimeNs < 0) {
+      // The request was sent before the last decrease, which already accounted for the overload
+      return;
+    }
+    limit = Math.max(minLimit, (int) (limit * DECREASE_RATIO));
+    slowStart = false;
+    completionsSinceIncrease.set(0);
+    lastDecreaseTimeNs = nowNs;
+  }
+
+  int getLimit() {
+    return limit;
+  }
+
+  int getInFlightCount() {
+    return inFlightCount.get();
+  }
+}
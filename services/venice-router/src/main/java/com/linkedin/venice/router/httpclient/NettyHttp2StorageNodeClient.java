@@ -0,0 +1,413 @@
+package com.linkedin.venice.router.httpclient;
+
+import com.linkedin.alpini.base.concurrency.RunOnce;
+import com.linkedin.alpini.base.monitoring.CallTracker;
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.alpini.netty4.handlers.HttpClientResponseHandler;
+import com.linkedin.alpini.netty4.misc.Http2Utils;
+import com.linkedin.alpini.netty4.pool.BasicDnsResolver;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManager;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManagerImpl;
+import com.linkedin.alpini.netty4.pool.Http2AwareChannelPoolFactory;
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.MultithreadEventLoopGroup;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link StorageNodeClient} built on the Alpini {@link ChannelPoolManagerImpl} and
+ * {@link Http2AwareChannelPoolFactory}, which multiplexes the requests sent to each storage node over a few HTTP/2
+ * connections, instead of using one connection per in-flight request.
+ *
+ * The number of concurrent streams sent to each storage node is bounded by an {@link AdaptiveStreamBudget}, which
+ * shrinks when the storage node slows down. Once the budget of a storage node is exhausted, the requests are answered
+ * right away with {@link HttpResponseStatus#SERVICE_UNAVAILABLE}, which makes the router retry them on the other
+ * replicas instead of queueing them behind the slow ones.
+ *
+ * The storage nodes need to have HTTP/2 enabled, otherwise the connections fall back to HTTP/1.1, with one connection
+ * per in-flight request.
+ */
+public class NettyHttp2StorageNodeClient implements StorageNodeClient {
+  private static final Logger LOGGER = LogManager.getLogger(NettyHttp2StorageNodeClient.class);
+  private static final long HEALTH_CHECK_INTERVAL_MS = TimeUnit.SECONDS.toMillis(30);
+  private static final PortableHttpResponse STREAM_BUDGET_EXHAUSTED_RESPONSE = new NettyHttp2Response(
+      HttpResponseStatus.SERVICE_UNAVAILABLE.code(),
+      EmptyHttpHeaders.INSTANCE,
+      Unpooled.EMPTY_BUFFER);
+
+  private final MultithreadEventLoopGroup eventLoopGroup;
+  private final ChannelPoolManager channelPoolManager;
+  private final Map<String, AdaptiveStreamBudget> streamBudgets = new VeniceConcurrentHashMap<>();
+  private final int minConcurrentStreamsPerHost;
+  private final int maxConcurrentStreamsPerHost;
+  private final long streamLatencyThresholdNs;
+  private final int requestTimeoutMs;
+
+  public NettyHttp2StorageNodeClient(Optional<SSLFactory> sslFactory, VeniceRouterConfig routerConfig) {
+    SSLFactory factory = sslFactory.orElseThrow(
+        () -> new VeniceException("Param 'sslFactory' must be present while using " + this.getClass().getSimpleName()));
+    this.minConcurrentStreamsPerHost = routerConfig.getNettyHttp2ClientMinConcurrentStreamsPerHost();
+    this.maxConcurrentStreamsPerHost = routerConfig.getNettyHttp2ClientMaxConcurrentStreamsPerHost();
+    this.streamLatencyThresholdNs =
+        TimeUnit.MILLISECONDS.toNanos(routerConfig.getNettyHttp2ClientStreamLatencyThresholdMs());
+    this.requestTimeoutMs = routerConfig.getSocketTimeout();
+
+    int threadCount = routerConfig.getNettyHttp2ClientEventLoopThreadCount();
+    DaemonThreadFactory threadFactory = new DaemonThreadFactory("router-storage-node-http2-client");
+    Class<? extends SocketChannel> socketChannelClass;
+    MultithreadEventLoopGroup eventLoopGroup;
+    try {
+      eventLoopGroup = new EpollEventLoopGroup(threadCount, threadFactory);
+      socketChannelClass = EpollSocketChannel.class;
+    } catch (LinkageError error) {
+      LOGGER.info("Epoll is only supported on Linux; switching to NIO");
+      eventLoopGroup = new NioEventLoopGroup(threadCount, threadFactory);
+      socketChannelClass = NioSocketChannel.class;
+    }
+    this.eventLoopGroup = eventLoopGroup;
+
+    Bootstrap bootstrap = new Bootstrap().group(eventLoopGroup)
+        .channel(socketChannelClass)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, routerConfig.getConnectionTimeout())
+        .attr(Http2AwareChannelPoolFactory.SSL_CONTEXT, createSslContext(factory))
+        .handler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel ch) {
+            ch.pipeline().addLast(new HttpClientResponseHandler());
+          }
+        });
+    int maxConnectionsPerHost = routerConfig.getNettyHttp2ClientMaxConnectionsPerHost();
+    Http2AwareChannelPoolFactory channelPoolFactory = new Http2AwareChannelPoolFactory(
+        bootstrap,
+        routerConfig.getConnectionTimeout(),
+        maxConnectionsPerHost,
+        maxConcurrentStreamsPerHost,
+        false,
+        HEALTH_CHECK_INTERVAL_MS,
+        ChannelHealthChecker.ACTIVE,
+        ignored -> CallTracker.nullTracker());
+    channelPoolFactory.setMoreThanOneHttp2Connection(maxConnectionsPerHost > 1);
+    channelPoolFactory.setMaxConcurrentStreams(maxConcurrentStreamsPerHost);
+    // Without HTTP/2, each in-flight request needs its own connection
+    channelPoolFactory.setHttp1MaxConnections(() -> maxConcurrentStreamsPerHost);
+
+    /**
+     * A single pool is shared by all the event loops for each storage node, otherwise each event loop would open its
+     * own connections.
+     */
+    this.channelPoolManager = new ChannelPoolManagerImpl(
+        eventLoopGroup,
+        channelPoolFactory,
+        new BasicDnsResolver(),
+        maxConcurrentStreamsPerHost,
+        true,
+        false,
+        false);
+    LOGGER.info(
+        "Constructing NettyHttp2StorageNodeClient with event loop thread count: {}, max connections per host: {}, "
+            + "concurrent streams per host between: {} and: {}",
+        threadCount,
+        maxConnectionsPerHost,
+        minConcurrentStreamsPerHost,
+        maxConcurrentStreamsPerHost);
+  }
+
+  private static SslContext createSslContext(SSLFactory sslFactory) {
+    ApplicationProtocolConfig applicationProtocolConfig = new ApplicationProtocolConfig(
+        ApplicationProtocolConfig.Protocol.ALPN,
+        ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+        ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+        ApplicationProtocolNames.HTTP_2,
+        ApplicationProtocolNames.HTTP_1_1);
+    return new JdkSslContext(
+        sslFactory.getSSLContext(),
+        true,
+        null,
+        IdentityCipherSuiteFilter.INSTANCE,
+        applicationProtocolConfig,
+        ClientAuth.NONE,
+        null,
+        false);
+  }
+
+  @Override
+  public void start() {
+
+  }
+
+  @Override
+  public void close() {
+    channelPoolManager.closeAll().awaitUninterruptibly();
+    eventLoopGroup.shutdownGracefully();
+  }
+
+  @Override
+  public void query(
+      Instance host,
+      VenicePath path,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack) throws RouterException {
+    AdaptiveStreamBudget streamBudget = streamBudgets.computeIfAbsent(
+        host.getNodeId(),
+        nodeId -> new AdaptiveStreamBudget(
+            minConcurrentStreamsPerHost,
+            maxConcurrentStreamsPerHost,
+            streamLatencyThresholdNs));
+    if (!streamBudget.tryAcquire()) {
+      completedCallBack.accept(STREAM_BUDGET_EXHAUSTED_RESPONSE);
+      return;
+    }
+
+    String location = path.getLocation();
+    byte[] body = path.getBody();
+    StorageNodeRequest request = new StorageNodeRequest(
+        path.getHttpMethod(),
+        location.startsWith("/") ? location : "/" + location,
+        body == null ? Unpooled.EMPTY_BUFFER : Unpooled.wrappedBuffer(body));
+    path.setupVeniceHeaders((k, v) -> request.headers().set(k, v));
+
+    long startTimeNs = System.nanoTime();
+    send(host.getHost() + ":" + host.getSslPort(), request, requestTimeoutMs).whenComplete((response, throwable) -> {
+      if (throwable != null) {
+        streamBudget.release(startTimeNs, false);
+        failedCallBack.accept(throwable);
+        return;
+      }
+      int statusCode = response.getStatusCode();
+      streamBudget.release(
+          startTimeNs,
+          statusCode != HttpResponseStatus.SERVICE_UNAVAILABLE.code()
+              && statusCode != HttpResponseStatus.TOO_MANY_REQUESTS.code());
+      completedCallBack.accept(response);
+    });
+  }
+
+  @Override
+  public void sendRequest(VeniceMetaDataRequest request, CompletableFuture<PortableHttpResponse> responseFuture) {
+    URI uri = URI.create(request.getUrl() + request.getQuery());
+    String requestUri = uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+    StorageNodeRequest storageNodeRequest =
+        new StorageNodeRequest(HttpMethod.valueOf(request.getMethod()), requestUri, Unpooled.EMPTY_BUFFER);
+    send(
+        uri.getHost() + ":" + uri.getPort(),
+        storageNodeRequest,
+        request.hasTimeout() ? request.getTimeout() : requestTimeoutMs).whenComplete((response, throwable) -> {
+          if (throwable != null) {
+            responseFuture.completeExceptionally(throwable);
+          } else {
+            responseFuture.complete(response);
+          }
+        });
+  }
+
+  private CompletableFuture<PortableHttpResponse> send(String hostAndPort, StorageNodeRequest request, int timeoutMs) {
+    request.headers().set(HttpHeaderNames.HOST, hostAndPort);
+    HttpUtil.setContentLength(request, request.content().readableBytes());
+    ResponseAggregator responseAggregator = request.responseAggregator;
+    CompletableFuture<PortableHttpResponse> responseFuture = responseAggregator.responseFuture;
+    ScheduledFuture<?> timeoutFuture = eventLoopGroup.schedule(
+        () -> responseFuture.completeExceptionally(
+            new TimeoutException("Request to: " + hostAndPort + " timed out after: " + timeoutMs + "ms")),
+        timeoutMs,
+        TimeUnit.MILLISECONDS);
+    responseFuture.whenComplete((response, throwable) -> timeoutFuture.cancel(false));
+
+    channelPoolManager.acquire(hostAndPort, ChannelPoolManagerImpl.DEFAULT_DB_QUEUE, QOS.NORMAL)
+        .addListener((Future<Channel> channelFuture) -> {
+          if (!channelFuture.isSuccess()) {
+            request.release();
+            responseFuture.completeExceptionally(channelFuture.cause());
+            return;
+          }
+          Channel channel = channelFuture.getNow();
+          Runnable releaseChannel = RunOnce.make(channel, channelPoolManager::release);
+          /**
+           * The streams opened on a parent HTTP/2 channel are tracked by the pool itself, so the channel is released
+           * right after the write. Otherwise, the channel (i.e. the HTTP/2 stream or the HTTP/1.1 connection) is
+           * released once the response is received, and closed if the response didn't complete, which also resets
+           * the stream of a request which timed out.
+           */
+          boolean isHttp2ParentChannel = Http2Utils.isHttp2ParentChannelPipeline(channel.pipeline());
+          if (!isHttp2ParentChannel) {
+            responseFuture.whenComplete((response, throwable) -> {
+              if (throwable == null && responseAggregator.keepAlive) {
+                releaseChannel.run();
+              } else {
+                channel.close().addListener(closeFuture -> releaseChannel.run());
+              }
+            });
+          }
+          channel.writeAndFlush(request).addListener((ChannelFuture writeFuture) -> {
+            if (!writeFuture.isSuccess()) {
+              responseFuture.completeExceptionally(writeFuture.cause());
+            }
+          });
+          if (isHttp2ParentChannel) {
+            releaseChannel.run();
+          }
+        });
+    return responseFuture;
+  }
+
+  /**
+   * Collects the parts of a response into a heap buffer, since the received buffers are released by
+   * {@link HttpClientResponseHandler} once consumed.
+   */
+  private static final class ResponseAggregator implements Consumer<Object> {
+    private final CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+    private HttpResponse response;
+    private ByteBuf content;
+    private volatile boolean keepAlive;
+
+    @Override
+    public void accept(Object msg) {
+      if (msg instanceof Throwable) {
+        responseFuture.completeExceptionally((Throwable) msg);
+        return;
+      }
+      if (msg instanceof HttpResponse) {
+        response = (HttpResponse) msg;
+        content = Unpooled.buffer((int) HttpUtil.getContentLength(response, 0L));
+      }
+      if (msg instanceof HttpContent && content != null) {
+        content.writeBytes(((HttpContent) msg).content());
+      }
+      if (msg instanceof LastHttpContent && response != null) {
+        keepAlive = HttpUtil.isKeepAlive(response);
+        responseFuture.complete(new NettyHttp2Response(response.status().code(), response.headers(), content));
+      }
+    }
+  }
+
+  private static final class StorageNodeRequest extends DefaultFullHttpRequest
+      implements HttpClientResponseHandler.ResponseConsumer {
+    private final ResponseAggregator responseAggregator;
+
+    private StorageNodeRequest(HttpMethod method, String uri, ByteBuf content) {
+      this(method, uri, content, new ResponseAggregator());
+    }
+
+    private StorageNodeRequest(HttpMethod method, String uri, ByteBuf content, ResponseAggregator responseAggregator) {
+      super(HttpVersion.HTTP_1_1, method, uri, content);
+      this.responseAggregator = responseAggregator;
+    }
+
+    private StorageNodeRequest(FullHttpRequest request, ResponseAggregator responseAggregator) {
+      super(
+          request.protocolVersion(),
+          request.method(),
+          request.uri(),
+          request.content(),
+          request.headers(),
+          request.trailingHeaders());
+      this.responseAggregator = responseAggregator;
+    }
+
+    @Override
+    public Consumer<Object> responseConsumer() {
+      return responseAggregator;
+    }
+
+    @Override
+    public FullHttpRequest copy() {
+      return new StorageNodeRequest(super.copy(), responseAggregator);
+    }
+
+    @Override
+    public FullHttpRequest duplicate() {
+      return new StorageNodeRequest(super.duplicate(), responseAggregator);
+    }
+
+    @Override
+    public FullHttpRequest retainedDuplicate() {
+      return new StorageNodeRequest(super.retainedDuplicate(), responseAggregator);
+    }
+
+    @Override
+    public FullHttpRequest replace(ByteBuf content) {
+      return new StorageNodeRequest(super.replace(content), responseAggregator);
+    }
+  }
+
+  private static final class NettyHttp2Response implements PortableHttpResponse {
+    private final int statusCode;
+    private final HttpHeaders headers;
+    private final ByteBuf content;
+
+    private NettyHttp2Response(int statusCode, HttpHeaders headers, ByteBuf content) {
+      this.statusCode = statusCode;
+      this.headers = headers;
+      this.content = content;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return statusCode;
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      return content;
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return headers.contains(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return headers.get(headerName);
+    }
+  }
+}
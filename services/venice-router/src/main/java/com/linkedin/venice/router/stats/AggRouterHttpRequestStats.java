@@ -190,6 +190,16 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     getStoreStats(storeName).recordMetaStoreShadowRead();
   }
 
+  public void recordHotKeyCacheLookupRequest(String storeName) {
+    totalStats.recordHotKeyCacheLookupRequest();
+    getStoreStats(storeName).recordHotKeyCacheLookupRequest();
+  }
+
+  public void recordHotKeyCacheHitRequest(String storeName) {
+    totalStats.recordHotKeyCacheHitRequest();
+    getStoreStats(storeName).recordHotKeyCacheHitRequest();
+  }
+
   private class AggScatterGatherStats extends ScatterGatherStats {
     private long getAggStats(Function<ScatterGatherStats, Long> func) {
       long total = 0;
@@ -66,6 +66,8 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor retryDelaySensor;
   private final Sensor multiGetFallbackSensor;
   private final Sensor metaStoreShadowReadSensor;
+  private final Sensor hotKeyCacheLookupRequestSensor;
+  private final Sensor hotKeyCacheHitRequestSensor;
   private Sensor keySizeSensor;
   private final String systemStoreName;
 
@@ -182,6 +184,8 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
         registerSensor("error_retry_attempt_triggered_by_pending_request_check", new OccurrenceRate());
     retryDelaySensor = registerSensor("retry_delay", new Avg(), new Max());
     metaStoreShadowReadSensor = registerSensor("meta_store_shadow_read", new OccurrenceRate());
+    hotKeyCacheLookupRequestSensor = registerSensor("hot_key_cache_lookup_request", new OccurrenceRate());
+    hotKeyCacheHitRequestSensor = registerSensor("hot_key_cache_hit_request", new OccurrenceRate());
   }
 
   /**
@@ -366,6 +370,14 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     metaStoreShadowReadSensor.record();
   }
 
+  public void recordHotKeyCacheLookupRequest() {
+    hotKeyCacheLookupRequestSensor.record();
+  }
+
+  public void recordHotKeyCacheHitRequest() {
+    hotKeyCacheHitRequestSensor.record();
+  }
+
   @Override
   protected Sensor registerSensor(String sensorName, MeasurableStat... stats) {
     return super.registerSensor(systemStoreName == null ? sensorName : systemStoreName, null, stats);
@@ -0,0 +1,113 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.StoreDataChangedListener;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.api.path.VenicePath;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestRouterHotKeyCache {
+  private static final String STORE_NAME = "test_store";
+
+  private static VenicePath getSingleGetPath(String storeName, int version, String key) {
+    VenicePath path = mock(VenicePath.class);
+    when(path.getRequestType()).thenReturn(RequestType.SINGLE_GET);
+    when(path.isStreamingRequest()).thenReturn(false);
+    when(path.getStoreName()).thenReturn(storeName);
+    when(path.getVersionNumber()).thenReturn(version);
+    doReturn(RouterKey.fromString(key)).when(path).getPartitionKey();
+    VeniceResponseDecompressor decompressor = mock(VeniceResponseDecompressor.class);
+    when(decompressor.decompressSingleGetContent(any(), any())).thenAnswer(
+        invocation -> new ContentDecompressResult(invocation.getArgument(1), invocation.getArgument(0), 0));
+    when(path.getResponseDecompressor()).thenReturn(decompressor);
+    return path;
+  }
+
+  private static FullHttpResponse getResponse(HttpResponseStatus status, String value) {
+    FullHttpResponse response = new DefaultFullHttpResponse(
+        HttpVersion.HTTP_1_1,
+        status,
+        Unpooled.wrappedBuffer(value.getBytes(StandardCharsets.UTF_8)));
+    response.headers()
+        .set(HttpHeaderNames.CONTENT_TYPE, HttpConstants.AVRO_BINARY)
+        .set(HttpConstants.VENICE_SCHEMA_ID, 1)
+        .set(HttpConstants.VENICE_COMPRESSION_STRATEGY, CompressionStrategy.NO_OP.getValue());
+    return response;
+  }
+
+  private static Store getStore(int currentVersion, boolean hybrid) {
+    Store store = mock(Store.class);
+    when(store.getName()).thenReturn(STORE_NAME);
+    when(store.isHybrid()).thenReturn(hybrid);
+    when(store.getCurrentVersion()).thenReturn(currentVersion);
+    return store;
+  }
+
+  @Test
+  public void testCacheAndInvalidation() {
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    Store store = getStore(1, false);
+    when(storeRepository.getStore(STORE_NAME)).thenReturn(store);
+    RouterHotKeyCache cache =
+        new RouterHotKeyCache(storeRepository, Collections.singletonList(STORE_NAME), 1024 * 1024);
+    ArgumentCaptor<StoreDataChangedListener> listenerCaptor = ArgumentCaptor.forClass(StoreDataChangedListener.class);
+    verify(storeRepository).registerStoreDataChangedListener(listenerCaptor.capture());
+    StoreDataChangedListener listener = listenerCaptor.getValue();
+    listener.handleStoreChanged(store);
+
+    VenicePath path = getSingleGetPath(STORE_NAME, 1, "key1");
+    Assert.assertTrue(cache.isCacheable(path));
+    Assert.assertFalse(cache.isCacheable(getSingleGetPath("other_store", 1, "key1")));
+    Assert.assertNull(cache.get(path));
+
+    // Error responses shouldn't be cached
+    cache.put(path, getResponse(HttpResponseStatus.INTERNAL_SERVER_ERROR, "error"));
+    Assert.assertNull(cache.get(path));
+
+    cache.put(path, getResponse(HttpResponseStatus.OK, "value1"));
+    FullHttpResponse cachedResponse = cache.get(path);
+    Assert.assertNotNull(cachedResponse);
+    Assert.assertEquals(cachedResponse.status(), HttpResponseStatus.OK);
+    ByteBuf content = cachedResponse.content();
+    Assert.assertEquals(content.toString(StandardCharsets.UTF_8), "value1");
+    Assert.assertEquals(cachedResponse.headers().get(HttpConstants.VENICE_SCHEMA_ID), "1");
+    // The key of a different version shouldn't hit
+    Assert.assertNull(cache.get(getSingleGetPath(STORE_NAME, 2, "key1")));
+
+    cache.put(getSingleGetPath(STORE_NAME, 2, "key1"), getResponse(HttpResponseStatus.OK, "value2"));
+    Assert.assertEquals(cache.getEstimatedSize(), 2);
+
+    // Version swap should discard the entries of other versions
+    Store storeWithNewVersion = getStore(2, false);
+    listener.handleStoreChanged(storeWithNewVersion);
+    Assert.assertEquals(cache.getEstimatedSize(), 1);
+    Assert.assertNull(cache.get(path));
+    Assert.assertNotNull(cache.get(getSingleGetPath(STORE_NAME, 2, "key1")));
+
+    // Hybrid stores can't be cached
+    listener.handleStoreChanged(getStore(2, true));
+    Assert.assertEquals(cache.getEstimatedSize(), 0);
+    Assert.assertFalse(cache.isCacheable(getSingleGetPath(STORE_NAME, 2, "key1")));
+  }
+}
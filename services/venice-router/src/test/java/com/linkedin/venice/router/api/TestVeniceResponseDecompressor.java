@@ -8,12 +8,23 @@ import static org.mockito.Mockito.mock;
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -120,4 +131,106 @@ public class TestVeniceResponseDecompressor {
       Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
     }
   }
+
+  @Test
+  public void testMultiGetRecordsAreDecompressedWithoutReserialization() throws IOException {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "storage/test-store_v1",
+        System.currentTimeMillis(),
+        100000);
+
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(any());
+    RouterExceptionAndTrackingUtils.setRouterStats(routerStats);
+
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceCompressor compressor = compressorFactory.getCompressor(CompressionStrategy.GZIP);
+      List<String> values = new ArrayList<>();
+      List<MultiGetResponseRecordV1> records = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        // Cover an empty value, and values whose length needs multi-byte varint
+        String value = i == 0 ? "" : new String(new char[i * 10]).replace('\0', (char) ('a' + i % 26));
+        values.add(value);
+        MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+        record.keyIndex = i * 1000;
+        record.schemaId = i % 3 + 1;
+        record.value = value.isEmpty()
+            ? ByteBuffer.wrap(new byte[0])
+            : ByteBuffer.wrap(compressor.compress(value.getBytes(StandardCharsets.UTF_8)));
+        records.add(record);
+      }
+      byte[] serializedRecords =
+          SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema())
+              .serializeObjects(records);
+
+      VeniceResponseDecompressor responseDecompressor =
+          new VeniceResponseDecompressor(false, routerStats, request, "test-store", 1, compressorFactory);
+      ContentDecompressResult result = responseDecompressor
+          .decompressMultiGetContent(CompressionStrategy.GZIP, Unpooled.wrappedBuffer(serializedRecords));
+      Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
+
+      ByteBuf content = result.getContent();
+      byte[] decompressedBytes = new byte[content.readableBytes()];
+      content.getBytes(content.readerIndex(), decompressedBytes);
+      List<MultiGetResponseRecordV1> decompressedRecords =
+          SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class)
+              .deserializeObjects(decompressedBytes);
+      Assert.assertEquals(decompressedRecords.size(), records.size());
+      for (int i = 0; i < records.size(); i++) {
+        MultiGetResponseRecordV1 record = decompressedRecords.get(i);
+        Assert.assertEquals(record.keyIndex, i * 1000);
+        Assert.assertEquals(record.schemaId, i % 3 + 1);
+        Assert.assertEquals(StandardCharsets.UTF_8.decode(record.value).toString(), values.get(i));
+      }
+      content.release();
+    }
+  }
+
+  @Test
+  public void testTruncatedMultiGetRecordsAreRejected() throws IOException {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "storage/test-store_v1",
+        System.currentTimeMillis(),
+        100000);
+
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(any());
+    RouterExceptionAndTrackingUtils.setRouterStats(routerStats);
+
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceCompressor compressor = compressorFactory.getCompressor(CompressionStrategy.GZIP);
+      MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+      // Multi-byte varints for every field
+      record.keyIndex = 100000;
+      record.schemaId = 100000;
+      record.value = ByteBuffer.wrap(compressor.compress(new byte[1000]));
+      byte[] serializedRecord =
+          SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema())
+              .serialize(record);
+
+      VeniceResponseDecompressor responseDecompressor =
+          new VeniceResponseDecompressor(false, routerStats, request, "test-store", 1, compressorFactory);
+      // The bytes after the truncation are still in the backing array, but must never be read
+      for (int length = 1; length < serializedRecord.length; length++) {
+        ByteBuf truncatedRecord = Unpooled.wrappedBuffer(serializedRecord, 0, length);
+        Assert.assertThrows(
+            VeniceException.class,
+            () -> responseDecompressor.decompressMultiGetContent(CompressionStrategy.GZIP, truncatedRecord));
+      }
+
+      // A varint which never ends
+      byte[] malformedRecord = new byte[20];
+      Arrays.fill(malformedRecord, (byte) 0xFF);
+      Assert.assertThrows(
+          VeniceException.class,
+          () -> responseDecompressor
+              .decompressMultiGetContent(CompressionStrategy.GZIP, Unpooled.wrappedBuffer(malformedRecord)));
+    }
+  }
 }
@@ -0,0 +1,114 @@
+package com.linkedin.venice.router.httpclient;
+
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestAdaptiveStreamBudget {
+  private static final long LATENCY_THRESHOLD_NS = TimeUnit.SECONDS.toNanos(10);
+
+  private static void acquireAndRelease(AdaptiveStreamBudget budget, int count) {
+    long startTimeNs = System.nanoTime();
+    for (int i = 0; i < count; i++) {
+      Assert.assertTrue(budget.tryAcquire());
+    }
+    for (int i = 0; i < count; i++) {
+      budget.release(startTimeNs, true);
+    }
+  }
+
+  @Test
+  public void testLimitGrowsWhileInUse() {
+    AdaptiveStreamBudget budget = new AdaptiveStreamBudget(2, 4, LATENCY_THRESHOLD_NS);
+    Assert.assertTrue(budget.tryAcquire());
+    Assert.assertTrue(budget.tryAcquire());
+    Assert.assertFalse(budget.tryAcquire());
+    Assert.assertEquals(budget.getInFlightCount(), 2);
+
+    long startTimeNs = System.nanoTime();
+    budget.release(startTimeNs, true);
+    budget.release(startTimeNs, true);
+    Assert.assertEquals(budget.getInFlightCount(), 0);
+    Assert.assertEquals(budget.getLimit(), 3);
+
+    // The limit doesn't grow when it isn't used
+    for (int i = 0; i < 10; i++) {
+      acquireAndRelease(budget, 1);
+    }
+    Assert.assertEquals(budget.getLimit(), 3);
+
+    // Nor beyond the max limit
+    for (int i = 0; i < 10; i++) {
+      acquireAndRelease(budget, budget.getLimit());
+    }
+    Assert.assertEquals(budget.getLimit(), 4);
+  }
+
+  @Test
+  public void testLimitRampsUpQuicklyUntilTheFirstDecrease() {
+    AdaptiveStreamBudget budget = new AdaptiveStreamBudget(16, 1024, LATENCY_THRESHOLD_NS);
+    int roundTripCount = 0;
+    while (budget.getLimit() < 1024 && roundTripCount < 100) {
+      acquireAndRelease(budget, budget.getLimit());
+      roundTripCount++;
+    }
+    // Growing the limit by one per round trip would take about a thousand round trips instead
+    Assert.assertEquals(budget.getLimit(), 1024);
+    Assert.assertTrue(roundTripCount <= 20, "Round trips needed to reach the max limit: " + roundTripCount);
+
+    long startTimeNs = System.nanoTime();
+    Assert.assertTrue(budget.tryAcquire());
+    budget.release(startTimeNs, false);
+    int limit = budget.getLimit();
+    Assert.assertEquals(limit, (int) (1024 * AdaptiveStreamBudget.DECREASE_RATIO));
+
+    // After the first decrease, the limit grows by at most one per round trip
+    for (int i = 0; i < 10; i++) {
+      acquireAndRelease(budget, budget.getLimit());
+    }
+    Assert.assertTrue(budget.getLimit() > limit);
+    Assert.assertTrue(budget.getLimit() <= limit + 10);
+  }
+
+  @Test
+  public void testLimitShrinksOncePerRoundTrip() {
+    AdaptiveStreamBudget budget = new AdaptiveStreamBudget(2, 100, LATENCY_THRESHOLD_NS);
+    for (int i = 0; i < 20; i++) {
+      acquireAndRelease(budget, budget.getLimit());
+    }
+    int limit = budget.getLimit();
+    Assert.assertTrue(limit > 2);
+
+    long startTimeNs = System.nanoTime();
+    Assert.assertTrue(budget.tryAcquire());
+    Assert.assertTrue(budget.tryAcquire());
+    budget.release(startTimeNs, false);
+    Assert.assertEquals(budget.getLimit(), (int) (limit * AdaptiveStreamBudget.DECREASE_RATIO));
+    // The requests sent before the decrease don't decrease the limit again
+    budget.release(startTimeNs, false);
+    Assert.assertEquals(budget.getLimit(), (int) (limit * AdaptiveStreamBudget.DECREASE_RATIO));
+
+    // The limit never goes below the min limit
+    for (int i = 0; i < 20; i++) {
+      Assert.assertTrue(budget.tryAcquire());
+      budget.release(System.nanoTime(), false);
+    }
+    Assert.assertEquals(budget.getLimit(), 2);
+  }
+
+  @Test
+  public void testSlowResponsesShrinkTheLimit() throws InterruptedException {
+    AdaptiveStreamBudget budget = new AdaptiveStreamBudget(2, 100, TimeUnit.MILLISECONDS.toNanos(1));
+    for (int i = 0; i < 20; i++) {
+      acquireAndRelease(budget, budget.getLimit());
+    }
+    int limit = budget.getLimit();
+
+    long startTimeNs = System.nanoTime();
+    Assert.assertTrue(budget.tryAcquire());
+    Thread.sleep(10);
+    budget.release(startTimeNs, true);
+    Assert.assertEquals(budget.getLimit(), (int) (limit * AdaptiveStreamBudget.DECREASE_RATIO));
+  }
+}
@@ -0,0 +1,74 @@
+package com.linkedin.venice.listener;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Decides how many chunks a parallel batch get is split into, from the load of the read executor and the recent
+ * per-key lookup latency, instead of always splitting the keys into chunks of a fixed size:
+ * 1. A request expected to complete within the target chunk latency isn't split, since handing it off to more threads
+ *    would cost more than it saves.
+ * 2. A larger request gets as many chunks as needed to meet the target latency, but no more than the idle threads of
+ *    the executor, and no chunk gets fewer than {@link #minChunkSize} keys.
+ * 3. A request isn't split when the executor has queued tasks, since the extra tasks would only queue up behind the
+ *    others and delay every request.
+ *
+ * The per-key latency is a moving average over the recent chunks, so it accounts for the size of the values being read
+ * as well as for the load of the storage. Until the first chunk completes, the keys are split into chunks of
+ * {@link #minChunkSize}, as long as there are idle threads for them.
+ */
+class AdaptiveBatchGetSplitter {
+  /**
+   * Each new sample weighs 1/8 of the moving average, like the smoothed round-trip time of TCP.
+   */
+  private static final int LATENCY_SMOOTHING_SHIFT = 3;
+
+  private final ThreadPoolExecutor executor;
+  private final int minChunkSize;
+  private final long targetChunkLatencyNs;
+  /** 0 until the first sample is recorded. */
+  private final AtomicLong perKeyLatencyNs = new AtomicLong();
+
+  AdaptiveBatchGetSplitter(ThreadPoolExecutor executor, int minChunkSize, long targetChunkLatencyNs) {
+    if (minChunkSize <= 0 || targetChunkLatencyNs <= 0) {
+      throw new IllegalArgumentException(
+          "Invalid min chunk size: " + minChunkSize + ", or target chunk latency: " + targetChunkLatencyNs);
+    }
+    this.executor = executor;
+    this.minChunkSize = minChunkSize;
+    this.targetChunkLatencyNs = targetChunkLatencyNs;
+  }
+
+  /**
+   * @return the number of chunks to split {@param keyCount} keys into, which is at least 1.
+   */
+  int getChunkCount(int keyCount) {
+    int maxChunkCount = (keyCount + minChunkSize - 1) / minChunkSize;
+    if (maxChunkCount <= 1 || !executor.getQueue().isEmpty()) {
+      return 1;
+    }
+    int idleThreadCount = executor.getMaximumPoolSize() - executor.getActiveCount();
+    int chunkCount = Math.min(maxChunkCount, idleThreadCount);
+    long latencyNs = perKeyLatencyNs.get();
+    if (latencyNs > 0) {
+      long expectedLatencyNs = latencyNs * keyCount;
+      chunkCount = (int) Math.min(chunkCount, (expectedLatencyNs + targetChunkLatencyNs - 1) / targetChunkLatencyNs);
+    }
+    return Math.max(1, chunkCount);
+  }
+
+  void recordChunkLatency(int keyCount, long latencyNs) {
+    if (keyCount <= 0) {
+      return;
+    }
+    long sampleNs = Math.max(1, latencyNs / keyCount);
+    perKeyLatencyNs.accumulateAndGet(
+        sampleNs,
+        (currentNs, newNs) -> currentNs == 0 ? newNs : currentNs + ((newNs - currentNs) >> LATENCY_SMOOTHING_SHIFT));
+  }
+
+  long getPerKeyLatencyNs() {
+    return perKeyLatencyNs.get();
+  }
+}
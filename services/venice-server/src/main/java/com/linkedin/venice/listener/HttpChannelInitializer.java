@@ -245,7 +245,10 @@ public class HttpChannelInitializer extends ChannelInitializer<SocketChannel> {
       grpcServerRequestProcessor.addHandler(grpcReadQuotaEnforcementHandler);
     }
 
-    GrpcStorageReadRequestHandler storageReadRequestHandler = new GrpcStorageReadRequestHandler(requestHandler);
+    GrpcStorageReadRequestHandler storageReadRequestHandler = new GrpcStorageReadRequestHandler(
+        requestHandler,
+        serverConfig.getGrpcStreamingMaxRecordsPerResponse(),
+        serverConfig.getGrpcStreamingMaxReadyWaitMs());
     grpcServerRequestProcessor.addHandler(storageReadRequestHandler);
 
     GrpcOutboundResponseHandler grpcOutboundResponseHandler = new GrpcOutboundResponseHandler();
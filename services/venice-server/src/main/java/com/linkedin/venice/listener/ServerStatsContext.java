@@ -1,5 +1,6 @@
 package com.linkedin.venice.listener;
 
+import com.linkedin.davinci.listener.response.ReadResponse;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.listener.request.RouterRequest;
 import com.linkedin.venice.read.RequestType;
@@ -410,6 +411,28 @@ public class ServerStatsContext {
     }
   }
 
+  /**
+   * Copies the stats collected while processing the request, which are recorded once the response is sent.
+   */
+  public void setReadResponseStats(ReadResponse obj) {
+    setDatabaseLookupLatency(obj.getDatabaseLookupLatency());
+    setStorageExecutionHandlerSubmissionWaitTime(obj.getStorageExecutionHandlerSubmissionWaitTime());
+    setStorageExecutionQueueLen(obj.getStorageExecutionQueueLen());
+    setSuccessRequestKeyCount(obj.getRecordCount());
+    setMultiChunkLargeValueCount(obj.getMultiChunkLargeValueCount());
+    setReadComputeLatency(obj.getReadComputeLatency());
+    setReadComputeDeserializationLatency(obj.getReadComputeDeserializationLatency());
+    setReadComputeSerializationLatency(obj.getReadComputeSerializationLatency());
+    setDotProductCount(obj.getDotProductCount());
+    setCosineSimilarityCount(obj.getCosineSimilarityCount());
+    setHadamardProductCount(obj.getHadamardProductCount());
+    setCountOperatorCount(obj.getCountOperatorCount());
+    setKeySizeList(obj.getKeySizeList());
+    setValueSizeList(obj.getValueSizeList());
+    setValueSize(obj.getValueSize());
+    setReadComputeOutputSize(obj.getReadComputeOutputSize());
+  }
+
   public void setValueSize(int size) {
     this.valueSize = size;
   }
@@ -15,6 +15,7 @@ import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
+import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.compute.ComputeUtils;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
@@ -53,6 +54,7 @@ import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
 import com.linkedin.venice.serialization.StoreDeserializerCache;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.streaming.StreamingConstants;
@@ -68,6 +70,8 @@ import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntLists;
@@ -82,7 +86,10 @@ import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -112,8 +119,14 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private final Map<Utf8, Schema> computeResultSchemaCache;
   private final boolean fastAvroEnabled;
   private final Function<Schema, RecordSerializer<GenericRecord>> genericSerializerGetter;
+  private final BiFunction<Schema, Schema, RecordDeserializer<GenericRecord>> genericDeserializerGetter;
   private final boolean parallelBatchGetEnabled;
   private final int parallelBatchGetChunkSize;
+  /**
+   * Only set when the number of chunks of parallel batch gets adapts to the load, see {@link AdaptiveBatchGetSplitter}.
+   */
+  private final AdaptiveBatchGetSplitter batchGetSplitter;
+  private final boolean batchLookupEnabled;
   private final boolean keyValueProfilingEnabled;
   private final VeniceServerConfig serverConfig;
   private final Map<String, PerStoreVersionState> perStoreVersionStateMap = new VeniceConcurrentHashMap<>();
@@ -202,9 +215,23 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     this.genericSerializerGetter = fastAvroEnabled
         ? FastSerializerDeserializerFactory::getFastAvroGenericSerializer
         : SerializerDeserializerFactory::getAvroGenericSerializer;
+    /**
+     * Both flavors deserialize {@code array<float>} fields into primitive float lists, so that the read compute
+     * operators do not need to deal with boxed floats.
+     */
+    this.genericDeserializerGetter = fastAvroEnabled
+        ? FastSerializerDeserializerFactory::getFastAvroGenericDeserializer
+        : SerializerDeserializerFactory::getAvroGenericDeserializerWithPrimitiveFloatList;
     this.computeResultSchemaCache = new VeniceConcurrentHashMap<>();
     this.parallelBatchGetEnabled = parallelBatchGetEnabled;
     this.parallelBatchGetChunkSize = parallelBatchGetChunkSize;
+    this.batchGetSplitter = parallelBatchGetEnabled && serverConfig.isParallelBatchGetAdaptiveEnabled()
+        ? new AdaptiveBatchGetSplitter(
+            executor,
+            Math.max(1, parallelBatchGetChunkSize),
+            TimeUnit.MICROSECONDS.toNanos(serverConfig.getParallelBatchGetTargetChunkLatencyUs()))
+        : null;
+    this.batchLookupEnabled = serverConfig.isEnableBatchLookup();
     this.keyValueProfilingEnabled = serverConfig.isKeyValueProfilingEnabled();
     this.serverConfig = serverConfig;
     this.compressorFactory = compressorFactory;
@@ -472,7 +499,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     AbstractStorageEngine storageEngine = getStorageEngineOrThrow(storeVersion);
     StoreDeserializerCache<GenericRecord> storeDeserializerCache = storeDeserializerCacheMap.computeIfAbsent(
         storeName,
-        s -> new AvroStoreDeserializerCache<>(this.schemaRepository, s, this.fastAvroEnabled));
+        s -> new AvroStoreDeserializerCache<>(this.schemaRepository, s, this.genericDeserializerGetter));
     return new PerStoreVersionState(partitionerConfig, partitioner, storageEngine, storeDeserializerCache);
   }
 
@@ -526,7 +553,13 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     }
     final ArrayList<MultiGetRouterRequestKeyV1> keyList = (ArrayList<MultiGetRouterRequestKeyV1>) keys;
     int totalKeyNum = keyList.size();
-    int splitSize = (int) Math.ceil((double) totalKeyNum / parallelChunkSize);
+    int chunkSize = parallelChunkSize;
+    if (batchGetSplitter != null) {
+      int chunkCount = batchGetSplitter.getChunkCount(totalKeyNum);
+      chunkSize = Math.max(1, (totalKeyNum + chunkCount - 1) / chunkCount);
+    }
+    final int finalChunkSize = chunkSize;
+    int splitSize = (int) Math.ceil((double) totalKeyNum / chunkSize);
 
     ReentrantLock requestLock = new ReentrantLock();
     CompletableFuture[] chunkFutures = new CompletableFuture[splitSize];
@@ -540,8 +573,30 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         if (request.shouldRequestBeTerminatedEarly()) {
           throw new VeniceRequestEarlyTerminationException(request.getStoreName());
         }
-        int startPos = finalCur * parallelChunkSize;
-        int endPos = Math.min((finalCur + 1) * parallelChunkSize, totalKeyNum);
+        long chunkStartTimeNs = System.nanoTime();
+        int startPos = finalCur * finalChunkSize;
+        int endPos = Math.min((finalCur + 1) * finalChunkSize, totalKeyNum);
+        if (batchLookupEnabled) {
+          batchLookup(
+              keyList,
+              startPos,
+              endPos,
+              request.isStreamingRequest(),
+              perStoreVersionState,
+              responseWrapper,
+              responseKeySizeList,
+              responseValueSizeList,
+              record -> {
+                requestLock.lock();
+                try {
+                  responseWrapper.addRecord(record);
+                } finally {
+                  requestLock.unlock();
+                }
+              });
+          recordChunkLatency(endPos - startPos, chunkStartTimeNs);
+          return;
+        }
         for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
           final MultiGetRouterRequestKeyV1 key = keyList.get(subChunkCur);
           if (responseKeySizeList != null) {
@@ -581,6 +636,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
             }
           }
         }
+        recordChunkLatency(endPos - startPos, chunkStartTimeNs);
       }, executorService);
     }
 
@@ -594,14 +650,53 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     });
   }
 
+  /**
+   * @return the compression strategy of the values of the store version, which streamed responses need to announce
+   *         before the first records are read.
+   */
+  public CompressionStrategy getCompressionStrategy(String resourceName) {
+    return getPerStoreVersionState(resourceName).storageEngine.getCompressionStrategy();
+  }
+
+  private void recordChunkLatency(int keyCount, long chunkStartTimeNs) {
+    if (batchGetSplitter != null) {
+      batchGetSplitter.recordChunkLatency(keyCount, System.nanoTime() - chunkStartTimeNs);
+    }
+  }
+
   public ReadResponse handleMultiGetRequest(MultiGetRouterRequestWrapper request) {
+    return handleMultiGetRequest(request, null);
+  }
+
+  /**
+   * @param recordConsumer if not null, receives the records as soon as they are read, instead of the returned response,
+   *                       so that they can be streamed back without waiting for the whole batch
+   */
+  public ReadResponse handleMultiGetRequest(
+      MultiGetRouterRequestWrapper request,
+      Consumer<MultiGetResponseRecordV1> recordConsumer) {
     Iterable<MultiGetRouterRequestKeyV1> keys = request.getKeys();
     PerStoreVersionState perStoreVersionState = getPerStoreVersionState(request.getResourceName());
     AbstractStorageEngine storageEngine = perStoreVersionState.storageEngine;
 
     MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(request.getKeyCount());
+    Consumer<MultiGetResponseRecordV1> consumer = recordConsumer != null ? recordConsumer : responseWrapper::addRecord;
     responseWrapper.setCompressionStrategy(storageEngine.getCompressionStrategy());
     responseWrapper.setDatabaseLookupLatency(0);
+    if (batchLookupEnabled) {
+      List<MultiGetRouterRequestKeyV1> keyList = toList(keys, request.getKeyCount());
+      batchLookup(
+          keyList,
+          0,
+          keyList.size(),
+          request.isStreamingRequest(),
+          perStoreVersionState,
+          responseWrapper,
+          null,
+          null,
+          consumer);
+      return responseWrapper;
+    }
     boolean isChunked = storageEngine.isChunked();
     for (MultiGetRouterRequestKeyV1 key: keys) {
       int subPartitionId = getSubPartitionId(key.partitionId, key.keyBytes, perStoreVersionState);
@@ -622,14 +717,113 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       }
 
       if (record != null) {
-        // TODO: streaming support in storage node
-        responseWrapper.addRecord(record);
+        consumer.accept(record);
       }
     }
     return responseWrapper;
   }
 
-  private ReadResponse handleComputeRequest(ComputeRouterRequestWrapper request) {
+  /**
+   * Looks up the keys within [{@param startPos}, {@param endPos}) of {@param keyList} with one batched storage read
+   * per sub-partition, instead of one storage read per key. Chunked values are re-assembled with a second batched
+   * read per sub-partition, see {@link BatchGetChunkingAdapter#batchGet}.
+   */
+  private void batchLookup(
+      List<MultiGetRouterRequestKeyV1> keyList,
+      int startPos,
+      int endPos,
+      boolean isStreaming,
+      PerStoreVersionState perStoreVersionState,
+      MultiGetResponseWrapper responseWrapper,
+      IntList responseKeySizeList,
+      IntList responseValueSizeList,
+      Consumer<MultiGetResponseRecordV1> recordConsumer) {
+    AbstractStorageEngine storageEngine = perStoreVersionState.storageEngine;
+    boolean isChunked = storageEngine.isChunked();
+    Int2ObjectMap<IntList> keyPositionsBySubPartition = new Int2ObjectOpenHashMap<>();
+    for (int pos = startPos; pos < endPos; ++pos) {
+      MultiGetRouterRequestKeyV1 key = keyList.get(pos);
+      if (responseKeySizeList != null) {
+        responseKeySizeList.set(pos, key.keyBytes.remaining());
+      }
+      int subPartitionId = getSubPartitionId(key.partitionId, key.keyBytes, perStoreVersionState);
+      IntList keyPositions = keyPositionsBySubPartition.get(subPartitionId);
+      if (keyPositions == null) {
+        keyPositions = new IntArrayList();
+        keyPositionsBySubPartition.put(subPartitionId, keyPositions);
+      }
+      keyPositions.add(pos);
+    }
+
+    for (Int2ObjectMap.Entry<IntList> entry: keyPositionsBySubPartition.int2ObjectEntrySet()) {
+      IntList keyPositions = entry.getValue();
+      List<ByteBuffer> keysInSubPartition = new ArrayList<>(keyPositions.size());
+      for (int i = 0; i < keyPositions.size(); ++i) {
+        keysInSubPartition.add(keyList.get(keyPositions.getInt(i)).keyBytes);
+      }
+      BatchGetChunkingAdapter.batchGet(
+          storageEngine,
+          entry.getIntKey(),
+          keysInSubPartition,
+          isChunked,
+          responseWrapper,
+          (record, indexInSubPartition) -> {
+            int pos = keyPositions.getInt(indexInSubPartition);
+            record = toMultiGetResponseRecord(record, keyList.get(pos), isStreaming);
+            if (record != null) {
+              if (responseValueSizeList != null) {
+                responseValueSizeList.set(pos, record.value.remaining());
+              }
+              recordConsumer.accept(record);
+            } else if (responseValueSizeList != null) {
+              responseValueSizeList.set(pos, -1);
+            }
+          });
+    }
+  }
+
+  /**
+   * @return the record to be added into the response for the given key, or null if the key does not exist and the
+   *         request is not a streaming one.
+   */
+  private static MultiGetResponseRecordV1 toMultiGetResponseRecord(
+      MultiGetResponseRecordV1 record,
+      MultiGetRouterRequestKeyV1 key,
+      boolean isStreaming) {
+    if (record != null) {
+      record.keyIndex = key.keyIndex;
+    } else if (isStreaming) {
+      // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
+      // non-existing keys in the response if the response is partial.
+      record = new MultiGetResponseRecordV1();
+      // Negative key index to indicate the non-existing keys
+      record.keyIndex = Math.negateExact(key.keyIndex);
+      record.schemaId = StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID;
+      record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
+    }
+    return record;
+  }
+
+  private static <K> List<K> toList(Iterable<K> keys, int keyCount) {
+    if (keys instanceof List) {
+      return (List<K>) keys;
+    }
+    List<K> keyList = new ArrayList<>(keyCount);
+    keys.forEach(keyList::add);
+    return keyList;
+  }
+
+  public ReadResponse handleComputeRequest(ComputeRouterRequestWrapper request) {
+    return handleComputeRequest(request, null);
+  }
+
+  /**
+   * @param recordConsumer if not null, receives the results as soon as they are computed, instead of the returned
+   *                       response, so that they can be streamed back without waiting for the whole batch
+   */
+  public ReadResponse handleComputeRequest(
+      ComputeRouterRequestWrapper request,
+      Consumer<ComputeResponseRecordV1> recordConsumer) {
     if (!metadataRepository.isReadComputationEnabled(request.getStoreName())) {
       throw new OperationNotAllowedException(
           "Read compute is not enabled for the store. Please contact Venice team to enable the feature.");
@@ -651,8 +845,26 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     reusableObjects.computeContext.clear();
 
     ComputeResponseWrapper response = new ComputeResponseWrapper(request.getKeyCount());
+    Consumer<ComputeResponseRecordV1> consumer = recordConsumer != null ? recordConsumer : response::addRecord;
     List<ComputeOperation> operations = request.getComputeRequest().getOperations();
     List<Schema.Field> operationResultFields = ComputeUtils.getOperationResultFields(operations, resultSchema);
+    if (batchLookupEnabled) {
+      int hits = computeResultsInBatches(
+          request,
+          operations,
+          operationResultFields,
+          storeVersion,
+          reusableValueRecord,
+          valueSchemaEntry.getId(),
+          compressor,
+          response,
+          reusableObjects,
+          reusableResultRecord,
+          resultSerializer,
+          consumer);
+      incrementOperatorCounters(response, operations, hits);
+      return response;
+    }
     int hits = 0;
     for (ComputeRouterRequestKeyV1 key: request.getKeys()) {
       AvroRecordUtils.clearRecord(reusableResultRecord);
@@ -667,7 +879,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           response,
           reusableObjects,
           reusableResultRecord);
-      if (addComputationResult(response, key, result, resultSerializer, request.isStreamingRequest())) {
+      if (addComputationResult(response, key, result, resultSerializer, request.isStreamingRequest(), consumer)) {
         hits++;
       }
     }
@@ -675,6 +887,76 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     return response;
   }
 
+  /**
+   * Batched counterpart of the per-key compute loop in {@link #handleComputeRequest}: the values are looked up with one
+   * batched storage read per sub-partition, and the compute operations are evaluated as each value gets deserialized.
+   *
+   * @return the number of keys which were found
+   */
+  private int computeResultsInBatches(
+      ComputeRouterRequestWrapper request,
+      List<ComputeOperation> operations,
+      List<Schema.Field> operationResultFields,
+      PerStoreVersionState storeVersion,
+      GenericRecord reusableValueRecord,
+      int readerSchemaId,
+      VeniceCompressor compressor,
+      ComputeResponseWrapper response,
+      ReusableObjects reusableObjects,
+      GenericRecord reusableResultRecord,
+      RecordSerializer<GenericRecord> resultSerializer,
+      Consumer<ComputeResponseRecordV1> recordConsumer) {
+    Int2ObjectMap<List<ComputeRouterRequestKeyV1>> keysBySubPartition = new Int2ObjectOpenHashMap<>();
+    Int2ObjectMap<List<byte[]>> keyBytesBySubPartition = new Int2ObjectOpenHashMap<>();
+    for (ComputeRouterRequestKeyV1 key: request.getKeys()) {
+      byte[] keyBytes = ByteUtils.extractByteArray(key.getKeyBytes());
+      int subPartitionId = getSubPartitionId(key.getPartitionId(), keyBytes, storeVersion);
+      List<ComputeRouterRequestKeyV1> keys = keysBySubPartition.get(subPartitionId);
+      if (keys == null) {
+        keys = new ArrayList<>();
+        keysBySubPartition.put(subPartitionId, keys);
+        keyBytesBySubPartition.put(subPartitionId, new ArrayList<>());
+      }
+      keys.add(key);
+      keyBytesBySubPartition.get(subPartitionId).add(keyBytes);
+    }
+
+    int[] hits = new int[1];
+    for (Int2ObjectMap.Entry<List<ComputeRouterRequestKeyV1>> entry: keysBySubPartition.int2ObjectEntrySet()) {
+      List<ComputeRouterRequestKeyV1> keys = entry.getValue();
+      GenericRecordChunkingAdapter.INSTANCE.batchGet(
+          storeVersion.storageEngine,
+          entry.getIntKey(),
+          keyBytesBySubPartition.get(entry.getIntKey()),
+          storeVersion.storageEngine.isChunked(),
+          reusableValueRecord,
+          reusableObjects.binaryDecoder,
+          response,
+          readerSchemaId,
+          storeVersion.storeDeserializerCache,
+          compressor,
+          (valueRecord, index) -> {
+            GenericRecord result = null;
+            if (valueRecord != null) {
+              AvroRecordUtils.clearRecord(reusableResultRecord);
+              result = computeResult(
+                  operations,
+                  operationResultFields,
+                  valueRecord,
+                  response,
+                  reusableObjects,
+                  reusableResultRecord);
+            }
+            boolean isStreaming = request.isStreamingRequest();
+            ComputeRouterRequestKeyV1 key = keys.get(index);
+            if (addComputationResult(response, key, result, resultSerializer, isStreaming, recordConsumer)) {
+              hits[0]++;
+            }
+          });
+    }
+    return hits[0];
+  }
+
   private BinaryResponse handleDictionaryFetchRequest(DictionaryFetchRequest request) {
     ByteBuffer dictionary = metadataRetriever.getStoreVersionCompressionDictionary(request.getResourceName());
     return new BinaryResponse(dictionary);
@@ -712,7 +994,8 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       ComputeRouterRequestKeyV1 key,
       GenericRecord result,
       RecordSerializer<GenericRecord> resultSerializer,
-      boolean isStreaming) {
+      boolean isStreaming,
+      Consumer<ComputeResponseRecordV1> recordConsumer) {
     if (result != null) {
       long serializeStartTimeInNS = System.nanoTime();
       ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
@@ -720,7 +1003,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       record.value = ByteBuffer.wrap(resultSerializer.serialize(result));
       response.addReadComputeSerializationLatency(LatencyUtils.getLatencyInMS(serializeStartTimeInNS));
       response.addReadComputeOutputSize(record.value.remaining());
-      response.addRecord(record);
+      recordConsumer.accept(record);
       return true;
     } else if (isStreaming) {
       // For streaming, we need to send back non-existing keys
@@ -728,7 +1011,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       // Negative key index to indicate non-existing key
       record.keyIndex = Math.negateExact(key.getKeyIndex());
       record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
-      response.addRecord(record);
+      recordConsumer.accept(record);
     }
     return false;
   }
@@ -749,13 +1032,28 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     if (reusableValueRecord == null) {
       return null;
     }
+    return computeResult(
+        operations,
+        operationResultFields,
+        reusableValueRecord,
+        response,
+        reusableObjects,
+        reusableResultRecord);
+  }
 
+  private GenericRecord computeResult(
+      List<ComputeOperation> operations,
+      List<Schema.Field> operationResultFields,
+      GenericRecord valueRecord,
+      ComputeResponseWrapper response,
+      ReusableObjects reusableObjects,
+      GenericRecord reusableResultRecord) {
     long computeStartTimeInNS = System.nanoTime();
     reusableResultRecord = ComputeUtils.computeResult(
         operations,
         operationResultFields,
         reusableObjects.computeContext,
-        reusableValueRecord,
+        valueRecord,
         reusableResultRecord);
     response.addReadComputeLatency(LatencyUtils.getLatencyInMS(computeStartTimeInNS));
     return reusableResultRecord;
@@ -20,6 +20,7 @@ public class GrpcRequestContext {
 
   private boolean isCompleted = false;
   private boolean hasError = false;
+  private boolean isStreamingCall = false;
   private RouterRequest routerRequest;
   private ReadResponse readResponse;
   private ServerStatsContext serverStatsContext;
@@ -89,6 +90,18 @@ public class GrpcRequestContext {
     return isCompleted;
   }
 
+  /**
+   * Marks the request as coming from a server-streaming RPC, whose records can be sent back in several responses
+   * before the last one, which is still sent by the end of the pipeline.
+   */
+  public void setStreamingCall() {
+    isStreamingCall = true;
+  }
+
+  public boolean isStreamingCall() {
+    return isStreamingCall;
+  }
+
   public boolean hasError() {
     return hasError;
   }
@@ -0,0 +1,121 @@
+package com.linkedin.venice.listener.grpc;
+
+import com.google.protobuf.UnsafeByteOperations;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.grpc.GrpcErrorCodes;
+import com.linkedin.venice.listener.response.MultiKeyResponseWrapper;
+import com.linkedin.venice.protocols.VeniceServerResponse;
+import com.linkedin.venice.serializer.RecordSerializer;
+import io.grpc.stub.ServerCallStreamObserver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+
+/**
+ * Sends the records of a multi-key read back over a server-streaming gRPC call as soon as they are read, in responses
+ * of at most {@link #maxRecordsPerResponse} records, instead of buffering the whole response on the storage node and
+ * on the client.
+ *
+ * Flow control: gRPC delivers the readiness callbacks of a call on the same serialized executor which runs the request,
+ * so they can't be waited for while the request is being processed. Instead, the writer polls
+ * {@link ServerCallStreamObserver#isReady()} before each response, which pauses the lookups while the client isn't
+ * keeping up, and gives up if the client cancels the call or doesn't catch up within {@link #maxReadyWaitNs}.
+ */
+public class GrpcStreamingResponseWriter<R> implements Consumer<R> {
+  private static final long READY_POLL_INTERVAL_NS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final ServerCallStreamObserver<VeniceServerResponse> responseObserver;
+  private final RecordSerializer<R> serializer;
+  private final int schemaId;
+  private final CompressionStrategy compressionStrategy;
+  private final int maxRecordsPerResponse;
+  private final long maxReadyWaitNs;
+  private final List<R> records;
+  private int sentResponseCount = 0;
+  private int sentRecordCount = 0;
+
+  public GrpcStreamingResponseWriter(
+      ServerCallStreamObserver<VeniceServerResponse> responseObserver,
+      RecordSerializer<R> serializer,
+      int schemaId,
+      CompressionStrategy compressionStrategy,
+      int maxRecordsPerResponse,
+      long maxReadyWaitMs) {
+    if (maxRecordsPerResponse <= 0) {
+      throw new IllegalArgumentException("Invalid max records per response: " + maxRecordsPerResponse);
+    }
+    this.responseObserver = responseObserver;
+    this.serializer = serializer;
+    this.schemaId = schemaId;
+    this.compressionStrategy = compressionStrategy;
+    this.maxRecordsPerResponse = maxRecordsPerResponse;
+    this.maxReadyWaitNs = TimeUnit.MILLISECONDS.toNanos(maxReadyWaitMs);
+    this.records = new ArrayList<>(maxRecordsPerResponse);
+  }
+
+  @Override
+  public void accept(R record) {
+    records.add(record);
+    if (records.size() >= maxRecordsPerResponse) {
+      flush();
+    }
+  }
+
+  /**
+   * Sends the records accepted since the last response, if any.
+   */
+  public void flush() {
+    if (records.isEmpty()) {
+      return;
+    }
+    awaitReady();
+    // The serialized bytes are never modified afterwards, so there is no need to copy them
+    VeniceServerResponse response = VeniceServerResponse.newBuilder()
+        .setErrorCode(GrpcErrorCodes.OK)
+        .setSchemaId(schemaId)
+        .setCompressionStrategy(compressionStrategy.getValue())
+        .setIsStreamingResponse(true)
+        .setData(UnsafeByteOperations.unsafeWrap(serializer.serializeObjects(records)))
+        .build();
+    responseObserver.onNext(response);
+    sentRecordCount += records.size();
+    records.clear();
+    sentResponseCount++;
+  }
+
+  /**
+   * Flushes the remaining records, and counts all the streamed records in {@param response}, since they were never
+   * added to it.
+   */
+  public void flush(MultiKeyResponseWrapper<R> response) {
+    flush();
+    response.addStreamedRecordCount(sentRecordCount);
+  }
+
+  public int getSentResponseCount() {
+    return sentResponseCount;
+  }
+
+  public int getSentRecordCount() {
+    return sentRecordCount;
+  }
+
+  private void awaitReady() {
+    long startTimeNs = System.nanoTime();
+    while (!responseObserver.isReady()) {
+      if (responseObserver.isCancelled()) {
+        throw new VeniceException("The streaming call was cancelled by the client");
+      }
+      if (System.nanoTime() - startTimeNs > maxReadyWaitNs) {
+        throw new VeniceException(
+            "The client didn't read the streamed responses within " + TimeUnit.NANOSECONDS.toMillis(maxReadyWaitNs)
+                + " ms");
+      }
+      LockSupport.parkNanos(READY_POLL_INTERVAL_NS);
+    }
+  }
+}
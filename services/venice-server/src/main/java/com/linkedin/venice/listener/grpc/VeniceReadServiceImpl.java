@@ -29,12 +29,38 @@ public class VeniceReadServiceImpl extends VeniceReadServiceGrpc.VeniceReadServi
     handleRequest(request, responseObserver);
   }
 
+  @Override
+  public void batchGetStreaming(VeniceClientRequest request, StreamObserver<VeniceServerResponse> responseObserver) {
+    handleStreamingRequest(request, false, responseObserver);
+  }
+
+  @Override
+  public void computeStreaming(VeniceClientRequest request, StreamObserver<VeniceServerResponse> responseObserver) {
+    handleStreamingRequest(request, true, responseObserver);
+  }
+
   private void handleRequest(VeniceClientRequest request, StreamObserver<VeniceServerResponse> responseObserver) {
     VeniceServerResponse.Builder responseBuilder = VeniceServerResponse.newBuilder().setErrorCode(GrpcErrorCodes.OK);
     GrpcRequestContext ctx = new GrpcRequestContext(request, responseBuilder, responseObserver);
     requestProcessor.process(ctx);
   }
 
+  private void handleStreamingRequest(
+      VeniceClientRequest request,
+      boolean isCompute,
+      StreamObserver<VeniceServerResponse> responseObserver) {
+    // The missing keys are sent back too, so that the client knows which keys are done before the end of the stream
+    VeniceClientRequest streamingRequest = request.toBuilder()
+        .setIsBatchRequest(true)
+        .setIsComputeRequest(isCompute)
+        .setIsStreamingRequest(true)
+        .build();
+    VeniceServerResponse.Builder responseBuilder = VeniceServerResponse.newBuilder().setErrorCode(GrpcErrorCodes.OK);
+    GrpcRequestContext ctx = new GrpcRequestContext(streamingRequest, responseBuilder, responseObserver);
+    ctx.setStreamingCall();
+    requestProcessor.process(ctx);
+  }
+
   @Override
   public String toString() {
     return this.getClass().getSimpleName();
@@ -30,6 +30,7 @@ public class GrpcOutboundResponseHandler extends VeniceServerGrpcHandler {
       return;
     }
 
+    statsContext.setReadResponseStats(obj);
     compressionStrategy = obj.getCompressionStrategy();
 
     veniceServerResponseBuilder.setCompressionStrategy(compressionStrategy.getValue());
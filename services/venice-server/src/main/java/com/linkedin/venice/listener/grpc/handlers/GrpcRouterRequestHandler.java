@@ -1,11 +1,14 @@
 package com.linkedin.venice.listener.grpc.handlers;
 
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.listener.ServerStatsContext;
 import com.linkedin.venice.listener.grpc.GrpcRequestContext;
+import com.linkedin.venice.listener.request.ComputeRouterRequestWrapper;
 import com.linkedin.venice.listener.request.GetRouterRequest;
 import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
 import com.linkedin.venice.listener.request.RouterRequest;
 import com.linkedin.venice.protocols.VeniceClientRequest;
+import io.grpc.Status;
 
 
 public class GrpcRouterRequestHandler extends VeniceServerGrpcHandler {
@@ -22,9 +25,20 @@ public class GrpcRouterRequestHandler extends VeniceServerGrpcHandler {
     VeniceClientRequest clientRequest = ctx.getVeniceClientRequest();
     ServerStatsContext statsContext = ctx.getGrpcStatsContext();
 
-    RouterRequest routerRequest = clientRequest.getIsBatchRequest()
-        ? MultiGetRouterRequestWrapper.parseMultiGetGrpcRequest(clientRequest)
-        : GetRouterRequest.grpcGetRouterRequest(clientRequest);
+    RouterRequest routerRequest;
+    if (clientRequest.getIsComputeRequest()) {
+      try {
+        routerRequest = ComputeRouterRequestWrapper.parseComputeGrpcRequest(clientRequest);
+      } catch (VeniceException e) {
+        // The rest of the pipeline needs a router request, so the call is failed right away, like invalid HTTP requests
+        ctx.getResponseObserver().onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+        return;
+      }
+    } else if (clientRequest.getIsBatchRequest()) {
+      routerRequest = MultiGetRouterRequestWrapper.parseMultiGetGrpcRequest(clientRequest);
+    } else {
+      routerRequest = GetRouterRequest.grpcGetRouterRequest(clientRequest);
+    }
 
     statsContext.setRequestInfo(routerRequest);
 
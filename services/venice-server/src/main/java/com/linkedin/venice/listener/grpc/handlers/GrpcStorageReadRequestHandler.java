@@ -1,23 +1,58 @@
 package com.linkedin.venice.listener.grpc.handlers;
 
 import com.linkedin.davinci.listener.response.ReadResponse;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
+import com.linkedin.venice.exceptions.OperationNotAllowedException;
 import com.linkedin.venice.exceptions.VeniceNoStoreException;
 import com.linkedin.venice.grpc.GrpcErrorCodes;
 import com.linkedin.venice.listener.ReadQuotaEnforcementHandler;
 import com.linkedin.venice.listener.StorageReadRequestHandler;
 import com.linkedin.venice.listener.VeniceRequestEarlyTerminationException;
 import com.linkedin.venice.listener.grpc.GrpcRequestContext;
+import com.linkedin.venice.listener.grpc.GrpcStreamingResponseWriter;
+import com.linkedin.venice.listener.request.ComputeRouterRequestWrapper;
 import com.linkedin.venice.listener.request.GetRouterRequest;
 import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
 import com.linkedin.venice.listener.request.RouterRequest;
+import com.linkedin.venice.listener.response.ComputeResponseWrapper;
+import com.linkedin.venice.listener.response.MultiGetResponseWrapper;
+import com.linkedin.venice.protocols.VeniceServerResponse;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.utils.LatencyUtils;
+import io.grpc.stub.ServerCallStreamObserver;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
 
 
 public class GrpcStorageReadRequestHandler extends VeniceServerGrpcHandler {
+  private static final int DEFAULT_MAX_RECORDS_PER_STREAMING_RESPONSE = 100;
+  private static final long DEFAULT_MAX_STREAMING_READY_WAIT_MS = TimeUnit.SECONDS.toMillis(10);
+
   private final StorageReadRequestHandler storage;
+  private final int maxRecordsPerStreamingResponse;
+  /**
+   * How long a streaming call waits for the client to read the responses already sent, before failing the request.
+   */
+  private final long maxStreamingReadyWaitMs;
 
   public GrpcStorageReadRequestHandler(StorageReadRequestHandler storage) {
+    this(storage, DEFAULT_MAX_RECORDS_PER_STREAMING_RESPONSE);
+  }
+
+  public GrpcStorageReadRequestHandler(StorageReadRequestHandler storage, int maxRecordsPerStreamingResponse) {
+    this(storage, maxRecordsPerStreamingResponse, DEFAULT_MAX_STREAMING_READY_WAIT_MS);
+  }
+
+  public GrpcStorageReadRequestHandler(
+      StorageReadRequestHandler storage,
+      int maxRecordsPerStreamingResponse,
+      long maxStreamingReadyWaitMs) {
     this.storage = storage;
+    this.maxRecordsPerStreamingResponse = maxRecordsPerStreamingResponse;
+    this.maxStreamingReadyWaitMs = maxStreamingReadyWaitMs;
   }
 
   @Override
@@ -38,7 +73,31 @@ public class GrpcStorageReadRequestHandler extends VeniceServerGrpcHandler {
           response = storage.handleSingleGetRequest((GetRouterRequest) request);
           break;
         case MULTI_GET:
-          response = storage.handleMultiGetRequest((MultiGetRouterRequestWrapper) request);
+          if (ctx.isStreamingCall()) {
+            GrpcStreamingResponseWriter<MultiGetResponseRecordV1> writer = createStreamingResponseWriter(
+                ctx,
+                MultiGetResponseRecordV1.getClassSchema(),
+                ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion(),
+                storage.getCompressionStrategy(request.getResourceName()));
+            response = storage.handleMultiGetRequest((MultiGetRouterRequestWrapper) request, writer);
+            writer.flush((MultiGetResponseWrapper) response);
+          } else {
+            response = storage.handleMultiGetRequest((MultiGetRouterRequestWrapper) request);
+          }
+          break;
+        case COMPUTE:
+          if (ctx.isStreamingCall()) {
+            // Compute results are never compressed
+            GrpcStreamingResponseWriter<ComputeResponseRecordV1> writer = createStreamingResponseWriter(
+                ctx,
+                ComputeResponseRecordV1.getClassSchema(),
+                ReadAvroProtocolDefinition.COMPUTE_RESPONSE_V1.getProtocolVersion(),
+                CompressionStrategy.NO_OP);
+            response = storage.handleComputeRequest((ComputeRouterRequestWrapper) request, writer);
+            writer.flush((ComputeResponseWrapper) response);
+          } else {
+            response = storage.handleComputeRequest((ComputeRouterRequestWrapper) request);
+          }
           break;
         default:
           ctx.setError();
@@ -46,6 +105,9 @@ public class GrpcStorageReadRequestHandler extends VeniceServerGrpcHandler {
               .setErrorCode(GrpcErrorCodes.BAD_REQUEST)
               .setErrorMessage("Unknown request type: " + request.getRequestType());
       }
+    } catch (OperationNotAllowedException e) {
+      ctx.setError();
+      ctx.getVeniceServerResponseBuilder().setErrorCode(GrpcErrorCodes.BAD_REQUEST).setErrorMessage(e.getMessage());
     } catch (VeniceNoStoreException e) {
       ctx.setError();
       ctx.getVeniceServerResponseBuilder()
@@ -70,4 +132,22 @@ public class GrpcStorageReadRequestHandler extends VeniceServerGrpcHandler {
 
     invokeNextHandler(ctx);
   }
+
+  /**
+   * The caller must flush the writer once the request is processed, since the last response of the call, which is sent
+   * by the end of the pipeline, only holds the records of the {@link ReadResponse}.
+   */
+  private <R> GrpcStreamingResponseWriter<R> createStreamingResponseWriter(
+      GrpcRequestContext ctx,
+      Schema recordSchema,
+      int schemaId,
+      CompressionStrategy compressionStrategy) {
+    return new GrpcStreamingResponseWriter<>(
+        (ServerCallStreamObserver<VeniceServerResponse>) ctx.getResponseObserver(),
+        FastSerializerDeserializerFactory.getFastAvroGenericSerializer(recordSchema),
+        schemaId,
+        compressionStrategy,
+        maxRecordsPerStreamingResponse,
+        maxStreamingReadyWaitMs);
+  }
 }
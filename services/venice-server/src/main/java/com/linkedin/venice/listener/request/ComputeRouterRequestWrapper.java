@@ -7,6 +7,7 @@ import com.linkedin.venice.compute.ComputeUtils;
 import com.linkedin.venice.compute.protocol.request.ComputeRequest;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.protocols.VeniceClientRequest;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordDeserializer;
@@ -41,6 +42,17 @@ public class ComputeRouterRequestWrapper extends MultiKeyRouterRequestWrapper<Co
     }
   }
 
+  private ComputeRouterRequestWrapper(
+      String resourceName,
+      ComputeRequest computeRequest,
+      List<ComputeRouterRequestKeyV1> keys,
+      int valueSchemaId,
+      boolean isStreamingRequest) {
+    super(resourceName, keys, false, isStreamingRequest);
+    this.computeRequest = computeRequest;
+    this.valueSchemaId = valueSchemaId;
+  }
+
   public static ComputeRouterRequestWrapper parseComputeRequest(FullHttpRequest httpRequest) {
     URI fullUri = URI.create(httpRequest.uri());
     String path = fullUri.getRawPath();
@@ -56,12 +68,7 @@ public class ComputeRouterRequestWrapper extends MultiKeyRouterRequestWrapper<Co
     if (apiVersionStr == null) {
       throw new VeniceException("Header: " + HttpConstants.VENICE_API_VERSION + " is missing");
     }
-    int apiVersion = Integer.parseInt(apiVersionStr);
-    if (apiVersion <= 0 || apiVersion > LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST) {
-      throw new VeniceException(
-          "Compute API version " + apiVersion + " is invalid. " + "Latest version is "
-              + LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
-    }
+    validateApiVersion(Integer.parseInt(apiVersionStr));
 
     // TODO: xplore the possibility of streaming in the request bytes, and processing it in pipelined fashion
     byte[] requestContent = new byte[httpRequest.content().readableBytes()];
@@ -76,6 +83,38 @@ public class ComputeRouterRequestWrapper extends MultiKeyRouterRequestWrapper<Co
     return new ComputeRouterRequestWrapper(resourceName, computeRequest, keys, httpRequest, schemaId);
   }
 
+  public static ComputeRouterRequestWrapper parseComputeGrpcRequest(VeniceClientRequest grpcRequest) {
+    // Proto3 has no unset value, and 0 is never a valid API version
+    if (grpcRequest.getComputeApiVersion() == 0) {
+      throw new VeniceException("Compute API version is missing");
+    }
+    validateApiVersion(grpcRequest.getComputeApiVersion());
+
+    byte[] requestContent = grpcRequest.getKeyBytes().toByteArray();
+    BinaryDecoder decoder = OptimizedBinaryDecoderFactory.defaultFactory()
+        .createOptimizedBinaryDecoder(requestContent, 0, requestContent.length);
+    ComputeRequest computeRequest = ComputeUtils.deserializeComputeRequest(decoder, null);
+    List<ComputeRouterRequestKeyV1> keys = DESERIALIZER.deserializeObjects(decoder);
+    // Proto3 has no unset value, and 0 is never a valid value schema id
+    int valueSchemaId = grpcRequest.getComputeValueSchemaId() > 0 ? grpcRequest.getComputeValueSchemaId() : -1;
+
+    // isRetryRequest set to false for now, same as for batch get
+    return new ComputeRouterRequestWrapper(
+        grpcRequest.getResourceName(),
+        computeRequest,
+        keys,
+        valueSchemaId,
+        grpcRequest.getIsStreamingRequest());
+  }
+
+  private static void validateApiVersion(int apiVersion) {
+    if (apiVersion <= 0 || apiVersion > LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST) {
+      throw new VeniceException(
+          "Compute API version " + apiVersion + " is invalid. " + "Latest version is "
+              + LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
+    }
+  }
+
   public ComputeRequest getComputeRequest() {
     return computeRequest;
   }
@@ -10,6 +10,7 @@ import java.util.List;
 
 public abstract class MultiKeyResponseWrapper<K> extends ReadResponse {
   protected final List<K> records;
+  private int streamedRecordCount = 0;
 
   public MultiKeyResponseWrapper(int maxKeyCount) {
     this.records = new ArrayList<>(maxKeyCount);
@@ -19,12 +20,19 @@ public abstract class MultiKeyResponseWrapper<K> extends ReadResponse {
     records.add(record);
   }
 
+  /**
+   * Counts the records which were streamed back before the response, instead of being added to it.
+   */
+  public void addStreamedRecordCount(int count) {
+    streamedRecordCount += count;
+  }
+
   protected abstract RecordSerializer<K> getResponseSerializer();
 
   public abstract int getResponseSchemaIdHeader();
 
   public int getRecordCount() {
-    return records.size();
+    return records.size() + streamedRecordCount;
   }
 
   @Override
@@ -0,0 +1,78 @@
+package com.linkedin.venice.listener;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class AdaptiveBatchGetSplitterTest {
+  private static final int MIN_CHUNK_SIZE = 5;
+  private static final long TARGET_CHUNK_LATENCY_NS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private static ThreadPoolExecutor mockExecutor(int maxPoolSize, int activeCount, BlockingQueue<Runnable> queue) {
+    ThreadPoolExecutor executor = mock(ThreadPoolExecutor.class);
+    doReturn(maxPoolSize).when(executor).getMaximumPoolSize();
+    doReturn(activeCount).when(executor).getActiveCount();
+    doReturn(queue).when(executor).getQueue();
+    return executor;
+  }
+
+  @Test
+  public void testChunkCountIsBoundedByIdleThreads() {
+    AdaptiveBatchGetSplitter splitter = new AdaptiveBatchGetSplitter(
+        mockExecutor(8, 2, new LinkedBlockingQueue<>()),
+        MIN_CHUNK_SIZE,
+        TARGET_CHUNK_LATENCY_NS);
+    // Without any latency sample, the keys are split into chunks of the min size
+    Assert.assertEquals(splitter.getChunkCount(0), 1);
+    Assert.assertEquals(splitter.getChunkCount(MIN_CHUNK_SIZE), 1);
+    Assert.assertEquals(splitter.getChunkCount(MIN_CHUNK_SIZE + 1), 2);
+    Assert.assertEquals(splitter.getChunkCount(4 * MIN_CHUNK_SIZE), 4);
+    // But not into more chunks than idle threads
+    Assert.assertEquals(splitter.getChunkCount(100 * MIN_CHUNK_SIZE), 6);
+  }
+
+  @Test
+  public void testChunkCountFollowsLatency() {
+    AdaptiveBatchGetSplitter splitter = new AdaptiveBatchGetSplitter(
+        mockExecutor(100, 0, new LinkedBlockingQueue<>()),
+        MIN_CHUNK_SIZE,
+        TARGET_CHUNK_LATENCY_NS);
+    // 10us per key
+    splitter.recordChunkLatency(10, TimeUnit.MICROSECONDS.toNanos(100));
+    Assert.assertEquals(splitter.getPerKeyLatencyNs(), TimeUnit.MICROSECONDS.toNanos(10));
+    // A request expected to complete within the target latency isn't split
+    Assert.assertEquals(splitter.getChunkCount(100), 1);
+    Assert.assertEquals(splitter.getChunkCount(101), 2);
+    Assert.assertEquals(splitter.getChunkCount(1000), 10);
+
+    // The latency is smoothed over the recent samples
+    splitter.recordChunkLatency(10, TimeUnit.MICROSECONDS.toNanos(900));
+    Assert.assertEquals(splitter.getPerKeyLatencyNs(), TimeUnit.MICROSECONDS.toNanos(20));
+    Assert.assertEquals(splitter.getChunkCount(1000), 20);
+    // Empty chunks are ignored
+    splitter.recordChunkLatency(0, TimeUnit.MICROSECONDS.toNanos(900));
+    Assert.assertEquals(splitter.getPerKeyLatencyNs(), TimeUnit.MICROSECONDS.toNanos(20));
+  }
+
+  @Test
+  public void testNoSplitWhenSaturated() {
+    BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+    AdaptiveBatchGetSplitter splitter =
+        new AdaptiveBatchGetSplitter(mockExecutor(8, 8, queue), MIN_CHUNK_SIZE, TARGET_CHUNK_LATENCY_NS);
+    // No idle thread
+    Assert.assertEquals(splitter.getChunkCount(100), 1);
+
+    // Queued tasks
+    splitter = new AdaptiveBatchGetSplitter(mockExecutor(8, 0, queue), MIN_CHUNK_SIZE, TARGET_CHUNK_LATENCY_NS);
+    Assert.assertEquals(splitter.getChunkCount(100), 8);
+    queue.add(() -> {});
+    Assert.assertEquals(splitter.getChunkCount(100), 1);
+  }
+}
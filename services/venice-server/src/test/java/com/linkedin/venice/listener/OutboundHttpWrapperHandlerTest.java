@@ -157,6 +157,8 @@ public class OutboundHttpWrapperHandlerTest {
     Assert.assertEquals(ByteString.empty(), responseBuilder.getData());
 
     verify(grpcHandler).processRequest(context);
+    // The stats of the response are recorded for gRPC requests too
+    verify(statsContext).setReadResponseStats(readResponse);
   }
 
   private StreamObserver<VeniceServerResponse> getStreamObserver() {
@@ -7,6 +7,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -20,6 +21,7 @@ import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
+import com.google.protobuf.ByteString;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.kafka.consumer.PartitionConsumptionState;
@@ -86,6 +88,7 @@ import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.streaming.StreamingUtils;
 import com.linkedin.venice.unit.kafka.SimplePartitioner;
 import com.linkedin.venice.utils.DataProviderUtils;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
@@ -109,6 +112,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.avro.Schema;
 import org.apache.avro.SchemaBuilder;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -312,6 +316,67 @@ public class StorageReadRequestHandlerTest {
     }
   }
 
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testMultiGetWithBatchLookup(Boolean isParallel) throws Exception {
+    doReturn(true).when(serverConfig).isEnableBatchLookup();
+    int schemaId = 1;
+    int recordCount = 10;
+    String keyPrefix = "key_";
+    String valuePrefix = "value_";
+    VeniceKafkaSerializer keySerializer = new VeniceAvroKafkaSerializer("\"string\"");
+
+    List<MultiGetRouterRequestKeyV1> keys = new ArrayList<>();
+    Map<Integer, Map<ByteBuffer, byte[]>> storedValues = new HashMap<>();
+    Map<Integer, String> allValueStrings = new HashMap<>();
+    for (int i = 0; i < recordCount; ++i) {
+      MultiGetRouterRequestKeyV1 requestKey = new MultiGetRouterRequestKeyV1();
+      byte[] keyBytes = keySerializer.serialize(null, keyPrefix + i);
+      requestKey.keyBytes = ByteBuffer.wrap(keyBytes);
+      requestKey.keyIndex = i;
+      requestKey.partitionId = 0;
+      keys.add(requestKey);
+      // The last key is left out of the storage engine, to exercise the missing key path
+      if (i < recordCount - 1) {
+        String valueString = valuePrefix + i;
+        int subPartition = partitioner.getPartitionId(keyBytes, amplificationFactor);
+        storedValues.computeIfAbsent(subPartition, p -> new HashMap<>())
+            .put(ByteBuffer.wrap(keyBytes), ValueRecord.create(schemaId, valueString.getBytes()).serialize());
+        allValueStrings.put(i, valueString);
+      }
+    }
+    AtomicInteger multiGetCount = new AtomicInteger();
+    doAnswer(invocation -> {
+      multiGetCount.incrementAndGet();
+      Map<ByteBuffer, byte[]> valuesInPartition =
+          storedValues.getOrDefault(invocation.getArgument(0), Collections.emptyMap());
+      List<byte[]> keysToLookup = invocation.getArgument(1);
+      List<byte[]> values = new ArrayList<>(keysToLookup.size());
+      keysToLookup.forEach(k -> values.add(valuesInPartition.get(ByteBuffer.wrap(k))));
+      return values;
+    }).when(storageEngine).multiGet(anyInt(), any());
+
+    MultiGetRouterRequestWrapper request = mock(MultiGetRouterRequestWrapper.class);
+    doReturn(RequestType.MULTI_GET).when(request).getRequestType();
+    doReturn(version.kafkaTopicName()).when(request).getResourceName();
+    doReturn(keys).when(request).getKeys();
+    doReturn(recordCount).when(request).getKeyCount();
+
+    StorageReadRequestHandler requestHandler = createStorageReadRequestHandler(isParallel, recordCount);
+    requestHandler.channelRead(context, request);
+
+    verify(context, times(1)).writeAndFlush(argumentCaptor.capture());
+    verify(storageEngine, times(0)).get(anyInt(), any(ByteBuffer.class));
+    // At most one lookup per sub-partition
+    assertTrue(multiGetCount.get() <= amplificationFactor);
+    MultiGetResponseWrapper multiGetResponseWrapper = (MultiGetResponseWrapper) argumentCaptor.getValue();
+    RecordDeserializer<MultiGetResponseRecordV1> deserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class);
+    Map<Integer, String> results = new HashMap<>();
+    deserializer.deserializeObjects(multiGetResponseWrapper.getResponseBody().array())
+        .forEach(record -> results.put(record.keyIndex, new String(record.value.array(), StandardCharsets.UTF_8)));
+    assertEquals(results, allValueStrings);
+  }
+
   @Test
   public void storageExecutionHandlerLogsExceptions() throws Exception {
     String topic = "temp-test-topic_v1";
@@ -531,6 +596,97 @@ public class StorageReadRequestHandlerTest {
     }
   }
 
+  @Test
+  public void testHandleComputeRequestWithBatchLookup() throws Exception {
+    doReturn(true).when(serverConfig).isEnableBatchLookup();
+    doReturn(true).when(storeRepository).isReadComputationEnabled(any());
+
+    String keyString = "test-key";
+    String missingKeyString = "missing-test-key";
+    GenericRecord valueRecord = new GenericData.Record(
+        SchemaBuilder.record("SampleSchema")
+            .fields()
+            .name("listField")
+            .type()
+            .array()
+            .items()
+            .floatType()
+            .noDefault()
+            .endRecord());
+    valueRecord.put("listField", Collections.singletonList(1.0f));
+
+    SchemaEntry schemaEntry = new SchemaEntry(1, valueRecord.getSchema());
+    doReturn(schemaEntry).when(schemaRepository).getSupersetOrLatestValueSchema(any());
+    doReturn(schemaEntry).when(schemaRepository).getValueSchema(any(), anyInt());
+
+    int partition = 1;
+    int subPartition = getSubPartitionId(partition, keyString.getBytes());
+    AvroSerializer valueSerializer = new AvroSerializer<>(valueRecord.getSchema());
+    byte[] valueBytes = ValueRecord.create(schemaEntry.getId(), valueSerializer.serialize(valueRecord)).serialize();
+    AtomicInteger multiGetCount = new AtomicInteger();
+    doAnswer(invocation -> {
+      multiGetCount.incrementAndGet();
+      List<byte[]> keysToLookup = invocation.getArgument(1);
+      List<byte[]> values = new ArrayList<>(keysToLookup.size());
+      for (byte[] keyBytes: keysToLookup) {
+        boolean isStored =
+            invocation.getArgument(0).equals(subPartition) && Arrays.equals(keyBytes, keyString.getBytes());
+        values.add(isStored ? valueBytes : null);
+      }
+      return values;
+    }).when(storageEngine).multiGet(anyInt(), any());
+
+    AvroGenericReadComputeStoreClient storeClient = mock(AvroGenericReadComputeStoreClient.class);
+    doReturn("test-store").when(storeClient).getStoreName();
+    new AvroComputeRequestBuilderV3<>(storeClient, valueRecord.getSchema())
+        .dotProduct("listField", Collections.singletonList(4.0f), "dotProduct")
+        .execute(new HashSet<>(Arrays.asList(keyString, missingKeyString)));
+    ArgumentCaptor<ComputeRequestWrapper> requestCaptor = ArgumentCaptor.forClass(ComputeRequestWrapper.class);
+    verify(storeClient, times(1)).compute(requestCaptor.capture(), any(), any(), any(), anyLong());
+    ComputeRequest computeRequest = ComputeUtils.deserializeComputeRequest(
+        OptimizedBinaryDecoderFactory.defaultFactory()
+            .createOptimizedBinaryDecoder(ByteBuffer.wrap(requestCaptor.getValue().serialize())),
+        null);
+
+    ComputeRouterRequestWrapper request = mock(ComputeRouterRequestWrapper.class);
+    doReturn(RequestType.COMPUTE).when(request).getRequestType();
+    doReturn(true).when(request).isStreamingRequest();
+    doReturn(schemaEntry.getId()).when(request).getValueSchemaId();
+    doReturn(computeRequest).when(request).getComputeRequest();
+    doReturn(version.kafkaTopicName()).when(request).getResourceName();
+    ComputeRouterRequestKeyV1 key = new ComputeRouterRequestKeyV1(0, ByteBuffer.wrap(keyString.getBytes()), partition);
+    ComputeRouterRequestKeyV1 missingKey =
+        new ComputeRouterRequestKeyV1(1, ByteBuffer.wrap(missingKeyString.getBytes()), partition);
+    doReturn(Arrays.asList(key, missingKey)).when(request).getKeys();
+    doReturn(2).when(request).getKeyCount();
+
+    StorageReadRequestHandler requestHandler = createStorageReadRequestHandler();
+    requestHandler.channelRead(context, request);
+
+    verify(context, times(1)).writeAndFlush(argumentCaptor.capture());
+    verify(storageEngine, times(0)).get(anyInt(), any(byte[].class), any());
+    // One lookup per sub-partition
+    Set<Integer> subPartitions =
+        new HashSet<>(Arrays.asList(subPartition, getSubPartitionId(partition, missingKeyString.getBytes())));
+    assertEquals(multiGetCount.get(), subPartitions.size());
+    ComputeResponseWrapper computeResponse = (ComputeResponseWrapper) argumentCaptor.getValue();
+    assertEquals(computeResponse.getRecordCount(), 2);
+    assertEquals(computeResponse.getDotProductCount(), 1);
+    assertEquals(computeResponse.getValueSize(), valueBytes.length);
+
+    Schema resultSchema = new Schema.Parser().parse(computeRequest.getResultSchemaStr().toString());
+    RecordDeserializer<GenericRecord> resultDeserializer =
+        SerializerDeserializerFactory.getAvroGenericDeserializer(resultSchema);
+    RecordDeserializer<ComputeResponseRecordV1> responseDeserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(ComputeResponseRecordV1.class);
+    Map<Integer, ByteBuffer> results = new HashMap<>();
+    responseDeserializer.deserializeObjects(computeResponse.getResponseBody().array())
+        .forEach(record -> results.put(record.getKeyIndex(), record.getValue()));
+    assertEquals(results.keySet(), new HashSet<>(Arrays.asList(0, -1)));
+    assertEquals(results.get(-1), StreamingUtils.EMPTY_BYTE_BUFFER);
+    assertEquals(resultDeserializer.deserialize(results.get(0)).get("dotProduct"), 4.0f);
+  }
+
   /**
    * There was a regression where the "perStoreVersionStateMap" inside {@link StorageReadRequestHandler} could be stale
    * during rebalance. In the following rebalance scenario, the storage engine reference in the map would be stale:
@@ -604,6 +760,76 @@ public class StorageReadRequestHandlerTest {
     assertTrue(builder.getErrorMessage().contains("Internal Error"));
   }
 
+  @Test
+  public void testGrpcStreamingMultiGet() {
+    int schemaId = 1;
+    int recordCount = 10;
+    VeniceKafkaSerializer keySerializer = new VeniceAvroKafkaSerializer("\"string\"");
+    List<MultiGetRouterRequestKeyV1> keys = new ArrayList<>();
+    for (int i = 0; i < recordCount; ++i) {
+      MultiGetRouterRequestKeyV1 requestKey = new MultiGetRouterRequestKeyV1();
+      byte[] keyBytes = keySerializer.serialize(null, "key_" + i);
+      requestKey.keyBytes = ByteBuffer.wrap(keyBytes);
+      requestKey.keyIndex = i;
+      requestKey.partitionId = 0;
+      // The last key doesn't exist
+      if (i < recordCount - 1) {
+        byte[] valueBytes = ValueRecord.create(schemaId, ("value_" + i).getBytes()).serialize();
+        int subPartition = partitioner.getPartitionId(keyBytes, amplificationFactor);
+        doReturn(valueBytes).when(storageEngine).get(subPartition, ByteBuffer.wrap(keyBytes));
+      }
+      keys.add(requestKey);
+    }
+    doReturn(CompressionStrategy.NO_OP).when(storageEngine).getCompressionStrategy();
+    RecordSerializer<MultiGetRouterRequestKeyV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
+    VeniceClientRequest clientRequest = VeniceClientRequest.newBuilder()
+        .setIsBatchRequest(true)
+        .setIsStreamingRequest(true)
+        .setResourceName("test-store_v1")
+        .setKeyBytes(ByteString.copyFrom(serializer.serializeObjects(keys)))
+        .build();
+
+    ServerCallStreamObserver<VeniceServerResponse> responseObserver = mock(ServerCallStreamObserver.class);
+    doReturn(true).when(responseObserver).isReady();
+    GrpcRequestContext ctx =
+        new GrpcRequestContext(clientRequest, VeniceServerResponse.newBuilder(), responseObserver);
+    ctx.setStreamingCall();
+    ctx.setRouterRequest(MultiGetRouterRequestWrapper.parseMultiGetGrpcRequest(clientRequest));
+    GrpcStorageReadRequestHandler grpcReadRequestHandler =
+        new GrpcStorageReadRequestHandler(createStorageReadRequestHandler(), 3);
+    VeniceServerGrpcHandler mockNextHandler = mock(VeniceServerGrpcHandler.class);
+    grpcReadRequestHandler.addNextHandler(mockNextHandler);
+    grpcReadRequestHandler.processRequest(ctx);
+
+    // The records are sent ahead of the last response, which is left to the next handlers
+    verify(mockNextHandler).processRequest(ctx);
+    Assert.assertFalse(ctx.hasError());
+    // None of the records is held by the response, but all of them are counted in it
+    MultiGetResponseWrapper readResponse = (MultiGetResponseWrapper) ctx.getReadResponse();
+    assertEquals(readResponse.getResponseBody().readableBytes(), 0);
+    assertEquals(readResponse.getRecordCount(), recordCount);
+    ArgumentCaptor<VeniceServerResponse> responseCaptor = ArgumentCaptor.forClass(VeniceServerResponse.class);
+    verify(responseObserver, times(4)).onNext(responseCaptor.capture());
+    verify(responseObserver, times(0)).onCompleted();
+    RecordDeserializer<MultiGetResponseRecordV1> deserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class);
+    Map<Integer, String> results = new HashMap<>();
+    for (VeniceServerResponse response: responseCaptor.getAllValues()) {
+      assertEquals(response.getErrorCode(), GrpcErrorCodes.OK);
+      assertTrue(response.getIsStreamingResponse());
+      assertEquals(response.getSchemaId(), ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion());
+      deserializer.deserializeObjects(response.getData().toByteArray())
+          .forEach(record -> results.put(record.keyIndex, new String(record.value.array(), StandardCharsets.UTF_8)));
+    }
+    assertEquals(results.size(), recordCount);
+    for (int i = 0; i < recordCount - 1; i++) {
+      assertEquals(results.get(i), "value_" + i);
+    }
+    // The missing key is sent back too, with a negative key index
+    assertEquals(results.get(-(recordCount - 1)), "");
+  }
+
   @Test
   public void testMisRoutedStoreVersion() throws Exception {
     String storeName = "testStore";
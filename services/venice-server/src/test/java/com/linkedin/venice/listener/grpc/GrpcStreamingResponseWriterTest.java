@@ -0,0 +1,111 @@
+package com.linkedin.venice.listener.grpc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.listener.response.MultiGetResponseWrapper;
+import com.linkedin.venice.protocols.VeniceServerResponse;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import io.grpc.stub.ServerCallStreamObserver;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class GrpcStreamingResponseWriterTest {
+  private static final int SCHEMA_ID = 1;
+  private static final RecordSerializer<MultiGetResponseRecordV1> SERIALIZER =
+      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
+
+  private static MultiGetResponseRecordV1 createRecord(int keyIndex) {
+    MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+    record.keyIndex = keyIndex;
+    record.schemaId = SCHEMA_ID;
+    record.value = ByteBuffer.wrap(new byte[] { (byte) keyIndex });
+    return record;
+  }
+
+  private static GrpcStreamingResponseWriter<MultiGetResponseRecordV1> createWriter(
+      ServerCallStreamObserver<VeniceServerResponse> responseObserver,
+      long maxReadyWaitMs) {
+    return new GrpcStreamingResponseWriter<>(
+        responseObserver,
+        SERIALIZER,
+        SCHEMA_ID,
+        CompressionStrategy.GZIP,
+        2,
+        maxReadyWaitMs);
+  }
+
+  @Test
+  public void testRecordsAreSentInBoundedResponses() {
+    ServerCallStreamObserver<VeniceServerResponse> responseObserver = mock(ServerCallStreamObserver.class);
+    doReturn(true).when(responseObserver).isReady();
+    GrpcStreamingResponseWriter<MultiGetResponseRecordV1> writer = createWriter(responseObserver, 1000);
+    for (int i = 0; i < 5; i++) {
+      writer.accept(createRecord(i));
+    }
+    Assert.assertEquals(writer.getSentResponseCount(), 2);
+    writer.flush();
+    Assert.assertEquals(writer.getSentResponseCount(), 3);
+    // Nothing is left to send
+    MultiGetResponseWrapper response = new MultiGetResponseWrapper(5);
+    writer.flush(response);
+    Assert.assertEquals(writer.getSentResponseCount(), 3);
+    Assert.assertEquals(writer.getSentRecordCount(), 5);
+    Assert.assertEquals(response.getRecordCount(), 5);
+
+    ArgumentCaptor<VeniceServerResponse> responseCaptor = ArgumentCaptor.forClass(VeniceServerResponse.class);
+    verify(responseObserver, times(3)).onNext(responseCaptor.capture());
+    RecordDeserializer<MultiGetResponseRecordV1> deserializer = FastSerializerDeserializerFactory
+        .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.SCHEMA$, MultiGetResponseRecordV1.class);
+    List<Integer> keyIndexes = new ArrayList<>();
+    for (VeniceServerResponse response: responseCaptor.getAllValues()) {
+      Assert.assertEquals(response.getSchemaId(), SCHEMA_ID);
+      Assert.assertEquals(response.getCompressionStrategy(), CompressionStrategy.GZIP.getValue());
+      Assert.assertTrue(response.getIsStreamingResponse());
+      deserializer.deserializeObjects(response.getData().toByteArray()).forEach(r -> keyIndexes.add(r.keyIndex));
+    }
+    Assert.assertEquals(keyIndexes.size(), 5);
+    for (int i = 0; i < 5; i++) {
+      Assert.assertEquals((int) keyIndexes.get(i), i);
+    }
+  }
+
+  @Test
+  public void testWaitForClient() {
+    ServerCallStreamObserver<VeniceServerResponse> responseObserver = mock(ServerCallStreamObserver.class);
+    // The client catches up after a while
+    doReturn(false, false, true).when(responseObserver).isReady();
+    GrpcStreamingResponseWriter<MultiGetResponseRecordV1> writer = createWriter(responseObserver, 10000);
+    writer.accept(createRecord(0));
+    writer.accept(createRecord(1));
+    verify(responseObserver, times(1)).onNext(any());
+
+    // The client never catches up
+    doReturn(false).when(responseObserver).isReady();
+    writer = createWriter(responseObserver, 10);
+    writer.accept(createRecord(2));
+    Assert.assertThrows(VeniceException.class, writer::flush);
+
+    // Or cancels the call
+    doReturn(true).when(responseObserver).isCancelled();
+    writer = createWriter(responseObserver, 10000);
+    writer.accept(createRecord(3));
+    Assert.assertThrows(VeniceException.class, writer::flush);
+    verify(responseObserver, times(1)).onNext(any());
+    verify(responseObserver, never()).onCompleted();
+  }
+}
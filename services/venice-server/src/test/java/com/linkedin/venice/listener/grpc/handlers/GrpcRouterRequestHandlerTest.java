@@ -0,0 +1,90 @@
+package com.linkedin.venice.listener.grpc.handlers;
+
+import static com.linkedin.venice.compute.ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.google.protobuf.ByteString;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
+import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
+import com.linkedin.venice.grpc.GrpcErrorCodes;
+import com.linkedin.venice.listener.ServerStatsContext;
+import com.linkedin.venice.listener.grpc.GrpcRequestContext;
+import com.linkedin.venice.listener.request.ComputeRouterRequestWrapper;
+import com.linkedin.venice.protocols.VeniceClientRequest;
+import com.linkedin.venice.protocols.VeniceServerResponse;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class GrpcRouterRequestHandlerTest {
+  private static VeniceClientRequest.Builder createComputeRequestBuilder() {
+    ComputeRequestV3 computeRequest = new ComputeRequestV3();
+    computeRequest.setResultSchemaStr("\"string\"");
+    computeRequest.setOperations(Collections.emptyList());
+    byte[] requestBody = FastSerializerDeserializerFactory
+        .getFastAvroGenericSerializer(ComputeRouterRequestKeyV1.SCHEMA$)
+        .serializeObjects(
+            Collections.singletonList(new ComputeRouterRequestKeyV1(0, ByteBuffer.wrap("key".getBytes()), 0)),
+            ByteBuffer.wrap(
+                FastSerializerDeserializerFactory.getFastAvroGenericSerializer(ComputeRequestV3.SCHEMA$)
+                    .serialize(computeRequest)));
+    return VeniceClientRequest.newBuilder()
+        .setResourceName("test_store_v1")
+        .setIsBatchRequest(true)
+        .setIsComputeRequest(true)
+        .setKeyBytes(ByteString.copyFrom(requestBody));
+  }
+
+  private static GrpcRequestContext createContext(
+      VeniceClientRequest request,
+      StreamObserver<VeniceServerResponse> responseObserver) {
+    GrpcRequestContext ctx = new GrpcRequestContext(
+        request,
+        VeniceServerResponse.newBuilder().setErrorCode(GrpcErrorCodes.OK),
+        responseObserver);
+    ctx.setGrpcStatsContext(new ServerStatsContext(null, null, null));
+    return ctx;
+  }
+
+  @Test
+  public void testParseComputeRequest() {
+    VeniceClientRequest request =
+        createComputeRequestBuilder().setComputeApiVersion(LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST).build();
+    StreamObserver<VeniceServerResponse> responseObserver = mock(StreamObserver.class);
+    GrpcRequestContext ctx = createContext(request, responseObserver);
+
+    new GrpcRouterRequestHandler().processRequest(ctx);
+
+    Assert.assertTrue(ctx.getRouterRequest() instanceof ComputeRouterRequestWrapper);
+    Assert.assertEquals(ctx.getRouterRequest().getRequestType(), RequestType.COMPUTE);
+    Assert.assertEquals(ctx.getRouterRequest().getKeyCount(), 1);
+    verify(responseObserver, never()).onError(any());
+  }
+
+  @Test
+  public void testRejectComputeRequestWithoutApiVersion() {
+    StreamObserver<VeniceServerResponse> responseObserver = mock(StreamObserver.class);
+    GrpcRequestContext ctx = createContext(createComputeRequestBuilder().build(), responseObserver);
+
+    new GrpcRouterRequestHandler().processRequest(ctx);
+
+    Assert.assertNull(ctx.getRouterRequest());
+    ArgumentCaptor<Throwable> errorCaptor = ArgumentCaptor.forClass(Throwable.class);
+    verify(responseObserver).onError(errorCaptor.capture());
+    Status status = ((StatusRuntimeException) errorCaptor.getValue()).getStatus();
+    Assert.assertEquals(status.getCode(), Status.Code.INVALID_ARGUMENT);
+    Assert.assertEquals(status.getDescription(), "Compute API version is missing");
+    verify(responseObserver, never()).onNext(any());
+  }
+}
@@ -0,0 +1,182 @@
+package com.linkedin.venice.listener.grpc.handlers;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
+import com.linkedin.venice.exceptions.OperationNotAllowedException;
+import com.linkedin.venice.grpc.GrpcErrorCodes;
+import com.linkedin.venice.listener.StorageReadRequestHandler;
+import com.linkedin.venice.listener.grpc.GrpcRequestContext;
+import com.linkedin.venice.listener.request.ComputeRouterRequestWrapper;
+import com.linkedin.venice.listener.response.ComputeResponseWrapper;
+import com.linkedin.venice.protocols.VeniceClientRequest;
+import com.linkedin.venice.protocols.VeniceServerResponse;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class GrpcStorageReadRequestHandlerTest {
+  private static final String RESOURCE_NAME = "test_store_v1";
+
+  private static ComputeRouterRequestWrapper createComputeRequest(boolean isStreaming, int keyCount) {
+    ComputeRouterRequestWrapper request = mock(ComputeRouterRequestWrapper.class);
+    doReturn(RequestType.COMPUTE).when(request).getRequestType();
+    doReturn(RESOURCE_NAME).when(request).getResourceName();
+    doReturn(isStreaming).when(request).isStreamingRequest();
+    doReturn(keyCount).when(request).getKeyCount();
+    return request;
+  }
+
+  private static GrpcRequestContext createContext(
+      ComputeRouterRequestWrapper request,
+      StreamObserver<VeniceServerResponse> responseObserver) {
+    VeniceClientRequest clientRequest = VeniceClientRequest.newBuilder()
+        .setResourceName(RESOURCE_NAME)
+        .setIsBatchRequest(true)
+        .setIsComputeRequest(true)
+        .setIsStreamingRequest(request.isStreamingRequest())
+        .build();
+    GrpcRequestContext ctx = new GrpcRequestContext(
+        clientRequest,
+        VeniceServerResponse.newBuilder().setErrorCode(GrpcErrorCodes.OK),
+        responseObserver);
+    ctx.setRouterRequest(request);
+    return ctx;
+  }
+
+  @Test
+  public void testUnaryComputeRequest() {
+    ComputeRouterRequestWrapper request = createComputeRequest(false, 2);
+    ComputeResponseWrapper response = new ComputeResponseWrapper(2);
+    StorageReadRequestHandler storage = mock(StorageReadRequestHandler.class);
+    doReturn(response).when(storage).handleComputeRequest(request);
+    StreamObserver<VeniceServerResponse> responseObserver = mock(StreamObserver.class);
+    GrpcRequestContext ctx = createContext(request, responseObserver);
+
+    new GrpcStorageReadRequestHandler(storage).processRequest(ctx);
+
+    Assert.assertFalse(ctx.hasError());
+    Assert.assertSame(ctx.getReadResponse(), response);
+    Assert.assertEquals(response.getRCU(), 2);
+    Assert.assertFalse(response.isStreamingResponse());
+    verify(storage, never()).handleComputeRequest(any(), any());
+    // The whole response is sent at once
+    verify(responseObserver, times(1)).onNext(any());
+    verify(responseObserver, times(1)).onCompleted();
+  }
+
+  @Test
+  public void testStreamingComputeRequest() {
+    ComputeRouterRequestWrapper request = createComputeRequest(true, 3);
+    ComputeResponseWrapper response = new ComputeResponseWrapper(3);
+    StorageReadRequestHandler storage = mock(StorageReadRequestHandler.class);
+    doAnswer(invocation -> {
+      Consumer<ComputeResponseRecordV1> recordConsumer = invocation.getArgument(1);
+      for (int i = 0; i < 3; i++) {
+        ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+        record.keyIndex = i;
+        record.value = ByteBuffer.wrap(new byte[] { (byte) i });
+        recordConsumer.accept(record);
+      }
+      return response;
+    }).when(storage).handleComputeRequest(any(), any());
+    ServerCallStreamObserver<VeniceServerResponse> responseObserver = mock(ServerCallStreamObserver.class);
+    doReturn(true).when(responseObserver).isReady();
+    GrpcRequestContext ctx = createContext(request, responseObserver);
+    ctx.setStreamingCall();
+
+    new GrpcStorageReadRequestHandler(storage, 2).processRequest(ctx);
+
+    Assert.assertFalse(ctx.hasError());
+    Assert.assertSame(ctx.getReadResponse(), response);
+    Assert.assertEquals(response.getRCU(), 3);
+    Assert.assertTrue(response.isStreamingResponse());
+    // The streamed records are counted in the response, even though they were never added to it
+    Assert.assertEquals(response.getRecordCount(), 3);
+    verify(storage, never()).handleComputeRequest(request);
+
+    // Two responses hold the streamed records, and the last one is sent by the end of the pipeline
+    ArgumentCaptor<VeniceServerResponse> responseCaptor = ArgumentCaptor.forClass(VeniceServerResponse.class);
+    verify(responseObserver, times(3)).onNext(responseCaptor.capture());
+    verify(responseObserver, times(1)).onCompleted();
+    RecordDeserializer<ComputeResponseRecordV1> deserializer = FastSerializerDeserializerFactory
+        .getFastAvroSpecificDeserializer(ComputeResponseRecordV1.SCHEMA$, ComputeResponseRecordV1.class);
+    List<Integer> keyIndexes = new ArrayList<>();
+    for (VeniceServerResponse streamedResponse: responseCaptor.getAllValues().subList(0, 2)) {
+      Assert.assertEquals(
+          streamedResponse.getSchemaId(),
+          ReadAvroProtocolDefinition.COMPUTE_RESPONSE_V1.getProtocolVersion());
+      Assert.assertEquals(streamedResponse.getCompressionStrategy(), CompressionStrategy.NO_OP.getValue());
+      Assert.assertTrue(streamedResponse.getIsStreamingResponse());
+      deserializer.deserializeObjects(streamedResponse.getData().toByteArray())
+          .forEach(record -> keyIndexes.add(record.keyIndex));
+    }
+    Assert.assertEquals(keyIndexes.size(), 3);
+    for (int i = 0; i < 3; i++) {
+      Assert.assertEquals((int) keyIndexes.get(i), i);
+    }
+  }
+
+  @Test
+  public void testStreamingComputeRequestFailsWhenClientDoesNotCatchUp() {
+    ComputeRouterRequestWrapper request = createComputeRequest(true, 3);
+    StorageReadRequestHandler storage = mock(StorageReadRequestHandler.class);
+    doAnswer(invocation -> {
+      Consumer<ComputeResponseRecordV1> recordConsumer = invocation.getArgument(1);
+      ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+      record.keyIndex = 0;
+      record.value = ByteBuffer.wrap(new byte[] { 0 });
+      recordConsumer.accept(record);
+      return new ComputeResponseWrapper(3);
+    }).when(storage).handleComputeRequest(any(), any());
+    ServerCallStreamObserver<VeniceServerResponse> responseObserver = mock(ServerCallStreamObserver.class);
+    doReturn(false).when(responseObserver).isReady();
+    GrpcRequestContext ctx = createContext(request, responseObserver);
+    ctx.setStreamingCall();
+
+    // The configured wait is used instead of the default one
+    new GrpcStorageReadRequestHandler(storage, 2, 10).processRequest(ctx);
+
+    Assert.assertTrue(ctx.hasError());
+    Assert.assertEquals(ctx.getVeniceServerResponseBuilder().getErrorCode(), GrpcErrorCodes.INTERNAL_ERROR);
+    Assert.assertTrue(ctx.getVeniceServerResponseBuilder().getErrorMessage().contains("10 ms"));
+  }
+
+  @Test
+  public void testComputeRequestNotAllowed() {
+    ComputeRouterRequestWrapper request = createComputeRequest(false, 1);
+    StorageReadRequestHandler storage = mock(StorageReadRequestHandler.class);
+    doThrow(new OperationNotAllowedException("Read compute is not enabled for the store")).when(storage)
+        .handleComputeRequest(request);
+    StreamObserver<VeniceServerResponse> responseObserver = mock(StreamObserver.class);
+    GrpcRequestContext ctx = createContext(request, responseObserver);
+
+    new GrpcStorageReadRequestHandler(storage).processRequest(ctx);
+
+    Assert.assertTrue(ctx.hasError());
+    Assert.assertNull(ctx.getReadResponse());
+    ArgumentCaptor<VeniceServerResponse> responseCaptor = ArgumentCaptor.forClass(VeniceServerResponse.class);
+    verify(responseObserver, times(1)).onNext(responseCaptor.capture());
+    Assert.assertEquals(responseCaptor.getValue().getErrorCode(), GrpcErrorCodes.BAD_REQUEST);
+    Assert.assertEquals(responseCaptor.getValue().getErrorMessage(), "Read compute is not enabled for the store");
+  }
+}
@@ -0,0 +1,132 @@
+package com.linkedin.venice.listener.request;
+
+import static com.linkedin.venice.compute.ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST;
+
+import com.google.protobuf.ByteString;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
+import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.protocols.VeniceClientRequest;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordSerializer;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ComputeRouterRequestWrapperTest {
+  private static final String RESOURCE_NAME = "test_store_v1";
+  private static final String RESULT_SCHEMA_STR = "\"string\"";
+  private static final RecordSerializer<ComputeRequestV3> COMPUTE_REQUEST_SERIALIZER =
+      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(ComputeRequestV3.SCHEMA$);
+  private static final RecordSerializer<ComputeRouterRequestKeyV1> KEY_SERIALIZER =
+      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(ComputeRouterRequestKeyV1.SCHEMA$);
+
+  private static byte[] serializeComputeRequest(List<ComputeRouterRequestKeyV1> keys) {
+    ComputeRequestV3 computeRequest = new ComputeRequestV3();
+    computeRequest.setResultSchemaStr(RESULT_SCHEMA_STR);
+    computeRequest.setOperations(Collections.emptyList());
+    return KEY_SERIALIZER.serializeObjects(keys, ByteBuffer.wrap(COMPUTE_REQUEST_SERIALIZER.serialize(computeRequest)));
+  }
+
+  private static List<ComputeRouterRequestKeyV1> createKeys() {
+    return Arrays.asList(
+        new ComputeRouterRequestKeyV1(0, ByteBuffer.wrap("key0".getBytes()), 0),
+        new ComputeRouterRequestKeyV1(1, ByteBuffer.wrap("key1".getBytes()), 1));
+  }
+
+  private static VeniceClientRequest.Builder createGrpcRequestBuilder(List<ComputeRouterRequestKeyV1> keys) {
+    return VeniceClientRequest.newBuilder()
+        .setResourceName(RESOURCE_NAME)
+        .setIsBatchRequest(true)
+        .setIsComputeRequest(true)
+        .setKeyBytes(ByteString.copyFrom(serializeComputeRequest(keys)));
+  }
+
+  @Test
+  public void testParseComputeGrpcRequest() {
+    List<ComputeRouterRequestKeyV1> keys = createKeys();
+    VeniceClientRequest grpcRequest = createGrpcRequestBuilder(keys).setIsStreamingRequest(true)
+        .setComputeApiVersion(LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST)
+        .setComputeValueSchemaId(2)
+        .build();
+
+    ComputeRouterRequestWrapper request = ComputeRouterRequestWrapper.parseComputeGrpcRequest(grpcRequest);
+    Assert.assertEquals(request.getResourceName(), RESOURCE_NAME);
+    Assert.assertEquals(request.getRequestType(), RequestType.COMPUTE);
+    Assert.assertTrue(request.isStreamingRequest());
+    Assert.assertFalse(request.isRetryRequest());
+    Assert.assertEquals(request.getValueSchemaId(), 2);
+    Assert.assertEquals(request.getComputeRequest().getResultSchemaStr().toString(), RESULT_SCHEMA_STR);
+    Assert.assertTrue(request.getComputeRequest().getOperations().isEmpty());
+    Assert.assertEquals(request.getKeyCount(), keys.size());
+    List<ComputeRouterRequestKeyV1> parsedKeys = new ArrayList<>();
+    request.getKeys().forEach(parsedKeys::add);
+    Assert.assertEquals(parsedKeys, keys);
+  }
+
+  @Test
+  public void testParseComputeGrpcRequestWithoutValueSchemaId() {
+    VeniceClientRequest grpcRequest =
+        createGrpcRequestBuilder(createKeys()).setComputeApiVersion(LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST).build();
+
+    ComputeRouterRequestWrapper request = ComputeRouterRequestWrapper.parseComputeGrpcRequest(grpcRequest);
+    Assert.assertFalse(request.isStreamingRequest());
+    // The superset or latest value schema is used
+    Assert.assertEquals(request.getValueSchemaId(), -1);
+  }
+
+  @Test
+  public void testParseComputeGrpcRequestValidatesApiVersion() {
+    VeniceClientRequest requestWithoutVersion = createGrpcRequestBuilder(createKeys()).build();
+    VeniceException e = Assert.expectThrows(
+        VeniceException.class,
+        () -> ComputeRouterRequestWrapper.parseComputeGrpcRequest(requestWithoutVersion));
+    Assert.assertEquals(e.getMessage(), "Compute API version is missing");
+
+    VeniceClientRequest requestWithUnknownVersion = createGrpcRequestBuilder(createKeys())
+        .setComputeApiVersion(LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST + 1)
+        .build();
+    e = Assert.expectThrows(
+        VeniceException.class,
+        () -> ComputeRouterRequestWrapper.parseComputeGrpcRequest(requestWithUnknownVersion));
+    Assert.assertTrue(e.getMessage().contains("is invalid"), e.getMessage());
+  }
+
+  @Test
+  public void testParseComputeRequestValidatesApiVersion() {
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "/compute/" + RESOURCE_NAME,
+        Unpooled.wrappedBuffer(serializeComputeRequest(createKeys())));
+    VeniceException e = Assert
+        .expectThrows(VeniceException.class, () -> ComputeRouterRequestWrapper.parseComputeRequest(httpRequest));
+    Assert.assertEquals(e.getMessage(), "Header: " + HttpConstants.VENICE_API_VERSION + " is missing");
+
+    httpRequest.headers()
+        .set(HttpConstants.VENICE_API_VERSION, Integer.toString(LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST + 1));
+    e = Assert
+        .expectThrows(VeniceException.class, () -> ComputeRouterRequestWrapper.parseComputeRequest(httpRequest));
+    Assert.assertTrue(e.getMessage().contains("is invalid"), e.getMessage());
+
+    httpRequest.headers()
+        .set(HttpConstants.VENICE_API_VERSION, Integer.toString(LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST));
+    httpRequest.headers().set(HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID, "2");
+    ComputeRouterRequestWrapper request = ComputeRouterRequestWrapper.parseComputeRequest(httpRequest);
+    Assert.assertEquals(request.getResourceName(), RESOURCE_NAME);
+    Assert.assertEquals(request.getValueSchemaId(), 2);
+    Assert.assertEquals(request.getKeyCount(), 2);
+  }
+}
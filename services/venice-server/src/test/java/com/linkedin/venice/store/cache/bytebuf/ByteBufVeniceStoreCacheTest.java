@@ -0,0 +1,146 @@
+package com.linkedin.venice.store.cache.bytebuf;
+
+import com.linkedin.alpini.base.cache.ByteBufHashMap;
+import com.linkedin.davinci.store.cache.backend.ObjectCacheConfig;
+import com.linkedin.davinci.store.cache.bytebuf.ByteBufVeniceStoreCache;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class ByteBufVeniceStoreCacheTest {
+  private static final String NON_PRESENT_KEY = "Skyrgamur";
+  private static final String PRESENT_KEY = "Stekkjarstaur";
+  private static final String PRESENT_VALUE = "Giljagaur";
+  private static final String SECOND_PRESENT_VALUE = "Stufur";
+  private static final String LOADED_VALUE = "Thvorusleikir";
+  private static final Schema RECORD_SCHEMA = new Schema.Parser().parse(
+      "{\"type\":\"record\",\"name\":\"Lad\",\"fields\":[{\"name\":\"name\",\"type\":\"string\"},"
+          + "{\"name\":\"day\",\"type\":\"int\"}]}");
+
+  private ByteBufVeniceStoreCache cache;
+
+  private static ByteBufVeniceStoreCache buildCache(long maxOffHeapCacheSizeInBytes) {
+    ObjectCacheConfig config = new ObjectCacheConfig();
+    config.setMaxOffHeapCacheSizeInBytes(maxOffHeapCacheSizeInBytes);
+    config.setTtlInMilliseconds(100000L);
+    return new ByteBufVeniceStoreCache(config, (key, executor) -> CompletableFuture.completedFuture(LOADED_VALUE));
+  }
+
+  @BeforeMethod
+  public void buildCache() {
+    cache = buildCache(1024 * 1024L);
+  }
+
+  @AfterMethod
+  public void closeCache() {
+    cache.close();
+  }
+
+  @Test
+  public void testCRUDOperations() {
+    Assert.assertNull(cache.getIfPresent(NON_PRESENT_KEY));
+
+    cache.insert(PRESENT_KEY, PRESENT_VALUE);
+    Assert.assertEquals(cache.getIfPresent(PRESENT_KEY), PRESENT_VALUE);
+
+    cache.insert(PRESENT_KEY, SECOND_PRESENT_VALUE);
+    Assert.assertEquals(cache.getIfPresent(PRESENT_KEY), SECOND_PRESENT_VALUE);
+
+    cache.invalidate(PRESENT_KEY);
+    Assert.assertNull(cache.getIfPresent(PRESENT_KEY));
+
+    cache.insert(PRESENT_KEY, PRESENT_VALUE);
+    cache.insert(NON_PRESENT_KEY, SECOND_PRESENT_VALUE);
+    Assert.assertEquals(cache.size(), 2);
+
+    cache.clear();
+    Assert.assertNull(cache.getIfPresent(PRESENT_KEY));
+    Assert.assertNull(cache.getIfPresent(NON_PRESENT_KEY));
+    Assert.assertEquals(cache.size(), 0);
+
+    // 2 hits out of 6 lookups
+    Assert.assertEquals(cache.hitCount(), 2);
+    Assert.assertEquals(cache.missCount(), 4);
+  }
+
+  @Test
+  public void testValuesKeepTheirType() {
+    GenericRecord record = new GenericData.Record(RECORD_SCHEMA);
+    record.put("name", "Ketkrokur");
+    record.put("day", 23);
+    cache.insert(PRESENT_KEY, record);
+    cache.insert(1, 2L);
+    cache.insert(2, 3.0);
+
+    GenericRecord cachedRecord = cache.getIfPresent(PRESENT_KEY);
+    Assert.assertNotSame(cachedRecord, record);
+    Assert.assertEquals(cachedRecord.get("name").toString(), "Ketkrokur");
+    Assert.assertEquals(cachedRecord.get("day"), 23);
+    Assert.assertEquals(cache.getIfPresent(1), 2L);
+    Assert.assertEquals(cache.getIfPresent(2), 3.0);
+  }
+
+  @Test
+  public void testUnsupportedValuesAreNotCached() {
+    cache.insert(PRESENT_KEY, PRESENT_VALUE);
+    // The stale value is dropped, since the new one can't be cached
+    cache.insert(PRESENT_KEY, new Object());
+    Assert.assertNull(cache.getIfPresent(PRESENT_KEY));
+    Assert.assertEquals(cache.size(), 0);
+  }
+
+  @Test
+  public void testLoads() throws ExecutionException, InterruptedException {
+    Assert.assertEquals(cache.get(PRESENT_KEY).get(), LOADED_VALUE);
+    Assert.assertEquals(cache.getIfPresent(PRESENT_KEY), LOADED_VALUE);
+
+    Assert.assertEquals(cache.get(NON_PRESENT_KEY, key -> PRESENT_VALUE).get(), PRESENT_VALUE);
+    Assert.assertEquals(cache.getIfPresent(NON_PRESENT_KEY), PRESENT_VALUE);
+
+    // Only the missing keys are loaded
+    Map<String, String> values = cache.<String, String>getAll(Arrays.asList(PRESENT_KEY, "Gluggagaegir"), keys -> {
+      Map<String, String> loadedValues = new HashMap<>();
+      for (String key: keys) {
+        Assert.assertNotEquals(key, PRESENT_KEY);
+        loadedValues.put(key, SECOND_PRESENT_VALUE);
+      }
+      return loadedValues;
+    }).get();
+    Assert.assertEquals(values.size(), 2);
+    Assert.assertEquals(values.get(PRESENT_KEY), LOADED_VALUE);
+    Assert.assertEquals(values.get("Gluggagaegir"), SECOND_PRESENT_VALUE);
+    Assert.assertEquals(cache.getIfPresent("Gluggagaegir"), SECOND_PRESENT_VALUE);
+  }
+
+  @Test
+  public void testOffHeapMemoryIsBounded() {
+    long maxOffHeapCacheSizeInBytes = 4 * ByteBufHashMap.DEFAULT_BLOCK_SIZE;
+    ByteBufVeniceStoreCache boundedCache = buildCache(maxOffHeapCacheSizeInBytes);
+    try {
+      char[] chars = new char[1000];
+      Arrays.fill(chars, 'x');
+      String value = new String(chars);
+      for (int i = 0; i < 1000; i++) {
+        boundedCache.insert(i, value);
+        // The memory may exceed the bound by the block being filled
+        long allocatedBytes = boundedCache.getAllocatedBytes();
+        Assert.assertTrue(allocatedBytes <= maxOffHeapCacheSizeInBytes + ByteBufHashMap.DEFAULT_BLOCK_SIZE);
+      }
+      // The oldest entries are evicted first
+      Assert.assertNull(boundedCache.getIfPresent(0));
+      Assert.assertEquals(boundedCache.getIfPresent(999), value);
+    } finally {
+      boundedCache.close();
+    }
+  }
+}